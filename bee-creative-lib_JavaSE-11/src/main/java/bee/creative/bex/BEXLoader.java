@@ -8,6 +8,7 @@ import bee.creative.iam.IAMListing;
 import bee.creative.lang.Array;
 import bee.creative.lang.Objects;
 import bee.creative.util.Filters;
+import bee.creative.util.HashMap;
 import bee.creative.util.Iterables;
 
 /** Diese Klasse implementiert die Algorithmen zur Dekodierung der {@code Binary Encoded XML} Datenstrukturen.
@@ -105,12 +106,12 @@ public class BEXLoader {
 
 			this.rootRef = rootRef;
 			this.fileData = fileData;
-			this.attrUriText = new BEXStringLoader(attrUriTextListing);
-			this.attrNameText = new BEXStringLoader(attrNameTextListing);
-			this.attrValueText = new BEXStringLoader(attrValueTextListing);
-			this.chldUriText = new BEXStringLoader(chldUriTextListing);
-			this.chldNameText = new BEXStringLoader(chldNameTextListing);
-			this.chldValueText = new BEXStringLoader(chldValueTextListing);
+			this.attrUriText = new BEXStringLoader(attrUriTextListing, true);
+			this.attrNameText = new BEXStringLoader(attrNameTextListing, true);
+			this.attrValueText = new BEXStringLoader(attrValueTextListing, false);
+			this.chldUriText = new BEXStringLoader(chldUriTextListing, true);
+			this.chldNameText = new BEXStringLoader(chldNameTextListing, true);
+			this.chldValueText = new BEXStringLoader(chldValueTextListing, false);
 			this.attrUriRef = attrUriRef;
 			this.attrNameRef = attrNameRef;
 			this.attrValueRef = attrValueRef;
@@ -359,6 +360,9 @@ public class BEXLoader {
 			throw new IAMException(IAMException.INVALID_HEADER);
 		}
 
+		/** Diese Methode implementiert {@link BEXList#find(String, String, int)}. Die gesuchte URI und der gesuchte Name werden dazu einmalig über
+		 * {@link BEXStringLoader#find(String)} in Referenzen auf die Zeichenketten umgewandelt, sodass beim Durchlaufen der Knoten nur noch diese Referenzen
+		 * verglichen werden müssen. */
 		@Override
 		public int find(String uri, String name, int start) throws NullPointerException {
 			var key = this.key;
@@ -367,21 +371,17 @@ public class BEXLoader {
 				case BEX_ATTR_LIST: {
 					if (start < 0) return -1;
 					boolean useUri = uri.length() != 0, useName = name.length() != 0;
-					IAMArray array = owner.attrListRange, uriArray = BEXFile.arrayFrom(uri), nameArray = BEXFile.arrayFrom(name);
+					int uriRef = useUri ? owner.attrUriText.find(uri) : 0, nameRef = useName ? owner.attrNameText.find(name) : 0;
+					if ((uriRef == -1) || (nameRef == -1)) return -1;
+					IAMArray array = owner.attrListRange, uriArray = uriRef == -2 ? BEXFile.arrayFrom(uri) : null, nameArray = nameRef == -2 ? BEXFile.arrayFrom(name) : null;
 					var ref = this.ref;
 					int startRef = array.get(ref), finalRef = array.get(ref + 1);
 					for (ref = startRef + start; ref < finalRef; ref++) {
-						if (useUri) {
-							var attrUri = owner.attrUriText.item(owner.attrUriRef.get(ref));
-							if (!attrUri.equals(uriArray)) {
-								continue;
-							}
+						if (useUri && !BEXLoader.equals(owner.attrUriText, owner.attrUriRef.get(ref), uriRef, uriArray)) {
+							continue;
 						}
-						if (useName) {
-							var nameUri = owner.attrNameText.item(owner.attrNameRef.get(ref));
-							if (!nameUri.equals(nameArray)) {
-								continue;
-							}
+						if (useName && !BEXLoader.equals(owner.attrNameText, owner.attrNameRef.get(ref), nameRef, nameArray)) {
+							continue;
 						}
 						return ref - startRef;
 					}
@@ -390,25 +390,21 @@ public class BEXLoader {
 				case BEX_CHLD_LIST: {
 					if (start < 0) return -1;
 					boolean useUri = uri.length() != 0, useName = name.length() != 0;
-					IAMArray array = owner.chldListRange, uriArray = BEXFile.arrayFrom(uri), nameArray = BEXFile.arrayFrom(name);
+					int uriRef = useUri ? owner.chldUriText.find(uri) : 0, nameRef = useName ? owner.chldNameText.find(name) : 0;
+					if ((uriRef == -1) || (nameRef == -1)) return -1;
+					IAMArray array = owner.chldListRange, uriArray = uriRef == -2 ? BEXFile.arrayFrom(uri) : null, nameArray = nameRef == -2 ? BEXFile.arrayFrom(name) : null;
 					var ref = this.ref;
 					int startRef = array.get(ref), finalRef = array.get(ref + 1);
 					for (ref = startRef + start; ref < finalRef; ref++) {
-						var nameRef = owner.chldNameRef.get(ref);
-						if (nameRef == 0) {
+						var itemNameRef = owner.chldNameRef.get(ref);
+						if (itemNameRef == 0) {
 							continue;
 						}
-						if (useUri) {
-							var _attrUri = owner.chldUriText.item(owner.chldUriRef.get(ref));
-							if (!_attrUri.equals(uriArray)) {
-								continue;
-							}
+						if (useUri && !BEXLoader.equals(owner.chldUriText, owner.chldUriRef.get(ref), uriRef, uriArray)) {
+							continue;
 						}
-						if (useName) {
-							var nameUri = owner.chldNameText.item(owner.chldNameRef.get(ref));
-							if (!nameUri.equals(nameArray)) {
-								continue;
-							}
+						if (useName && !BEXLoader.equals(owner.chldNameText, itemNameRef, nameRef, nameArray)) {
+							continue;
 						}
 						return ref - startRef;
 					}
@@ -714,7 +710,7 @@ public class BEXLoader {
 	public static class BEXStringLoader implements Array<String> {
 
 		/** Dieses Feld speichert den leeren {@link BEXStringLoader}. */
-		public static final BEXStringLoader EMPTY = new BEXStringLoader(IAMListing.EMPTY);
+		public static final BEXStringLoader EMPTY = new BEXStringLoader(IAMListing.EMPTY, false);
 
 		/** Diese Methode gibt das {@code index}-te Element zurück.
 		 *
@@ -767,6 +763,45 @@ public class BEXLoader {
 			}
 		}
 
+		/** Diese Methode gibt die Position des Elements zur gegebenen Zeichenkette zurück. Wenn kein solches Element existiert, wird {@code -1} geliefert. Wenn
+		 * mehrere solche Elemente existieren, wird {@code -2} geliefert. Bei den kleinen Tabellen der URI und Namen wird dazu beim ersten Aufruf eine
+		 * Streuwerttabelle über alle Elemente erzeugt. Bei den Tabellen der Textwerte werden die Elemente dagegen direkt im Speicherbereich der Datei mit der
+		 * {@link BEXFile#arrayFrom(String) kodierten} Zeichenkette verglichen, da eine Streuwerttabelle alle Textwerte der Datei auf den Heap kopieren würde.
+		 *
+		 * @see BEXFile#stringFrom(IAMArray)
+		 * @param string Zeichenkette.
+		 * @return Position des Elements, {@code -1} oder {@code -2}.
+		 * @throws NullPointerException Wenn {@code string} {@code null} ist. */
+		public int find(String string) throws NullPointerException {
+			if (!this.indexed) {
+				var items = this.items;
+				var array = BEXFile.arrayFrom(string);
+				var length = array.length();
+				var result = -1;
+				for (int i = 0, count = items.itemCount(); i < count; i++) {
+					if ((items.itemLength(i) != length) || !items.item(i).equals(array)) {
+						continue;
+					}
+					if (result >= 0) return -2;
+					result = i;
+				}
+				return result;
+			}
+			var index = this.index;
+			if (index == null) {
+				var items = this.items;
+				var count = items.itemCount();
+				index = new HashMap<>(count);
+				for (var i = 0; i < count; i++) {
+					var item = BEXFile.stringFrom(items.item(i));
+					index.put(item, index.containsKey(item) ? -2 : i);
+				}
+				this.index = index;
+			}
+			var result = index.get(string);
+			return result != null ? result : -1;
+		}
+
 		@Override
 		public String toString() {
 			return Objects.toString(true, Iterables.filteredIterable(Arrays.asList(this.cache), Filters.nullFilter()));
@@ -778,11 +813,24 @@ public class BEXLoader {
 		/** Dieses Feld puffert die Zeichenketten der Elemente. */
 		String[] cache;
 
-		/** Dieser Konstruktor initialisiert die Elemente, deren Zeichenketten verwaltet werden.
+		/** Dieses Feld speichert nur dann {@code true}, wenn {@link #find(String)} eine Streuwerttabelle über die Elemente nutzt. */
+		final boolean indexed;
+
+		/** Dieses Feld puffert die Positionen der Elemente zu deren Zeichenketten. Die Streuwerttabelle wird vollständig in einer lokalen Variable erzeugt und erst
+		 * danach über dieses Feld veröffentlicht, sodass nebenläufige Aufrufe von {@link #find(String)} sie höchstens mehrfach erzeugen, aber nie unvollständig
+		 * sehen.
 		 *
-		 * @param items Elemente. */
-		BEXStringLoader(IAMListing items) {
+		 * @see #find(String) */
+		volatile HashMap<String, Integer> index;
+
+		/** Dieser Konstruktor initialisiert die Elemente, deren Zeichenketten verwaltet werden, sowie die Nutzung einer Streuwerttabelle in
+		 * {@link #find(String)}.
+		 *
+		 * @param items Elemente.
+		 * @param indexed {@code true}, wenn {@link #find(String)} eine Streuwerttabelle nutzen soll. */
+		BEXStringLoader(IAMListing items, boolean indexed) {
 			this.items = items;
+			this.indexed = indexed;
 		}
 
 	}
@@ -811,6 +859,20 @@ public class BEXLoader {
 	/** Dieses Feld speichert die Typkennung für die Kindknotenliste dem Textknoten eines Elementknoten. */
 	static final int BEX_CHTX_LIST = 7;
 
+	/** Diese Methode gibt nur dann {@code true} zurück, wenn die Zeichenkette mit der gegebenen Referenz gleich der gesuchten ist. Wenn die gesuchte Zeichenkette
+	 * über {@link BEXStringLoader#find(String)} eindeutig aufgelöst wurde, werden dazu nur die Referenzen verglichen. Andernfalls werden die Zahlenfolgen
+	 * verglichen.
+	 *
+	 * @param texts Zeichenketten.
+	 * @param ref Referenz der geprüften Zeichenkette.
+	 * @param textRef Referenz der gesuchten Zeichenkette oder {@code -2}.
+	 * @param textArray Zahlenfolge der gesuchten Zeichenkette.
+	 * @return {@code true} bei Gleichheit. */
+	static boolean equals(BEXStringLoader texts, int ref, int textRef, IAMArray textArray) {
+		if (textRef >= 0) return ref == textRef;
+		return texts.item(ref).equals(textArray);
+	}
+
 	/** Diese Methode gibt die Referenz des gegebenen Schlüssels zurück.
 	 *
 	 * @see #keyOf(int, int)
@@ -0,0 +1,842 @@
+package bee.creative.bex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+import bee.creative.bex.BEXLoader.BEXFileLoader;
+import bee.creative.bex.BEXLoader.BEXStringLoader;
+import bee.creative.iam.IAMArray;
+
+/** Diese Klasse implementiert einen kompilierten Pfadausdruck, der eine Teilmenge von {@code XPath} direkt auf den Tabellen eines {@link BEXFileLoader}
+ * auswertet. Im Gegensatz zur Auswertung über {@link BEXAdapter} und {@code javax.xml.xpath} werden dabei keine Objekte je besuchtem Knoten erzeugt. Die
+ * Knoten werden stattdessen über ihre {@link BEXNode#key() Schlüssel} verarbeitet und geliefert. Die URI und Namen des Pfadausdrucks werden zu Beginn jeder
+ * Auswertung über {@link BEXStringLoader#find(String)} in Referenzen auf die Zeichenketten der Datei umgewandelt, sodass beim Durchlaufen der Knoten nur noch
+ * diese Referenzen verglichen werden müssen. Die Werte der Prädikate werden dagegen nur mit den Werten der geprüften Knoten verglichen, sodass dafür weder die
+ * Tabellen der Textwerte durchsucht noch Streuwerttabellen über diese angelegt werden. Die Knoten werden ohne Rekursion über einen Stapel durchlaufen, sodass
+ * auch tief geschachtelte Dokumente ausgewertet werden können.
+ * <p>
+ * Unterstützt werden absolute und relative Pfade mit den Trennzeichen {@code /} und {@code //}, die Achsen {@code child}, {@code attribute} bzw. {@code @},
+ * {@code descendant}, {@code descendant-or-self}, {@code self} bzw. {@code .} sowie {@code parent} bzw. {@code ..}, die Knotentests {@code node()},
+ * {@code text()}, {@code *}, {@code name}, <code>{uri}*</code> und <code>{uri}name</code> sowie die Prädikate {@code [n]}, {@code [last()]},
+ * {@code [step]} und {@code [step='value']}. Ein Prädikat mit Schritt ist erfüllt, wenn dieser Schritt mindestens einen Knoten bzw. mindestens einen Knoten
+ * mit dem gegebenen {@link BEXNode#value() Wert} liefert. Ein Name ohne URI erfüllt den Knotentest, wie bei {@link BEXList#find(String, String, int)},
+ * unabhängig von der URI des Knoten. Der mit einem Prädikat verglichene Wert eines Elements ist wie in {@code XPath} die Verkettung der Werte aller darin
+ * enthaltenen Textknoten. Die Knoten werden in Dokumentordnung ohne Duplikate geliefert, wobei die Attribute eines Elements vor dessen Kindknoten stehen.
+ * Das Dokument selbst ist kein {@link BEXNode} und wird daher nie geliefert.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public final class BEXPath {
+
+	/** Diese Klasse implementiert einen Schritt des Pfadausdrucks. */
+	static final class Step {
+
+		/** Dieses Feld speichert die Position der aufgelösten Namen in {@link Evaluator}. */
+		final int id;
+
+		/** Dieses Feld speichert die Achse. */
+		final int axis;
+
+		/** Dieses Feld speichert die Art des Knotentests. */
+		final int test;
+
+		/** Dieses Feld speichert die URI des Knotentests oder {@code null}. */
+		final String uri;
+
+		/** Dieses Feld speichert den Namen des Knotentests oder {@code null}. */
+		final String name;
+
+		/** Dieses Feld speichert die Prädikate. */
+		final Pred[] preds;
+
+		Step(int id, int axis, int test, String uri, String name, Pred[] preds) {
+			this.id = id;
+			this.axis = axis;
+			this.test = test;
+			this.uri = uri;
+			this.name = name;
+			this.preds = preds;
+		}
+
+		@Override
+		public String toString() {
+			var result = new StringBuilder(BEXPath.AXES[this.axis]).append("::");
+			if (this.test == BEXPath.TEST_NODE) {
+				result.append("node()");
+			} else if (this.test == BEXPath.TEST_TEXT) {
+				result.append("text()");
+			} else {
+				if (this.uri != null) {
+					result.append('{').append(this.uri).append('}');
+				}
+				result.append(this.name != null ? this.name : "*");
+			}
+			for (var pred: this.preds) {
+				result.append(pred);
+			}
+			return result.toString();
+		}
+
+	}
+
+	/** Diese Klasse implementiert ein Prädikat eines {@link Step Schritts}. */
+	static final class Pred {
+
+		/** Dieses Feld speichert die Position des aufgelösten Werts in {@link Evaluator}. */
+		final int id;
+
+		/** Dieses Feld speichert die geforderte Position ({@code 1..}), {@code 0} für {@code last()} oder {@code -1} für einen Schritt. */
+		final int position;
+
+		/** Dieses Feld speichert den Schritt oder {@code null}. */
+		final Step step;
+
+		/** Dieses Feld speichert den geforderten Wert oder {@code null}. */
+		final String value;
+
+		Pred(int id, int position, Step step, String value) {
+			this.id = id;
+			this.position = position;
+			this.step = step;
+			this.value = value;
+		}
+
+		@Override
+		public String toString() {
+			if (this.position > 0) return "[" + this.position + "]";
+			if (this.position == 0) return "[last()]";
+			if (this.value == null) return "[" + this.step + "]";
+			var quote = this.value.indexOf('\'') < 0 ? '\'' : '"';
+			return "[" + this.step + "=" + quote + this.value + quote + "]";
+		}
+
+	}
+
+	/** Diese Klasse implementiert den Parser eines Pfadausdrucks. */
+	static final class Parser {
+
+		/** Dieses Feld speichert den Pfadausdruck. */
+		final String source;
+
+		/** Dieses Feld speichert die aktuelle Position in {@link #source}. */
+		int index;
+
+		/** Dieses Feld speichert die Anzahl der vergebenen {@link Step#id} und {@link Pred#id}. */
+		int count;
+
+		Parser(String source) {
+			this.source = source;
+		}
+
+		BEXPath parsePath() throws IllegalArgumentException {
+			var steps = new ArrayList<Step>();
+			this.skip();
+			var absolute = this.accept("/");
+			if (absolute) {
+				if (this.accept("/")) {
+					steps.add(this.createStep(BEXPath.AXIS_DESCENDANT_OR_SELF, BEXPath.TEST_NODE));
+				}
+			}
+			steps.add(this.parseStep());
+			while (true) {
+				this.skip();
+				if (!this.accept("/")) {
+					break;
+				}
+				if (this.accept("/")) {
+					steps.add(this.createStep(BEXPath.AXIS_DESCENDANT_OR_SELF, BEXPath.TEST_NODE));
+				}
+				steps.add(this.parseStep());
+			}
+			if (this.index != this.source.length()) throw this.error();
+			return new BEXPath(absolute, steps.toArray(new Step[steps.size()]), this.count);
+		}
+
+		Step parseStep() throws IllegalArgumentException {
+			this.skip();
+			if (this.accept("..")) return this.createStep(BEXPath.AXIS_PARENT, BEXPath.TEST_NODE);
+			if (this.accept(".")) return this.createStep(BEXPath.AXIS_SELF, BEXPath.TEST_NODE);
+			var axis = BEXPath.AXIS_CHILD;
+			if (this.accept("@")) {
+				axis = BEXPath.AXIS_ATTRIBUTE;
+			} else {
+				var start = this.index;
+				var name = this.parseName();
+				this.skip();
+				if ((name != null) && this.accept("::")) {
+					axis = Arrays.asList(BEXPath.AXES).indexOf(name);
+					if (axis < 0) throw this.error();
+				} else {
+					this.index = start;
+				}
+			}
+			this.skip();
+			int id = this.count++, test;
+			String uri = null, name = null;
+			if (this.accept("*")) {
+				test = BEXPath.TEST_NAME;
+			} else {
+				if (this.accept("{")) {
+					var end = this.source.indexOf('}', this.index);
+					if (end < 0) throw this.error();
+					uri = this.source.substring(this.index, end);
+					this.index = end + 1;
+				}
+				if ((uri != null) && this.accept("*")) {
+					test = BEXPath.TEST_NAME;
+				} else {
+					name = this.parseName();
+					if (name == null) throw this.error();
+					var start = this.index;
+					this.skip();
+					if ((uri == null) && this.accept("(")) {
+						this.skip();
+						if (!this.accept(")")) throw this.error();
+						if (name.equals("node")) {
+							test = BEXPath.TEST_NODE;
+						} else if (name.equals("text")) {
+							test = BEXPath.TEST_TEXT;
+						} else throw this.error();
+						name = null;
+					} else {
+						this.index = start;
+						test = BEXPath.TEST_NAME;
+					}
+				}
+			}
+			var preds = new ArrayList<Pred>();
+			while (true) {
+				this.skip();
+				if (!this.accept("[")) {
+					break;
+				}
+				preds.add(this.parsePred());
+			}
+			return new Step(id, axis, test, uri, name, preds.toArray(new Pred[preds.size()]));
+		}
+
+		Pred parsePred() throws IllegalArgumentException {
+			this.skip();
+			var id = this.count++;
+			Pred result;
+			var start = this.index;
+			while ((this.index < this.source.length()) && Character.isDigit(this.source.charAt(this.index))) {
+				this.index++;
+			}
+			if (start != this.index) {
+				int position;
+				try {
+					position = Integer.parseInt(this.source.substring(start, this.index));
+				} catch (NumberFormatException cause) {
+					throw this.error();
+				}
+				if (position < 1) throw this.error();
+				result = new Pred(id, position, null, null);
+			} else if (this.accept("last()")) {
+				result = new Pred(id, 0, null, null);
+			} else {
+				var step = this.parseStep();
+				this.skip();
+				result = new Pred(id, -1, step, this.accept("=") ? this.parseLiteral() : null);
+			}
+			this.skip();
+			if (!this.accept("]")) throw this.error();
+			return result;
+		}
+
+		String parseName() {
+			var source = this.source;
+			var length = source.length();
+			var start = this.index;
+			while (this.index < length) {
+				var symbol = source.charAt(this.index);
+				if (symbol == ':') {
+					if (((this.index + 1) < length) && (source.charAt(this.index + 1) == ':')) {
+						break;
+					}
+				} else if (!Character.isLetterOrDigit(symbol) && (symbol != '_') && (symbol != '-') && (symbol != '.')) {
+					break;
+				}
+				this.index++;
+			}
+			return start != this.index ? source.substring(start, this.index) : null;
+		}
+
+		String parseLiteral() throws IllegalArgumentException {
+			this.skip();
+			if (this.index >= this.source.length()) throw this.error();
+			var quote = this.source.charAt(this.index);
+			if ((quote != '\'') && (quote != '"')) throw this.error();
+			var end = this.source.indexOf(quote, this.index + 1);
+			if (end < 0) throw this.error();
+			var result = this.source.substring(this.index + 1, end);
+			this.index = end + 1;
+			return result;
+		}
+
+		Step createStep(int axis, int test) {
+			return new Step(this.count++, axis, test, null, null, new Pred[0]);
+		}
+
+		boolean accept(String token) {
+			if (!this.source.startsWith(token, this.index)) return false;
+			this.index += token.length();
+			return true;
+		}
+
+		void skip() {
+			while ((this.index < this.source.length()) && Character.isWhitespace(this.source.charAt(this.index))) {
+				this.index++;
+			}
+		}
+
+		IllegalArgumentException error() {
+			return new IllegalArgumentException("Invalid path at " + this.index + ": " + this.source);
+		}
+
+	}
+
+	/** Diese Klasse implementiert die Auswertung eines {@link BEXPath} auf einem {@link BEXFileLoader}. Die dabei genutzten Puffer werden je Tiefe der
+	 * Prädikate wiederverwendet. */
+	static final class Evaluator {
+
+		/** Dieses Feld speichert die Datei. */
+		final BEXFileLoader owner;
+
+		/** Dieses Feld speichert die Referenzen der URI der Knotentests. */
+		final int[] uriRefs;
+
+		/** Dieses Feld speichert die Referenzen der Namen der Knotentests. */
+		final int[] nameRefs;
+
+		/** Dieses Feld speichert die Zahlenfolgen der mehrdeutig aufgelösten URI, Namen und Werte. */
+		final IAMArray[] arrays;
+
+		/** Dieses Feld speichert die Puffer je Tiefe. */
+		int[][] buffers = new int[4][];
+
+		/** Dieses Feld speichert die bereits gelieferten Schlüssel eines Schritts als Bitmenge oder {@code null}. */
+		long[] seen;
+
+		/** Dieses Feld speichert den Stapel der noch zu durchlaufenden Kindknoten als Paare aus nächster und letzter Referenz. */
+		int[] stack = new int[32];
+
+		Evaluator(BEXFileLoader owner, int count) {
+			this.owner = owner;
+			this.uriRefs = new int[count];
+			this.nameRefs = new int[count];
+			this.arrays = new IAMArray[count * 3];
+		}
+
+		void resolve(Step step) {
+			var owner = this.owner;
+			var id = step.id;
+			var attribute = step.axis == BEXPath.AXIS_ATTRIBUTE;
+			if (step.uri != null) {
+				this.uriRefs[id] = (attribute ? owner.attrUriText : owner.chldUriText).find(step.uri);
+				this.arrays[id * 3] = BEXFile.arrayFrom(step.uri);
+			}
+			if (step.name != null) {
+				this.nameRefs[id] = (attribute ? owner.attrNameText : owner.chldNameText).find(step.name);
+				this.arrays[(id * 3) + 1] = BEXFile.arrayFrom(step.name);
+			}
+			for (var pred: step.preds) {
+				if (pred.step != null) {
+					this.resolve(pred.step);
+				}
+				if (pred.value != null) {
+					this.arrays[(pred.id * 3) + 2] = BEXFile.arrayFrom(pred.value);
+				}
+			}
+		}
+
+		void evaluate(Step[] steps, int context, IntConsumer target) {
+			for (var step: steps) {
+				this.resolve(step);
+			}
+			int[] contexts = {context}, results = new int[16];
+			int contextCount = 1;
+			for (int s = 0, last = steps.length - 1; s <= last; s++) {
+				var step = steps[s];
+				var axis = step.axis;
+				var ordered = (s == last) && (contextCount > 1);
+				var unique = ordered
+					|| ((contextCount > 1) && ((axis == BEXPath.AXIS_DESCENDANT) || (axis == BEXPath.AXIS_DESCENDANT_OR_SELF) || (axis == BEXPath.AXIS_PARENT)));
+				var resultCount = 0;
+				for (var c = 0; c < contextCount; c++) {
+					var count = this.filter(step, 0, this.collect(step, contexts[c], 0));
+					var buffer = this.buffers[0];
+					for (var i = 0; i < count; i++) {
+						var key = buffer[i];
+						if (unique && this.seen(key)) {
+							continue;
+						}
+						if ((s == last) && (key != 0) && !ordered) {
+							target.accept(key);
+						}
+						if ((s != last) || unique) {
+							if (resultCount == results.length) {
+								results = Arrays.copyOf(results, resultCount << 1);
+							}
+							results[resultCount++] = key;
+						}
+					}
+				}
+				if (ordered && (resultCount != 0)) {
+					this.order(resultCount, target);
+				}
+				if (unique) {
+					for (var i = 0; i < resultCount; i++) {
+						var key = results[i];
+						this.seen[key >>> 6] &= ~(1L << key);
+					}
+				}
+				var swap = contexts;
+				contexts = results;
+				contextCount = resultCount;
+				results = swap.length > 1 ? swap : new int[16];
+				if (contextCount == 0) return;
+			}
+		}
+
+		/** Diese Methode gibt nur dann {@code true} zurück, wenn der gegebene Schlüssel bereits in {@link #seen} vermerkt war. Andernfalls wird er vermerkt. */
+		boolean seen(int key) {
+			var seen = this.seen;
+			if (seen == null) {
+				var owner = this.owner;
+				var count = Math.max(owner.chldNameRef.length(), owner.attrNameRef.length()) + 1L;
+				this.seen = seen = new long[(int)(((count << 3) + 63) >>> 6)];
+			}
+			var mask = 1L << key;
+			var index = key >>> 6;
+			if ((seen[index] & mask) != 0) return true;
+			seen[index] |= mask;
+			return false;
+		}
+
+		/** Diese Methode übergibt die gegebene Anzahl an in {@link #seen} vermerkten Knoten in Dokumentordnung an den gegebenen {@link IntConsumer}. Das Dokument
+		 * mit dem Schlüssel {@code 0} wird dabei mitgezählt, aber nicht übergeben. Die Vermerke bleiben erhalten. */
+		void order(int count, IntConsumer target) {
+			if (((this.seen[0] & 1L) != 0) && (--count == 0)) return;
+			var owner = this.owner;
+			if (owner.rootRef < 0) return;
+			var attrRange = owner.attrListRange;
+			var range = owner.chldListRange;
+			var names = owner.chldNameRef;
+			var contents = owner.chldContentRef;
+			var ref = owner.rootRef;
+			var top = 0;
+			while (true) {
+				if ((count = this.order(BEXLoader.keyOf(BEXLoader.BEX_ELEM_NODE, ref), count, target)) == 0) return;
+				var attrList = owner.chldAttributesRef.get(ref);
+				for (int attrRef = attrRange.get(attrList), end = attrRange.get(attrList + 1); attrRef < end; attrRef++) {
+					if ((count = this.order(BEXLoader.keyOf(BEXLoader.BEX_ATTR_NODE, attrRef), count, target)) == 0) return;
+				}
+				var content = contents.get(ref);
+				if (content >= 0) {
+					if ((count = this.order(BEXLoader.keyOf(BEXLoader.BEX_ELTX_NODE, ref), count, target)) == 0) return;
+				} else {
+					top = this.push(top, range.get(-content), range.get(1 - content));
+				}
+				for (ref = -1; (ref < 0) && (top != 0);) {
+					var stack = this.stack;
+					var next = stack[top - 2];
+					if (next == stack[top - 1]) {
+						top -= 2;
+					} else {
+						stack[top - 2] = next + 1;
+						if (names.get(next) != 0) {
+							ref = next;
+						} else if ((count = this.order(BEXLoader.keyOf(BEXLoader.BEX_TEXT_NODE, next), count, target)) == 0) return;
+					}
+				}
+				if (ref < 0) return;
+			}
+		}
+
+		/** Diese Methode übergibt den gegebenen Knoten an den gegebenen {@link IntConsumer}, wenn er in {@link #seen} vermerkt ist, und gibt die Anzahl der danach
+		 * noch zu übergebenden vermerkten Knoten zurück. */
+		int order(int key, int count, IntConsumer target) {
+			if ((this.seen[key >>> 6] & (1L << key)) == 0) return count;
+			target.accept(key);
+			return count - 1;
+		}
+
+		/** Diese Methode legt die Kindknoten mit den gegebenen Referenzen ab der gegebenen Höhe auf den {@link #stack Stapel} und gibt dessen neue Höhe zurück. */
+		int push(int top, int next, int end) {
+			var stack = this.stack;
+			if (top == stack.length) {
+				this.stack = stack = Arrays.copyOf(stack, top << 1);
+			}
+			stack[top] = next;
+			stack[top + 1] = end;
+			return top + 2;
+		}
+
+		/** Diese Methode ergänzt den gegebenen Schlüssel im Puffer der gegebenen Tiefe an der gegebenen Position und gibt die neue Anzahl zurück. */
+		int add(int depth, int count, int key) {
+			var buffer = this.buffers[depth];
+			if (buffer == null) {
+				this.buffers[depth] = buffer = new int[16];
+			} else if (count == buffer.length) {
+				this.buffers[depth] = buffer = Arrays.copyOf(buffer, count << 1);
+			}
+			buffer[count] = key;
+			return count + 1;
+		}
+
+		/** Diese Methode schreibt die über die Achse des gegebenen Schritts erreichbaren Knoten, die dessen Knotentest erfüllen, in den Puffer der gegebenen
+		 * Tiefe und gibt deren Anzahl zurück. */
+		int collect(Step step, int key, int depth) {
+			if (depth == this.buffers.length) {
+				this.buffers = Arrays.copyOf(this.buffers, depth << 1);
+			}
+			if ((step.test == BEXPath.TEST_NAME) && (((step.uri != null) && (this.uriRefs[step.id] == -1)) || ((step.name != null) && (this.nameRefs[step.id] == -1)))) return 0;
+			switch (step.axis) {
+				case AXIS_CHILD:
+					return this.collectChildren(step, key, depth, 0, false);
+				case AXIS_DESCENDANT:
+					return this.collectChildren(step, key, depth, 0, true);
+				case AXIS_DESCENDANT_OR_SELF:
+					return this.collectChildren(step, key, depth, this.match(step, key) ? this.add(depth, 0, key) : 0, true);
+				case AXIS_SELF:
+					return this.match(step, key) ? this.add(depth, 0, key) : 0;
+				case AXIS_PARENT: {
+					var parent = this.parent(key);
+					return (parent != -1) && this.match(step, parent) ? this.add(depth, 0, parent) : 0;
+				}
+				case AXIS_ATTRIBUTE: {
+					if (BEXLoader.typeOf(key) != BEXLoader.BEX_ELEM_NODE) return 0;
+					var owner = this.owner;
+					var range = owner.attrListRange;
+					var list = owner.chldAttributesRef.get(BEXLoader.refOf(key));
+					var count = 0;
+					for (int ref = range.get(list), end = range.get(list + 1); ref < end; ref++) {
+						var attr = BEXLoader.keyOf(BEXLoader.BEX_ATTR_NODE, ref);
+						if (this.match(step, attr)) {
+							count = this.add(depth, count, attr);
+						}
+					}
+					return count;
+				}
+			}
+			return 0;
+		}
+
+		/** Diese Methode ergänzt die Kindknoten bzw. bei {@code deep} die Nachfahren des gegebenen Knoten, die den Knotentest des gegebenen Schritts erfüllen, im
+		 * Puffer der gegebenen Tiefe und gibt die neue Anzahl zurück. */
+		int collectChildren(Step step, int key, int depth, int count, boolean deep) {
+			var owner = this.owner;
+			if (key == 0) {
+				if (owner.rootRef < 0) return count;
+				key = BEXLoader.keyOf(BEXLoader.BEX_ELEM_NODE, owner.rootRef);
+				if (this.match(step, key)) {
+					count = this.add(depth, count, key);
+				}
+				if (!deep) return count;
+			}
+			if (BEXLoader.typeOf(key) != BEXLoader.BEX_ELEM_NODE) return count;
+			var range = owner.chldListRange;
+			var names = owner.chldNameRef;
+			var contents = owner.chldContentRef;
+			var ref = BEXLoader.refOf(key);
+			var top = 0;
+			while (true) {
+				var content = contents.get(ref);
+				if (content >= 0) {
+					var text = BEXLoader.keyOf(BEXLoader.BEX_ELTX_NODE, ref);
+					if (this.match(step, text)) {
+						count = this.add(depth, count, text);
+					}
+				} else {
+					top = this.push(top, range.get(-content), range.get(1 - content));
+				}
+				for (ref = -1; (ref < 0) && (top != 0);) {
+					var stack = this.stack;
+					var next = stack[top - 2];
+					if (next == stack[top - 1]) {
+						top -= 2;
+						continue;
+					}
+					stack[top - 2] = next + 1;
+					var elem = names.get(next) != 0;
+					var chld = BEXLoader.keyOf(elem ? BEXLoader.BEX_ELEM_NODE : BEXLoader.BEX_TEXT_NODE, next);
+					if (this.match(step, chld)) {
+						count = this.add(depth, count, chld);
+					}
+					if (deep && elem) {
+						ref = next;
+					}
+				}
+				if (ref < 0) return count;
+			}
+		}
+
+		/** Diese Methode wendet die Prädikate des gegebenen Schritts auf die Knoten im Puffer der gegebenen Tiefe an und gibt die Anzahl der verbleibenden
+		 * Knoten zurück. */
+		int filter(Step step, int depth, int count) {
+			for (var pred: step.preds) {
+				var buffer = this.buffers[depth];
+				var result = 0;
+				for (var i = 0; i < count; i++) {
+					var key = buffer[i];
+					if ((pred.position > 0) ? ((i + 1) == pred.position) : (pred.position == 0) ? ((i + 1) == count) : this.test(pred, key, depth + 1)) {
+						buffer[result++] = key;
+					}
+				}
+				count = result;
+			}
+			return count;
+		}
+
+		/** Diese Methode gibt nur dann {@code true} zurück, wenn der Schritt des gegebenen Prädikats ausgehend vom gegebenen Knoten mindestens einen Knoten mit
+		 * dem geforderten Wert liefert. */
+		boolean test(Pred pred, int key, int depth) {
+			var count = this.filter(pred.step, depth, this.collect(pred.step, key, depth));
+			if (pred.value == null) return count != 0;
+			var buffer = this.buffers[depth];
+			for (var i = 0; i < count; i++) {
+				if (this.value(pred, buffer[i])) return true;
+			}
+			return false;
+		}
+
+		/** Diese Methode gibt nur dann {@code true} zurück, wenn der Wert des gegebenen Knoten gleich dem des gegebenen Prädikats ist. Der Wert eines Elements ist
+		 * die Verkettung der Werte aller darin enthaltenen Textknoten in Dokumentordnung. */
+		boolean value(Pred pred, int key) {
+			var owner = this.owner;
+			var ref = BEXLoader.refOf(key);
+			switch (BEXLoader.typeOf(key)) {
+				case BEXLoader.BEX_ATTR_NODE:
+					return this.value(owner.attrValueText, owner.attrValueRef.get(ref), pred.id);
+				case BEXLoader.BEX_TEXT_NODE:
+				case BEXLoader.BEX_ELTX_NODE:
+					return this.value(owner.chldValueText, owner.chldContentRef.get(ref), pred.id);
+				case BEXLoader.BEX_ELEM_NODE: {
+					var content = owner.chldContentRef.get(ref);
+					if (content >= 0) return this.value(owner.chldValueText, content, pred.id);
+					return this.valueElem(pred.value, ref, 0) == pred.value.length();
+				}
+			}
+			return false;
+		}
+
+		/** Diese Methode vergleicht die Werte der Textknoten im gegebenen Element ab der gegebenen Position mit dem gegebenen Wert und gibt die Position nach
+		 * diesen bzw. {@code -1} zurück, wenn sie nicht übereinstimmen. */
+		int valueElem(String value, int ref, int offset) {
+			var owner = this.owner;
+			var range = owner.chldListRange;
+			var names = owner.chldNameRef;
+			var contents = owner.chldContentRef;
+			var top = 0;
+			while (true) {
+				var content = contents.get(ref);
+				if (content >= 0) {
+					if ((offset = this.valueText(value, content, offset)) < 0) return -1;
+				} else {
+					top = this.push(top, range.get(-content), range.get(1 - content));
+				}
+				for (ref = -1; (ref < 0) && (top != 0);) {
+					var stack = this.stack;
+					var next = stack[top - 2];
+					if (next == stack[top - 1]) {
+						top -= 2;
+					} else {
+						stack[top - 2] = next + 1;
+						if (names.get(next) != 0) {
+							ref = next;
+						} else if ((offset = this.valueText(value, contents.get(next), offset)) < 0) return -1;
+					}
+				}
+				if (ref < 0) return offset;
+			}
+		}
+
+		/** Diese Methode vergleicht den Textwert mit der gegebenen Referenz in {@link BEXFileLoader#chldValueText} mit dem gegebenen Wert ab der gegebenen
+		 * Position und gibt die Position nach diesem bzw. {@code -1} zurück, wenn sie nicht übereinstimmen. */
+		int valueText(String value, int ref, int offset) {
+			var item = this.owner.chldValueText.item(ref);
+			var length = Math.max(item.length() - 1, 0);
+			if ((offset + length) > value.length()) return -1;
+			for (var i = 0; i < length; i++) {
+				if ((char)item.get(i) != value.charAt(offset + i)) return -1;
+			}
+			return offset + length;
+		}
+
+		/** Diese Methode gibt nur dann {@code true} zurück, wenn der Textwert mit der gegebenen Referenz gleich dem Wert des Prädikats mit der gegebenen
+		 * Position ist. */
+		boolean value(BEXStringLoader texts, int ref, int id) {
+			return texts.item(ref).equals(this.arrays[(id * 3) + 2]);
+		}
+
+		/** Diese Methode gibt nur dann {@code true} zurück, wenn der gegebene Knoten den Knotentest des gegebenen Schritts erfüllt. */
+		boolean match(Step step, int key) {
+			switch (step.test) {
+				case TEST_NODE:
+					return true;
+				case TEST_TEXT: {
+					var type = BEXLoader.typeOf(key);
+					return (type == BEXLoader.BEX_TEXT_NODE) || (type == BEXLoader.BEX_ELTX_NODE);
+				}
+			}
+			var owner = this.owner;
+			var type = BEXLoader.typeOf(key);
+			var ref = BEXLoader.refOf(key);
+			var id = step.id;
+			if (step.axis == BEXPath.AXIS_ATTRIBUTE) {
+				if (type != BEXLoader.BEX_ATTR_NODE) return false;
+				if ((step.uri != null) && !BEXLoader.equals(owner.attrUriText, owner.attrUriRef.get(ref), this.uriRefs[id], this.arrays[id * 3])) return false;
+				return (step.name == null) || BEXLoader.equals(owner.attrNameText, owner.attrNameRef.get(ref), this.nameRefs[id], this.arrays[(id * 3) + 1]);
+			}
+			if (type != BEXLoader.BEX_ELEM_NODE) return false;
+			if ((step.uri != null) && !BEXLoader.equals(owner.chldUriText, owner.chldUriRef.get(ref), this.uriRefs[id], this.arrays[id * 3])) return false;
+			return (step.name == null) || BEXLoader.equals(owner.chldNameText, owner.chldNameRef.get(ref), this.nameRefs[id], this.arrays[(id * 3) + 1]);
+		}
+
+		/** Diese Methode gibt den Schlüssel des Elternknoten des gegebenen Knoten zurück. Der Elternknoten des Wurzelelements ist das Dokument mit dem Schlüssel
+		 * {@code 0}. Wenn der Elternknoten unbekannt ist, wird {@code -1} geliefert. */
+		int parent(int key) {
+			var owner = this.owner;
+			var ref = BEXLoader.refOf(key);
+			switch (BEXLoader.typeOf(key)) {
+				case BEXLoader.BEX_ATTR_NODE: {
+					var array = owner.attrParentRef;
+					if (array.length() == 0) return -1;
+					return BEXLoader.keyOf(BEXLoader.BEX_ELEM_NODE, array.get(ref));
+				}
+				case BEXLoader.BEX_ELEM_NODE:
+				case BEXLoader.BEX_TEXT_NODE: {
+					var array = owner.chldParentRef;
+					if (array.length() == 0) return -1;
+					var parentRef = array.get(ref);
+					if (parentRef == ref) return 0;
+					return BEXLoader.keyOf(BEXLoader.BEX_ELEM_NODE, parentRef);
+				}
+				case BEXLoader.BEX_ELTX_NODE:
+					return BEXLoader.keyOf(BEXLoader.BEX_ELEM_NODE, ref);
+			}
+			return -1;
+		}
+
+	}
+
+	/** Dieses Feld identifiziert die Achse {@code child}. */
+	static final int AXIS_CHILD = 0;
+
+	/** Dieses Feld identifiziert die Achse {@code attribute}. */
+	static final int AXIS_ATTRIBUTE = 1;
+
+	/** Dieses Feld identifiziert die Achse {@code descendant}. */
+	static final int AXIS_DESCENDANT = 2;
+
+	/** Dieses Feld identifiziert die Achse {@code descendant-or-self}. */
+	static final int AXIS_DESCENDANT_OR_SELF = 3;
+
+	/** Dieses Feld identifiziert die Achse {@code self}. */
+	static final int AXIS_SELF = 4;
+
+	/** Dieses Feld identifiziert die Achse {@code parent}. */
+	static final int AXIS_PARENT = 5;
+
+	/** Dieses Feld speichert die Namen der Achsen. */
+	static final String[] AXES = {"child", "attribute", "descendant", "descendant-or-self", "self", "parent"};
+
+	/** Dieses Feld identifiziert den Knotentest {@code node()}. */
+	static final int TEST_NODE = 0;
+
+	/** Dieses Feld identifiziert den Knotentest {@code text()}. */
+	static final int TEST_TEXT = 1;
+
+	/** Dieses Feld identifiziert den Knotentest über URI und Name. */
+	static final int TEST_NAME = 2;
+
+	/** Diese Methode kompiliert den gegebenen Pfadausdruck und gibt diesen zurück.
+	 *
+	 * @param expression Pfadausdruck.
+	 * @return kompilierter Pfadausdruck.
+	 * @throws NullPointerException Wenn {@code expression} {@code null} ist.
+	 * @throws IllegalArgumentException Wenn {@code expression} ungültig ist oder nicht unterstützte Bestandteile enthält. */
+	public static BEXPath from(String expression) throws NullPointerException, IllegalArgumentException {
+		return new Parser(expression).parsePath();
+	}
+
+	/** Dieses Feld speichert nur dann {@code true}, wenn der Pfadausdruck beim Dokument beginnt. */
+	final boolean absolute;
+
+	/** Dieses Feld speichert die Schritte. */
+	final Step[] steps;
+
+	/** Dieses Feld speichert die Anzahl der vergebenen {@link Step#id} und {@link Pred#id}. */
+	final int count;
+
+	BEXPath(boolean absolute, Step[] steps, int count) {
+		this.absolute = absolute;
+		this.steps = steps;
+		this.count = count;
+	}
+
+	/** Diese Methode wertet diesen Pfadausdruck ausgehend vom gegebenen Knoten aus und übergibt die {@link BEXNode#key() Schlüssel} der gefundenen Knoten in
+	 * Dokumentordnung an den gegebenen {@link IntConsumer}. Die Knoten können über {@link BEXFile#node(int)} der {@link BEXNode#owner() Datei}
+	 * des gegebenen Knoten ermittelt werden. Bei einem absoluten Pfadausdruck wird vom Dokument dieses Knoten ausgegangen. Wenn der Knoten nicht aus einem
+	 * {@link BEXFileLoader} stammt oder {@link BEXNode#VOID_NODE undefiniert} ist, werden keine Knoten geliefert.
+	 *
+	 * @param node Kontextknoten.
+	 * @param target Empfänger der Schlüssel.
+	 * @throws NullPointerException Wenn {@code node} bzw. {@code target} {@code null} ist. */
+	public void select(BEXNode node, IntConsumer target) throws NullPointerException {
+		var owner = node.owner();
+		if (!(owner instanceof BEXFileLoader)) return;
+		if (this.absolute) {
+			new Evaluator((BEXFileLoader)owner, this.count).evaluate(this.steps, 0, target);
+		} else if (node.type() != BEXNode.VOID_NODE) {
+			new Evaluator((BEXFileLoader)owner, this.count).evaluate(this.steps, node.key(), target);
+		}
+	}
+
+	/** Diese Methode gibt die Schlüssel der über {@link #select(BEXNode, IntConsumer)} gefundenen Knoten zurück.
+	 *
+	 * @param node Kontextknoten.
+	 * @return Schlüssel der gefundenen Knoten.
+	 * @throws NullPointerException Wenn {@code node} {@code null} ist. */
+	public int[] select(BEXNode node) throws NullPointerException {
+		var result = new int[][]{new int[16]};
+		var count = new int[1];
+		this.select(node, key -> {
+			if (count[0] == result[0].length) {
+				result[0] = Arrays.copyOf(result[0], count[0] << 1);
+			}
+			result[0][count[0]++] = key;
+		});
+		return Arrays.copyOf(result[0], count[0]);
+	}
+
+	/** Diese Methode gibt die über {@link #select(BEXNode)} gefundenen Knoten als {@link List} zurück.
+	 *
+	 * @param node Kontextknoten.
+	 * @return gefundene Knoten.
+	 * @throws NullPointerException Wenn {@code node} {@code null} ist. */
+	public List<BEXNode> selectNodes(BEXNode node) throws NullPointerException {
+		var owner = node.owner();
+		var keys = this.select(node);
+		var result = new ArrayList<BEXNode>(keys.length);
+		for (var key: keys) {
+			result.add(owner.node(key));
+		}
+		return result;
+	}
+
+	/** Diese Methode gibt den normalisierten Pfadausdruck mit ausgeschriebenen Achsen zurück. */
+	@Override
+	public String toString() {
+		var result = new StringBuilder();
+		for (var step: this.steps) {
+			if (this.absolute || (result.length() != 0)) {
+				result.append('/');
+			}
+			result.append(step);
+		}
+		return result.toString();
+	}
+
+}
@@ -15,6 +15,7 @@ import java.util.RandomAccess;
 import bee.creative.emu.EMU;
 import bee.creative.emu.Emuable;
 import bee.creative.lang.Array;
+import bee.creative.lang.Integers;
 import bee.creative.lang.Objects;
 import bee.creative.lang.Objects.UseToString;
 import bee.creative.util.AbstractList2;
@@ -104,6 +105,30 @@ public abstract class FEMArray implements FEMValue, Array<FEMValue>, Iterable2<F
 		return from(Iterables.toArray(items, new FEMValue[0]));
 	}
 
+	/** Diese Methode gibt eine Wertliste mit den gegebenen Werten als {@link FEMInteger Dezimalzahlen} zurück. Das gegebene Array wird kopiert. Die Werte werden
+	 * erst beim {@link #get(int) Wertzugriff} in {@link FEMInteger Dezimalzahlen} überführt.
+	 *
+	 * @param items Werte.
+	 * @return Wertliste.
+	 * @throws NullPointerException Wenn {@code items} {@code null} ist. */
+	public static FEMArray fromIntegers(long... items) throws NullPointerException {
+		if (items.length == 0) return FEMArray.EMPTY;
+		if (items.length == 1) return new UniformArray(1, FEMInteger.from(items[0]));
+		return new IntegerArray(items.clone());
+	}
+
+	/** Diese Methode gibt eine Wertliste mit den gegebenen Werten als {@link FEMDecimal Dezimalbrüche} zurück. Das gegebene Array wird kopiert. Die Werte werden
+	 * erst beim {@link #get(int) Wertzugriff} in {@link FEMDecimal Dezimalbrüche} überführt.
+	 *
+	 * @param items Werte.
+	 * @return Wertliste.
+	 * @throws NullPointerException Wenn {@code items} {@code null} ist. */
+	public static FEMArray fromDecimals(double... items) throws NullPointerException {
+		if (items.length == 0) return FEMArray.EMPTY;
+		if (items.length == 1) return new UniformArray(1, FEMDecimal.from(items[0]));
+		return new DecimalArray(items.clone());
+	}
+
 	/** Diese Methode überführt die {@link Entry Einträge} der gegebenen {@link Map Abbildung} in eine {@link #compact(boolean) indizierte Schlüsselliste} sowie
 	 * eine {@link #compact() kompaktierte Wertliste} und liefert eine neue Wertliste, die diese beiden Listen in dieser Reihenfolge enthält.
 	 *
@@ -975,6 +1000,150 @@ public abstract class FEMArray implements FEMValue, Array<FEMValue>, Iterable2<F
 
 	}
 
+	static class IntegerArray extends HashArray implements Emuable {
+
+		@Override
+		public long emu() {
+			return EMU.fromObject(this) + EMU.fromArray(this.items);
+		}
+
+		@Override
+		public FEMArray compact(boolean index) {
+			return index ? new CompactArray3(this.value()) : this;
+		}
+
+		@Override
+		public boolean isCompacted() {
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			var result = this.hash;
+			if (result != 0) return result;
+			result = Objects.hashInit();
+			for (var item: this.items) {
+				result = Objects.hashPush(result, Integers.toIntL(item) ^ Integers.toIntH(item));
+			}
+			return this.hash = result != 0 ? result : -1;
+		}
+
+		@Override
+		protected FEMValue customGet(int index) throws IndexOutOfBoundsException {
+			return FEMInteger.from(this.items[index]);
+		}
+
+		@Override
+		protected int customFind(FEMValue that, int offset, int length, boolean foreward) {
+			if (!(that instanceof FEMInteger)) return super.customFind(that, offset, length, foreward);
+			var value = ((FEMInteger)that).value();
+			if (foreward) {
+				for (length += offset; offset < length; offset++) {
+					if (this.items[offset] == value) return offset;
+				}
+			} else {
+				for (length += offset - 1; offset <= length; length--) {
+					if (this.items[length] == value) return length;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		protected boolean customEquals(FEMArray that, int offset) {
+			if (!(that instanceof IntegerArray)) return super.customEquals(that, offset);
+			var items = ((IntegerArray)that).items;
+			for (var i = 0; i < items.length; i++) {
+				if (this.items[offset + i] != items[i]) return false;
+			}
+			return true;
+		}
+
+		/** Dieses Feld speichert das Array der Werte, das nicht verändert werden darf. */
+		final long[] items;
+
+		IntegerArray(long[] items) throws IllegalArgumentException {
+			super(items.length);
+			this.items = items;
+		}
+
+	}
+
+	static class DecimalArray extends HashArray implements Emuable {
+
+		@Override
+		public long emu() {
+			return EMU.fromObject(this) + EMU.fromArray(this.items);
+		}
+
+		@Override
+		public FEMArray compact(boolean index) {
+			return index ? new CompactArray3(this.value()) : this;
+		}
+
+		@Override
+		public boolean isCompacted() {
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			var result = this.hash;
+			if (result != 0) return result;
+			result = Objects.hashInit();
+			for (var item: this.items) {
+				var bits = Double.doubleToLongBits(item);
+				result = Objects.hashPush(result, Integers.toIntL(bits) ^ Integers.toIntH(bits));
+			}
+			return this.hash = result != 0 ? result : -1;
+		}
+
+		@Override
+		protected FEMValue customGet(int index) throws IndexOutOfBoundsException {
+			return FEMDecimal.from(this.items[index]);
+		}
+
+		@Override
+		protected int customFind(FEMValue that, int offset, int length, boolean foreward) {
+			if (!(that instanceof FEMDecimal)) return super.customFind(that, offset, length, foreward);
+			var value = ((FEMDecimal)that).value();
+			if (foreward) {
+				for (length += offset; offset < length; offset++) {
+					if (DecimalArray.equals(this.items[offset], value)) return offset;
+				}
+			} else {
+				for (length += offset - 1; offset <= length; length--) {
+					if (DecimalArray.equals(this.items[length], value)) return length;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		protected boolean customEquals(FEMArray that, int offset) {
+			if (!(that instanceof DecimalArray)) return super.customEquals(that, offset);
+			var items = ((DecimalArray)that).items;
+			for (var i = 0; i < items.length; i++) {
+				if (!DecimalArray.equals(this.items[offset + i], items[i])) return false;
+			}
+			return true;
+		}
+
+		/** Dieses Feld speichert das Array der Werte, das nicht verändert werden darf. */
+		final double[] items;
+
+		DecimalArray(double[] items) throws IllegalArgumentException {
+			super(items.length);
+			this.items = items;
+		}
+
+		/** Diese Methode implementiert {@link FEMDecimal#equals(Object)} für die gegebenen Werte. */
+		static boolean equals(double value1, double value2) {
+			return (value1 == value2) || (Double.isNaN(value1) && Double.isNaN(value2));
+		}
+
+	}
+
 	static class ItemMap implements Map3<FEMValue, FEMValue>, Emuable {
 
 		public final FEMArray keys;
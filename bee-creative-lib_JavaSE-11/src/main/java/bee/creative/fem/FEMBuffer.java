@@ -2,12 +2,16 @@ package bee.creative.fem;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import bee.creative.emu.EMU;
 import bee.creative.emu.Emuable;
 import bee.creative.fem.FEMArray.CompactArray3;
@@ -272,6 +276,32 @@ public class FEMBuffer implements Property<FEMFunction>, Emuable {
 
 	}
 
+	/** Diese Klasse implementiert eine in {@link FEMBuffer#putBulk(FEMFunction...)} parallel kodierte Zeichenkette bzw. Bytefolge. */
+	private static final class BulkStage {
+
+		/** Dieses Feld speichert die kompaktierte Funktion. */
+		final FEMFunction value;
+
+		/** Dieses Feld speichert die Typkennung der Referenz. */
+		final int type;
+
+		/** Dieses Feld speichert den kodierten Speicherbereich bis zu dessen Übernahme. */
+		byte[] data;
+
+		/** Dieses Feld ist {@code true}, wenn die Übernahme bereits erfolgt ist. */
+		boolean done;
+
+		BulkStage(final FEMFunction value, final int type, final byte[] data) {
+			this.value = value;
+			this.type = type;
+			this.data = data;
+		}
+
+	}
+
+	/** Dieses Feld speichert die maximale Größe der in {@link #putBulk(FEMFunction...)} auf einmal reservierten Speicherbereiche. */
+	protected static final long BULK_LIMIT = 64L << 20;
+
 	/** Dieses Feld speichert die Typkennung für {@link FEMVoid}. */
 	protected static final byte TYPE_VOID_DATA = 0;
 
@@ -381,6 +411,9 @@ public class FEMBuffer implements Property<FEMFunction>, Emuable {
 	/** Dieses Feld speichert die Anzahl der aktuell in der {@link #reusableTable} enthaltenen Einträge. */
 	private int reusableCount;
 
+	/** Dieses Feld speichert den Puffer der in {@link #get(long)} dekodierten Funktionen oder {@code null}. */
+	private volatile FEMCache cache;
+
 	/** Dieses Feld speichert eine {@link List} als Sicht auf die wiederverwendbaren Funktionen. */
 	private final Reusables reusables = new Reusables();
 
@@ -658,7 +691,55 @@ public class FEMBuffer implements Property<FEMFunction>, Emuable {
 	 * @return Funktion oder {@code null}.
 	 * @throws IllegalArgumentException Wenn die Referenz ungültig ist. */
 	public FEMFunction get(final long ref) throws IllegalArgumentException {
-		return ref != 0 ? this.customGet(this.getHead(ref), this.getBody(ref)) : null;
+		if (ref == 0) return null;
+		final var cache = this.cache;
+		final var head = this.getHead(ref);
+		if ((cache == null) || !this.isCacheable(head)) return this.customGet(head, this.getBody(ref));
+		final var cached = cache.get(ref);
+		if (cached != null) return cached;
+		final var result = this.customGet(head, this.getBody(ref));
+		cache.put(ref, result);
+		return result;
+	}
+
+	/** Diese Methode gibt den Puffer der in {@link #get(long)} dekodierten Funktionen zurück.
+	 *
+	 * @return Puffer oder {@code null}. */
+	public FEMCache getCache() {
+		return this.cache;
+	}
+
+	/** Diese Methode setzt den Puffer der in {@link #get(long)} dekodierten Funktionen und gibt {@code this} zurück. Mit {@code null} wird die Pufferung
+	 * deaktiviert.
+	 *
+	 * @param cache Puffer oder {@code null}.
+	 * @return {@code this}. */
+	public FEMBuffer useCache(final FEMCache cache) {
+		this.cache = cache;
+		return this;
+	}
+
+	/** Diese Methode gibt nur dann {@code true} zurück, wenn die Funktionen zur gegebenen Typkennung in {@link #get(long)} gepuffert werden sollen. Dies trifft
+	 * auf alle Typkennungen zu, deren Funktionen über eine Adresse dekodiert werden, außer {@link #TYPE_PROXY_ADDR}, welche über {@link #proxyGetMap} verwaltet
+	 * werden. */
+	protected boolean isCacheable(final int head) {
+		switch (head) {
+			case TYPE_ARRAY_ADDR:
+			case TYPE_STRING_ADDR1:
+			case TYPE_STRING_ADDR2:
+			case TYPE_STRING_ADDR3:
+			case TYPE_BINARY_ADDR:
+			case TYPE_OBJECT_ADDR:
+			case TYPE_INTEGER_ADDR:
+			case TYPE_DECIMAL_ADDR:
+			case TYPE_HANDLER_ADDR:
+			case TYPE_DATETIME_ADDR:
+			case TYPE_DURATION_ADDR:
+			case TYPE_CLOSURE_ADDR:
+			case TYPE_COMPOSITE_ADDR:
+				return true;
+		}
+		return false;
 	}
 
 	/** Diese Methode gibt die Funktion zur gegebenen Referenz als Instanz der gegebenen Klasse zurück und ist eine Abkürzung für {@link Class#cast(Object)
@@ -783,6 +864,168 @@ public class FEMBuffer implements Property<FEMFunction>, Emuable {
 		return result;
 	}
 
+	/** Diese Methode {@link #put(FEMFunction) überführt} die gegebenen Funktionen analog zu {@link #putAll(FEMFunction...)} in deren Referenzen und gibt die
+	 * Liste dieser Referenzen zurück. Sie ist für die Übernahme großer Mengen an Funktionen optimiert.
+	 * <p>
+	 * Dazu werden zuerst die in den Funktionen enthaltenen {@link FEMString Zeichenketten} und {@link FEMBinary Bytefolgen} parallel {@link FEMString#compact()
+	 * kompaktiert}, über eine nebenläufige Streuwerttabelle dedupliziert und in eigene Puffer kodiert. Anschließend werden die noch nicht {@link #reusables()
+	 * wiederverwendbaren} davon mit einer Reservierung je {@link #BULK_LIMIT} Byte und einem Aufruf von {@link MappedBuffer#put(long, byte...)} in den
+	 * Dateipuffer kopiert. Abschließend werden die Funktionen selbst {@link #customPut(FEMFunction) eingefügt}, wobei die bereits kodierten Zeichenketten und
+	 * Bytefolgen wiederverwendet werden. Die letzten beiden Schritte erfolgen unter einer gemeinsamen Sperre.
+	 *
+	 * @param src Funktionen.
+	 * @return Referenzen auf die Funktionen.
+	 * @throws NullPointerException Wenn {@code src} {@code null} ist oder enthält.
+	 * @throws IllegalStateException Wenn der Puffer nur zum Lesen angebunden ist.
+	 * @throws IllegalArgumentException Wenn mindestens eine der Funktionen nicht angefügt werden kann. */
+	public long[] putBulk(final FEMFunction... src) throws NullPointerException, IllegalStateException, IllegalArgumentException {
+		if (this.buffer.isReadonly()) throw new IllegalStateException();
+		final var order = this.buffer.order();
+		final var stages = new ConcurrentHashMap<FEMFunction, BulkStage>();
+		final var stageLists = Arrays.stream(src).parallel().map(item -> {
+			final var stageList = new ArrayList<BulkStage>();
+			this.putBulkStage(Objects.notNull(item), order, stages, stageList);
+			return stageList;
+		}).collect(Collectors.toList());
+		synchronized (this.buffer) {
+			final var pending = new ArrayList<BulkStage>();
+			var pendingSize = 0L;
+			for (final var stageList: stageLists) {
+				for (final var stage: stageList) {
+					if (stage.done) {
+						continue;
+					}
+					stage.done = true;
+					if (this.getRef(stage.value) != 0) {
+						continue;
+					}
+					pending.add(stage);
+					pendingSize += stage.data.length;
+					if (pendingSize < FEMBuffer.BULK_LIMIT) {
+						continue;
+					}
+					this.putBulkData(pending, pendingSize);
+					pendingSize = 0;
+				}
+			}
+			this.putBulkData(pending, pendingSize);
+			final var length = src.length;
+			final var result = new long[length];
+			for (var i = 0; i < length; i++) {
+				result[i] = this.customPut(src[i]);
+			}
+			return result;
+		}
+	}
+
+	/** Diese Methode erfasst die in der gegebenen Funktion enthaltenen Zeichenketten und Bytefolgen rekursiv als {@link BulkStage} und ermittelt dabei auch die
+	 * Streuwerte der Wertlisten und Funktionsaufrufe. {@link FEMProxy Platzhalter} und {@link FEMFuture Ergebniswerte} werden nicht weiter analysiert. */
+	private void putBulkStage(final FEMFunction src, final ByteOrder order, final ConcurrentHashMap<FEMFunction, BulkStage> stages,
+		final List<BulkStage> stageList) {
+		if (src instanceof FEMString) {
+			final var stage = this.putBulkStage((FEMString)src, order, stages);
+			if (stage != null) {
+				stageList.add(stage);
+			}
+		} else if (src instanceof FEMBinary) {
+			final var stage = this.putBulkStage((FEMBinary)src, order, stages);
+			if (stage != null) {
+				stageList.add(stage);
+			}
+		} else if (src instanceof FEMArray) {
+			for (final var item: (FEMArray)src) {
+				this.putBulkStage(item, order, stages, stageList);
+			}
+			src.hashCode();
+		} else if (src instanceof FEMComposite) {
+			final var src2 = (FEMComposite)src;
+			this.putBulkStage(src2.target, order, stages, stageList);
+			for (final var param: src2.params) {
+				this.putBulkStage(param, order, stages, stageList);
+			}
+			src.hashCode();
+		} else if (src instanceof FEMClosure) {
+			this.putBulkStage(((FEMClosure)src).target(), order, stages, stageList);
+		} else if (src instanceof FEMHandler) {
+			this.putBulkStage(((FEMHandler)src).value(), order, stages, stageList);
+		}
+	}
+
+	/** Diese Methode kodiert die gegebene Zeichenkette analog zu {@link #putStringAsRef(FEMString)} und gibt ihre {@link BulkStage} zurück. Wenn die Zeichenkette
+	 * keinen Speicherbereich benötigt, wird {@code null} geliefert. */
+	private BulkStage putBulkStage(final FEMString src, final ByteOrder order, final ConcurrentHashMap<FEMFunction, BulkStage> stages) {
+		final var length = src.length();
+		if (length == 0) return null;
+		final var src2 = src.compact();
+		if (src2.isUniform()) return null;
+		return stages.computeIfAbsent(src2, value -> {
+			if ((src2 instanceof CompactStringINT8) || (src2 instanceof MappedStringINT8)) {
+				final var data = FEMBuffer.putBulkHead(length + 8L, length, src2.hashCode(), order);
+				data.put(src2.toBytes());
+				return new BulkStage(src2, FEMBuffer.TYPE_STRING_ADDR1, data.array());
+			} else if ((src2 instanceof CompactStringINT16) || (src2 instanceof MappedStringINT16)) {
+				final var data = FEMBuffer.putBulkHead((length * 2L) + 8L, length, src2.hashCode(), order);
+				data.asShortBuffer().put(src2.toShorts());
+				return new BulkStage(src2, FEMBuffer.TYPE_STRING_ADDR2, data.array());
+			} else {
+				final var data = FEMBuffer.putBulkHead((length * 4L) + 8L, length, src2.hashCode(), order);
+				data.asIntBuffer().put(src2.toInts());
+				return new BulkStage(src2, FEMBuffer.TYPE_STRING_ADDR3, data.array());
+			}
+		});
+	}
+
+	/** Diese Methode kodiert die gegebene Bytefolge analog zu {@link #putBinaryAsRef(FEMBinary)} und gibt ihre {@link BulkStage} zurück. Wenn die Bytefolge
+	 * keinen Speicherbereich benötigt, wird {@code null} geliefert. */
+	private BulkStage putBulkStage(final FEMBinary src, final ByteOrder order, final ConcurrentHashMap<FEMFunction, BulkStage> stages) {
+		final var length = src.length();
+		if (length == 0) return null;
+		final var src2 = src.compact();
+		if (src2.isUniform()) return null;
+		return stages.computeIfAbsent(src2, value -> {
+			final var data = FEMBuffer.putBulkHead(length + 8L, length, src2.hashCode(), order);
+			data.put(src2.value());
+			return new BulkStage(src2, FEMBuffer.TYPE_BINARY_ADDR, data.array());
+		});
+	}
+
+	/** Diese Methode gibt einen {@link ByteBuffer} mit der auf ein Vielfaches von {@code 8} erhöhten Größe zurück, in welchen bereits Länge und Streuwert
+	 * geschrieben wurden. */
+	private static ByteBuffer putBulkHead(final long size, final int length, final int hash, final ByteOrder order) throws IllegalArgumentException {
+		final var size2 = (size + 7) & -8L;
+		if (size2 > Integer.MAX_VALUE) throw new IllegalArgumentException();
+		return ByteBuffer.allocate((int)size2).order(order).putInt(length).putInt(hash);
+	}
+
+	/** Diese Methode reserviert einen Speicherbereich mit der gegebenen Größe, kopiert die Daten der gegebenen {@link BulkStage} in diesen, erfasst deren
+	 * Referenzen als {@link #putRef(int, long) wiederverwendbar} und leert die Liste. */
+	private void putBulkData(final List<BulkStage> pending, final long size) {
+		if (pending.isEmpty()) return;
+		final var addr = this.putData(size);
+		if (size <= Integer.MAX_VALUE) {
+			final var data = new byte[(int)size];
+			var offset = 0;
+			for (final var stage: pending) {
+				System.arraycopy(stage.data, 0, data, offset, stage.data.length);
+				offset += stage.data.length;
+			}
+			this.buffer.put(addr, data);
+		} else {
+			var offset = 0L;
+			for (final var stage: pending) {
+				this.buffer.put(addr + offset, stage.data);
+				offset += stage.data.length;
+			}
+		}
+		var offset = 0L;
+		for (final var stage: pending) {
+			this.putRef(stage.type, addr + offset);
+			offset += stage.data.length;
+			stage.data = null;
+		}
+		pending.clear();
+	}
+
 	/** Diese Methode gibt die {@link #getRef(int, long) Referenz mit den gegebenen Eigenschaften} zurück und speichert diese zur {@link #reusables()
 	 * Wiederverwendung}.
 	 *
@@ -1308,6 +1551,10 @@ public class FEMBuffer implements Property<FEMFunction>, Emuable {
 		synchronized (this.buffer) {
 			this.clearProxies();
 			this.clearBuffer();
+			final var cache = this.cache;
+			if (cache != null) {
+				cache.clear();
+			}
 		}
 	}
 
@@ -0,0 +1,427 @@
+package bee.creative.fem;
+
+import bee.creative.emu.EMU;
+import bee.creative.emu.Emuable;
+import bee.creative.lang.Objects;
+import bee.creative.ref.SoftReference2;
+
+/** Diese Klasse implementiert einen threadsicheren Puffer, der die über {@link FEMBuffer#get(long)} aus Referenzen dekodierten {@link FEMFunction Funktionen}
+ * wiederverwendet. Die Funktionen werden bis zu einer gegebenen {@link #capacity() Kapazität} stark referenziert. Die Belegung dieser Kapazität wird je Funktion
+ * über {@link EMU#from(Object)} geschätzt. Bei ihrer Überschreitung werden Funktionen nach dem <em>CLOCK</em>-Verfahren verdrängt und danach nur noch über eine
+ * {@link SoftReference2} gehalten, bis der {@code garbage collector} sie freigibt.
+ * <p>
+ * Der Puffer ist zur Minderung der Sperrkonkurrenz bei nebenläufigem Lesen in Segmente aufgeteilt, die jeweils ihre eigene Streuwerttabelle, ihre eigene
+ * Uhrzeigerliste sowie ihren eigenen Anteil an der Kapazität verwalten.
+ *
+ * @see FEMBuffer#useCache(FEMCache)
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public final class FEMCache implements Emuable {
+
+	/** Dieser Konstruktor initialisiert den Puffer mit der gegebenen Kapazität in Byte und {@code 16} Segmenten.
+	 *
+	 * @param capacity Kapazität in Byte.
+	 * @throws IllegalArgumentException Wenn {@code capacity < 0} ist. */
+	public FEMCache(long capacity) throws IllegalArgumentException {
+		this(capacity, 16);
+	}
+
+	/** Dieser Konstruktor initialisiert den Puffer mit der gegebenen Kapazität in Byte und mindestens der gegebenen Anzahl an Segmenten.
+	 *
+	 * @param capacity Kapazität in Byte.
+	 * @param segments Anzahl der Segmente, welche auf die nächste Potenz von {@code 2} erhöht wird.
+	 * @throws IllegalArgumentException Wenn {@code capacity < 0} oder {@code segments < 1} ist. */
+	public FEMCache(long capacity, int segments) throws IllegalArgumentException {
+		if (capacity < 0) throw new IllegalArgumentException("capacity < 0");
+		if ((segments < 1) || (segments > (1 << 16))) throw new IllegalArgumentException("segments < 1");
+		var count = Integer.highestOneBit(segments - 1) << 1;
+		if (count == 0) {
+			count = 1;
+		}
+		this.capacity = capacity;
+		this.segments = new Segment[count];
+		for (var i = 0; i < count; i++) {
+			this.segments[i] = new Segment(capacity / count);
+		}
+	}
+
+	/** Diese Methode gibt die Funktion zur gegebenen Referenz zurück. Wenn sie nicht gepuffert ist, wird {@code null} geliefert.
+	 *
+	 * @param ref Referenz.
+	 * @return Funktion oder {@code null}. */
+	public FEMFunction get(long ref) {
+		var segment = this.segment(ref);
+		synchronized (segment) {
+			return segment.get(ref);
+		}
+	}
+
+	/** Diese Methode puffert die gegebene Funktion zur gegebenen Referenz.
+	 *
+	 * @param ref Referenz.
+	 * @param value Funktion.
+	 * @throws NullPointerException Wenn {@code value} {@code null} ist. */
+	public void put(long ref, FEMFunction value) throws NullPointerException {
+		var weight = EMU.from(Objects.notNull(value));
+		var segment = this.segment(ref);
+		synchronized (segment) {
+			segment.put(ref, value, weight);
+		}
+	}
+
+	/** Diese Methode entfernt alle gepufferten Funktionen und setzt die Zähler zurück. */
+	public void clear() {
+		for (var segment: this.segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	/** Diese Methode gibt die Kapazität zur starken Referenzierung der Funktionen in Byte zurück.
+	 *
+	 * @return Kapazität. */
+	public long capacity() {
+		return this.capacity;
+	}
+
+	/** Diese Methode gibt die geschätzte Belegung der Kapazität durch die stark referenzierten Funktionen zurück.
+	 *
+	 * @return Belegung. */
+	public long weight() {
+		var result = 0L;
+		for (var segment: this.segments) {
+			synchronized (segment) {
+				result += segment.weight;
+			}
+		}
+		return result;
+	}
+
+	/** Diese Methode gibt die Anzahl der gepufferten Funktionen zurück. Dazu zählen auch die nur noch über eine {@link SoftReference2} gehaltenen.
+	 *
+	 * @return Anzahl. */
+	public int size() {
+		var result = 0;
+		for (var segment: this.segments) {
+			synchronized (segment) {
+				result += segment.count;
+			}
+		}
+		return result;
+	}
+
+	/** Diese Methode gibt die Anzahl der erfolgreichen Aufrufe von {@link #get(long)} zurück.
+	 *
+	 * @return Trefferanzahl. */
+	public long hitCount() {
+		var result = 0L;
+		for (var segment: this.segments) {
+			synchronized (segment) {
+				result += segment.hitCount;
+			}
+		}
+		return result;
+	}
+
+	/** Diese Methode gibt die Anzahl der erfolgreichen Aufrufe von {@link #get(long)} zurück, deren Funktion nur noch über eine {@link SoftReference2} gehalten
+	 * wurde. Diese sind in {@link #hitCount()} enthalten.
+	 *
+	 * @return Trefferanzahl der verdrängten Funktionen. */
+	public long softHitCount() {
+		var result = 0L;
+		for (var segment: this.segments) {
+			synchronized (segment) {
+				result += segment.softHitCount;
+			}
+		}
+		return result;
+	}
+
+	/** Diese Methode gibt die Anzahl der erfolglosen Aufrufe von {@link #get(long)} zurück.
+	 *
+	 * @return Fehlschlaganzahl. */
+	public long missCount() {
+		var result = 0L;
+		for (var segment: this.segments) {
+			synchronized (segment) {
+				result += segment.missCount;
+			}
+		}
+		return result;
+	}
+
+	/** Diese Methode gibt die Anzahl der nach dem <em>CLOCK</em>-Verfahren verdrängten Funktionen zurück.
+	 *
+	 * @return Verdrängungsanzahl. */
+	public long evictCount() {
+		var result = 0L;
+		for (var segment: this.segments) {
+			synchronized (segment) {
+				result += segment.evictCount;
+			}
+		}
+		return result;
+	}
+
+	/** Diese Methode gibt den Anteil der {@link #hitCount() erfolgreichen} an allen Aufrufen von {@link #get(long)} zurück.
+	 *
+	 * @return Trefferquote zwischen {@code 0} und {@code 1}. */
+	public double hitRate() {
+		var hitCount = this.hitCount();
+		var getCount = hitCount + this.missCount();
+		return getCount != 0 ? (double)hitCount / getCount : 0;
+	}
+
+	@Override
+	public long emu() {
+		return EMU.fromObject(this) + EMU.fromArray(this.segments) + (EMU.fromObject(this.segments[0]) * this.segments.length) + this.weight();
+	}
+
+	@Override
+	public String toString() {
+		return Objects.toInvokeString(this, this.capacity, this.weight(), this.size(), this.hitRate());
+	}
+
+	final long capacity;
+
+	final Segment[] segments;
+
+	private Segment segment(long ref) {
+		var hash = (int)(ref ^ (ref >>> 32));
+		hash ^= hash >>> 16;
+		return this.segments[hash & (this.segments.length - 1)];
+	}
+
+	/** Diese Klasse implementiert ein Segment mit einer Streuwerttabelle der Einträge sowie einer kreisförmigen Uhrzeigerliste der stark referenzierten
+	 * Einträge. */
+	static final class Segment {
+
+		final long capacity;
+
+		Node[] table = new Node[16];
+
+		/** Dieses Feld speichert den Uhrzeiger in der Liste der stark referenzierten Einträge oder {@code null}. */
+		Node hand;
+
+		int count;
+
+		long weight;
+
+		long hitCount;
+
+		long softHitCount;
+
+		long missCount;
+
+		long evictCount;
+
+		Segment(long capacity) {
+			this.capacity = capacity;
+		}
+
+		FEMFunction get(long ref) {
+			var node = this.table[Segment.index(ref, this.table.length)];
+			for (; node != null; node = node.chain) {
+				if (node.ref == ref) {
+					var value = node.value;
+					if (value != null) {
+						node.used = true;
+						this.hitCount++;
+						return value;
+					}
+					value = node.soft.get();
+					if (value == null) break;
+					this.softHitCount++;
+					this.hitCount++;
+					this.link(node, value);
+					return value;
+				}
+			}
+			this.missCount++;
+			return null;
+		}
+
+		void put(long ref, FEMFunction value, long weight) {
+			var table = this.table;
+			var index = Segment.index(ref, table.length);
+			for (var node = table[index]; node != null; node = node.chain) {
+				if (node.ref == ref) {
+					if (node.value != null) return;
+					node.weight = weight;
+					this.link(node, value);
+					return;
+				}
+			}
+			var node = new Node(this, ref, weight);
+			node.chain = table[index];
+			table[index] = node;
+			this.count++;
+			this.link(node, value);
+			if (this.count > table.length) {
+				this.grow();
+			}
+		}
+
+		/** Diese Methode referenziert den gegebenen Wert stark und fügt den Eintrag vor dem Uhrzeiger ein. Bei Bedarf werden zuvor andere Einträge verdrängt. */
+		void link(Node node, FEMFunction value) {
+			node.soft = null;
+			if (node.weight > this.capacity) {
+				node.soft = new SoftRef(node, value);
+				return;
+			}
+			this.evict(this.capacity - node.weight);
+			node.value = value;
+			node.used = false;
+			this.weight += node.weight;
+			var hand = this.hand;
+			if (hand == null) {
+				node.prev = node;
+				node.next = node;
+				this.hand = node;
+			} else {
+				node.prev = hand.prev;
+				node.next = hand;
+				hand.prev.next = node;
+				hand.prev = node;
+			}
+		}
+
+		/** Diese Methode verdrängt solange Einträge, bis die Belegung höchstens der gegebenen ist. */
+		void evict(long limit) {
+			while ((this.weight > limit) && (this.hand != null)) {
+				var node = this.hand;
+				if (node.used) {
+					node.used = false;
+					this.hand = node.next;
+				} else {
+					this.unlink(node);
+					node.soft = new SoftRef(node, node.value);
+					node.value = null;
+					this.evictCount++;
+				}
+			}
+		}
+
+		void unlink(Node node) {
+			this.weight -= node.weight;
+			if (node.next == node) {
+				this.hand = null;
+			} else {
+				node.prev.next = node.next;
+				node.next.prev = node.prev;
+				if (this.hand == node) {
+					this.hand = node.next;
+				}
+			}
+			node.prev = null;
+			node.next = null;
+		}
+
+		/** Diese Methode entfernt den gegebenen Eintrag, sofern dessen Wert nur noch über die gegebene {@link SoftReference2} gehalten wurde. */
+		void remove(Node node, SoftRef soft) {
+			if (node.soft != soft) return;
+			var table = this.table;
+			var index = Segment.index(node.ref, table.length);
+			for (Node prev = null, next = table[index]; next != null; prev = next, next = next.chain) {
+				if (next == node) {
+					if (prev == null) {
+						table[index] = node.chain;
+					} else {
+						prev.chain = node.chain;
+					}
+					node.soft = null;
+					this.count--;
+					return;
+				}
+			}
+		}
+
+		void grow() {
+			var table = this.table;
+			var table2 = new Node[table.length * 2];
+			for (var node: table) {
+				while (node != null) {
+					var next = node.chain;
+					var index = Segment.index(node.ref, table2.length);
+					node.chain = table2[index];
+					table2[index] = node;
+					node = next;
+				}
+			}
+			this.table = table2;
+		}
+
+		void clear() {
+			for (var node: this.table) {
+				for (; node != null; node = node.chain) {
+					node.soft = null;
+				}
+			}
+			this.table = new Node[16];
+			this.hand = null;
+			this.count = 0;
+			this.weight = 0;
+			this.hitCount = 0;
+			this.softHitCount = 0;
+			this.missCount = 0;
+			this.evictCount = 0;
+		}
+
+		static int index(long ref, int length) {
+			var hash = (int)(ref ^ (ref >>> 32)) * 0x9E3779B9;
+			return (hash ^ (hash >>> 16)) & (length - 1);
+		}
+
+	}
+
+	/** Diese Klasse implementiert einen Eintrag eines {@link Segment}. Dessen Funktion wird entweder über {@link #value} stark oder über {@link #soft} weich
+	 * referenziert. */
+	static final class Node {
+
+		final Segment owner;
+
+		final long ref;
+
+		long weight;
+
+		FEMFunction value;
+
+		SoftRef soft;
+
+		boolean used;
+
+		Node chain;
+
+		Node prev;
+
+		Node next;
+
+		Node(Segment owner, long ref, long weight) {
+			this.owner = owner;
+			this.ref = ref;
+			this.weight = weight;
+		}
+
+	}
+
+	/** Diese Klasse implementiert die {@link SoftReference2} auf die Funktion eines verdrängten {@link Node}, welche diesen beim Bereinigen entfernt. */
+	static final class SoftRef extends SoftReference2<FEMFunction> {
+
+		final Node node;
+
+		SoftRef(Node node, FEMFunction value) {
+			super(value);
+			this.node = node;
+		}
+
+		@Override
+		protected void customRemove() {
+			var segment = this.node.owner;
+			synchronized (segment) {
+				segment.remove(this.node, this);
+			}
+		}
+
+	}
+
+}
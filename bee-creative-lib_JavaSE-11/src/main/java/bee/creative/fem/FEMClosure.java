@@ -28,6 +28,11 @@ public final class FEMClosure extends BaseFunction {
 		return from(this.target.trace(tracer));
 	}
 
+	@Override
+	public FEMFunction profile(FEMProfiler profiler) throws NullPointerException {
+		return from(this.target.profile(profiler));
+	}
+
 	@Override
 	public FEMValue invoke(FEMFrame frame) {
 		return FEMHandler.from(FEMBinding.from(this.target, frame));
@@ -77,6 +77,16 @@ public abstract class FEMComposite extends BaseFunction implements Emuable, Arra
 		return result;
 	}
 
+	@Override
+	public final FEMComposite profile(FEMProfiler profiler) throws NullPointerException {
+		var result = from(this.isConcat(), this.target.profile(profiler), this.params);
+		var params = result.params;
+		for (var i = 0; i < params.length; i++) {
+			params[i] = params[i].profile(profiler);
+		}
+		return result;
+	}
+
 	@Override
 	public final FEMFunction compose(FEMFunction... params) throws NullPointerException {
 		return new FEMCompositeT(this, params.clone());
@@ -93,6 +93,11 @@ public final class FEMConstant implements FEMValue, Consumer<FEMValue> {
 		return this.result().trace(tracer);
 	}
 
+	@Override
+	public FEMFunction profile(FEMProfiler profiler) throws NullPointerException {
+		return this.result().profile(profiler);
+	}
+
 	@Override
 	public FEMFunction compose(FEMFunction... params) throws NullPointerException {
 		return this.result().compose(params);
@@ -22,14 +22,73 @@ public final class FEMDecimal implements FEMValue, Comparable<FEMDecimal> {
 	/** Dieses Feld speichert die größte positiven Dezimalbruch. */
 	public static final FEMDecimal MAXIMUM = new FEMDecimal(Double.MAX_VALUE);
 
-	/** Diese Methode gibt einen neuen Dezimalbruch mit dem gegebenen Wert zurück.
+	/** Dieses Feld speichert den Dezimalbruch {@code 0.0}. */
+	public static final FEMDecimal ZERO = new FEMDecimal(0.0);
+
+	/** Dieses Feld speichert den Dezimalbruch {@code 1.0}. */
+	public static final FEMDecimal ONE = new FEMDecimal(1.0);
+
+	/** Diese Methode gibt einen Dezimalbruch mit dem gegebenen Wert zurück. Für die Werte {@code NaN}, {@code 0.0} und {@code 1.0} werden dabei {@link #EMPTY},
+	 * {@link #ZERO} bzw. {@link #ONE} geliefert. Der Wert {@code -0.0} wird nicht kanonisiert.
 	 *
 	 * @param value Wert.
 	 * @return Dezimalbruch. */
 	public static FEMDecimal from(double value) {
+		if (value == 1.0) return FEMDecimal.ONE;
+		if (Double.doubleToRawLongBits(value) == 0L) return FEMDecimal.ZERO;
+		if (Double.isNaN(value)) return FEMDecimal.EMPTY;
 		return new FEMDecimal(value);
 	}
 
+	/** Diese Methode gibt die Summe der gegebenen Dezimalbrüche zurück.
+	 *
+	 * @param value1 erster Summand.
+	 * @param value2 zweiter Summand.
+	 * @return Summe.
+	 * @throws NullPointerException Wenn {@code value1} bzw. {@code value2} {@code null} ist. */
+	public static FEMDecimal add(FEMDecimal value1, FEMDecimal value2) throws NullPointerException {
+		return from(value1.value + value2.value);
+	}
+
+	/** Diese Methode gibt die Differenz der gegebenen Dezimalbrüche zurück.
+	 *
+	 * @param value1 Minuend.
+	 * @param value2 Subtrahend.
+	 * @return Differenz.
+	 * @throws NullPointerException Wenn {@code value1} bzw. {@code value2} {@code null} ist. */
+	public static FEMDecimal sub(FEMDecimal value1, FEMDecimal value2) throws NullPointerException {
+		return from(value1.value - value2.value);
+	}
+
+	/** Diese Methode gibt das Produkt der gegebenen Dezimalbrüche zurück.
+	 *
+	 * @param value1 erster Faktor.
+	 * @param value2 zweiter Faktor.
+	 * @return Produkt.
+	 * @throws NullPointerException Wenn {@code value1} bzw. {@code value2} {@code null} ist. */
+	public static FEMDecimal mul(FEMDecimal value1, FEMDecimal value2) throws NullPointerException {
+		return from(value1.value * value2.value);
+	}
+
+	/** Diese Methode gibt den Quotienten der gegebenen Dezimalbrüche zurück.
+	 *
+	 * @param value1 Dividend.
+	 * @param value2 Divisor.
+	 * @return Quotient.
+	 * @throws NullPointerException Wenn {@code value1} bzw. {@code value2} {@code null} ist. */
+	public static FEMDecimal div(FEMDecimal value1, FEMDecimal value2) throws NullPointerException {
+		return from(value1.value / value2.value);
+	}
+
+	/** Diese Methode gibt die Negation des gegebenen Dezimalbruchs zurück.
+	 *
+	 * @param value Dezimalbruch.
+	 * @return Negation.
+	 * @throws NullPointerException Wenn {@code value} {@code null} ist. */
+	public static FEMDecimal neg(FEMDecimal value) throws NullPointerException {
+		return from(-value.value);
+	}
+
 	/** Diese Methode gibt einen neuen Dezimalbruch mit dem gegebenen Wert zurück.
 	 *
 	 * @param value Wert.
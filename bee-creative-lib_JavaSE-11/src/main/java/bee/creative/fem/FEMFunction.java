@@ -75,6 +75,21 @@ public interface FEMFunction {
 		return new TraceFunction(tracer, this);
 	}
 
+	/** Diese Methode gibt diese Funktion mit Erfassung ihrer Laufzeitkennzahlen durch das gegebene {@link FEMProfiler Messobjekt} zurück. Sie arbeitet analog zu
+	 * {@link #trace(FEMTracer)}, d.h. komponierte Funktionen überwachen ihre Bestandteile rekursiv. Wenn diese Funktion ein Wert oder ein {@link FEMParam} ist,
+	 * sollte diese sich unverändert liefern.
+	 * <p>
+	 * Der {@link #invoke(FEMFrame) Aufruf} der gelieferten Funktion zählt den Aufruf in den {@link FEMProfiler#get(FEMFunction) Kennzahlen} dieser Funktion und
+	 * misst bei Bedarf die Laufzeit sowie Speicherbelegung der Auswertung dieser Funktion.
+	 *
+	 * @see ProfileFunction
+	 * @param profiler {@link FEMProfiler}.
+	 * @return Funktion.
+	 * @throws NullPointerException Wenn {@code profiler} {@code null} ist. */
+	default FEMFunction profile(FEMProfiler profiler) throws NullPointerException {
+		return new ProfileFunction(profiler, this);
+	}
+
 	/** Diese Methode gibt diese Funktion als {@link FEMValue Wert} zurück. Ein Wert liefert dabei stets sich selbst. Jede andere Funktion liefert einen
 	 * {@link FEMHandler Funktionszeiger} auf sich selbst.
 	 *
@@ -167,6 +182,69 @@ public interface FEMFunction {
 
 	}
 
+	public static final class ProfileFunction extends BaseFunction {
+
+		public FEMProfiler profiler() {
+			return this.profiler;
+		}
+
+		public FEMFunction target() {
+			return this.target;
+		}
+
+		@Override
+		public FEMValue invoke(FEMFrame frame) {
+			var entry = this.entry;
+			entry.count.increment();
+			var stack = this.profiler.stacks.get();
+			if ((stack.depth == 0) && ((stack.skips != 0) || !stack.sample())) {
+				stack.skips++;
+				try {
+					return this.target.invoke(frame);
+				} finally {
+					stack.skips--;
+				}
+			}
+			stack.enter(entry);
+			try {
+				return this.target.invoke(frame);
+			} finally {
+				stack.leave();
+			}
+		}
+
+		@Override
+		public FEMFunction profile(FEMProfiler profiler) throws NullPointerException {
+			return this.target.profile(profiler);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashPush(Objects.hash(this.target), 1249);
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (object == this) return true;
+			if (!(object instanceof ProfileFunction)) return false;
+			var that = (ProfileFunction)object;
+			return this.target.equals(that.target);
+		}
+
+		final FEMProfiler profiler;
+
+		final FEMFunction target;
+
+		final FEMProfiler.Entry entry;
+
+		ProfileFunction(FEMProfiler profiler, FEMFunction target) throws NullPointerException {
+			this.profiler = notNull(profiler);
+			this.target = target;
+			this.entry = profiler.get(target);
+		}
+
+	}
+
 	public static final class FutureFunction extends BaseFunction {
 
 		public FEMFunction target() {
@@ -183,6 +261,11 @@ public interface FEMFunction {
 			return this.target.trace(tracer).toFuture();
 		}
 
+		@Override
+		public FEMFunction profile(FEMProfiler profiler) throws NullPointerException {
+			return this.target.profile(profiler).toFuture();
+		}
+
 		@Override
 		public int hashCode() {
 			return Objects.hashPush(Objects.hash(this.target), 1271);
@@ -73,6 +73,11 @@ public final class FEMHandler implements FEMValue {
 		return FEMHandler.from(this.value.trace(tracer));
 	}
 
+	@Override
+	public FEMFunction profile(FEMProfiler profiler) throws NullPointerException {
+		return FEMHandler.from(this.value.profile(profiler));
+	}
+
 	@Override
 	public String toString() {
 		return FEMDomain.DEFAULT.printScript(this);
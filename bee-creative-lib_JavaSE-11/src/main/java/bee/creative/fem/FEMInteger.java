@@ -23,12 +23,90 @@ public final class FEMInteger implements FEMValue, Comparable<FEMInteger> {
 	/** Dieses Feld speichert die größte positive Dezimalzahl. */
 	public static final FEMInteger MAXIMUM = new FEMInteger(Long.MAX_VALUE);
 
-	/** Diese Methode gibt eine neue Dezimalzahl mit dem gegebenen Wert zurück.
+	/** Dieses Feld speichert den kleinsten Wert der in {@link #CACHE} vorgehaltenen Dezimalzahlen. */
+	static final int CACHE_MIN = -1024;
+
+	/** Dieses Feld speichert den größten Wert der in {@link #CACHE} vorgehaltenen Dezimalzahlen. */
+	static final int CACHE_MAX = 1024;
+
+	/** Dieses Feld speichert die kanonischen Dezimalzahlen von {@link #CACHE_MIN} bis {@link #CACHE_MAX}. */
+	static final FEMInteger[] CACHE = new FEMInteger[(CACHE_MAX - CACHE_MIN) + 1];
+
+	static {
+		for (var i = CACHE_MIN; i <= CACHE_MAX; i++) {
+			FEMInteger.CACHE[i - CACHE_MIN] = i != 0 ? new FEMInteger(i) : FEMInteger.EMPTY;
+		}
+	}
+
+	/** Diese Methode gibt eine Dezimalzahl mit dem gegebenen Wert zurück. Dezimalzahlen mit einem Wert von {@code -1024} bis {@code 1024} werden dabei nicht neu
+	 * erzeugt, sondern kanonisch wiederverwendet.
 	 *
 	 * @param value Wert.
 	 * @return Dezimalzahl. */
 	public static FEMInteger from(long value) {
-		return new FEMInteger(value);
+		if ((value < CACHE_MIN) || (value > CACHE_MAX)) return new FEMInteger(value);
+		return FEMInteger.CACHE[(int)value - CACHE_MIN];
+	}
+
+	/** Diese Methode gibt die Summe der gegebenen Dezimalzahlen zurück.
+	 *
+	 * @param value1 erster Summand.
+	 * @param value2 zweiter Summand.
+	 * @return Summe.
+	 * @throws NullPointerException Wenn {@code value1} bzw. {@code value2} {@code null} ist. */
+	public static FEMInteger add(FEMInteger value1, FEMInteger value2) throws NullPointerException {
+		return from(value1.value + value2.value);
+	}
+
+	/** Diese Methode gibt die Differenz der gegebenen Dezimalzahlen zurück.
+	 *
+	 * @param value1 Minuend.
+	 * @param value2 Subtrahend.
+	 * @return Differenz.
+	 * @throws NullPointerException Wenn {@code value1} bzw. {@code value2} {@code null} ist. */
+	public static FEMInteger sub(FEMInteger value1, FEMInteger value2) throws NullPointerException {
+		return from(value1.value - value2.value);
+	}
+
+	/** Diese Methode gibt das Produkt der gegebenen Dezimalzahlen zurück.
+	 *
+	 * @param value1 erster Faktor.
+	 * @param value2 zweiter Faktor.
+	 * @return Produkt.
+	 * @throws NullPointerException Wenn {@code value1} bzw. {@code value2} {@code null} ist. */
+	public static FEMInteger mul(FEMInteger value1, FEMInteger value2) throws NullPointerException {
+		return from(value1.value * value2.value);
+	}
+
+	/** Diese Methode gibt den ganzzahligen Quotienten der gegebenen Dezimalzahlen zurück.
+	 *
+	 * @param value1 Dividend.
+	 * @param value2 Divisor.
+	 * @return Quotient.
+	 * @throws NullPointerException Wenn {@code value1} bzw. {@code value2} {@code null} ist.
+	 * @throws ArithmeticException Wenn der Divisor {@code 0} ist. */
+	public static FEMInteger div(FEMInteger value1, FEMInteger value2) throws NullPointerException, ArithmeticException {
+		return from(value1.value / value2.value);
+	}
+
+	/** Diese Methode gibt den Divisionsrest der gegebenen Dezimalzahlen zurück.
+	 *
+	 * @param value1 Dividend.
+	 * @param value2 Divisor.
+	 * @return Divisionsrest.
+	 * @throws NullPointerException Wenn {@code value1} bzw. {@code value2} {@code null} ist.
+	 * @throws ArithmeticException Wenn der Divisor {@code 0} ist. */
+	public static FEMInteger mod(FEMInteger value1, FEMInteger value2) throws NullPointerException, ArithmeticException {
+		return from(value1.value % value2.value);
+	}
+
+	/** Diese Methode gibt die Negation der gegebenen Dezimalzahl zurück.
+	 *
+	 * @param value Dezimalzahl.
+	 * @return Negation.
+	 * @throws NullPointerException Wenn {@code value} {@code null} ist. */
+	public static FEMInteger neg(FEMInteger value) throws NullPointerException {
+		return from(-value.value);
 	}
 
 	/** Diese Methode gibt eine neue Dezimalzahl mit dem gegebenen Wert zurück.
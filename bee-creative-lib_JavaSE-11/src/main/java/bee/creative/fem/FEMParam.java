@@ -1,5 +1,7 @@
 package bee.creative.fem;
 
+import bee.creative.lang.Objects;
+
 /** Diese Klasse implementiert eine projizierende Funktion, deren Ergebniswert einem der Parameterwerte des Stapelrahmens entspricht.
  *
  * @see #index()
@@ -62,6 +64,12 @@ public final class FEMParam implements FEMFunction {
 		return FEMParam.from(this.index - params.length);
 	}
 
+	@Override
+	public FEMFunction profile(FEMProfiler profiler) throws NullPointerException {
+		Objects.notNull(profiler);
+		return this;
+	}
+
 	@Override
 	public int hashCode() {
 		return this.index;
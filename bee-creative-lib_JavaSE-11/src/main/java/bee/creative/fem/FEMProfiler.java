@@ -0,0 +1,359 @@
+package bee.creative.fem;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import bee.creative.lang.Objects;
+
+/** Diese Klasse implementiert ein threadsicheres Messobjekt zur Erfassung von Laufzeitkennzahlen der über {@link FEMFunction#profile(FEMProfiler)}
+ * überwachten Funktionen. Im Gegensatz zum {@link FEMTracer} besitzt es keinen gemeinsam genutzten veränderlichen Zustand, sondern verwaltet den Aufrufstapel
+ * je {@link Thread} und erfasst die Kennzahlen in {@link LongAdder}.
+ * <p>
+ * Für jede überwachte Funktion wird die exakte {@link Entry#count() Anzahl der Aufrufe} erfasst. {@link Entry#totalTime() Gesamtlaufzeit},
+ * {@link Entry#selfTime() Eigenlaufzeit} und {@link Entry#allocated() Speicherbelegung} werden dagegen nur für jede {@link #getInterval() n-te} Auswertung
+ * gemessen, die nicht innerhalb einer anderen überwachten Auswertung beginnt. Innerhalb einer gemessenen Auswertung werden alle Aufrufe überwachter Funktionen
+ * gemessen, sodass Eigen- und Gesamtlaufzeit zueinander passen. Die über die Zugriffsmethoden eines {@link Entry} gelieferten Werte sind auf die Anzahl aller
+ * Aufrufe hochgerechnet.
+ * <p>
+ * Die gemessenen Aufrufstapel können über {@link #printFlameGraph(Appendable)} im sogenannten <em>collapsed stack</em>-Format ausgegeben werden, welches bspw.
+ * von {@code flamegraph.pl} verarbeitet werden kann.
+ *
+ * @see FEMFunction#profile(FEMProfiler)
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public final class FEMProfiler {
+
+	/** Dieser Konstruktor initialisiert ein Messobjekt, das jede Auswertung misst und keine Speicherbelegung erfasst. */
+	public FEMProfiler() {
+	}
+
+	/** Diese Methode gibt die Anzahl der Auswertungen zurück, von denen jeweils eine gemessen wird.
+	 *
+	 * @return Abtastintervall. */
+	public int getInterval() {
+		return this.interval;
+	}
+
+	/** Diese Methode setzt das {@link #getInterval() Abtastintervall} und gibt {@code this} zurück.
+	 *
+	 * @param value Abtastintervall.
+	 * @return {@code this}.
+	 * @throws IllegalArgumentException Wenn {@code value < 1} ist. */
+	public FEMProfiler useInterval(int value) throws IllegalArgumentException {
+		if (value < 1) throw new IllegalArgumentException("value < 1");
+		this.interval = value;
+		return this;
+	}
+
+	/** Diese Methode gibt nur dann {@code true} zurück, wenn bei gemessenen Auswertungen auch die Speicherbelegung über
+	 * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} erfasst wird.
+	 *
+	 * @return Erfassung der Speicherbelegung. */
+	public boolean getAllocation() {
+		return this.allocation;
+	}
+
+	/** Diese Methode setzt die {@link #getAllocation() Erfassung der Speicherbelegung} und gibt {@code this} zurück. Wenn diese nicht unterstützt wird, bleibt sie
+	 * deaktiviert.
+	 *
+	 * @param value Erfassung der Speicherbelegung.
+	 * @return {@code this}. */
+	public FEMProfiler useAllocation(boolean value) {
+		this.allocation = value && (FEMProfiler.THREADS != null);
+		return this;
+	}
+
+	/** Diese Methode ist eine Abkürzung für {@link FEMFunction#profile(FEMProfiler) function.profile(this)}. */
+	public FEMFunction profile(FEMFunction function) throws NullPointerException {
+		return function.profile(this);
+	}
+
+	/** Diese Methode gibt die Kennzahlen zur gegebenen Funktion zurück. Diese werden bei Bedarf angelegt.
+	 *
+	 * @param function Funktion.
+	 * @return Kennzahlen.
+	 * @throws NullPointerException Wenn {@code function} {@code null} ist. */
+	public Entry get(FEMFunction function) throws NullPointerException {
+		return this.entries.computeIfAbsent(Objects.notNull(function), Entry::new);
+	}
+
+	/** Diese Methode gibt die Kennzahlen aller überwachten Funktionen absteigend nach ihrer {@link Entry#selfTime() Eigenlaufzeit} geordnet zurück.
+	 *
+	 * @return Kennzahlen. */
+	public List<Entry> entries() {
+		var result = new ArrayList<>(this.entries.values());
+		result.sort((a, b) -> Long.compare(b.selfTime(), a.selfTime()));
+		return result;
+	}
+
+	/** Diese Methode setzt alle erfassten Kennzahlen und Aufrufstapel zurück und gibt {@code this} zurück. Die Zuordnung der überwachten Funktionen zu ihren
+	 * {@link Entry Kennzahlen} bleibt dabei erhalten.
+	 *
+	 * @return {@code this}. */
+	public FEMProfiler clear() {
+		for (var entry: this.entries.values()) {
+			entry.clear();
+		}
+		this.root.nodes.clear();
+		return this;
+	}
+
+	/** Diese Methode gibt die gemessenen Aufrufstapel im <em>collapsed stack</em>-Format an das gegebene {@link Appendable} aus. Jede Zeile besteht dabei aus den
+	 * über {@code ';'} verketteten {@link Entry#name() Namen} der Funktionen eines Aufrufstapels gefolgt von einem Leerzeichen und der gemessenen Eigenlaufzeit in
+	 * Nanosekunden.
+	 *
+	 * @param target Ausgabe.
+	 * @throws IOException Wenn {@code target} eine entsprechende Ausnahme auslöst. */
+	public void printFlameGraph(Appendable target) throws IOException {
+		var path = new StringBuilder();
+		for (var node: this.root.nodes.values()) {
+			node.print(target, path);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return Objects.toInvokeString(this, this.interval, this.allocation);
+	}
+
+	/** Diese Klasse implementiert die Kennzahlen einer über {@link FEMFunction#profile(FEMProfiler)} überwachten Funktion. */
+	public static final class Entry {
+
+		/** Diese Methode gibt die überwachte Funktion zurück.
+		 *
+		 * @return Funktion. */
+		public FEMFunction function() {
+			return this.function;
+		}
+
+		/** Diese Methode gibt den Namen der überwachten Funktion zurück. Bei einem {@link FEMProxy} ist dies dessen {@link FEMProxy#name() Name}, sonst die
+		 * {@link Object#toString() Textdarstellung} der Funktion.
+		 *
+		 * @return Name. */
+		public String name() {
+			return this.name;
+		}
+
+		/** Diese Methode gibt die Anzahl aller Aufrufe zurück.
+		 *
+		 * @return Aufrufanzahl. */
+		public long count() {
+			return this.count.sum();
+		}
+
+		/** Diese Methode gibt die Anzahl der gemessenen Aufrufe zurück.
+		 *
+		 * @return Messanzahl. */
+		public long samples() {
+			return this.samples.sum();
+		}
+
+		/** Diese Methode gibt die auf alle Aufrufe hochgerechnete Gesamtlaufzeit in Nanosekunden zurück. Diese schließt die Laufzeit der darin aufgerufenen
+		 * überwachten Funktionen ein.
+		 *
+		 * @return Gesamtlaufzeit. */
+		public long totalTime() {
+			return this.estimate(this.totalTime.sum());
+		}
+
+		/** Diese Methode gibt die auf alle Aufrufe hochgerechnete Eigenlaufzeit in Nanosekunden zurück. Diese schließt die Laufzeit der darin aufgerufenen
+		 * überwachten Funktionen aus.
+		 *
+		 * @return Eigenlaufzeit. */
+		public long selfTime() {
+			return this.estimate(this.selfTime.sum());
+		}
+
+		/** Diese Methode gibt die auf alle Aufrufe hochgerechnete Speicherbelegung in Byte zurück. Diese schließt die der darin aufgerufenen Funktionen ein.
+		 *
+		 * @see FEMProfiler#getAllocation()
+		 * @return Speicherbelegung. */
+		public long allocated() {
+			return this.estimate(this.allocated.sum());
+		}
+
+		@Override
+		public String toString() {
+			return Objects.toInvokeString(this, this.name, this.count(), this.samples(), this.totalTime(), this.selfTime(), this.allocated());
+		}
+
+		final FEMFunction function;
+
+		final String name;
+
+		final LongAdder count = new LongAdder();
+
+		final LongAdder samples = new LongAdder();
+
+		final LongAdder totalTime = new LongAdder();
+
+		final LongAdder selfTime = new LongAdder();
+
+		final LongAdder allocated = new LongAdder();
+
+		Entry(FEMFunction function) {
+			this.function = function;
+			this.name = function instanceof FEMProxy ? ((FEMProxy)function).name().toString() : function.toString();
+		}
+
+		long estimate(long value) {
+			var samples = this.samples.sum();
+			if (samples == 0) return 0;
+			return (long)((double)value * this.count.sum() / samples);
+		}
+
+		void clear() {
+			this.count.reset();
+			this.samples.reset();
+			this.totalTime.reset();
+			this.selfTime.reset();
+			this.allocated.reset();
+		}
+
+	}
+
+	/** Dieses Feld speichert die {@link com.sun.management.ThreadMXBean} zur Erfassung der Speicherbelegung oder {@code null}. */
+	static final com.sun.management.ThreadMXBean THREADS = FEMProfiler.threads();
+
+	private static com.sun.management.ThreadMXBean threads() {
+		try {
+			var result = ManagementFactory.getThreadMXBean();
+			if (!(result instanceof com.sun.management.ThreadMXBean)) return null;
+			var result2 = (com.sun.management.ThreadMXBean)result;
+			if (!result2.isThreadAllocatedMemorySupported()) return null;
+			result2.setThreadAllocatedMemoryEnabled(true);
+			return result2;
+		} catch (Throwable cause) {
+			return null;
+		}
+	}
+
+	volatile int interval = 1;
+
+	volatile boolean allocation;
+
+	/** Dieses Feld speichert die Abbildung der überwachten Funktionen auf ihre Kennzahlen. */
+	final ConcurrentHashMap<FEMFunction, Entry> entries = new ConcurrentHashMap<>();
+
+	/** Dieses Feld speichert die Wurzel der gemessenen Aufrufstapel. */
+	final Node root = new Node(null);
+
+	/** Dieses Feld speichert die Aufrufstapel der {@link Thread}. */
+	final ThreadLocal<Stack> stacks = ThreadLocal.withInitial(() -> new Stack(this));
+
+	/** Diese Klasse implementiert einen Knoten im Baum der gemessenen Aufrufstapel. */
+	static final class Node {
+
+		final Entry entry;
+
+		final LongAdder selfTime = new LongAdder();
+
+		final ConcurrentHashMap<Entry, Node> nodes = new ConcurrentHashMap<>();
+
+		Node(Entry entry) {
+			this.entry = entry;
+		}
+
+		Node get(Entry entry) {
+			var result = this.nodes.get(entry);
+			if (result != null) return result;
+			return this.nodes.computeIfAbsent(entry, Node::new);
+		}
+
+		void print(Appendable target, StringBuilder path) throws IOException {
+			var length = path.length();
+			if (length != 0) {
+				path.append(';');
+			}
+			var name = this.entry.name;
+			for (var i = 0; i < name.length(); i++) {
+				var c = name.charAt(i);
+				path.append((c == ';') || Character.isWhitespace(c) ? '_' : c);
+			}
+			var selfTime = this.selfTime.sum();
+			if (selfTime != 0) {
+				target.append(path).append(' ').append(Long.toString(selfTime)).append('\n');
+			}
+			for (var node: this.nodes.values()) {
+				node.print(target, path);
+			}
+			path.setLength(length);
+		}
+
+	}
+
+	/** Diese Klasse implementiert den Aufrufstapel der gemessenen Auswertungen eines {@link Thread}. */
+	static final class Stack {
+
+		final FEMProfiler owner;
+
+		/** Dieses Feld speichert die Anzahl der Auswertungen bis zur nächsten Messung. */
+		int countdown = 1;
+
+		/** Dieses Feld speichert die Anzahl der laufenden gemessenen Auswertungen. */
+		int depth;
+
+		/** Dieses Feld speichert die Anzahl der laufenden nicht gemessenen Auswertungen. */
+		int skips;
+
+		Node[] nodes = new Node[16];
+
+		long[] starts = new long[16];
+
+		long[] childTimes = new long[16];
+
+		long[] allocs = new long[16];
+
+		Stack(FEMProfiler owner) {
+			this.owner = owner;
+		}
+
+		/** Diese Methode gibt nur dann {@code true} zurück, wenn eine Auswertung ohne laufende Auswertung gemessen werden soll. */
+		boolean sample() {
+			if (--this.countdown > 0) return false;
+			this.countdown = this.owner.interval;
+			return true;
+		}
+
+		void enter(Entry entry) {
+			var depth = this.depth;
+			if (depth == this.nodes.length) {
+				var length = depth * 2;
+				this.nodes = Arrays.copyOf(this.nodes, length);
+				this.starts = Arrays.copyOf(this.starts, length);
+				this.childTimes = Arrays.copyOf(this.childTimes, length);
+				this.allocs = Arrays.copyOf(this.allocs, length);
+			}
+			this.nodes[depth] = (depth == 0 ? this.owner.root : this.nodes[depth - 1]).get(entry);
+			this.childTimes[depth] = 0;
+			this.allocs[depth] = this.owner.allocation ? FEMProfiler.THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+			this.depth = depth + 1;
+			this.starts[depth] = System.nanoTime();
+		}
+
+		void leave() {
+			var time = System.nanoTime();
+			var depth = --this.depth;
+			var node = this.nodes[depth];
+			var totalTime = time - this.starts[depth];
+			var selfTime = totalTime - this.childTimes[depth];
+			var entry = node.entry;
+			entry.samples.increment();
+			entry.totalTime.add(totalTime);
+			entry.selfTime.add(selfTime);
+			node.selfTime.add(selfTime);
+			var alloc = this.allocs[depth];
+			if (alloc >= 0) {
+				entry.allocated.add(FEMProfiler.THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) - alloc);
+			}
+			this.nodes[depth] = null;
+			if (depth == 0) return;
+			this.childTimes[depth - 1] += totalTime;
+		}
+
+	}
+
+}
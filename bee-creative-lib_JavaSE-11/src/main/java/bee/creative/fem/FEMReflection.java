@@ -1,6 +1,12 @@
 package bee.creative.fem;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
@@ -32,6 +38,13 @@ import bee.creative.lang.Objects;
  * Native Funktionen zu Konstruktoren haben die Signatur {@code (param1, ..., paramN: FEMNative): FEMNative} und liefern den Ergebniswert
  * {@code new FEMNative(this.member().newInstance(param1.data(), ..., paramN.data()))}.
  * <p>
+ * <h4>Bindung</h4>
+ * <p>
+ * Der Zugriff auf den {@link Member} wird beim Erzeugen der Funktion einmalig über {@link MethodHandles#lookup()} gebunden. Öffentliche Methoden und
+ * Konstruktoren mit bis zu vier Argumenten ohne primitive Parametertypen werden dabei über {@link LambdaMetafactory} in direkte Aufrufe überführt, alle anderen
+ * über einen {@link MethodHandle}. Nur wenn der {@link Member} hierbei nicht zugreifbar ist, erfolgt der Zugriff über {@link Method#invoke(Object, Object...)},
+ * {@link Constructor#newInstance(Object...)}, {@link Field#get(Object)} bzw. {@link Field#set(Object, Object)}.
+ * <p>
  *
  * @author [cc-by] 2016 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
 public abstract class FEMReflection implements FEMFunction {
@@ -138,18 +151,19 @@ public abstract class FEMReflection implements FEMFunction {
 			try {
 				switch (frame.size()) {
 					case 0: {
-						var getValue = this.field.get(null);
+						var getValue = this.getter.invoke(frame);
 						return new FEMNative(getValue);
 					}
 					case 1: {
-						var setValue = frame.get(0).data();
-						this.field.set(null, setValue);
+						this.setter.invoke(frame);
 						return FEMNative.NULL;
 					}
 					default:
 						throw new IllegalArgumentException();
 				}
-			} catch (Exception cause) {
+			} catch (Error cause) {
+				throw cause;
+			} catch (Throwable cause) {
 				throw FEMException.from(cause).useContext(frame.context()).push(this.toString());
 			}
 		}
@@ -166,8 +180,17 @@ public abstract class FEMReflection implements FEMFunction {
 
 		StaticField(final Field field) {
 			this.field = field;
+			this.getter = FEMReflection.invoker(FEMReflection.getter(field), frame -> field.get(null));
+			this.setter = FEMReflection.invoker(FEMReflection.setter(field), frame -> {
+				field.set(null, frame.get(0).data());
+				return null;
+			});
 		}
 
+		private final Invoker getter;
+
+		private final Invoker setter;
+
 	}
 
 	public static final class StaticMethod extends FEMReflection {
@@ -177,10 +200,11 @@ public abstract class FEMReflection implements FEMFunction {
 		@Override
 		public FEMValue invoke(FEMFrame frame) {
 			try {
-				var params = FEMReflection.params(frame, false);
-				var result = this.method.invoke(null, params);
+				var result = this.invoker.invoke(frame);
 				return new FEMNative(result);
-			} catch (Exception cause) {
+			} catch (Error cause) {
+				throw cause;
+			} catch (Throwable cause) {
 				throw FEMException.from(cause).useContext(frame.context()).push(this.toString());
 			}
 		}
@@ -197,8 +221,11 @@ public abstract class FEMReflection implements FEMFunction {
 
 		StaticMethod(Method method) {
 			this.method = method;
+			this.invoker = FEMReflection.invoker(method, FEMReflection.handle(method), frame -> method.invoke(null, FEMReflection.params(frame, false)));
 		}
 
+		private final Invoker invoker;
+
 	}
 
 	public static final class StaticConstructor extends FEMReflection {
@@ -208,10 +235,11 @@ public abstract class FEMReflection implements FEMFunction {
 		@Override
 		public FEMValue invoke(FEMFrame frame) {
 			try {
-				var params = FEMReflection.params(frame, false);
-				var result = this.constructor.newInstance(params);
+				var result = this.invoker.invoke(frame);
 				return new FEMNative(result);
-			} catch (final Exception cause) {
+			} catch (final Error cause) {
+				throw cause;
+			} catch (final Throwable cause) {
 				throw FEMException.from(cause).useContext(frame.context()).push(this.toString());
 			}
 		}
@@ -228,8 +256,12 @@ public abstract class FEMReflection implements FEMFunction {
 
 		StaticConstructor(Constructor<?> constructor) {
 			this.constructor = constructor;
+			this.invoker =
+				FEMReflection.invoker(constructor, FEMReflection.handle(constructor), frame -> constructor.newInstance(FEMReflection.params(frame, false)));
 		}
 
+		private final Invoker invoker;
+
 	}
 
 	public static final class InstanceField extends FEMReflection {
@@ -241,20 +273,19 @@ public abstract class FEMReflection implements FEMFunction {
 			try {
 				switch (frame.size()) {
 					case 1: {
-						var getInput = frame.get(0).data();
-						var getValue = this.field.get(getInput);
+						var getValue = this.getter.invoke(frame);
 						return new FEMNative(getValue);
 					}
 					case 2: {
-						var setInput = frame.get(0).data();
-						var setValue = frame.get(1).data();
-						this.field.set(setInput, setValue);
+						this.setter.invoke(frame);
 						return FEMNative.NULL;
 					}
 					default:
 						throw new IllegalArgumentException();
 				}
-			} catch (Exception cause) {
+			} catch (Error cause) {
+				throw cause;
+			} catch (Throwable cause) {
 				throw FEMException.from(cause).useContext(frame.context()).push(this.toString());
 			}
 		}
@@ -271,8 +302,17 @@ public abstract class FEMReflection implements FEMFunction {
 
 		InstanceField(Field field) {
 			this.field = field;
+			this.getter = FEMReflection.invoker(FEMReflection.getter(field), frame -> field.get(frame.get(0).data()));
+			this.setter = FEMReflection.invoker(FEMReflection.setter(field), frame -> {
+				field.set(frame.get(0).data(), frame.get(1).data());
+				return null;
+			});
 		}
 
+		private final Invoker getter;
+
+		private final Invoker setter;
+
 	}
 
 	public static final class InstanceMethod extends FEMReflection {
@@ -282,11 +322,11 @@ public abstract class FEMReflection implements FEMFunction {
 		@Override
 		public FEMValue invoke(FEMFrame frame) {
 			try {
-				var params = FEMReflection.params(frame, true);
-				var input = frame.get(0).data();
-				var result = this.method.invoke(input, params);
+				var result = this.invoker.invoke(frame);
 				return new FEMNative(result);
-			} catch (Exception cause) {
+			} catch (Error cause) {
+				throw cause;
+			} catch (Throwable cause) {
 				throw FEMException.from(cause).useContext(frame.context()).push(this.toString());
 			}
 		}
@@ -303,10 +343,68 @@ public abstract class FEMReflection implements FEMFunction {
 
 		InstanceMethod(Method method) {
 			this.method = method;
+			this.invoker =
+				FEMReflection.invoker(method, FEMReflection.handle(method), frame -> method.invoke(frame.get(0).data(), FEMReflection.params(frame, true)));
 		}
 
+		private final Invoker invoker;
+
 	}
 
+	/** Diese Schnittstelle definiert den beim Erzeugen einer {@link FEMReflection} einmalig gebundenen Zugriff auf deren {@link FEMReflection#member() Member}.
+	 * Die Nutzdaten aller Parameterwerte des Stapelrahmens werden dabei als Argumente übergeben, bei instanzgebundenen {@link Member} beginnend mit dem Objekt. */
+	interface Invoker {
+
+		/** Diese Methode führt den Zugriff mit den Nutzdaten der Parameterwerte des gegebenen Stapelrahmens aus und gibt dessen Ergebnis zurück.
+		 *
+		 * @param frame Stapelrahmen.
+		 * @return Ergebnis oder {@code null}.
+		 * @throws Throwable Wenn der Zugriff eine Ausnahme auslöst. */
+		Object invoke(FEMFrame frame) throws Throwable;
+
+	}
+
+	/** Diese Schnittstelle definiert den über {@link LambdaMetafactory} erzeugten Aufruf einer Methode bzw. eines Konstruktors ohne Argumente. */
+	interface Call0 {
+
+		Object invoke();
+
+	}
+
+	/** Diese Schnittstelle definiert den über {@link LambdaMetafactory} erzeugten Aufruf einer Methode bzw. eines Konstruktors mit einem Argument. */
+	interface Call1 {
+
+		Object invoke(Object a);
+
+	}
+
+	/** Diese Schnittstelle definiert den über {@link LambdaMetafactory} erzeugten Aufruf einer Methode bzw. eines Konstruktors mit zwei Argumenten. */
+	interface Call2 {
+
+		Object invoke(Object a, Object b);
+
+	}
+
+	/** Diese Schnittstelle definiert den über {@link LambdaMetafactory} erzeugten Aufruf einer Methode bzw. eines Konstruktors mit drei Argumenten. */
+	interface Call3 {
+
+		Object invoke(Object a, Object b, Object c);
+
+	}
+
+	/** Diese Schnittstelle definiert den über {@link LambdaMetafactory} erzeugten Aufruf einer Methode bzw. eines Konstruktors mit vier Argumenten. */
+	interface Call4 {
+
+		Object invoke(Object a, Object b, Object c, Object d);
+
+	}
+
+	/** Dieses Feld speichert das {@link Lookup} zur Bindung der {@link MethodHandle}. */
+	static final Lookup LOOKUP = MethodHandles.lookup();
+
+	/** Dieses Feld speichert die Schnittstellen {@link Call0} bis {@link Call4} gemäß ihrer Argumentanzahl. */
+	static final Class<?>[] CALLS = {Call0.class, Call1.class, Call2.class, Call3.class, Call4.class};
+
 	private static Object[] params(FEMFrame frame, boolean skipFirst) {
 		var offset = skipFirst ? 1 : 0;
 		var length = frame.size() - offset;
@@ -317,4 +415,143 @@ public abstract class FEMReflection implements FEMFunction {
 		return result;
 	}
 
-}
\ No newline at end of file
+	/** Diese Methode gibt die Nutzdaten des gegebenen Parameterwerts zurück. */
+	private static Object param(FEMFrame frame, int index) {
+		return frame.get(index).data();
+	}
+
+	/** Diese Methode prüft die Anzahl der Parameterwerte des gegebenen Stapelrahmens. */
+	private static void check(FEMFrame frame, int size) throws IllegalArgumentException {
+		if (frame.size() != size) throw new IllegalArgumentException();
+	}
+
+	/** Diese Methode gibt den {@link MethodHandle} zur gegebenen Methode oder {@code null} zurück, wenn diese nicht zugreifbar ist. */
+	private static MethodHandle handle(Method method) {
+		try {
+			return FEMReflection.LOOKUP.unreflect(method).asFixedArity();
+		} catch (IllegalAccessException cause) {
+			return null;
+		}
+	}
+
+	/** Diese Methode gibt den {@link MethodHandle} zum gegebenen Konstruktor oder {@code null} zurück, wenn dieser nicht zugreifbar ist. */
+	private static MethodHandle handle(Constructor<?> constructor) {
+		try {
+			return FEMReflection.LOOKUP.unreflectConstructor(constructor).asFixedArity();
+		} catch (IllegalAccessException cause) {
+			return null;
+		}
+	}
+
+	/** Diese Methode gibt den {@link MethodHandle} zum Lesen des gegebenen Datenfelds oder {@code null} zurück, wenn dieses nicht zugreifbar ist. */
+	private static MethodHandle getter(Field field) {
+		try {
+			return FEMReflection.LOOKUP.unreflectGetter(field);
+		} catch (IllegalAccessException cause) {
+			return null;
+		}
+	}
+
+	/** Diese Methode gibt den {@link MethodHandle} zum Schreiben des gegebenen Datenfelds oder {@code null} zurück, wenn dieses nicht zugreifbar ist. */
+	private static MethodHandle setter(Field field) {
+		try {
+			return FEMReflection.LOOKUP.unreflectSetter(field);
+		} catch (IllegalAccessException cause) {
+			return null;
+		}
+	}
+
+	/** Diese Methode gibt den {@link Invoker} zum gegebenen {@link MethodHandle} zurück. Wenn dieser {@code null} ist, wird {@code reflect} geliefert. Andernfalls
+	 * wird der {@link MethodHandle} in einen mit {@link MethodHandle#invokeExact(Object...)} aufrufbaren {@link MethodType#generic() generischen} Aufruf
+	 * überführt, dem die Nutzdaten der Parameterwerte als {@code Object[]} übergeben werden. */
+	private static Invoker invoker(MethodHandle handle, Invoker reflect) {
+		if (handle == null) return reflect;
+		var count = handle.type().parameterCount();
+		var spread = handle.asType(handle.type().generic()).asSpreader(Object[].class, count);
+		return frame -> (Object)spread.invokeExact(FEMReflection.params(frame, false));
+	}
+
+	/** Diese Methode gibt den {@link Invoker} zum gegebenen {@link MethodHandle} einer Methode bzw. eines Konstruktors zurück. Wenn möglich, wird der Aufruf
+	 * dazu über {@link LambdaMetafactory} in eine der Schnittstellen {@link Call0} bis {@link Call4} gebunden, sodass er durch den Compiler wie ein direkter Aufruf
+	 * behandelt werden kann. Andernfalls wird {@link #invoker(MethodHandle, Invoker)} verwendet. */
+	private static Invoker invoker(Executable member, MethodHandle handle, Invoker reflect) {
+		if (handle == null) return reflect;
+		try {
+			var type = handle.type();
+			var count = type.parameterCount();
+			if ((count >= FEMReflection.CALLS.length) || (type.returnType() == void.class) || !FEMReflection.isLinkable(member, type)) {
+				return FEMReflection.invoker(handle, reflect);
+			}
+			var site = LambdaMetafactory.metafactory(FEMReflection.LOOKUP, "invoke", MethodType.methodType(FEMReflection.CALLS[count]),
+				MethodType.genericMethodType(count), handle, type.wrap());
+			var call = site.getTarget().invoke();
+			switch (count) {
+				case 0: {
+					var call0 = (Call0)call;
+					return frame -> {
+						FEMReflection.check(frame, 0);
+						return call0.invoke();
+					};
+				}
+				case 1: {
+					var call1 = (Call1)call;
+					return frame -> {
+						FEMReflection.check(frame, 1);
+						return call1.invoke(FEMReflection.param(frame, 0));
+					};
+				}
+				case 2: {
+					var call2 = (Call2)call;
+					return frame -> {
+						FEMReflection.check(frame, 2);
+						return call2.invoke(FEMReflection.param(frame, 0), FEMReflection.param(frame, 1));
+					};
+				}
+				case 3: {
+					var call3 = (Call3)call;
+					return frame -> {
+						FEMReflection.check(frame, 3);
+						return call3.invoke(FEMReflection.param(frame, 0), FEMReflection.param(frame, 1), FEMReflection.param(frame, 2));
+					};
+				}
+				default: {
+					var call4 = (Call4)call;
+					return frame -> {
+						FEMReflection.check(frame, 4);
+						return call4.invoke(FEMReflection.param(frame, 0), FEMReflection.param(frame, 1), FEMReflection.param(frame, 2), FEMReflection.param(frame, 3));
+					};
+				}
+			}
+		} catch (Error cause) {
+			throw cause;
+		} catch (Throwable cause) {
+			return FEMReflection.invoker(handle, reflect);
+		}
+	}
+
+	/** Diese Methode gibt nur dann {@code true} zurück, wenn der gegebene {@link Member} über {@link LambdaMetafactory} gebunden werden kann. Dazu müssen er und
+	 * alle Typen seiner Signatur öffentlich sowie über den {@link ClassLoader} dieser Klasse erreichbar sein. Primitive Parametertypen sind ausgeschlossen, da
+	 * {@link LambdaMetafactory} deren Erweiterung bspw. von {@link Integer} zu {@code long} nicht unterstützt. */
+	private static boolean isLinkable(Executable member, MethodType type) {
+		if (!Modifier.isPublic(member.getModifiers()) || !FEMReflection.isVisible(member.getDeclaringClass())) return false;
+		if (!type.returnType().isPrimitive() && !FEMReflection.isVisible(type.returnType())) return false;
+		for (var paramType: type.parameterArray()) {
+			if (paramType.isPrimitive() || !FEMReflection.isVisible(paramType)) return false;
+		}
+		return true;
+	}
+
+	private static boolean isVisible(Class<?> type) {
+		while (type.isArray()) {
+			type = type.getComponentType();
+		}
+		if (type.isPrimitive()) return true;
+		if (!Modifier.isPublic(type.getModifiers()) || !type.getModule().isExported(type.getPackageName())) return false;
+		try {
+			return Class.forName(type.getName(), false, FEMReflection.class.getClassLoader()) == type;
+		} catch (ClassNotFoundException cause) {
+			return false;
+		}
+	}
+
+}
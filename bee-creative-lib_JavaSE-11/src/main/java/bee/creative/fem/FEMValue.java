@@ -58,6 +58,12 @@ public interface FEMValue extends FEMFunction {
 		return this;
 	}
 
+	@Override
+	default FEMFunction profile(FEMProfiler profiler) throws NullPointerException {
+		notNull(profiler);
+		return this;
+	}
+
 	@Override
 	default FEMValue toValue() {
 		return this;
@@ -42,6 +42,32 @@ public abstract class IAMArray implements Iterable<Integer>, Comparable<IAMArray
 			return this.array[this.offset + index];
 		}
 
+		@Override
+		protected int customHash(int hash, final int index, final int length) {
+			final var array = this.array;
+			for (int i = this.offset + index, l = length; l != 0; ++i, --l) {
+				hash = Objects.hashPush(hash, array[i]);
+			}
+			return hash;
+		}
+
+		@Override
+		protected boolean customEquals(final int index, final IAMArray that, final int offset, final int length) {
+			if (!(that instanceof INT8Array) || (that.mode() != this.mode())) return super.customEquals(index, that, offset, length);
+			final var that2 = (INT8Array)that;
+			final int from1 = this.offset + index, from2 = that2.offset + offset;
+			return Arrays.equals(this.array, from1, from1 + length, that2.array, from2, from2 + length);
+		}
+
+		@Override
+		protected int customCompare(final int index, final IAMArray that, final int offset, final int length) {
+			if (!(that instanceof INT8Array) || (that.mode() != this.mode())) return super.customCompare(index, that, offset, length);
+			final var that2 = (INT8Array)that;
+			final int from1 = this.offset + index, from2 = that2.offset + offset;
+			final var result = Arrays.mismatch(this.array, from1, from1 + length, that2.array, from2, from2 + length);
+			return result < 0 ? 0 : Integer.compare(this.customGet(index + result), that.customGet(offset + result));
+		}
+
 		@Override
 		protected IAMArray customSection(final int offset, final int length) {
 			if (length == 0) return INT8Array.EMPTY;
@@ -94,6 +120,32 @@ public abstract class IAMArray implements Iterable<Integer>, Comparable<IAMArray
 			return this.array[this.offset + index];
 		}
 
+		@Override
+		protected int customHash(int hash, final int index, final int length) {
+			final var array = this.array;
+			for (int i = this.offset + index, l = length; l != 0; ++i, --l) {
+				hash = Objects.hashPush(hash, array[i]);
+			}
+			return hash;
+		}
+
+		@Override
+		protected boolean customEquals(final int index, final IAMArray that, final int offset, final int length) {
+			if (!(that instanceof INT16Array) || (that.mode() != this.mode())) return super.customEquals(index, that, offset, length);
+			final var that2 = (INT16Array)that;
+			final int from1 = this.offset + index, from2 = that2.offset + offset;
+			return Arrays.equals(this.array, from1, from1 + length, that2.array, from2, from2 + length);
+		}
+
+		@Override
+		protected int customCompare(final int index, final IAMArray that, final int offset, final int length) {
+			if (!(that instanceof INT16Array) || (that.mode() != this.mode())) return super.customCompare(index, that, offset, length);
+			final var that2 = (INT16Array)that;
+			final int from1 = this.offset + index, from2 = that2.offset + offset;
+			final var result = Arrays.mismatch(this.array, from1, from1 + length, that2.array, from2, from2 + length);
+			return result < 0 ? 0 : Integer.compare(this.customGet(index + result), that.customGet(offset + result));
+		}
+
 		@Override
 		protected IAMArray customSection(final int offset, final int length) {
 			if (length == 0) return INT16Array.EMPTY;
@@ -146,6 +198,32 @@ public abstract class IAMArray implements Iterable<Integer>, Comparable<IAMArray
 			return this.array[this.offset + index];
 		}
 
+		@Override
+		protected int customHash(int hash, final int index, final int length) {
+			final var array = this.array;
+			for (int i = this.offset + index, l = length; l != 0; ++i, --l) {
+				hash = Objects.hashPush(hash, array[i]);
+			}
+			return hash;
+		}
+
+		@Override
+		protected boolean customEquals(final int index, final IAMArray that, final int offset, final int length) {
+			if (!(that instanceof INT32Array) || (that.mode() != this.mode())) return super.customEquals(index, that, offset, length);
+			final var that2 = (INT32Array)that;
+			final int from1 = this.offset + index, from2 = that2.offset + offset;
+			return Arrays.equals(this.array, from1, from1 + length, that2.array, from2, from2 + length);
+		}
+
+		@Override
+		protected int customCompare(final int index, final IAMArray that, final int offset, final int length) {
+			if (!(that instanceof INT32Array) || (that.mode() != this.mode())) return super.customCompare(index, that, offset, length);
+			final var that2 = (INT32Array)that;
+			final int from1 = this.offset + index, from2 = that2.offset + offset;
+			final var result = Arrays.mismatch(this.array, from1, from1 + length, that2.array, from2, from2 + length);
+			return result < 0 ? 0 : Integer.compare(this.customGet(index + result), that.customGet(offset + result));
+		}
+
 		@Override
 		protected IAMArray customSection(final int offset, final int length) {
 			if (length == 0) return INT32Array.EMPTY;
@@ -193,6 +271,15 @@ public abstract class IAMArray implements Iterable<Integer>, Comparable<IAMArray
 			return super.customGet(index) & 0xFF;
 		}
 
+		@Override
+		protected int customHash(int hash, final int index, final int length) {
+			final var array = this.array;
+			for (int i = this.offset + index, l = length; l != 0; ++i, --l) {
+				hash = Objects.hashPush(hash, array[i] & 0xFF);
+			}
+			return hash;
+		}
+
 		@Override
 		protected IAMArray customSection(final int offset, final int length) {
 			if (length == 0) return UINT8Array.EMPTY;
@@ -234,6 +321,15 @@ public abstract class IAMArray implements Iterable<Integer>, Comparable<IAMArray
 			return super.customGet(index) & 0xFFFF;
 		}
 
+		@Override
+		protected int customHash(int hash, final int index, final int length) {
+			final var array = this.array;
+			for (int i = this.offset + index, l = length; l != 0; ++i, --l) {
+				hash = Objects.hashPush(hash, array[i] & 0xFFFF);
+			}
+			return hash;
+		}
+
 		@Override
 		protected IAMArray customSection(final int offset, final int length) {
 			if (length == 0) return UINT16Array.EMPTY;
@@ -325,9 +421,17 @@ public abstract class IAMArray implements Iterable<Integer>, Comparable<IAMArray
 			return this.array1.section(offset, count1).concat(this.array2.section(0, count2));
 		}
 
+		@Override
+		protected int customHash(final int hash, final int index, final int length) {
+			final int count1 = this.array1.length - index, count2 = length - count1;
+			if (count1 <= 0) return this.array2.customHash(hash, -count1, length);
+			if (count2 <= 0) return this.array1.customHash(hash, index, length);
+			return this.array2.customHash(this.array1.customHash(hash, index, count1), 0, count2);
+		}
+
 		@Override
 		protected boolean customEquals(final int index, final IAMArray that, final int offset, final int length) {
-			final int count1 = this.array1.length - offset, count2 = length - count1;
+			final int count1 = this.array1.length - index, count2 = length - count1;
 			if (count1 <= 0) return this.array2.customEquals(-count1, that, offset, length);
 			if (count2 <= 0) return this.array1.customEquals(index, that, offset, length);
 			return this.array1.customEquals(index, that, offset, count1) && this.array2.customEquals(0, that, offset + count1, count2);
@@ -335,7 +439,7 @@ public abstract class IAMArray implements Iterable<Integer>, Comparable<IAMArray
 
 		@Override
 		protected int customCompare(final int index, final IAMArray that, final int offset, final int length) {
-			final int count1 = this.array1.length - offset, count2 = length - count1;
+			final int count1 = this.array1.length - index, count2 = length - count1;
 			if (count1 <= 0) return this.array2.customCompare(-count1, that, offset, length);
 			if (count2 <= 0) return this.array1.customCompare(index, that, offset, length);
 			final var result = this.array1.customCompare(index, that, offset, count1);
@@ -382,6 +486,11 @@ public abstract class IAMArray implements Iterable<Integer>, Comparable<IAMArray
 			this.array.customGet(this.offset + index, array, offset, length);
 		}
 
+		@Override
+		protected int customHash(final int hash, final int index, final int length) {
+			return this.array.customHash(hash, this.offset + index, length);
+		}
+
 		@Override
 		protected boolean customEquals(final int index, final IAMArray that, final int offset, final int length) {
 			return that.customEquals(offset, this.array, this.offset + index, length);
@@ -399,6 +508,253 @@ public abstract class IAMArray implements Iterable<Integer>, Comparable<IAMArray
 
 	}
 
+	/** Diese Klasse implementiert eine Zahlenfolge, deren Zahlen blockweise komprimiert in einer {@link #MODE_INT32}-Zahlenfolge abgelegt sind. Die
+	 * Kodierung beginnt mit der Kopfzahl {@code (packing << 30) | length}, gefolgt von je zwei Zahlen {@code base} und {@code (bits << 26) | offset} für
+	 * jeden Block aus {@link #BLOCK_SIZE} Zahlen und den bitweise gepackten Differenzen der Blöcke. Bei {@link IAMArray#PACKING_FOR} werden die Differenzen
+	 * zum Minimum {@code base} des Blocks abgelegt, sodass {@link #get(int)} in konstanter Zeit möglich ist. Bei {@link IAMArray#PACKING_DELTA} werden die
+	 * Differenzen zur jeweils vorherigen Zahl abgelegt, wobei {@code base} die erste Zahl des Blocks ist. */
+	public static class PackedArray extends IAMArray {
+
+		/** Dieses Feld speichert die Anzahl der Zahlen je Block. */
+		public static final int BLOCK_SIZE = 128;
+
+		/** Diese Methode gibt die Kodierung der gegebenen Zahlenfolge als {@link PackedArray} zurück. Dabei wird {@link IAMArray#PACKING_DELTA} nur für
+		 * aufsteigend geordnete Zahlenfolgen und nur dann verwendet, wenn diese Kodierung kleiner als {@link IAMArray#PACKING_FOR} ist.
+		 *
+		 * @param array Zahlenfolge.
+		 * @return Kodierung der Zahlenfolge.
+		 * @throws NullPointerException Wenn {@code array} {@code null} ist.
+		 * @throws IllegalArgumentException Wenn die Kodierung die Kapazität des Datenformats übersteigt. */
+		public static int[] pack(final int[] array) throws NullPointerException, IllegalArgumentException {
+			final var length = array.length;
+			if ((length & 0xC0000000) != 0) throw new IllegalArgumentException();
+			final var blocks = (length + PackedArray.BLOCK_SIZE - 1) / PackedArray.BLOCK_SIZE;
+			final var bitsFOR = new int[blocks];
+			final var bitsDELTA = new int[blocks];
+			var sorted = true;
+			long sizeFOR = 0, sizeDELTA = 0;
+			for (int b = 0; b < blocks; b++) {
+				final int from = b * PackedArray.BLOCK_SIZE, size = Math.min(PackedArray.BLOCK_SIZE, length - from);
+				var min = array[from];
+				var delta = 0;
+				for (int i = from + 1, l = from + size; i < l; i++) {
+					final int prev = array[i - 1], next = array[i];
+					min = Math.min(min, next);
+					if (prev > next) {
+						sorted = false;
+					}
+					delta |= next - prev;
+				}
+				var range = 0;
+				for (int i = from, l = from + size; i < l; i++) {
+					range |= array[i] - min;
+				}
+				bitsFOR[b] = 32 - Integer.numberOfLeadingZeros(range);
+				bitsDELTA[b] = 32 - Integer.numberOfLeadingZeros(delta);
+				sizeFOR += ((size * (long)bitsFOR[b]) + 31) >>> 5;
+				sizeDELTA += ((size * (long)bitsDELTA[b]) + 31) >>> 5;
+				if ((b > 0) && (array[from - 1] > array[from])) {
+					sorted = false;
+				}
+			}
+			final var packing = sorted && (sizeDELTA < sizeFOR) ? IAMArray.PACKING_DELTA : IAMArray.PACKING_FOR;
+			final var bits = packing == IAMArray.PACKING_DELTA ? bitsDELTA : bitsFOR;
+			final var size = 1 + (2L * blocks) + (packing == IAMArray.PACKING_DELTA ? sizeDELTA : sizeFOR);
+			if (size > 0x3FFFFFFF) throw new IllegalArgumentException();
+			final var result = new int[(int)size];
+			result[0] = (packing << 30) | length;
+			for (int b = 0, offset = 0; b < blocks; b++) {
+				if (offset > 0x03FFFFFF) throw new IllegalArgumentException();
+				final int from = b * PackedArray.BLOCK_SIZE, size2 = Math.min(PackedArray.BLOCK_SIZE, length - from), bits2 = bits[b];
+				var base = array[from];
+				if (packing == IAMArray.PACKING_FOR) {
+					for (int i = from + 1, l = from + size2; i < l; i++) {
+						base = Math.min(base, array[i]);
+					}
+				}
+				result[1 + (2 * b)] = base;
+				result[2 + (2 * b)] = (bits2 << 26) | offset;
+				final var target = 1 + (2 * blocks) + offset;
+				if (bits2 != 0) {
+					long buffer = 0;
+					int count = 0, index = target;
+					for (int i = from, l = from + size2; i < l; i++) {
+						final var value = packing == IAMArray.PACKING_FOR ? array[i] - base : i == from ? 0 : array[i] - array[i - 1];
+						buffer |= (value & 0xFFFFFFFFL) << count;
+						count += bits2;
+						if (count >= 32) {
+							result[index++] = (int)buffer;
+							buffer >>>= 32;
+							count -= 32;
+						}
+					}
+					if (count != 0) {
+						result[index] = (int)buffer;
+					}
+				}
+				offset += ((size2 * bits2) + 31) >>> 5;
+			}
+			return result;
+		}
+
+		/** Dieses Feld speichert die Kodierung. */
+		public final IAMArray array;
+
+		/** Dieses Feld speichert die Art der Kodierung ({@link IAMArray#PACKING_FOR} oder {@link IAMArray#PACKING_DELTA}). */
+		public final int packing;
+
+		/** Dieses Feld speichert die Position der gepackten Differenzen in {@link #array}. */
+		final int start;
+
+		/** Dieser Konstruktor initialisiert die Zahlenfolge als Sicht auf die gegebene Kodierung.
+		 *
+		 * @see #pack(int[])
+		 * @param array Kodierung.
+		 * @throws NullPointerException Wenn {@code array} {@code null} ist.
+		 * @throws IllegalArgumentException Wenn die Kodierung ungültig ist. */
+		public PackedArray(final IAMArray array) throws NullPointerException, IllegalArgumentException {
+			super(array.get(0) & 0x3FFFFFFF);
+			final var packing = array.get(0) >>> 30;
+			final var start = 1 + (2 * ((this.length + PackedArray.BLOCK_SIZE - 1) / PackedArray.BLOCK_SIZE));
+			if ((array.length == 0) || (packing > IAMArray.PACKING_DELTA) || (array.length < start)) throw new IllegalArgumentException();
+			this.array = array;
+			this.packing = packing;
+			this.start = start;
+		}
+
+		/** Diese Methode dekodiert die ersten {@code length} Zahlen des {@code block}-ten Blocks in das gegebene Array.
+		 *
+		 * @param block Index des Blocks.
+		 * @param result Ergebnis mit mindestens {@link #BLOCK_SIZE} Elementen.
+		 * @param length Anzahl der Zahlen. */
+		final void customDecode(final int block, final int[] result, final int length) {
+			final var array = this.array;
+			final var base = array.customGet(1 + (2 * block));
+			final var info = array.customGet(2 + (2 * block));
+			final var bits = info >>> 26;
+			if (bits == 0) {
+				Arrays.fill(result, 0, length, base);
+				return;
+			}
+			final var mask = (1L << bits) - 1;
+			long buffer = 0;
+			int count = 0, index = this.start + (info & 0x03FFFFFF);
+			for (int i = 0; i < length; i++) {
+				if (count < bits) {
+					buffer |= (array.customGet(index++) & 0xFFFFFFFFL) << count;
+					count += 32;
+				}
+				result[i] = (int)(buffer & mask);
+				buffer >>>= bits;
+				count -= bits;
+			}
+			if (this.packing == IAMArray.PACKING_FOR) {
+				for (int i = 0; i < length; i++) {
+					result[i] += base;
+				}
+			} else {
+				for (int i = 0, value = base; i < length; i++) {
+					result[i] = value += result[i];
+				}
+			}
+		}
+
+		@Override
+		public int mode() {
+			return IAMArray.MODE_INT32;
+		}
+
+		@Override
+		protected int customGet(final int index) {
+			final var array = this.array;
+			final int block = index / PackedArray.BLOCK_SIZE, info = array.customGet(2 + (2 * block)), bits = info >>> 26;
+			var value = array.customGet(1 + (2 * block));
+			if (bits == 0) return value;
+			final int start = this.start + (info & 0x03FFFFFF), from = index - (block * PackedArray.BLOCK_SIZE);
+			if (this.packing == IAMArray.PACKING_FOR) return value + PackedArray.customUnpack(array, start, bits, from);
+			for (int i = 1; i <= from; i++) {
+				value += PackedArray.customUnpack(array, start, bits, i);
+			}
+			return value;
+		}
+
+		/** Diese Methode gibt die {@code index}-te gepackte Zahl mit der gegebenen Bitanzahl ab der gegebenen Position zurück. */
+		static int customUnpack(final IAMArray array, final int start, final int bits, final int index) {
+			final var bitIndex = (long)index * bits;
+			final int wordIndex = start + (int)(bitIndex >>> 5), shift = (int)bitIndex & 31;
+			var buffer = (array.customGet(wordIndex) & 0xFFFFFFFFL) >>> shift;
+			if ((shift + bits) > 32) {
+				buffer |= (array.customGet(wordIndex + 1) & 0xFFFFFFFFL) << (32 - shift);
+			}
+			return (int)(buffer & ((1L << bits) - 1));
+		}
+
+		@Override
+		protected void customGet(final int index, final int[] array, final int offset, final int length) {
+			final var buffer = new int[PackedArray.BLOCK_SIZE];
+			for (int i1 = index, i2 = offset, l = length; 0 < l;) {
+				final int block = i1 / PackedArray.BLOCK_SIZE, from = i1 - (block * PackedArray.BLOCK_SIZE);
+				final var count = Math.min(l, PackedArray.BLOCK_SIZE - from);
+				this.customDecode(block, buffer, from + count);
+				System.arraycopy(buffer, from, array, i2, count);
+				i1 += count;
+				i2 += count;
+				l -= count;
+			}
+		}
+
+		@Override
+		protected int customHash(int hash, final int index, final int length) {
+			final var buffer = new int[PackedArray.BLOCK_SIZE];
+			for (int i1 = index, l = length; 0 < l;) {
+				final int block = i1 / PackedArray.BLOCK_SIZE, from = i1 - (block * PackedArray.BLOCK_SIZE);
+				final var count = Math.min(l, PackedArray.BLOCK_SIZE - from);
+				this.customDecode(block, buffer, from + count);
+				for (int i = from, l2 = from + count; i < l2; i++) {
+					hash = Objects.hashPush(hash, buffer[i]);
+				}
+				i1 += count;
+				l -= count;
+			}
+			return hash;
+		}
+
+		@Override
+		protected boolean customEquals(final int index, final IAMArray that, final int offset, final int length) {
+			final var buffer = new int[PackedArray.BLOCK_SIZE];
+			for (int i1 = index, i2 = offset, l = length; 0 < l;) {
+				final int block = i1 / PackedArray.BLOCK_SIZE, from = i1 - (block * PackedArray.BLOCK_SIZE);
+				final var count = Math.min(l, PackedArray.BLOCK_SIZE - from);
+				this.customDecode(block, buffer, from + count);
+				for (int i = from, l2 = from + count; i < l2; i++, i2++) {
+					if (buffer[i] != that.customGet(i2)) return false;
+				}
+				i1 += count;
+				l -= count;
+			}
+			return true;
+		}
+
+		@Override
+		protected int customCompare(final int index, final IAMArray that, final int offset, final int length) {
+			final var buffer = new int[PackedArray.BLOCK_SIZE];
+			for (int i1 = index, i2 = offset, l = length; 0 < l;) {
+				final int block = i1 / PackedArray.BLOCK_SIZE, from = i1 - (block * PackedArray.BLOCK_SIZE);
+				final var count = Math.min(l, PackedArray.BLOCK_SIZE - from);
+				this.customDecode(block, buffer, from + count);
+				for (int i = from, l2 = from + count; i < l2; i++, i2++) {
+					final int v1 = buffer[i], v2 = that.customGet(i2);
+					if (v1 < v2) return -1;
+					if (v1 > v2) return +1;
+				}
+				i1 += count;
+				l -= count;
+			}
+			return 0;
+		}
+
+	}
+
 	/** Dieses Feld identifiziert die Kodierung für 8-Bit-Binärzahlen. Diese erlaubt Zahlen von {@code -128} bis {@code +127}. */
 	public static final int MODE_INT8 = 0;
 
@@ -414,6 +770,12 @@ public abstract class IAMArray implements Iterable<Integer>, Comparable<IAMArray
 	/** Dieses Feld identifiziert die Kodierung für vorzeichenlose 16-Bit-Binärzahlen. Diese erlaubt Zahlen von {@code 0} bis {@code 65535}. */
 	public static final int MODE_UINT16 = 4;
 
+	/** Dieses Feld identifiziert die Kodierung eines {@link PackedArray} über die Differenzen zum Minimum eines Blocks (frame-of-reference). */
+	public static final int PACKING_FOR = 0;
+
+	/** Dieses Feld identifiziert die Kodierung eines {@link PackedArray} über die Differenzen zur vorherigen Zahl eines aufsteigend geordneten Blocks. */
+	public static final int PACKING_DELTA = 1;
+
 	/** Dieses Feld speichert ein leeres {@link IAMArray}. */
 	public static final IAMArray EMPTY = INT32Array.EMPTY;
 
@@ -607,6 +969,20 @@ public abstract class IAMArray implements Iterable<Integer>, Comparable<IAMArray
 		}
 	}
 
+	/** Diese Methode implementiert {@link #hash(int, int)} ohne Parameterprüfung, wobei der Streuwert ausgehend vom gegebenen fortgesetzt wird. Die
+	 * Zahlenfolgen auf Basis von Arrays überschreiben diese Methode mit Schleifen direkt über ihre Arrays.
+	 *
+	 * @param hash bisheriger Streuwert.
+	 * @param index Beginn des Bereichs in {@code this}.
+	 * @param length Länge des Bereichs in {@code this}.
+	 * @return fortgesetzter Streuwert. */
+	protected int customHash(int hash, final int index, final int length) {
+		for (int i = index, l = length; l != 0; ++i, --l) {
+			hash = Objects.hashPush(hash, this.customGet(i));
+		}
+		return hash;
+	}
+
 	/** Diese Methode implementiert {@link #equals(IAMArray)} ohne Parameterprüfung.
 	 *
 	 * @param index Beginn des Bereichs in {@code this}.
@@ -765,6 +1141,104 @@ public abstract class IAMArray implements Iterable<Integer>, Comparable<IAMArray
 		return this.customCompare(0, that, 0, l2);
 	}
 
+	/** Diese Methode gibt den {@link #hash() Streuwert} des gegebenen Abschnitts dieser Zahlenfolge zurück, ohne diesen als {@link #section(int, int) Sicht}
+	 * zu erzeugen. Der Abschnitt wird nicht geprüft.
+	 *
+	 * @param offset Beginn des Abschnitts.
+	 * @param length Länge des Abschnitts.
+	 * @return Streuwert des Abschnitts. */
+	public final int hash(final int offset, final int length) {
+		return this.customHash(Objects.hashInit(), offset, length);
+	}
+
+	/** Diese Methode gibt nur dann {@code true} zurück, wenn der gegebene Abschnitt dieser Zahlenfolge {@link #equals(IAMArray) gleich} der gegebenen
+	 * Zahlenfolge ist, ohne den Abschnitt als {@link #section(int, int) Sicht} zu erzeugen. Der Abschnitt wird nicht geprüft.
+	 *
+	 * @param offset Beginn des Abschnitts.
+	 * @param length Länge des Abschnitts.
+	 * @param that Zahlenfolge.
+	 * @return Vergleichswert.
+	 * @throws NullPointerException Wenn {@code that} {@code null} ist. */
+	public final boolean equals(final int offset, final int length, final IAMArray that) throws NullPointerException {
+		return (length == that.length) && this.customEquals(offset, that, 0, length);
+	}
+
+	/** Diese Methode gibt nur dann {@code true} zurück, wenn der gegebene Abschnitt dieser Zahlenfolge gleich den gegebenen Zahlen ist. Der Abschnitt wird
+	 * nicht geprüft.
+	 *
+	 * @see #equals(int, int, IAMArray)
+	 * @param offset Beginn des Abschnitts.
+	 * @param length Länge des Abschnitts.
+	 * @param that Zahlen.
+	 * @return Vergleichswert.
+	 * @throws NullPointerException Wenn {@code that} {@code null} ist. */
+	public final boolean equals(final int offset, final int length, final int[] that) throws NullPointerException {
+		if (length != that.length) return false;
+		for (int i1 = offset, i2 = 0; i2 < length; i1++, i2++) {
+			if (this.customGet(i1) != that[i2]) return false;
+		}
+		return true;
+	}
+
+	/** Diese Methode gibt nur dann {@code true} zurück, wenn der gegebene Abschnitt dieser Zahlenfolge gleich den gegebenen {@code INT8} Zahlen ist. Der
+	 * Abschnitt wird nicht geprüft.
+	 *
+	 * @see #equals(int, int, IAMArray)
+	 * @param offset Beginn des Abschnitts.
+	 * @param length Länge des Abschnitts.
+	 * @param that Zahlen.
+	 * @return Vergleichswert.
+	 * @throws NullPointerException Wenn {@code that} {@code null} ist. */
+	public final boolean equals(final int offset, final int length, final byte[] that) throws NullPointerException {
+		if (length != that.length) return false;
+		for (int i1 = offset, i2 = 0; i2 < length; i1++, i2++) {
+			if (this.customGet(i1) != that[i2]) return false;
+		}
+		return true;
+	}
+
+	/** Diese Methode gibt eine Zahl kleiner, gleich oder größer als {@code 0} zurück, wenn die Ordnung des gegebenen Abschnitts dieser Zahlenfolge
+	 * lexikografisch kleiner, gleich bzw. größer als die der gegebenen Zahlenfolge ist, ohne den Abschnitt als {@link #section(int, int) Sicht} zu erzeugen.
+	 * Der Abschnitt wird nicht geprüft.
+	 *
+	 * @see #compare(IAMArray)
+	 * @param offset Beginn des Abschnitts.
+	 * @param length Länge des Abschnitts.
+	 * @param that Zahlenfolge.
+	 * @return Vergleichswert der Ordnungen.
+	 * @throws NullPointerException Wenn {@code that} {@code null} ist. */
+	public final int compare(final int offset, final int length, final IAMArray that) throws NullPointerException {
+		final int l2 = that.length;
+		if (length < l2) {
+			final var result = this.customCompare(offset, that, 0, length);
+			return result != 0 ? result : -1;
+		}
+		if (length > l2) {
+			final var result = this.customCompare(offset, that, 0, l2);
+			return result != 0 ? result : +1;
+		}
+		return this.customCompare(offset, that, 0, l2);
+	}
+
+	/** Diese Methode gibt eine Zahl kleiner, gleich oder größer als {@code 0} zurück, wenn die Ordnung des gegebenen Abschnitts dieser Zahlenfolge
+	 * lexikografisch kleiner, gleich bzw. größer als die der gegebenen Zahlen ist. Der Abschnitt wird nicht geprüft.
+	 *
+	 * @see #compare(int, int, IAMArray)
+	 * @param offset Beginn des Abschnitts.
+	 * @param length Länge des Abschnitts.
+	 * @param that Zahlen.
+	 * @return Vergleichswert der Ordnungen.
+	 * @throws NullPointerException Wenn {@code that} {@code null} ist. */
+	public final int compare(final int offset, final int length, final int[] that) throws NullPointerException {
+		final int l2 = that.length;
+		for (int i1 = offset, i2 = 0, l = Math.min(length, l2); i2 < l; i1++, i2++) {
+			final int v1 = this.customGet(i1), v2 = that[i2];
+			if (v1 < v2) return -1;
+			if (v1 > v2) return +1;
+		}
+		return Integer.compare(length, l2);
+	}
+
 	/** Diese Methode gibt eine Sicht auf die Verkettung dieser Zahlenfolge mit der gegebenen Zahlenfolge zurück.
 	 *
 	 * @param that Zahlenfolge.
@@ -894,11 +1368,7 @@ public abstract class IAMArray implements Iterable<Integer>, Comparable<IAMArray
 
 	@Override
 	public final int hashCode() {
-		var hash = Objects.hashInit();
-		for (int i = 0, l = this.length; l != 0; ++i, --l) {
-			hash = Objects.hashPush(hash, this.customGet(i));
-		}
-		return hash;
+		return this.customHash(Objects.hashInit(), 0, this.length);
 	}
 
 	@Override
@@ -5,6 +5,7 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.AbstractList;
 import java.util.List;
+import java.util.stream.IntStream;
 import bee.creative.lang.Bytes;
 import bee.creative.lang.Objects;
 import bee.creative.mmi.MMIArray;
@@ -347,27 +348,34 @@ public abstract class IAMIndex {
 		return this.toBytes(Bytes.NATIVE_ORDER);
 	}
 
-	/** Diese Methode kodiert diesen {@link IAMIndex} in das binäre optimierte Datenformat {@code IAM_INDEX} und gibt dieses als Bytefolge zurück.
+	/** Diese Methode kodiert diesen {@link IAMIndex} in das binäre optimierte Datenformat {@code IAM_INDEX} und gibt dieses als Bytefolge zurück. Die
+	 * {@link IAMMapping#toBytes(ByteOrder) Abbildungen} und {@link IAMListing#toBytes(ByteOrder) Auflistungen} werden dazu unabhängig voneinander im
+	 * {@link java.util.concurrent.ForkJoinPool#commonPool()} kodiert und anschließend in ihrer Reihenfolge zusammengefügt.
 	 *
 	 * @param order Bytereihenfolge.
 	 * @return {@code IAM_INDEX}. */
 	public byte[] toBytes(final ByteOrder order) {
 
-		int length = 20;
-
 		final int mappingCount = this.mappingCount();
 		final byte[][] mappingBytes = new byte[mappingCount][];
-		for (int i = 0; i < mappingCount; i++) {
-			length += (mappingBytes[i] = this.mapping(i).toBytes(order)).length;
-		}
-		length += mappingCount << 2;
-
 		final int listingCount = this.listingCount();
 		final byte[][] listingBytes = new byte[listingCount][];
-		for (int i = 0; i < listingCount; i++) {
-			length += (listingBytes[i] = this.listing(i).toBytes(order)).length;
+
+		IntStream.range(0, mappingCount + listingCount).parallel().forEach(index -> {
+			if (index < mappingCount) {
+				mappingBytes[index] = this.mapping(index).toBytes(order);
+			} else {
+				listingBytes[index - mappingCount] = this.listing(index - mappingCount).toBytes(order);
+			}
+		});
+
+		int length = 20 + ((mappingCount + listingCount) << 2);
+		for (final byte[] data: mappingBytes) {
+			length += data.length;
+		}
+		for (final byte[] data: listingBytes) {
+			length += data.length;
 		}
-		length += listingCount << 2;
 
 		final byte[] result = new byte[length];
 		final ByteBuffer buffer = ByteBuffer.wrap(result).order(order);
@@ -0,0 +1,378 @@
+package bee.creative.iam;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import bee.creative.iam.IAMIndex.DataStats;
+import bee.creative.iam.IAMIndex.SizeStats;
+import bee.creative.io.MappedBuffer;
+import bee.creative.lang.Objects;
+
+/** Diese Klasse implementiert einen Schreiber, der einen {@link IAMIndex} aus den Abbildungen gegebener {@link IAMMappingWriter} und den Auflistungen gegebener
+ * {@link IAMListingWriter} im Datenformat {@code IAM_INDEX} direkt in einen {@link MappedBuffer Dateipuffer} schreibt. Im Gegensatz zum {@link IAMIndexBuilder}
+ * werden die Zahlenfolgen dabei nicht im Arbeitsspeicher gehalten, sondern in temporäre Dateien ausgelagert, sodass der Speicherbedarf unabhängig von der
+ * Größe des erzeugten Inhaltsverzeichnisses beschränkt bleibt.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class IAMIndexWriter {
+
+	/** Diese Klasse implementiert ein Objekt zur schrittweisen Ermittlung der Kodierung gegebener Zahlenfolgen analog zu {@link DataStats}. */
+	static class ArrayStats {
+
+		/** Dieses Feld speichert die Anzahl der Zahlenfolgen. */
+		public int count;
+
+		/** Dieses Feld speichert die kleinste Länge der Zahlenfolgen. */
+		public int minLength = 1073741823;
+
+		/** Dieses Feld speichert die größte Länge der Zahlenfolgen. */
+		public int maxLength = 0;
+
+		/** Dieses Feld speichert die Summe der Längen der Zahlenfolgen. */
+		public int dataLength;
+
+		/** Dieses Feld speichert die kleinste Zahl. */
+		public int minValue;
+
+		/** Dieses Feld speichert die größte Zahl. */
+		public int maxValue;
+
+		/** Diese Methode erfasst die gegebene Zahlenfolge.
+		 *
+		 * @param array Zahlenfolge.
+		 * @throws IllegalArgumentException Wenn die Zahlenfolgen die Kapazität des Datenformats übersteigen. */
+		public void put(final int[] array) throws IllegalArgumentException {
+			final int length = array.length;
+			if ((this.count == 0x3FFFFFFF) || ((this.dataLength + (long)length) > 0x3FFFFFFF)) throw new IllegalArgumentException();
+			this.count++;
+			this.dataLength += length;
+			this.minLength = Math.min(this.minLength, length);
+			this.maxLength = Math.max(this.maxLength, length);
+			for (final int value: array) {
+				if (value > this.maxValue) {
+					this.maxValue = value;
+				}
+				if (value < this.minValue) {
+					this.minValue = value;
+				}
+			}
+		}
+
+		/** Diese Methode gibt den Größentyp analog zu {@link SizeStats#type} zurück.
+		 *
+		 * @return Größentyp ({@code 0..3}). */
+		public int sizeType() {
+			if (this.minLength >= this.maxLength) return 0;
+			return SizeStats.computeSizeType(this.dataLength);
+		}
+
+		/** Diese Methode gibt die Größe des Speicherbereichs für die Längen der Zahlenfolgen analog zu {@link SizeStats#bytes} zurück.
+		 *
+		 * @return Größe in Byte. */
+		public long sizeBytes() {
+			final int type = this.sizeType();
+			if (type == 0) return 4;
+			return (((this.count + 1L) * IAMIndexLoader.byteCount(type)) + 3) & -4L;
+		}
+
+		/** Diese Methode gibt die homogene Länge der Zahlenfolgen zurück.
+		 *
+		 * @return homogene Länge. */
+		public int sizeLength() {
+			return this.maxLength;
+		}
+
+		/** Diese Methode gibt den Datentyp analog zu {@link DataStats#type} zurück.
+		 *
+		 * @return Datentyp ({@code 1..3}). */
+		public int dataType() {
+			return Math.max(DataStats.computeDataType(this.minValue), DataStats.computeDataType(this.maxValue));
+		}
+
+		/** Diese Methode gibt die Größe des Speicherbereichs für die Zahlen der Zahlenfolgen analog zu {@link DataStats#bytes} zurück.
+		 *
+		 * @return Größe in Byte. */
+		public long dataBytes() {
+			return ((this.dataLength * (long)IAMIndexLoader.byteCount(this.dataType())) + 3) & -4L;
+		}
+
+	}
+
+	/** Diese Klasse implementiert ein Objekt zum sequenziellen Schreiben der Längen und Zahlen von Zahlenfolgen gemäß einer {@link ArrayStats Kodierung} in
+	 * einen {@link MappedBuffer}. */
+	static class ArrayWriter {
+
+		/** Dieses Feld speichert den Dateipuffer. */
+		public final MappedBuffer target;
+
+		/** Dieses Feld speichert den Größentyp. */
+		public final int sizeType;
+
+		/** Dieses Feld speichert die Adresse der nächsten Startposition. */
+		public long sizeAddress;
+
+		/** Dieses Feld speichert den Datentyp. */
+		public final int dataType;
+
+		/** Dieses Feld speichert die Adresse der nächsten Zahl. */
+		public long dataAddress;
+
+		/** Dieses Feld speichert die Startposition der nächsten Zahlenfolge. */
+		public int dataOffset;
+
+		/** Dieser Konstruktor initialisiert die Kodierung und schreibt die homogene Länge bzw. die erste Startposition.
+		 *
+		 * @param target Dateipuffer.
+		 * @param address Adresse des Speicherbereichs für die Längen.
+		 * @param stats Kodierung. */
+		public ArrayWriter(final MappedBuffer target, final long address, final ArrayStats stats) {
+			this.target = target;
+			this.sizeType = stats.sizeType();
+			this.dataType = stats.dataType();
+			this.dataAddress = address + stats.sizeBytes();
+			if (this.sizeType == 0) {
+				target.putInt(address, stats.sizeLength());
+			} else {
+				this.sizeAddress = IAMIndexWriter.putValue(target, address, this.sizeType, 0);
+			}
+		}
+
+		/** Diese Methode schreibt die gegebene Zahlenfolge.
+		 *
+		 * @param array Zahlenfolge. */
+		public void put(final int[] array) {
+			final MappedBuffer target = this.target;
+			final int type = this.dataType;
+			long address = this.dataAddress;
+			for (final int value: array) {
+				address = IAMIndexWriter.putValue(target, address, type, value);
+			}
+			this.dataAddress = address;
+			this.dataOffset += array.length;
+			if (this.sizeType == 0) return;
+			this.sizeAddress = IAMIndexWriter.putValue(target, this.sizeAddress, this.sizeType, this.dataOffset);
+		}
+
+		/** Diese Methode ergänzt die Speicherbereiche mit Nullwerten zu einer restlos durch vier teilbaren Größe und gibt die Adresse nach den Zahlen zurück.
+		 *
+		 * @param sizeStart Adresse des Speicherbereichs für die Längen.
+		 * @return Adresse nach dem Speicherbereich der Zahlen. */
+		public long close(final long sizeStart) {
+			if (this.sizeType != 0) {
+				IAMIndexWriter.putAlign(this.target, this.sizeAddress, this.sizeAddress - sizeStart);
+			}
+			return IAMIndexWriter.putAlign(this.target, this.dataAddress, this.dataOffset * (long)IAMIndexLoader.byteCount(this.dataType));
+		}
+
+	}
+
+	/** Dieses Feld speichert die Anzahl der Läufe, die höchstens gleichzeitig verschmolzen werden. */
+	static final int MERGE_LIMIT = 64;
+
+	/** Diese Methode schreibt die gegebene Zahl gemäß dem gegebenen Datentyp an die gegebene Adresse und gibt die Adresse nach der Zahl zurück.
+	 *
+	 * @param target Dateipuffer.
+	 * @param address Adresse.
+	 * @param type Datentyp ({@code 1=INT8/UINT8}, {@code 2=INT16/UINT16}, {@code 3=INT32}).
+	 * @param value Zahl.
+	 * @return Adresse nach der Zahl. */
+	static long putValue(final MappedBuffer target, final long address, final int type, final int value) {
+		switch (type) {
+			case 1:
+				target.put(address, (byte)value);
+				return address + 1;
+			case 2:
+				target.putShort(address, (short)value);
+				return address + 2;
+			default:
+				target.putInt(address, value);
+				return address + 4;
+		}
+	}
+
+	/** Diese Methode ergänzt einen Speicherbereich der gegebenen Größe mit Nullwerten zu einer restlos durch vier teilbaren Größe und gibt die Adresse nach den
+	 * Nullwerten zurück.
+	 *
+	 * @param target Dateipuffer.
+	 * @param address Adresse nach dem Speicherbereich.
+	 * @param length Größe des Speicherbereichs.
+	 * @return Adresse nach den Nullwerten. */
+	static long putAlign(final MappedBuffer target, long address, final long length) {
+		for (long i = (-length) & 3; i != 0; i--, address++) {
+			target.put(address, (byte)0);
+		}
+		return address;
+	}
+
+	/** Diese Methode schreibt die gegebene Zahlenfolge mit vorangestellter Länge in den gegebenen {@link DataOutputStream}.
+	 *
+	 * @param target Ausgabe.
+	 * @param array Zahlenfolge.
+	 * @throws IOException Wenn die Ausgabe eine entsprechende Ausnahme auslöst. */
+	static void putArray(final DataOutputStream target, final int[] array) throws IOException {
+		target.writeInt(array.length);
+		for (final int value: array) {
+			target.writeInt(value);
+		}
+	}
+
+	/** Diese Methode liest eine über {@link #putArray(DataOutputStream, int[])} geschriebene Zahlenfolge aus dem gegebenen {@link DataInputStream}.
+	 *
+	 * @param source Eingabe.
+	 * @return Zahlenfolge.
+	 * @throws IOException Wenn die Eingabe eine entsprechende Ausnahme auslöst. */
+	static int[] getArray(final DataInputStream source) throws IOException {
+		final int[] array = new int[source.readInt()];
+		for (int i = 0, length = array.length; i < length; i++) {
+			array[i] = source.readInt();
+		}
+		return array;
+	}
+
+	/** Diese Methode gibt eine neue {@link File#createTempFile(String, String) temporäre} Datei zum Auslagern von Zahlenfolgen zurück.
+	 *
+	 * @return temporäre Datei.
+	 * @throws IOException Wenn die Datei nicht angelegt werden kann. */
+	static File createTemp() throws IOException {
+		final File result = File.createTempFile("temp", ".iamwriter");
+		result.deleteOnExit();
+		return result;
+	}
+
+	/** Diese Methode legt die gegebene Datei mit der gegebenen Größe an und gibt den daran angebundenen {@link MappedBuffer} mit der gegebenen Bytereihenfolge
+	 * zurück.
+	 *
+	 * @param file Datei.
+	 * @param size Größe.
+	 * @param order Bytereihenfolge.
+	 * @return Dateipuffer.
+	 * @throws IOException Wenn die Datei nicht angebunden werden kann. */
+	static MappedBuffer createBuffer(final File file, final long size, final ByteOrder order) throws IOException {
+		final MappedBuffer result = new MappedBuffer(file, size);
+		result.order(order);
+		return result;
+	}
+
+	/** Diese Methode überträgt die Änderungen am gegebenen Dateipuffer auf den Festspeicher und setzt die Größe seiner Datei auf seine Größe.
+	 *
+	 * @param buffer Dateipuffer.
+	 * @throws IOException Wenn die Größe der Datei nicht angepasst werden kann. */
+	static void closeBuffer(final MappedBuffer buffer) throws IOException {
+		buffer.force();
+		buffer.truncate();
+	}
+
+	/** Dieses Feld speichert die {@link IAMMappingWriter}. */
+	protected final List<IAMMappingWriter> mappings = new ArrayList<>();
+
+	/** Dieses Feld speichert die {@link IAMListingWriter}. */
+	protected final List<IAMListingWriter> listings = new ArrayList<>();
+
+	/** Diese Methode fügt die gegebene Abbildung hinzu und gibt die Position zurück, unter welcher diese im {@link IAMIndexLoader} verwaltet wird. Änderungen
+	 * an der Abbildung werden bis zum {@link #write(MappedBuffer, long) Schreiben} übernommen.
+	 *
+	 * @param mapping Abbildung.
+	 * @return Position der Abbildung.
+	 * @throws NullPointerException Wenn {@code mapping} {@code null} ist. */
+	public int put(final IAMMappingWriter mapping) throws NullPointerException {
+		this.mappings.add(Objects.notNull(mapping));
+		return this.mappings.size() - 1;
+	}
+
+	/** Diese Methode fügt die gegebene Auflistung hinzu und gibt die Position zurück, unter welcher diese im {@link IAMIndexLoader} verwaltet wird. Änderungen
+	 * an der Auflistung werden bis zum {@link #write(MappedBuffer, long) Schreiben} übernommen.
+	 *
+	 * @param listing Auflistung.
+	 * @return Position der Auflistung.
+	 * @throws NullPointerException Wenn {@code listing} {@code null} ist. */
+	public int put(final IAMListingWriter listing) throws NullPointerException {
+		this.listings.add(Objects.notNull(listing));
+		return this.listings.size() - 1;
+	}
+
+	/** Diese Methode gibt die Größe des Datenformats {@code IAM_INDEX} zurück, das über {@link #write(MappedBuffer, long)} geschrieben wird.
+	 *
+	 * @return Größe in Byte.
+	 * @throws IOException Wenn beim Verschmelzen der ausgelagerten Daten ein Fehler auftritt. */
+	public long size() throws IOException {
+		long result = 20 + ((this.mappings.size() + this.listings.size()) * 4L);
+		for (final IAMMappingWriter mapping: this.mappings) {
+			result += mapping.size();
+		}
+		for (final IAMListingWriter listing: this.listings) {
+			result += listing.size();
+		}
+		return result;
+	}
+
+	/** Diese Methode schreibt das Datenformat {@code IAM_INDEX} in der {@link MappedBuffer#order() Bytereihenfolge} des gegebenen Dateipuffers an die gegebene
+	 * Adresse. Der Dateipuffer muss dazu bereits ausreichend {@link #size() groß} sein.
+	 *
+	 * @param target Dateipuffer.
+	 * @param address Adresse.
+	 * @throws IOException Wenn beim Verschmelzen der ausgelagerten Daten ein Fehler auftritt.
+	 * @throws IllegalArgumentException Wenn die Daten die Kapazität des Datenformats übersteigen. */
+	public void write(final MappedBuffer target, long address) throws IOException, IllegalArgumentException {
+		final int mappingCount = this.mappings.size(), listingCount = this.listings.size();
+		target.putInt(address, 0xF00DBA5E);
+		target.putInt(address + 4, mappingCount);
+		target.putInt(address + 8, listingCount);
+		address += 12;
+		long offset = 0;
+		target.putInt(address, 0);
+		for (final IAMMappingWriter mapping: this.mappings) {
+			address += 4;
+			offset += mapping.size() >> 2;
+			if (offset > 0x3FFFFFFF) throw new IllegalArgumentException();
+			target.putInt(address, (int)offset);
+		}
+		address += 4;
+		offset = 0;
+		target.putInt(address, 0);
+		for (final IAMListingWriter listing: this.listings) {
+			address += 4;
+			offset += listing.size() >> 2;
+			if (offset > 0x3FFFFFFF) throw new IllegalArgumentException();
+			target.putInt(address, (int)offset);
+		}
+		address += 4;
+		for (final IAMMappingWriter mapping: this.mappings) {
+			mapping.write(target, address);
+			address += mapping.size();
+		}
+		for (final IAMListingWriter listing: this.listings) {
+			listing.write(target, address);
+			address += listing.size();
+		}
+	}
+
+	/** Diese Methode schreibt das Datenformat {@code IAM_INDEX} in der gegebenen Bytereihenfolge in die gegebene Datei und gibt diese zurück.
+	 *
+	 * @see #write(MappedBuffer, long)
+	 * @param file Datei.
+	 * @param order Bytereihenfolge.
+	 * @return Datei.
+	 * @throws IOException Wenn die Datei nicht geschrieben werden kann. */
+	public File toFile(final File file, final ByteOrder order) throws IOException {
+		final MappedBuffer buffer = IAMIndexWriter.createBuffer(file, this.size(), order);
+		this.write(buffer, 0);
+		IAMIndexWriter.closeBuffer(buffer);
+		return file;
+	}
+
+	/** Diese Methode entfernt alle bisher hinzugefügten Abbildungen und Auflistungen. */
+	public void clear() {
+		this.mappings.clear();
+		this.listings.clear();
+	}
+
+	@Override
+	public String toString() {
+		return Objects.toInvokeString(this, this.mappings, this.listings);
+	}
+
+}
@@ -215,6 +215,15 @@ public abstract class IAMListing implements Iterable<IAMArray> {
 		return -1;
 	}
 
+	/** Diese Methode gibt nur dann {@code true} zurück, wenn die Elemente in {@link #toBytes(ByteOrder)} als {@link IAMArray.PackedArray} komprimiert werden.
+	 * Dabei werden die Zahlen jedes Elements in Blöcken zu {@value IAMArray.PackedArray#BLOCK_SIZE} Zahlen als bitweise gepackte Differenzen zum Minimum bzw.
+	 * bei aufsteigend geordneten Elementen zur vorherigen Zahl abgelegt. Die Komprimierung wird nur verwendet, wenn das Datenformat dadurch kleiner wird.
+	 *
+	 * @return {@code true} bei Komprimierung der Elemente. */
+	public boolean packed() {
+		return false;
+	}
+
 	/** Diese Methode gibt {@link List}-Sicht auf die Elemente zurück.
 	 *
 	 * @see #item(int)
@@ -243,14 +252,28 @@ public abstract class IAMListing implements Iterable<IAMArray> {
 			itemArray[i] = this.item(i).toInts();
 		}
 
-		final IAMIndex.DataStats itemData = new IAMIndex.DataStats(Arrays.asList(itemArray));
-		final IAMIndex.SizeStats itemSize = itemData.dataSize;
+		IAMIndex.DataStats itemData = new IAMIndex.DataStats(Arrays.asList(itemArray));
+		IAMIndex.SizeStats itemSize = itemData.dataSize;
+		int itemPacked = 0;
+
+		if (this.packed()) {
+			final int[][] packedArray = new int[itemCount][];
+			for (int i = 0; i < itemCount; i++) {
+				packedArray[i] = IAMArray.PackedArray.pack(itemArray[i]);
+			}
+			final IAMIndex.DataStats packedData = new IAMIndex.DataStats(Arrays.asList(packedArray));
+			if ((packedData.dataSize.bytes + packedData.bytes) < (itemSize.bytes + itemData.bytes)) {
+				itemData = packedData;
+				itemSize = packedData.dataSize;
+				itemPacked = 0x0100;
+			}
+		}
 
 		final int length = 8 + itemSize.bytes + itemData.bytes;
 		final byte[] result = new byte[length];
 
 		final ByteBuffer buffer = ByteBuffer.wrap(result).order(order);
-		buffer.putInt(0xF00D2000 | (itemData.type << 2) | (itemSize.type << 0));
+		buffer.putInt(0xF00D2000 | itemPacked | (itemData.type << 2) | (itemSize.type << 0));
 		buffer.putInt(itemCount);
 		itemSize.putSize(buffer);
 		itemData.putData(buffer);
@@ -42,6 +42,9 @@ public class IAMListingBuilder extends IAMListing implements Emuable {
 
 	}
 
+	/** Dieses Feld speichert die Komprimierung der Elemente. */
+	protected boolean packed = false;
+
 	/** Dieses Feld speichert die bisher gesammelten Elemente. */
 	protected final ArrayPool arrays;
 
@@ -85,6 +88,19 @@ public class IAMListingBuilder extends IAMListing implements Emuable {
 		return index;
 	}
 
+	@Override
+	public boolean packed() {
+		return this.packed;
+	}
+
+	/** Diese Methode setzt die Komprimierung der Elemente.
+	 *
+	 * @see #packed()
+	 * @param packed {@code true}, wenn die Elemente komprimiert werden sollen. */
+	public void packed(final boolean packed) {
+		this.packed = packed;
+	}
+
 	@Override
 	public long emu() {
 		return EMU.fromObject(this) + EMU.from(this.arrays);
@@ -13,7 +13,7 @@ public final class IAMListingLoader extends IAMListing implements Emuable {
 	public static final IAMListingLoader EMPTY = new IAMListingLoader();
 
 	/** Dieses Feld speichert den {@link IAMHeader} einer {@code IAM_LISTING} Datenstruktur. */
-	public static final IAMHeader HEADER = new IAMHeader(0xFFFFFFF0, 0xF00D2000);
+	public static final IAMHeader HEADER = new IAMHeader(0xFFFFFEF0, 0xF00D2000);
 
 	/** Dieses Feld speichert die Zahlen der Elemente. */
 	final MMIArray itemData;
@@ -27,12 +27,16 @@ public final class IAMListingLoader extends IAMListing implements Emuable {
 	/** Dieses Feld speichert die Anzahl der Elemente. */
 	final int itemCount;
 
+	/** Dieses Feld speichert die Komprimierung der Elemente. */
+	final boolean itemPacked;
+
 	/** Dieser Konstruktor initialisiert die leere Auflistung. */
 	IAMListingLoader() {
 		this.itemData = null;
 		this.itemOffset = null;
 		this.itemLength = 0;
 		this.itemCount = 0;
+		this.itemPacked = false;
 	}
 
 	/** Dieser Kontrukteur initialisiert diese {@link IAMListing} als Sicht auf den gegebenen Speicherbereich.
@@ -47,10 +51,11 @@ public final class IAMListingLoader extends IAMListing implements Emuable {
 		int offset = 0;
 		final int header = array.get(offset);
 		offset++;
-		if ((header & 0xFFFFFFF0) != 0xF00D2000) throw new IAMException(IAMException.INVALID_HEADER);
+		if ((header & 0xFFFFFEF0) != 0xF00D2000) throw new IAMException(IAMException.INVALID_HEADER);
 
 		final int itemDataType = (header >> 2) & 3;
 		final int itemSizeType = (header >> 0) & 3;
+		final boolean itemPacked = (header & 0x0100) != 0;
 		if (itemDataType == 0) throw new IAMException(IAMException.INVALID_HEADER);
 
 		final int itemCount = array.get(offset);
@@ -92,6 +97,7 @@ public final class IAMListingLoader extends IAMListing implements Emuable {
 		this.itemOffset = itemOffset;
 		this.itemLength = itemLength;
 		this.itemCount = itemCount;
+		this.itemPacked = itemPacked;
 
 	}
 
@@ -108,9 +114,12 @@ public final class IAMListingLoader extends IAMListing implements Emuable {
 		IAMIndexLoader.checkArray(this.itemOffset);
 	}
 
-	@Override
-	public final MMIArray item(final int itemIndex) {
-		if ((itemIndex < 0) || (itemIndex >= this.itemCount)) return MMIArray.EMPTY;
+	/** Diese Methode gibt die Kodierung des {@code itemIndex}-ten Elements zurück. Diese ist bei {@link #packed() komprimierten} Elementen die eines
+	 * {@link IAMArray.PackedArray}.
+	 *
+	 * @param itemIndex Index des Elements.
+	 * @return Kodierung des {@code itemIndex}-ten Elements. */
+	final MMIArray itemData(final int itemIndex) {
 		final MMIArray itemOffset = this.itemOffset;
 		if (itemOffset != null) {
 			final int offset = itemOffset.customGet(itemIndex);
@@ -123,6 +132,62 @@ public final class IAMListingLoader extends IAMListing implements Emuable {
 		}
 	}
 
+	/** Diese Methode gibt das {@code itemIndex}-te Element zurück. Bei {@link #packed() komprimierten} Elementen ist dieses ein {@link IAMArray.PackedArray},
+	 * andernfalls ein {@link MMIArray}.
+	 * <p>
+	 * <b>Achtung:</b> Der Ergebnistyp ist seit Einführung der komprimierten Elemente {@link IAMArray} statt {@link MMIArray}. Dies bricht die Quell- und
+	 * Binärkompatibilität zu früheren Versionen, sodass Aufrufer neu übersetzt werden müssen. Ein {@link IAMArray.PackedArray} kann nicht als {@link MMIArray}
+	 * geliefert werden, da es keinen Speicherbereich mit den Zahlen des Elements gibt, den {@link MMIArray#asINT8()} usw. umdeuten könnten. Aufrufer, die eine
+	 * Sicht auf den Speicherbereich benötigen, können das Ergebnis bei nicht komprimierten Auflistungen weiterhin in ein {@link MMIArray} umwandeln. */
+	@Override
+	public final IAMArray item(final int itemIndex) {
+		if ((itemIndex < 0) || (itemIndex >= this.itemCount)) return MMIArray.EMPTY;
+		if (this.itemPacked) return new IAMArray.PackedArray(this.itemData(itemIndex));
+		return this.itemData(itemIndex);
+	}
+
+	@Override
+	public final int itemLength(final int itemIndex) {
+		if ((itemIndex < 0) || (itemIndex >= this.itemCount)) return 0;
+		final MMIArray itemOffset = this.itemOffset;
+		if (this.itemPacked) {
+			final int offset = itemOffset != null ? itemOffset.customGet(itemIndex) : this.itemLength * itemIndex;
+			return this.itemData.customGet(offset) & 0x3FFFFFFF;
+		}
+		if (itemOffset == null) return this.itemLength;
+		return itemOffset.customGet(itemIndex + 1) - itemOffset.customGet(itemIndex);
+	}
+
+	@Override
+	public final boolean packed() {
+		return this.itemPacked;
+	}
+
+	/** Diese Methode implementiert {@link IAMListing#find(IAMArray)}, ohne die Elemente als {@link #item(int) Sichten} zu erzeugen. Bei {@link #packed()
+	 * komprimierten} Elementen werden nur die Elemente passender {@link #itemLength(int) Länge} dekodiert. */
+	@Override
+	public final int find(final IAMArray item) throws NullPointerException {
+		final int length = item.length();
+		final MMIArray itemData = this.itemData;
+		final MMIArray itemOffset = this.itemOffset;
+		if (this.itemPacked) {
+			for (int i = 0, count = this.itemCount; i < count; i++) {
+				if ((this.itemLength(i) == length) && new IAMArray.PackedArray(this.itemData(i)).equals(item)) return i;
+			}
+		} else if (itemOffset != null) {
+			for (int i = 0, count = this.itemCount, offset = itemOffset.customGet(0); i < count; i++) {
+				final int offset2 = itemOffset.customGet(i + 1);
+				if (((offset2 - offset) == length) && itemData.equals(offset, length, item)) return i;
+				offset = offset2;
+			}
+		} else if (this.itemLength == length) {
+			for (int i = 0, count = this.itemCount, offset = 0; i < count; i++, offset += length) {
+				if (itemData.equals(offset, length, item)) return i;
+			}
+		}
+		return -1;
+	}
+
 	@Override
 	public final int itemCount() {
 		return this.itemCount;
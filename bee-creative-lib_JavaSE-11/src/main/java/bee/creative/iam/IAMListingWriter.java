@@ -0,0 +1,167 @@
+package bee.creative.iam;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import bee.creative.iam.IAMIndexWriter.ArrayStats;
+import bee.creative.iam.IAMIndexWriter.ArrayWriter;
+import bee.creative.io.MappedBuffer;
+import bee.creative.lang.Objects;
+
+/** Diese Klasse implementiert einen Schreiber, der eine {@link IAMListing Auflistung} im Datenformat {@code IAM_LISTING} direkt in einen {@link MappedBuffer
+ * Dateipuffer} schreibt. Die über {@link #put(IAMArray)} erfassten Elemente werden dazu sequenziell in eine temporäre Datei ausgelagert, sodass der
+ * Speicherbedarf unabhängig von der Anzahl der Elemente beschränkt bleibt. Im Gegensatz zum {@link IAMListingBuilder} werden gleiche Elemente dabei nicht
+ * zusammengefasst. Die {@link IAMListing#packed() Komprimierung} der Elemente wird beim Schreiben wiederholt, sodass auch dafür nur ein Element im
+ * Arbeitsspeicher gehalten wird.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class IAMListingWriter {
+
+	/** Dieses Feld speichert die temporäre Datei der Elemente oder {@code null}. */
+	File file;
+
+	/** Dieses Feld speichert die Ausgabe in {@link #file} oder {@code null}. */
+	DataOutputStream output;
+
+	/** Dieses Feld speichert die Komprimierung der Elemente. */
+	protected boolean packed = false;
+
+	/** Dieses Feld speichert die Kodierung der Elemente. */
+	ArrayStats stats = new ArrayStats();
+
+	/** Dieses Feld speichert die Kodierung der {@link IAMArray.PackedArray#pack(int[]) komprimierten} Elemente. */
+	ArrayStats packedStats = new ArrayStats();
+
+	/** Diese Methode gibt die Komprimierung der Elemente zurück.
+	 *
+	 * @see IAMListing#packed()
+	 * @return {@code true}, wenn die Elemente komprimiert werden sollen. */
+	public boolean packed() {
+		return this.packed;
+	}
+
+	/** Diese Methode setzt die Komprimierung der Elemente. Diese kann nur vor dem Hinzufügen des ersten Elements geändert werden.
+	 *
+	 * @see IAMListing#packed()
+	 * @param packed {@code true}, wenn die Elemente komprimiert werden sollen.
+	 * @throws IllegalStateException Wenn bereits Elemente hinzugefügt wurden. */
+	public void packed(final boolean packed) throws IllegalStateException {
+		if (this.stats.count != 0) throw new IllegalStateException();
+		this.packed = packed;
+	}
+
+	/** Diese Methode fügt das gegebene Element hinzu und gibt die Position zurück, unter welcher dieses verwaltet wird.
+	 *
+	 * @param item Element.
+	 * @return Position des Elements.
+	 * @throws NullPointerException Wenn {@code item} {@code null} ist.
+	 * @throws IllegalArgumentException Wenn die Elemente die Kapazität des Datenformats übersteigen.
+	 * @throws IOException Wenn das Element nicht ausgelagert werden kann. */
+	public int put(final IAMArray item) throws NullPointerException, IllegalArgumentException, IOException {
+		final int[] array = item.toInts();
+		this.stats.put(array);
+		if (this.packed) {
+			this.packedStats.put(IAMArray.PackedArray.pack(array));
+		}
+		if (this.output == null) {
+			this.file = IAMIndexWriter.createTemp();
+			this.output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(this.file), 1 << 16));
+		}
+		IAMIndexWriter.putArray(this.output, array);
+		return this.stats.count - 1;
+	}
+
+	/** Diese Methode gibt die Anzahl der Elemente zurück.
+	 *
+	 * @return Anzahl der Elemente. */
+	public int itemCount() {
+		return this.stats.count;
+	}
+
+	/** Diese Methode gibt die Größe des Datenformats {@code IAM_LISTING} zurück, das über {@link #write(MappedBuffer, long)} geschrieben wird.
+	 *
+	 * @return Größe in Byte. */
+	public long size() {
+		return 8 + this.stats().sizeBytes() + this.stats().dataBytes();
+	}
+
+	/** Diese Methode gibt nur dann {@code true} zurück, wenn die Elemente komprimiert geschrieben werden. Dies ist der Fall, wenn das Datenformat dadurch
+	 * kleiner wird.
+	 *
+	 * @return {@code true} bei Komprimierung der Elemente. */
+	boolean isPacked() {
+		final ArrayStats stats = this.stats, packedStats = this.packedStats;
+		return this.packed && ((packedStats.sizeBytes() + packedStats.dataBytes()) < (stats.sizeBytes() + stats.dataBytes()));
+	}
+
+	/** Diese Methode gibt die Kodierung der geschriebenen Elemente zurück.
+	 *
+	 * @return Kodierung der Elemente. */
+	ArrayStats stats() {
+		return this.isPacked() ? this.packedStats : this.stats;
+	}
+
+	/** Diese Methode schreibt das Datenformat {@code IAM_LISTING} in der {@link MappedBuffer#order() Bytereihenfolge} des gegebenen Dateipuffers an die
+	 * gegebene Adresse. Der Dateipuffer muss dazu bereits ausreichend {@link #size() groß} sein.
+	 *
+	 * @param target Dateipuffer.
+	 * @param address Adresse.
+	 * @throws IOException Wenn die ausgelagerten Elemente nicht gelesen werden können. */
+	public void write(final MappedBuffer target, final long address) throws IOException {
+		final boolean packed = this.isPacked();
+		final ArrayStats stats = this.stats();
+		target.putInt(address, 0xF00D2000 | (packed ? 0x0100 : 0) | (stats.dataType() << 2) | (stats.sizeType() << 0));
+		target.putInt(address + 4, stats.count);
+		final ArrayWriter writer = new ArrayWriter(target, address + 8, stats);
+		if (this.output != null) {
+			this.output.flush();
+			try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(this.file), 1 << 16))) {
+				for (int i = 0, count = stats.count; i < count; i++) {
+					final int[] array = IAMIndexWriter.getArray(input);
+					writer.put(packed ? IAMArray.PackedArray.pack(array) : array);
+				}
+			}
+		}
+		writer.close(address + 8);
+	}
+
+	/** Diese Methode schreibt das Datenformat {@code IAM_LISTING} in der gegebenen Bytereihenfolge in die gegebene Datei und gibt diese zurück.
+	 *
+	 * @see #write(MappedBuffer, long)
+	 * @param file Datei.
+	 * @param order Bytereihenfolge.
+	 * @return Datei.
+	 * @throws IOException Wenn die Datei nicht geschrieben werden kann. */
+	public File toFile(final File file, final ByteOrder order) throws IOException {
+		final MappedBuffer buffer = IAMIndexWriter.createBuffer(file, this.size(), order);
+		this.write(buffer, 0);
+		IAMIndexWriter.closeBuffer(buffer);
+		return file;
+	}
+
+	/** Diese Methode entfernt alle bisher erfassten Elemente und löscht die temporäre Datei.
+	 *
+	 * @throws IOException Wenn die temporäre Datei nicht geschlossen werden kann. */
+	public void clear() throws IOException {
+		if (this.output != null) {
+			this.output.close();
+			this.file.delete();
+		}
+		this.file = null;
+		this.output = null;
+		this.stats = new ArrayStats();
+		this.packedStats = new ArrayStats();
+	}
+
+	@Override
+	public String toString() {
+		return Objects.toInvokeString(this, this.stats.count);
+	}
+
+}
@@ -8,6 +8,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.IntStream;
 import bee.creative.iam.IAMIndex.DataStats;
 import bee.creative.iam.IAMIndex.SizeStats;
 import bee.creative.lang.Bytes;
@@ -24,6 +25,17 @@ import bee.creative.util.Comparators;
  * @author [cc-by] 2014 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
 public abstract class IAMMapping implements Iterable<IAMEntry> {
 
+	/** Diese Schnittstelle definiert einen Abschnitt der Suchen in {@link IAMMapping#findAll(IAMArray[], int[], boolean)}. */
+	interface FindTask {
+
+		/** Diese Methode führt die Suchen im gegebenen Bereich der Suchreihenfolge aus.
+		 *
+		 * @param fromIndex Beginn des Bereichs.
+		 * @param toIndex Ende des Bereichs. */
+		void run(int fromIndex, int toIndex);
+
+	}
+
 	static class EmptyMapping extends IAMMapping {
 
 		@Override
@@ -79,6 +91,8 @@ public abstract class IAMMapping implements Iterable<IAMEntry> {
 
 		final int entryCount;
 
+		final boolean perfect;
+
 		CompactMapping(final IAMMapping that) {
 			final int entryCount = that.entryCount();
 			final Integer[] indexArray = new Integer[entryCount];
@@ -154,6 +168,7 @@ public abstract class IAMMapping implements Iterable<IAMEntry> {
 			this.rangeMask = rangeMask;
 			this.rangeOffset = rangeOffset;
 			this.entryCount = entryCount;
+			this.perfect = that.perfect();
 		}
 
 		@Override
@@ -161,6 +176,11 @@ public abstract class IAMMapping implements Iterable<IAMEntry> {
 			return this.rangeMask != 0;
 		}
 
+		@Override
+		public boolean perfect() {
+			return this.perfect;
+		}
+
 		@Override
 		public int find(final IAMArray key) throws NullPointerException {
 			Objects.notNull(key);
@@ -296,6 +316,31 @@ public abstract class IAMMapping implements Iterable<IAMEntry> {
 	 * @see #mode() */
 	public static final boolean MODE_SORTED = false;
 
+	/** Dieses Feld speichert die durchschnittliche Anzahl an Schlüsseln je Eimer einer perfekten Streuwertfunktion.
+	 *
+	 * @see #perfect() */
+	static final int PERFECT_LOAD = 5;
+
+	/** Dieses Feld speichert die Anzahl der je Eimer einer perfekten Streuwertfunktion erprobten Verschiebungen. Damit können die Verschiebungen stets als
+	 * {@code UINT16} gespeichert werden.
+	 *
+	 * @see #perfectPilots(long[], int, int[], int[]) */
+	static final int PERFECT_PILOTS = 1 << 16;
+
+	/** Dieses Feld speichert die Anzahl der erprobten Startwerte einer perfekten Streuwertfunktion.
+	 *
+	 * @see #perfectHash(int[], int) */
+	static final int PERFECT_SEEDS = 16;
+
+	/** Dieses Feld speichert die Anzahl der Einträge je Block sowie die Anzahl der Verzweigungen je Knoten des Suchbaums einer blockweise sortierten Abbildung.
+	 * Ein Knoten aus {@value #BLOCKED_SIZE} Präfixen zu je zwei {@code INT32} Zahlen belegt genau zwei Cache-Zeilen von 64 Byte.
+	 *
+	 * @see #blocked() */
+	static final int BLOCKED_SIZE = 16;
+
+	/** Dieses Feld speichert die Anzahl der Suchen je Abschnitt bei der parallelen Suche in {@link #findAll(IAMArray[], int[], boolean)}. */
+	static final int FIND_SIZE = 1 << 12;
+
 	/** Diese Methode erzeugt aus dem gegebenen Objekt ein {@link IAMMapping} und gibt dieses zurück. Wenn das Objekt ein {@link IAMMapping} ist, wird dieses
 	 * geliefert. Wenn es ein {@link MMIArray} ist, wird zu diesem ein {@link IAMMappingLoader} erzeugt. Andernfalls wird das {@link MMIArray} über
 	 * {@link MMIArray#from(Object)} ermittelt und in die Bytereihenfolge passend zu {@link IAMMappingLoader#HEADER} überführt.
@@ -340,6 +385,328 @@ public abstract class IAMMapping implements Iterable<IAMEntry> {
 		return length1 - length2;
 	}
 
+	/** Diese Methode gibt den 64-Bit-Streuwert der gegebenen Zahlenfolge zur Auswahl von Eimer und Position in einer perfekten Streuwertfunktion zurück.
+	 *
+	 * @see #perfect()
+	 * @param array Zahlenfolge.
+	 * @param seed Startwert.
+	 * @return Streuwert.
+	 * @throws NullPointerException Wenn {@code array} {@code null} ist. */
+	static long perfectHash(final IAMArray array, final int seed) throws NullPointerException {
+		final int length = array.length();
+		long hash = (seed * 0x9E3779B97F4A7C15L) + length;
+		for (int i = 0; i < length; i++) {
+			hash = Long.rotateLeft((hash ^ (array.customGet(i) & 0xFFFFFFFFL)) * 0xC6A4A7935BD1E995L, 29);
+		}
+		return IAMMapping.perfectMix(hash);
+	}
+
+	/** Diese Methode gibt den 64-Bit-Streuwert der gegebenen Zahlenfolge zur Auswahl von Eimer und Position in einer perfekten Streuwertfunktion zurück.
+	 *
+	 * @see #perfectHash(IAMArray, int)
+	 * @param array Zahlenfolge.
+	 * @param seed Startwert.
+	 * @return Streuwert.
+	 * @throws NullPointerException Wenn {@code array} {@code null} ist. */
+	static long perfectHash(final int[] array, final int seed) throws NullPointerException {
+		final int length = array.length;
+		long hash = (seed * 0x9E3779B97F4A7C15L) + length;
+		for (int i = 0; i < length; i++) {
+			hash = Long.rotateLeft((hash ^ (array[i] & 0xFFFFFFFFL)) * 0xC6A4A7935BD1E995L, 29);
+		}
+		return IAMMapping.perfectMix(hash);
+	}
+
+	/** Diese Methode gibt den Index des Eimers zum gegebenen Streuwert zurück.
+	 *
+	 * @param hash Streuwert.
+	 * @param bucketCount Anzahl der Eimer.
+	 * @return Index des Eimers ({@code 0..bucketCount-1}). */
+	static int perfectBucket(final long hash, final int bucketCount) {
+		return (int)(((hash >>> 32) * bucketCount) >>> 32);
+	}
+
+	/** Diese Methode gibt die Position zum gegebenen Streuwert und der gegebenen Verschiebung seines Eimers zurück.
+	 *
+	 * @param hash Streuwert.
+	 * @param pilot Verschiebung.
+	 * @param tableSize Anzahl der Positionen.
+	 * @return Position ({@code 0..tableSize-1}). */
+	static int perfectIndex(final long hash, final int pilot, final int tableSize) {
+		final long index = IAMMapping.perfectMix(hash ^ ((pilot + 1) * 0x9E3779B97F4A7C15L));
+		return (int)(((index & 0xFFFFFFFFL) * tableSize) >>> 32);
+	}
+
+	/** Diese Methode gibt die Anzahl der Eimer einer perfekten Streuwertfunktion über die gegebene Anzahl an Einträgen zurück.
+	 *
+	 * @param entryCount Anzahl der Einträge.
+	 * @return Anzahl der Eimer. */
+	static int perfectBucketCount(final int entryCount) {
+		return Math.max(1, (entryCount + (IAMMapping.PERFECT_LOAD - 1)) / IAMMapping.PERFECT_LOAD);
+	}
+
+	/** Diese Methode gibt die Größen der Ebenen des Suchbaums einer {@link #blocked() blockweise sortierten} Abbildung mit der gegebenen Anzahl an Einträgen
+	 * zurück. Die unterste Ebene enthält die {@link #blockedPrefix(IAMArray) Präfixe} der Schlüssel jedes {@value #BLOCKED_SIZE}-ten Eintrags. Jede darüber
+	 * liegende Ebene enthält das jeweils letzte Präfix jedes Knotens aus {@value #BLOCKED_SIZE} Präfixen der Ebene darunter. Die oberste Ebene besteht aus
+	 * höchstens einem Knoten.
+	 *
+	 * @param entryCount Anzahl der Einträge.
+	 * @return Größen der Ebenen von unten nach oben. */
+	static int[] blockedLevels(final int entryCount) {
+		int count = 1;
+		for (int size = (entryCount + (IAMMapping.BLOCKED_SIZE - 1)) / IAMMapping.BLOCKED_SIZE; size > IAMMapping.BLOCKED_SIZE; count++) {
+			size = (size + (IAMMapping.BLOCKED_SIZE - 1)) / IAMMapping.BLOCKED_SIZE;
+		}
+		final int[] result = new int[count];
+		result[0] = (entryCount + (IAMMapping.BLOCKED_SIZE - 1)) / IAMMapping.BLOCKED_SIZE;
+		for (int i = 1; i < count; i++) {
+			result[i] = (result[i - 1] + (IAMMapping.BLOCKED_SIZE - 1)) / IAMMapping.BLOCKED_SIZE;
+		}
+		return result;
+	}
+
+	/** Diese Methode gibt die Zahl zurück, unter welcher der gegebene Schlüssel im Suchbaum einer {@link #blocked() blockweise sortierten} Abbildung eingeordnet
+	 * wird. Diese enthält die erste Zahl des Schlüssels in den oberen und die vorzeichenlos verschobene zweite Zahl in den unteren 32 Bit, wobei fehlende Zahlen
+	 * als {@link Integer#MIN_VALUE} gelten. Damit ist das Präfix monoton zur {@link IAMArray#compare(IAMArray) Ordnung} der Schlüssel und unterscheidet auch
+	 * Schlüssel mit gleicher erster Zahl, bspw. Zeichenketten mit gleichem Anfangszeichen.
+	 *
+	 * @param key Schlüssel.
+	 * @return Präfix des Schlüssels.
+	 * @throws NullPointerException Wenn {@code key} {@code null} ist. */
+	static long blockedPrefix(final IAMArray key) throws NullPointerException {
+		final int length = key.length();
+		return IAMMapping.blockedPrefix(length > 0 ? key.get(0) : Integer.MIN_VALUE, length > 1 ? key.get(1) : Integer.MIN_VALUE);
+	}
+
+	/** Diese Methode ist eine Abkürzung für {@link #blockedPrefix(IAMArray)} mit den gegebenen Zahlen.
+	 *
+	 * @param key Schlüssel.
+	 * @return Präfix des Schlüssels.
+	 * @throws NullPointerException Wenn {@code key} {@code null} ist. */
+	static long blockedPrefix(final int[] key) throws NullPointerException {
+		final int length = key.length;
+		return IAMMapping.blockedPrefix(length > 0 ? key[0] : Integer.MIN_VALUE, length > 1 ? key[1] : Integer.MIN_VALUE);
+	}
+
+	/** Diese Methode gibt das Präfix zu den gegebenen ersten beiden Zahlen eines Schlüssels zurück.
+	 *
+	 * @see #blockedPrefix(IAMArray)
+	 * @param first erste Zahl.
+	 * @param second zweite Zahl.
+	 * @return Präfix des Schlüssels. */
+	static long blockedPrefix(final int first, final int second) {
+		return ((long)first << 32) | ((second ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+	}
+
+	/** Diese Methode gibt das {@code index}-te Präfix des gegebenen Suchbaums zurück. Jedes Präfix ist darin als zwei {@code INT32} Zahlen mit den oberen
+	 * gefolgt von den unteren 32 Bit abgelegt.
+	 *
+	 * @see #blockedTree(int[][])
+	 * @param tree Suchbaum.
+	 * @param index Index des Präfixes.
+	 * @return Präfix. */
+	static long blockedPrefix(final IAMArray tree, final int index) {
+		final int offset = index << 1;
+		return ((long)tree.customGet(offset) << 32) | (tree.customGet(offset + 1) & 0xFFFFFFFFL);
+	}
+
+	/** Diese Methode prüft die Parameter von {@link #findAll(IAMArray[], int[], boolean)} und gibt die Anzahl der Schlüssel zurück.
+	 *
+	 * @param keys Schlüssel.
+	 * @param results Ergebnisse.
+	 * @return Anzahl der Schlüssel.
+	 * @throws NullPointerException Wenn {@code keys}, {@code results} bzw. einer der Schlüssel {@code null} ist.
+	 * @throws IllegalArgumentException Wenn {@code results} kürzer als {@code keys} ist. */
+	static int findCheck(final IAMArray[] keys, final int[] results) throws NullPointerException, IllegalArgumentException {
+		final int count = keys.length;
+		if (results.length < count) throw new IllegalArgumentException();
+		for (final IAMArray key: keys) {
+			Objects.notNull(key);
+		}
+		return count;
+	}
+
+	/** Diese Methode sortiert die gegebene Suchreihenfolge, deren Elemente den Rang eines Schlüssels in den oberen und dessen Position in den unteren 32 Bit
+	 * enthalten.
+	 *
+	 * @param order Suchreihenfolge.
+	 * @param parallel {@code true}, wenn parallel sortiert werden soll. */
+	static void findSort(final long[] order, final boolean parallel) {
+		if (parallel && (order.length > IAMMapping.FIND_SIZE)) {
+			Arrays.parallelSort(order);
+		} else {
+			Arrays.sort(order);
+		}
+	}
+
+	/** Diese Methode führt die gegebene Suche über die gegebene Anzahl an Schlüsseln aus. Bei paralleler Ausführung werden dazu Abschnitte aus höchstens
+	 * {@value #FIND_SIZE} benachbarten Schlüsseln der Suchreihenfolge im {@link java.util.concurrent.ForkJoinPool#commonPool()} verarbeitet.
+	 *
+	 * @param count Anzahl der Schlüssel.
+	 * @param parallel {@code true}, wenn parallel gesucht werden soll.
+	 * @param task Suche. */
+	static void findRun(final int count, final boolean parallel, final FindTask task) {
+		if (!parallel || (count <= IAMMapping.FIND_SIZE)) {
+			task.run(0, count);
+		} else {
+			IntStream.range(0, (count + (IAMMapping.FIND_SIZE - 1)) / IAMMapping.FIND_SIZE).parallel().forEach(index -> {
+				final int fromIndex = index * IAMMapping.FIND_SIZE;
+				task.run(fromIndex, Math.min(fromIndex + IAMMapping.FIND_SIZE, count));
+			});
+		}
+	}
+
+	/** Diese Methode gibt den Suchbaum einer {@link #blocked() blockweise sortierten} Abbildung über die gegebenen, aufsteigend geordneten Schlüssel zurück. Die
+	 * {@link #blockedLevels(int) Ebenen} sind darin von oben nach unten aneinandergereiht, sodass die bei einer Suche besuchten Knoten der oberen Ebenen dicht
+	 * beieinander liegen. Jedes {@link #blockedPrefix(IAMArray) Präfix} ist darin als zwei {@code INT32} Zahlen abgelegt.
+	 *
+	 * @param keyArray Schlüssel.
+	 * @return Suchbaum. */
+	static int[] blockedTree(final int[][] keyArray) {
+		final int[] levels = IAMMapping.blockedLevels(keyArray.length);
+		final long[][] values = new long[levels.length][];
+		int length = 0;
+		for (int l = 0; l < levels.length; l++) {
+			final int size = levels[l];
+			final long[] level = values[l] = new long[size];
+			if (l == 0) {
+				for (int i = 0; i < size; i++) {
+					level[i] = IAMMapping.blockedPrefix(keyArray[i * IAMMapping.BLOCKED_SIZE]);
+				}
+			} else {
+				final long[] lower = values[l - 1];
+				for (int i = 0; i < size; i++) {
+					level[i] = lower[Math.min((i * IAMMapping.BLOCKED_SIZE) + (IAMMapping.BLOCKED_SIZE - 1), lower.length - 1)];
+				}
+			}
+			length += size;
+		}
+		final int[] result = new int[length * 2];
+		for (int l = levels.length - 1, offset = 0; l >= 0; l--) {
+			for (final long prefix: values[l]) {
+				result[offset++] = (int)(prefix >>> 32);
+				result[offset++] = (int)prefix;
+			}
+		}
+		return result;
+	}
+
+	/** Diese Methode gibt die Anzahl der Positionen einer perfekten Streuwertfunktion über die gegebene Anzahl an Einträgen zurück. Diese ist um etwa drei Prozent
+	 * größer als die Anzahl der Einträge, damit auch die zuletzt platzierten Eimer mit kleinen Verschiebungen auskommen. Die Positionen jenseits der Anzahl der
+	 * Einträge werden über eine Umleitungstabelle auf die freien Positionen davor abgebildet.
+	 *
+	 * @param entryCount Anzahl der Einträge.
+	 * @return Anzahl der Positionen. */
+	static int perfectTableSize(final int entryCount) {
+		return entryCount + (int)(((entryCount * 3L) + 99) / 100);
+	}
+
+	/** Diese Methode ermittelt die Verschiebungen der Eimer einer minimalen perfekten Streuwertfunktion über die gegebenen Streuwerte und gibt diese zurück. Die
+	 * Eimer werden absteigend nach ihrer Größe bearbeitet. Für jeden Eimer wird die kleinste Verschiebung gesucht, mit welcher alle seine Schlüssel über
+	 * {@link #perfectIndex(long, int, int)} auf noch freie der {@link #perfectTableSize(int) Positionen} abgebildet werden. Abschließend werden die belegten
+	 * Positionen jenseits der Anzahl der Einträge in {@code remapArray} auf die freien Positionen davor umgeleitet. Die endgültige Position des {@code i}-ten
+	 * Streuwerts wird in {@code indexArray} vermerkt. Wenn zwei Streuwerte in einem Eimer gleich sind oder ein Eimer mit keiner der ersten
+	 * {@value #PERFECT_PILOTS} Verschiebungen platziert werden kann, wird {@code null} geliefert.
+	 *
+	 * @param hashArray Streuwerte der Schlüssel.
+	 * @param bucketCount Anzahl der Eimer.
+	 * @param indexArray Schlüssel zu den Positionen.
+	 * @param remapArray Umleitungstabelle.
+	 * @return Verschiebungen der Eimer oder {@code null}. */
+	static int[] perfectPilots(final long[] hashArray, final int bucketCount, final int[] indexArray, final int[] remapArray) {
+		final int entryCount = hashArray.length;
+		final int tableSize = IAMMapping.perfectTableSize(entryCount);
+		final int[] bucketOffset = new int[bucketCount + 1];
+		final int[] bucketIndex = new int[entryCount];
+		for (int i = 0; i < entryCount; i++) {
+			bucketOffset[IAMMapping.perfectBucket(hashArray[i], bucketCount) + 1]++;
+		}
+		int maxSize = 0;
+		for (int i = 0; i < bucketCount; i++) {
+			maxSize = Math.max(maxSize, bucketOffset[i + 1]);
+			bucketOffset[i + 1] += bucketOffset[i];
+		}
+		final int[] bucketFill = bucketOffset.clone();
+		for (int i = 0; i < entryCount; i++) {
+			bucketIndex[bucketFill[IAMMapping.perfectBucket(hashArray[i], bucketCount)]++] = i;
+		}
+		final int[] sizeOffset = new int[maxSize + 2];
+		final int[] bucketOrder = new int[bucketCount];
+		for (int i = 0; i < bucketCount; i++) {
+			sizeOffset[maxSize - (bucketOffset[i + 1] - bucketOffset[i]) + 1]++;
+		}
+		for (int i = 0; i <= maxSize; i++) {
+			sizeOffset[i + 1] += sizeOffset[i];
+		}
+		for (int i = 0; i < bucketCount; i++) {
+			bucketOrder[sizeOffset[maxSize - (bucketOffset[i + 1] - bucketOffset[i])]++] = i;
+		}
+		final long[] taken = new long[(tableSize + 63) >>> 6];
+		final int[] tableArray = new int[tableSize];
+		final int[] pilotArray = new int[bucketCount];
+		final int[] slotArray = new int[maxSize];
+		for (final int bucket: bucketOrder) {
+			final int l = bucketOffset[bucket], r = bucketOffset[bucket + 1], size = r - l;
+			if (size == 0) {
+				break;
+			}
+			for (int i = l; i < r; i++) {
+				for (int j = i + 1; j < r; j++) {
+					if (hashArray[bucketIndex[i]] == hashArray[bucketIndex[j]]) return null;
+				}
+			}
+			int pilot = 0;
+			SEARCH: for (; pilot < IAMMapping.PERFECT_PILOTS; pilot++) {
+				for (int i = 0; i < size; i++) {
+					final int slot = IAMMapping.perfectIndex(hashArray[bucketIndex[l + i]], pilot, tableSize);
+					if ((taken[slot >>> 6] & (1L << slot)) != 0) {
+						continue SEARCH;
+					}
+					for (int j = 0; j < i; j++) {
+						if (slotArray[j] == slot) {
+							continue SEARCH;
+						}
+					}
+					slotArray[i] = slot;
+				}
+				for (int i = 0; i < size; i++) {
+					final int slot = slotArray[i];
+					taken[slot >>> 6] |= 1L << slot;
+					tableArray[slot] = bucketIndex[l + i];
+				}
+				pilotArray[bucket] = pilot;
+				break;
+			}
+			if (pilot == IAMMapping.PERFECT_PILOTS) return null;
+		}
+		for (int slot = 0, free = 0; slot < tableSize; slot++) {
+			if ((taken[slot >>> 6] & (1L << slot)) == 0) {
+				continue;
+			}
+			if (slot < entryCount) {
+				indexArray[slot] = tableArray[slot];
+			} else {
+				while ((taken[free >>> 6] & (1L << free)) != 0) {
+					free++;
+				}
+				remapArray[slot - entryCount] = free;
+				indexArray[free] = tableArray[slot];
+				free++;
+			}
+		}
+		return pilotArray;
+	}
+
+	/** Diese Methode gibt den durchmischten Streuwert zurück.
+	 *
+	 * @param hash Streuwert.
+	 * @return durchmischter Streuwert. */
+	static long perfectMix(long hash) {
+		hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+		hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+		return hash ^ (hash >>> 33);
+	}
+
 	/** Diese Methode gibt nur dann {@link #MODE_HASHED} zurück, wenn Einträge über den Streuwert ihrer Schlüssel gesucht werden. Wenn sie {@link #MODE_SORTED}
 	 * liefert, werden Einträge binär über die Ordnung ihrer Schlüssel gesucht.
 	 *
@@ -350,6 +717,30 @@ public abstract class IAMMapping implements Iterable<IAMEntry> {
 	 *         {@link #find(IAMArray)}. */
 	public abstract boolean mode();
 
+	/** Diese Methode gibt nur dann {@code true} zurück, wenn Einträge im Modus {@link #MODE_HASHED} über eine minimale perfekte Streuwertfunktion gesucht
+	 * werden. Dabei erfolgt bei der Suche stets genau ein Schlüsselvergleich und anstelle der Schlüsselbereiche werden nur die Verschiebungen von Eimern mit
+	 * durchschnittlich {@value #PERFECT_LOAD} Schlüsseln gespeichert. Diese Verschiebungen belegen höchstens 16 Bit je Eimer, sodass zusammen mit der
+	 * Umleitungstabelle der überzähligen Positionen etwa 4 Bit je Eintrag anfallen. Die Erzeugung dieser Streuwertfunktion erfolgt in
+	 * {@link #toBytes(ByteOrder)}.
+	 *
+	 * @see #mode()
+	 * @return {@code true} bei Nutzung einer minimalen perfekten Streuwertfunktion in {@link #find(IAMArray)}. */
+	public boolean perfect() {
+		return false;
+	}
+
+	/** Diese Methode gibt nur dann {@code true} zurück, wenn Einträge im Modus {@link #MODE_SORTED} über einen vorgelagerten statischen Suchbaum gesucht werden.
+	 * Dieser enthält die ersten beiden Zahlen der Schlüssel jedes {@value #BLOCKED_SIZE}-ten Eintrags in Knoten der Größe zweier Cache-Zeilen und grenzt die
+	 * binäre Suche auf höchstens {@code 2 * }{@value #BLOCKED_SIZE} benachbarte Einträge ein, sofern sich deren Schlüssel in den ersten beiden Zahlen
+	 * unterscheiden. Damit berührt eine Suche in einer großen Datei nur {@code O(log16(n))} statt {@code O(log2(n))} Speicherseiten. Die Ordnung der Einträge
+	 * bleibt dabei unverändert. Die Erzeugung dieses Suchbaums erfolgt in {@link #toBytes(ByteOrder)}.
+	 *
+	 * @see #mode()
+	 * @return {@code true} bei Nutzung eines Suchbaums in {@link #find(IAMArray)}. */
+	public boolean blocked() {
+		return false;
+	}
+
 	/** Diese Methode gibt den Schlüssel des {@code entryIndex}-ten Eintrags als Zahlenfolge zurück. Bei einem ungültigen {@code entryIndex} wird eine leere
 	 * Zahlenfolge geliefert.
 	 *
@@ -432,7 +823,7 @@ public abstract class IAMMapping implements Iterable<IAMEntry> {
 	/** Diese Methode ist eine Abkürzung für {@link #find(IAMArray) this.find(IAMArray.from(key))}.
 	 *
 	 * @see IAMArray#from(int...) */
-	public final int find(final int... key) throws NullPointerException {
+	public int find(final int... key) throws NullPointerException {
 		return this.find(IAMArray.from(key));
 	}
 
@@ -444,6 +835,40 @@ public abstract class IAMMapping implements Iterable<IAMEntry> {
 	 * @throws NullPointerException Wenn {@code key} {@code null} ist. */
 	public abstract int find(final IAMArray key) throws NullPointerException;
 
+	/** Diese Methode ist eine Abkürzung für {@link #findAll(IAMArray[], int[], boolean) this.findAll(keys, results, false)}. */
+	public final void findAll(final IAMArray[] keys, final int[] results) throws NullPointerException, IllegalArgumentException {
+		this.findAll(keys, results, false);
+	}
+
+	/** Diese Methode ermittelt für jeden der gegebenen Schlüssel den Index des Eintrags wie {@link #find(IAMArray)} und schreibt diesen an die gleiche Position
+	 * in {@code results}. Im Gegensatz zu einzelnen Aufrufen von {@link #find(IAMArray)} werden die Schlüssel dazu vorab nach ihrem Streuwertbereich bzw.
+	 * ihrer Ordnung sortiert, sodass die Einträge in der Reihenfolge ihrer Adressen besucht werden. Damit können benachbarte Suchen dieselben Cache-Zeilen und
+	 * Speicherseiten nutzen. Bei paralleler Suche werden Abschnitte der sortierten Schlüssel im {@link java.util.concurrent.ForkJoinPool#commonPool()}
+	 * verarbeitet.
+	 *
+	 * @param keys Schlüssel.
+	 * @param results Ergebnisse mit mindestens der Länge von {@code keys}.
+	 * @param parallel {@code true}, wenn große Mengen an Schlüsseln parallel gesucht werden sollen.
+	 * @throws NullPointerException Wenn {@code keys}, {@code results} bzw. einer der Schlüssel {@code null} ist.
+	 * @throws IllegalArgumentException Wenn {@code results} kürzer als {@code keys} ist. */
+	public void findAll(final IAMArray[] keys, final int[] results, final boolean parallel) throws NullPointerException, IllegalArgumentException {
+		final int count = IAMMapping.findCheck(keys, results);
+		final boolean mode = this.mode();
+		final long[] order = new long[count];
+		for (int i = 0; i < count; i++) {
+			final IAMArray key = keys[i];
+			final int rank = mode ? Integer.reverse(key.hash()) ^ Integer.MIN_VALUE : (int)(IAMMapping.blockedPrefix(key) >> 32);
+			order[i] = ((long)rank << 32) | i;
+		}
+		IAMMapping.findSort(order, parallel);
+		IAMMapping.findRun(count, parallel, (fromIndex, toIndex) -> {
+			for (int j = fromIndex; j < toIndex; j++) {
+				final int i = (int)order[j];
+				results[i] = this.find(keys[i]);
+			}
+		});
+	}
+
 	/** Diese Methode ist eine Ankürzung für {@code this.toBytes(Bytes.NATIVE_ORDER)}.
 	 *
 	 * @return Binärdatenformat {@code IAM_LISTING}. */
@@ -454,8 +879,10 @@ public abstract class IAMMapping implements Iterable<IAMEntry> {
 	/** Diese Methode kodiert dieses {@link IAMMapping} in das binäre optimierte Datenformat {@code IAM_MAPPING} und gibt dieses als Bytefolge zurück.
 	 *
 	 * @param order Bytereihenfolge.
-	 * @return {@code IAM_MAPPING}. */
-	public final byte[] toBytes(final ByteOrder order) {
+	 * @return {@code IAM_MAPPING}.
+	 * @throws IAMException Wenn für eine {@link #perfect() perfekte} Abbildung mit keinem der ersten {@value #PERFECT_SEEDS} Startwerte eine minimale
+	 *         perfekte Streuwertfunktion gefunden wird, bspw. weil Schlüssel mehrfach vorkommen. */
+	public final byte[] toBytes(final ByteOrder order) throws IAMException {
 
 		final int entryCount = this.entryCount();
 		final int[][] keyArray = new int[entryCount][];
@@ -477,7 +904,43 @@ public abstract class IAMMapping implements Iterable<IAMEntry> {
 		final int rangeDataBytes;
 		final int rangeBytes;
 
-		if (this.mode()) {
+		final boolean perfect = this.mode() && this.perfect() && (entryCount != 0);
+		int perfectSeed = 0;
+		int[] perfectRemap = null;
+
+		if (perfect) {
+
+			final long[] hashArray = new long[entryCount];
+			final int[] slotArray = new int[entryCount];
+			final int[] remapArray = new int[IAMMapping.perfectTableSize(entryCount) - entryCount];
+			rangeMask = IAMMapping.perfectBucketCount(entryCount);
+			int[] pilotArray;
+			while (true) {
+				for (int i = 0; i < entryCount; i++) {
+					hashArray[i] = IAMMapping.perfectHash(keyArray[i], perfectSeed);
+				}
+				pilotArray = IAMMapping.perfectPilots(hashArray, rangeMask, slotArray, remapArray);
+				if (pilotArray != null) {
+					break;
+				}
+				if (++perfectSeed == IAMMapping.PERFECT_SEEDS) throw new IAMException(IAMException.INVALID_VALUE);
+			}
+			int maxPilot = 0;
+			for (final int pilot: pilotArray) {
+				maxPilot = Math.max(maxPilot, pilot);
+			}
+			rangeCount = rangeMask;
+			rangeData = pilotArray;
+			perfectRemap = remapArray;
+			rangeDataType = SizeStats.computeSizeType(maxPilot);
+			rangeDataBytes = rangeCount * IAMIndexLoader.byteCount(rangeDataType);
+			rangeBytes = ((rangeDataBytes + 3) & -4) + 8 + (remapArray.length * 4);
+
+			for (int i = 0; i < entryCount; i++) {
+				indexArray[i] = Integer.valueOf(slotArray[i]);
+			}
+
+		} else if (this.mode()) {
 
 			rangeMask = Objects.hashMask(entryCount);
 			rangeCount = rangeMask + 2;
@@ -500,18 +963,14 @@ public abstract class IAMMapping implements Iterable<IAMEntry> {
 				offset += value;
 			}
 
-			Arrays.sort(indexArray, new Comparator<Integer>() {
-
-				@Override
-				public int compare(final Integer index1, final Integer index2) {
-					return rangeIndex[index1.intValue()] - rangeIndex[index2.intValue()];
-				}
-
-			});
+			final int[] rangeNext = rangeData.clone();
+			for (int i = 0; i < entryCount; i++) {
+				indexArray[rangeNext[rangeIndex[i]]++] = Integer.valueOf(i);
+			}
 
 		} else {
 
-			Arrays.sort(indexArray, new Comparator<Integer>() {
+			Arrays.parallelSort(indexArray, new Comparator<Integer>() {
 
 				@Override
 				public int compare(final Integer index1, final Integer index2) {
@@ -521,6 +980,7 @@ public abstract class IAMMapping implements Iterable<IAMEntry> {
 			});
 
 			rangeMask = 0;
+			rangeCount = 0;
 			rangeData = null;
 			rangeDataType = 0;
 			rangeDataBytes = 0;
@@ -534,21 +994,32 @@ public abstract class IAMMapping implements Iterable<IAMEntry> {
 			valueArray[i] = valueArray2[index];
 		}
 
+		final boolean blocked = !this.mode() && this.blocked() && (entryCount != 0);
+		final int[] blockedTree = blocked ? IAMMapping.blockedTree(keyArray) : null;
+		final int blockedBytes = blocked ? blockedTree.length * 4 : 0;
+
 		final IAMIndex.DataStats keyData = new IAMIndex.DataStats(Arrays.asList(keyArray));
 		final IAMIndex.SizeStats keySize = keyData.dataSize;
 
 		final IAMIndex.DataStats valueData = new IAMIndex.DataStats(Arrays.asList(valueArray));
 		final IAMIndex.SizeStats valueSize = valueData.dataSize;
 
-		final int length = 8 + rangeBytes + keySize.bytes + keyData.bytes + valueSize.bytes + valueData.bytes;
+		final int length = 8 + rangeBytes + blockedBytes + keySize.bytes + keyData.bytes + valueSize.bytes + valueData.bytes;
 		final byte[] result = new byte[length];
 
 		final ByteBuffer buffer = ByteBuffer.wrap(result).order(order);
-		buffer.putInt(0xF00D1000 | (keyData.type << 8) | (keySize.type << 6) | (rangeDataType << 4) | (valueData.type << 2) | (valueSize.type << 0));
+		buffer.putInt((perfect ? 0xF00D3000 : blocked ? 0xF00D5000 : 0xF00D1000) | (keyData.type << 8) | (keySize.type << 6) | (rangeDataType << 4) | (valueData.type << 2) | (valueSize.type << 0));
 		buffer.putInt(entryCount);
-		if (rangeDataType != 0) {
+		if (perfect) {
+			buffer.putInt(rangeMask);
+			buffer.putInt(perfectSeed);
+			DataStats.putData(buffer, rangeDataType, rangeData);
+			DataStats.putData(buffer, 3, perfectRemap);
+		} else if (rangeDataType != 0) {
 			buffer.putInt(rangeMask);
 			DataStats.putData(buffer, rangeDataType, rangeData);
+		} else if (blocked) {
+			DataStats.putData(buffer, 3, blockedTree);
 		}
 		keySize.putSize(buffer);
 		keyData.putData(buffer);
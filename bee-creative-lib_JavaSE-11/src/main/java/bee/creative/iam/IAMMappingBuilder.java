@@ -49,6 +49,12 @@ public class IAMMappingBuilder extends IAMMapping implements Emuable {
 	/** Dieses Feld speichert den Modus. */
 	protected boolean mode = IAMMapping.MODE_HASHED;
 
+	/** Dieses Feld speichert die Nutzung einer perfekten Streuwertfunktion. */
+	protected boolean perfect = false;
+
+	/** Dieses Feld speichert die Nutzung eines Suchbaums. */
+	protected boolean blocked = false;
+
 	/** Dieses Feld speichert die Einträge. */
 	protected final EntryPool entries;
 
@@ -73,6 +79,20 @@ public class IAMMappingBuilder extends IAMMapping implements Emuable {
 		this.entries.getItem(key).value = this.entries.buffer.get(value);
 	}
 
+	/** Diese Methode übernimmt {@link #mode() Modus}, {@link #perfect() perfekte Streuung} und {@link #blocked() Suchbaum} der gegebenen Abbildung und fügt
+	 * deren Einträge über {@link #put(IAMArray, IAMArray)} hinzu. Damit bleiben diese Eigenschaften beim Kopieren eines {@link IAMMappingLoader} erhalten.
+	 *
+	 * @param mapping Abbildung.
+	 * @throws NullPointerException Wenn {@code mapping} {@code null} ist. */
+	public void putAll(final IAMMapping mapping) throws NullPointerException {
+		this.mode = mapping.mode();
+		this.perfect = mapping.perfect();
+		this.blocked = mapping.blocked();
+		for (int i = 0, count = mapping.entryCount(); i < count; i++) {
+			this.put(mapping.key(i), mapping.value(i));
+		}
+	}
+
 	@Override
 	public boolean mode() {
 		return this.mode;
@@ -87,6 +107,32 @@ public class IAMMappingBuilder extends IAMMapping implements Emuable {
 		this.mode = mode;
 	}
 
+	@Override
+	public boolean perfect() {
+		return this.perfect;
+	}
+
+	/** Diese Methode setzt die Nutzung einer minimalen perfekten Streuwertfunktion im Modus {@link #MODE_HASHED}.
+	 *
+	 * @see #perfect()
+	 * @param perfect {@code true}, wenn die Einträge über eine minimale perfekte Streuwertfunktion gesucht werden sollen. */
+	public void perfect(final boolean perfect) {
+		this.perfect = perfect;
+	}
+
+	@Override
+	public boolean blocked() {
+		return this.blocked;
+	}
+
+	/** Diese Methode setzt die Nutzung eines vorgelagerten Suchbaums im Modus {@link #MODE_SORTED}.
+	 *
+	 * @see #blocked()
+	 * @param blocked {@code true}, wenn die Einträge über einen Suchbaum gesucht werden sollen. */
+	public void blocked(final boolean blocked) {
+		this.blocked = blocked;
+	}
+
 	@Override
 	public long emu() {
 		return EMU.fromObject(this) + EMU.from(this.entries);
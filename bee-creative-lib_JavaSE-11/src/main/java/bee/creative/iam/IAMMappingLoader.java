@@ -13,8 +13,9 @@ public final class IAMMappingLoader extends IAMMapping implements Emuable {
 	/** Dieses Feld speichert den leeren {@link IAMMappingLoader}. */
 	public static final IAMMappingLoader EMPTY = new IAMMappingLoader();
 
-	/** Dieses Feld speichert den {@link IAMHeader} einer {@code IAM_MAPPING} Datenstruktur. */
-	public static final IAMHeader HEADER = new IAMHeader(0xFFFFFC00, 0xF00D1000);
+	/** Dieses Feld speichert den {@link IAMHeader} einer {@code IAM_MAPPING} Datenstruktur. Dieser akzeptiert auch die Kennung {@code 0xF00D3000} einer
+	 * {@link #perfect() perfekt gestreuten} sowie {@code 0xF00D5000} einer {@link #blocked() blockweise sortierten} Abbildung. */
+	public static final IAMHeader HEADER = new IAMHeader(0xFFFF9C00, 0xF00D1000);
 
 	/** Dieses Feld speichert die Zahlen der Schlüssel. */
 	final IAMArray keyData;
@@ -37,9 +38,27 @@ public final class IAMMappingLoader extends IAMMapping implements Emuable {
 	/** Dieses Feld speichert die Bitmaske der Schlüsselbereiche. */
 	final int rangeMask;
 
-	/** Dieses Feld speichert die Startpositionen der Schlüsselbereiche. */
+	/** Dieses Feld speichert die Startpositionen der Schlüsselbereiche bzw. die Verschiebungen der Eimer einer perfekten Streuwertfunktion. */
 	final IAMArray rangeOffset;
 
+	/** Dieses Feld speichert die Anzahl der Eimer einer perfekten Streuwertfunktion oder {@code 0}. */
+	final int perfectCount;
+
+	/** Dieses Feld speichert den Startwert einer perfekten Streuwertfunktion. */
+	final int perfectSeed;
+
+	/** Dieses Feld speichert die Umleitungstabelle einer perfekten Streuwertfunktion für die Positionen jenseits der Anzahl der Einträge. */
+	final IAMArray perfectRemap;
+
+	/** Dieses Feld speichert die von oben nach unten aneinandergereihten Ebenen des Suchbaums einer blockweise sortierten Abbildung oder {@code null}. */
+	final IAMArray blockedTree;
+
+	/** Dieses Feld speichert die Startpositionen der Ebenen in {@link #blockedTree} von unten nach oben oder {@code null}. */
+	final int[] blockedOffset;
+
+	/** Dieses Feld speichert die Größen der Ebenen in {@link #blockedTree} von unten nach oben oder {@code null}. */
+	final int[] blockedLength;
+
 	/** Dieses Feld speichert die Anzahl der Einträge. */
 	final int entryCount;
 
@@ -53,6 +72,12 @@ public final class IAMMappingLoader extends IAMMapping implements Emuable {
 		this.valueLength = 0;
 		this.rangeMask = 0;
 		this.rangeOffset = null;
+		this.perfectCount = 0;
+		this.perfectSeed = 0;
+		this.perfectRemap = null;
+		this.blockedTree = null;
+		this.blockedOffset = null;
+		this.blockedLength = null;
 		this.entryCount = 0;
 	}
 
@@ -68,7 +93,10 @@ public final class IAMMappingLoader extends IAMMapping implements Emuable {
 		int offset = 0;
 		final int header = array.get(offset);
 		offset++;
-		if ((header & 0xFFFFFC00) != 0xF00D1000) throw new IAMException(IAMException.INVALID_HEADER);
+		if ((header & 0xFFFF9C00) != 0xF00D1000) throw new IAMException(IAMException.INVALID_HEADER);
+		final boolean perfect = (header & 0x2000) != 0;
+		final boolean blocked = (header & 0x4000) != 0;
+		if (perfect && blocked) throw new IAMException(IAMException.INVALID_HEADER);
 
 		final int keyDataType = (header >> 8) & 3;
 		final int keySizeType = (header >> 6) & 3;
@@ -84,7 +112,35 @@ public final class IAMMappingLoader extends IAMMapping implements Emuable {
 		int rangeValue;
 		final int rangeMask;
 		final IAMArray rangeOffset;
-		if (rangeSizeType != 0) {
+		final int perfectCount;
+		final int perfectSeed;
+		final IAMArray perfectRemap;
+		if (perfect) {
+
+			if ((rangeSizeType == 0) || (array.length() <= (offset + 1))) throw new IAMException(IAMException.INVALID_LENGTH);
+
+			perfectCount = array.get(offset);
+			offset++;
+			if (perfectCount != IAMMapping.perfectBucketCount(entryCount)) throw new IAMException(IAMException.INVALID_VALUE);
+
+			perfectSeed = array.get(offset);
+			offset++;
+
+			rangeValue = IAMIndexLoader.byteAlign(perfectCount * IAMIndexLoader.byteCount(rangeSizeType));
+			rangeOffset = IAMIndexLoader.sizeArray(array.section(offset, rangeValue), rangeSizeType).section(0, perfectCount);
+			rangeMask = 0;
+			offset += rangeValue;
+
+			rangeValue = IAMMapping.perfectTableSize(entryCount) - entryCount;
+			perfectRemap = array.section(offset, rangeValue);
+			offset += rangeValue;
+			if (array.length() <= offset) throw new IAMException(IAMException.INVALID_LENGTH);
+
+		} else if (rangeSizeType != 0) {
+
+			perfectCount = 0;
+			perfectSeed = 0;
+			perfectRemap = null;
 
 			if (array.length() <= offset) throw new IAMException(IAMException.INVALID_LENGTH);
 
@@ -105,6 +161,36 @@ public final class IAMMappingLoader extends IAMMapping implements Emuable {
 
 			rangeMask = 0;
 			rangeOffset = null;
+			perfectCount = 0;
+			perfectSeed = 0;
+			perfectRemap = null;
+
+		}
+
+		final IAMArray blockedTree;
+		final int[] blockedOffset;
+		final int[] blockedLength;
+		if (blocked) {
+
+			if ((rangeSizeType != 0) || (entryCount == 0)) throw new IAMException(IAMException.INVALID_HEADER);
+
+			blockedLength = IAMMapping.blockedLevels(entryCount);
+			blockedOffset = new int[blockedLength.length];
+			rangeValue = 0;
+			for (int i = blockedLength.length - 1; i >= 0; i--) {
+				blockedOffset[i] = rangeValue;
+				rangeValue += blockedLength[i];
+			}
+			rangeValue *= 2;
+			blockedTree = array.section(offset, rangeValue);
+			offset += rangeValue;
+			if (array.length() <= offset) throw new IAMException(IAMException.INVALID_LENGTH);
+
+		} else {
+
+			blockedTree = null;
+			blockedOffset = null;
+			blockedLength = null;
 
 		}
 
@@ -182,13 +268,20 @@ public final class IAMMappingLoader extends IAMMapping implements Emuable {
 		this.valueLength = valueLength;
 		this.rangeMask = rangeMask;
 		this.rangeOffset = rangeOffset;
+		this.perfectCount = perfectCount;
+		this.perfectSeed = perfectSeed;
+		this.perfectRemap = perfectRemap;
+		this.blockedTree = blockedTree;
+		this.blockedOffset = blockedOffset;
+		this.blockedLength = blockedLength;
 		this.entryCount = entryCount;
 
 	}
 
 	@Override
 	public long emu() {
-		return EMU.fromObject(this) + EMU.fromAll(this.keyData, this.keyOffset, this.valueData, this.valueOffset, this.rangeOffset);
+		return EMU.fromObject(this) + EMU.fromAll(this.keyData, this.keyOffset, this.valueData, this.valueOffset, this.rangeOffset, this.perfectRemap,
+			this.blockedTree, this.blockedOffset, this.blockedLength);
 	}
 
 	/** Diese Methode prüft die Kodierung der {@link #keyLength(int) Längen der Schlüssel} und {@link #valueLength(int) Werte}.
@@ -196,14 +289,26 @@ public final class IAMMappingLoader extends IAMMapping implements Emuable {
 	 * @see IAMIndexLoader#checkArray(IAMArray)
 	 * @throws IAMException Wenn die Kodierung ungültig ist. */
 	public final void check() throws IAMException {
-		IAMIndexLoader.checkArray(this.rangeOffset);
+		if (this.perfectCount == 0) {
+			IAMIndexLoader.checkArray(this.rangeOffset);
+		}
 		IAMIndexLoader.checkArray(this.keyOffset);
 		IAMIndexLoader.checkArray(this.valueOffset);
 	}
 
 	@Override
 	public final boolean mode() {
-		return this.rangeMask != 0;
+		return (this.rangeMask != 0) || (this.perfectCount != 0);
+	}
+
+	@Override
+	public final boolean perfect() {
+		return this.perfectCount != 0;
+	}
+
+	@Override
+	public final boolean blocked() {
+		return this.blockedTree != null;
 	}
 
 	@Override
@@ -241,24 +346,108 @@ public final class IAMMappingLoader extends IAMMapping implements Emuable {
 		return this.entryCount;
 	}
 
+	@Override
+	public final int keyLength(final int entryIndex) {
+		if ((entryIndex < 0) || (entryIndex >= this.entryCount)) return 0;
+		return this.customKeyLength(entryIndex);
+	}
+
 	@Override
 	public final int find(final IAMArray key) throws NullPointerException {
 		Objects.notNull(key);
+		if (this.mode()) return this.customFindEntry(key, this.customFindSlot(key));
+		int l = 0, r = this.entryCount;
+		if (this.blockedTree != null) {
+			final long prefix = IAMMapping.blockedPrefix(key);
+			l = Math.max(this.customBlockedBound(prefix) - 1, 0) * IAMMapping.BLOCKED_SIZE;
+			r = prefix != Long.MAX_VALUE ? Math.min(this.customBlockedBound(prefix + 1) * IAMMapping.BLOCKED_SIZE, r) : r;
+		}
+		return Math.max(this.customFindSorted(key, l, r), -1);
+	}
+
+	/** Diese Methode implementiert {@link IAMMapping#findAll(IAMArray[], int[], boolean)}. Im Modus {@link #MODE_HASHED} werden die Schlüssel nach dem
+	 * Index ihres Streuwertbereichs bzw. ihres Eintrags sortiert, sodass die Schlüsselbereiche und Schlüssel aufsteigend besucht werden. Im Modus
+	 * {@link #MODE_SORTED} werden die Schlüssel nach ihrer ersten Zahl sortiert, sodass jede binäre Suche erst hinter den Einträgen der Schlüssel mit kleinerer
+	 * erster Zahl beginnt. */
+	@Override
+	public final void findAll(final IAMArray[] keys, final int[] results, final boolean parallel) throws NullPointerException, IllegalArgumentException {
+		final int count = IAMMapping.findCheck(keys, results);
+		if (this.mode()) {
+			final long[] order = new long[count];
+			for (int i = 0; i < count; i++) {
+				order[i] = ((long)this.customFindSlot(keys[i]) << 32) | i;
+			}
+			IAMMapping.findSort(order, parallel);
+			IAMMapping.findRun(count, parallel, (fromIndex, toIndex) -> {
+				for (int j = fromIndex; j < toIndex; j++) {
+					final long slot = order[j];
+					final int i = (int)slot;
+					results[i] = this.customFindEntry(keys[i], (int)(slot >>> 32));
+				}
+			});
+		} else {
+			final long[] order = new long[count];
+			for (int i = 0; i < count; i++) {
+				order[i] = (IAMMapping.blockedPrefix(keys[i]) & 0xFFFFFFFF00000000L) | i;
+			}
+			IAMMapping.findSort(order, parallel);
+			IAMMapping.findRun(count, parallel, (fromIndex, toIndex) -> {
+				for (int j = fromIndex, first = 0, l = 0, l2 = 0; j < toIndex; j++) {
+					final long slot = order[j];
+					final int i = (int)slot, first2 = (int)(slot >> 32);
+					if ((j == fromIndex) || (first != first2)) {
+						first = first2;
+						l2 = l;
+					}
+					final IAMArray key = keys[i];
+					int l3 = l2, r3 = this.entryCount;
+					if (this.blockedTree != null) {
+						final long prefix = IAMMapping.blockedPrefix(key);
+						l3 = Math.max(Math.max(this.customBlockedBound(prefix) - 1, 0) * IAMMapping.BLOCKED_SIZE, l3);
+						r3 = prefix != Long.MAX_VALUE ? Math.min(this.customBlockedBound(prefix + 1) * IAMMapping.BLOCKED_SIZE, r3) : r3;
+					}
+					final int result = this.customFindSorted(key, l3, r3);
+					l = Math.max(l, result < 0 ? -result - 1 : result + 1);
+					results[i] = Math.max(result, -1);
+				}
+			});
+		}
+	}
+
+	/** Diese Methode implementiert {@link #find(IAMArray)} für die gegebenen Zahlen, ohne diese in ein {@link IAMArray} zu überführen.
+	 *
+	 * @param key Schlüssel.
+	 * @return Index des Entrags.
+	 * @throws NullPointerException Wenn {@code key} {@code null} ist. */
+	@Override
+	public final int find(final int... key) throws NullPointerException {
+		Objects.notNull(key);
+		final IAMArray keyData = this.keyData;
+		final int count = this.perfectCount;
+		if (count != 0) {
+			final int index = this.customPerfectIndex(IAMMapping.perfectHash(key, this.perfectSeed));
+			return keyData.equals(this.customKeyOffset(index), this.customKeyLength(index), key) ? index : -1;
+		}
 		int i = this.rangeMask;
 		if (i != 0) {
 			final IAMArray range = this.rangeOffset;
-			i = key.hash() & i;
+			i = IAMMapping.hash(key) & i;
 			for (int l = range.customGet(i), r = range.customGet(i + 1); l < r; l++) {
-				if (this.key(l).equals(key)) return l;
+				if (keyData.equals(this.customKeyOffset(l), this.customKeyLength(l), key)) return l;
 			}
 		} else {
 			int l = 0, r = this.entryCount;
+			if (this.blockedTree != null) {
+				final long prefix = IAMMapping.blockedPrefix(key);
+				l = Math.max(this.customBlockedBound(prefix) - 1, 0) * IAMMapping.BLOCKED_SIZE;
+				r = prefix != Long.MAX_VALUE ? Math.min(this.customBlockedBound(prefix + 1) * IAMMapping.BLOCKED_SIZE, r) : r;
+			}
 			while (l < r) {
 				final int c = (l + r) >> 1;
-				i = key.compare(this.key(c));
-				if (i < 0) {
+				i = keyData.compare(this.customKeyOffset(c), this.customKeyLength(c), key);
+				if (i > 0) {
 					r = c;
-				} else if (i > 0) {
+				} else if (i < 0) {
 					l = c + 1;
 				} else return c;
 			}
@@ -266,4 +455,74 @@ public final class IAMMappingLoader extends IAMMapping implements Emuable {
 		return -1;
 	}
 
+	/** Diese Methode gibt im Modus {@link #MODE_HASHED} den Index des Eintrags bei {@link #perfect() perfekter Streuwertfunktion} bzw. den Index des
+	 * Schlüsselbereichs zum gegebenen Schlüssel zurück. */
+	final int customFindSlot(final IAMArray key) {
+		if (this.perfectCount != 0) return this.customPerfectIndex(IAMMapping.perfectHash(key, this.perfectSeed));
+		return key.hash() & this.rangeMask;
+	}
+
+	/** Diese Methode gibt im Modus {@link #MODE_HASHED} den Index des Eintrags mit dem gegebenen Schlüssel zurück, der über den gegebenen
+	 * {@link #customFindSlot(IAMArray) Index} ermittelt wurde. Bei erfolgloser Suche wird {@code -1} geliefert. */
+	final int customFindEntry(final IAMArray key, final int slot) {
+		final IAMArray keyData = this.keyData;
+		if (this.perfectCount != 0) return keyData.equals(this.customKeyOffset(slot), this.customKeyLength(slot), key) ? slot : -1;
+		final IAMArray range = this.rangeOffset;
+		for (int l = range.customGet(slot), r = range.customGet(slot + 1); l < r; l++) {
+			if (keyData.equals(this.customKeyOffset(l), this.customKeyLength(l), key)) return l;
+		}
+		return -1;
+	}
+
+	/** Diese Methode gibt im Modus {@link #MODE_SORTED} den Index des Eintrags mit dem gegebenen Schlüssel zurück, der über eine binäre Suche im gegebenen
+	 * Bereich ermittelt wurde. Bei erfolgloser Suche wird {@code -(Einfügeposition + 1)} geliefert. */
+	final int customFindSorted(final IAMArray key, int l, int r) {
+		final IAMArray keyData = this.keyData;
+		while (l < r) {
+			final int c = (l + r) >> 1;
+			final int i = keyData.compare(this.customKeyOffset(c), this.customKeyLength(c), key);
+			if (i > 0) {
+				r = c;
+			} else if (i < 0) {
+				l = c + 1;
+			} else return c;
+		}
+		return -(l + 1);
+	}
+
+	/** Diese Methode gibt die Startposition des Schlüssels des gegebenen Eintrags in {@link #keyData} zurück. */
+	final int customKeyOffset(final int entryIndex) {
+		final IAMArray keyOffset = this.keyOffset;
+		return keyOffset != null ? keyOffset.customGet(entryIndex) : this.keyLength * entryIndex;
+	}
+
+	/** Diese Methode gibt die Länge des Schlüssels des gegebenen Eintrags zurück. */
+	final int customKeyLength(final int entryIndex) {
+		final IAMArray keyOffset = this.keyOffset;
+		return keyOffset != null ? keyOffset.customGet(entryIndex + 1) - keyOffset.customGet(entryIndex) : this.keyLength;
+	}
+
+	/** Diese Methode gibt die Position des ersten Präfixes in der untersten Ebene des Suchbaums zurück, das nicht kleiner als das gegebene ist. Je Ebene wird
+	 * dazu nur ein Knoten gelesen. */
+	final int customBlockedBound(final long prefix) {
+		final IAMArray tree = this.blockedTree;
+		final int[] offsets = this.blockedOffset, lengths = this.blockedLength;
+		int index = 0;
+		for (int level = lengths.length - 1; level >= 0; level--) {
+			final int length = lengths[level], offset = offsets[level];
+			int l = Math.min(index * IAMMapping.BLOCKED_SIZE, length);
+			for (final int r = Math.min(l + IAMMapping.BLOCKED_SIZE, length); (l < r) && (IAMMapping.blockedPrefix(tree, offset + l) < prefix); l++) {}
+			index = l;
+		}
+		return index;
+	}
+
+	/** Diese Methode gibt den Index des Eintrags zum gegebenen Streuwert der perfekten Streuwertfunktion zurück. */
+	final int customPerfectIndex(final long hash) {
+		final int entryCount = this.entryCount;
+		final int pilot = this.rangeOffset.customGet(IAMMapping.perfectBucket(hash, this.perfectCount));
+		final int index = IAMMapping.perfectIndex(hash, pilot, IAMMapping.perfectTableSize(entryCount));
+		return index < entryCount ? index : this.perfectRemap.customGet(index - entryCount);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,620 @@
+package bee.creative.iam;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import bee.creative.iam.IAMIndex.SizeStats;
+import bee.creative.iam.IAMIndexWriter.ArrayStats;
+import bee.creative.iam.IAMIndexWriter.ArrayWriter;
+import bee.creative.io.MappedBuffer;
+import bee.creative.lang.Objects;
+
+/** Diese Klasse implementiert einen Schreiber, der eine {@link IAMMapping Abbildung} im Datenformat {@code IAM_MAPPING} direkt in einen {@link MappedBuffer
+ * Dateipuffer} schreibt. Die über {@link #put(IAMArray, IAMArray)} erfassten Einträge werden dazu in sortierten Läufen begrenzter Größe in temporäre Dateien
+ * ausgelagert und vor dem Schreiben extern verschmolzen, sodass der Speicherbedarf unabhängig von der Anzahl der Einträge beschränkt bleibt. Wie beim
+ * {@link IAMMappingBuilder} ersetzt ein später hinzugefügter Eintrag einen früheren mit gleichem Schlüssel. Der {@link IAMMapping#blocked() Suchbaum} wird
+ * beim Schreiben der sortierten Einträge mit erzeugt. Die {@link IAMMapping#perfect() perfekte Streuwertfunktion} wird nicht unterstützt.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class IAMMappingWriter {
+
+	/** Diese Klasse implementiert einen ausgelagerten Eintrag. */
+	static final class Entry {
+
+		/** Diese Methode liest einen über {@link #write(DataOutputStream)} geschriebenen Eintrag aus dem gegebenen {@link DataInputStream}.
+		 *
+		 * @param source Eingabe.
+		 * @return Eintrag.
+		 * @throws IOException Wenn die Eingabe eine entsprechende Ausnahme auslöst. */
+		public static Entry read(final DataInputStream source) throws IOException {
+			final long index = source.readLong();
+			final int[] key = IAMIndexWriter.getArray(source);
+			final int[] value = IAMIndexWriter.getArray(source);
+			return new Entry(key, value, index);
+		}
+
+		/** Dieses Feld speichert den Schlüssel. */
+		public final int[] key;
+
+		/** Dieses Feld speichert den Wert. */
+		public final int[] value;
+
+		/** Dieses Feld speichert die Position des Hinzufügens. */
+		public final long index;
+
+		/** Dieses Feld speichert den {@link IAMMapping#hash(int[]) Streuwert} des Schlüssels. */
+		public final int hash;
+
+		/** Dieser Konstruktor initialisiert den Eintrag.
+		 *
+		 * @param key Schlüssel.
+		 * @param value Wert.
+		 * @param index Position des Hinzufügens. */
+		public Entry(final int[] key, final int[] value, final long index) {
+			this.key = key;
+			this.value = value;
+			this.index = index;
+			this.hash = IAMMapping.hash(key);
+		}
+
+		/** Diese Methode gibt den geschätzten Speicherbedarf dieses Eintrags in {@code int} zurück.
+		 *
+		 * @return Speicherbedarf. */
+		public int size() {
+			return this.key.length + this.value.length + 24;
+		}
+
+		/** Diese Methode schreibt diesen Eintrag in den gegebenen {@link DataOutputStream}.
+		 *
+		 * @param target Ausgabe.
+		 * @throws IOException Wenn die Ausgabe eine entsprechende Ausnahme auslöst. */
+		public void write(final DataOutputStream target) throws IOException {
+			target.writeLong(this.index);
+			IAMIndexWriter.putArray(target, this.key);
+			IAMIndexWriter.putArray(target, this.value);
+		}
+
+	}
+
+	/** Diese Klasse implementiert einen sequenziell gelesenen Lauf. */
+	static final class Run implements AutoCloseable {
+
+		/** Dieses Feld speichert die Eingabe. */
+		final DataInputStream source;
+
+		/** Dieses Feld speichert die Anzahl der noch nicht gelesenen Einträge. */
+		long count;
+
+		/** Dieses Feld speichert den aktuellen Eintrag oder {@code null}. */
+		Entry entry;
+
+		/** Dieser Konstruktor öffnet den in der gegebenen Datei gespeicherten Lauf und liest dessen ersten Eintrag.
+		 *
+		 * @param file Datei.
+		 * @throws IOException Wenn die Datei nicht gelesen werden kann. */
+		public Run(final File file) throws IOException {
+			this.source = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16));
+			this.count = this.source.readLong();
+			this.next();
+		}
+
+		/** Diese Methode liest den nächsten Eintrag und gibt nur dann {@code true} zurück, wenn dieser existiert.
+		 *
+		 * @return {@code true}, wenn {@link #entry} gesetzt wurde.
+		 * @throws IOException Wenn die Datei nicht gelesen werden kann. */
+		public boolean next() throws IOException {
+			if (this.count == 0) {
+				this.entry = null;
+				return false;
+			}
+			this.count--;
+			this.entry = Entry.read(this.source);
+			return true;
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.source.close();
+		}
+
+	}
+
+	/** Dieses Feld speichert die Ordnung der Einträge nach Schlüssel und absteigender Position des Hinzufügens. */
+	static final Comparator<Entry> KEY_ORDER = (entry1, entry2) -> {
+		final int result = IAMMapping.compare(entry1.key, entry2.key);
+		return result != 0 ? result : Long.compare(entry2.index, entry1.index);
+	};
+
+	/** Diese Methode gibt die Ordnung der Einträge nach dem mit der gegebenen Bitmaske ermittelten Schlüsselbereich und dem Schlüssel zurück.
+	 *
+	 * @param rangeMask Bitmaske der Schlüsselbereiche.
+	 * @return Ordnung der Einträge. */
+	static Comparator<Entry> rangeOrder(final int rangeMask) {
+		return (entry1, entry2) -> {
+			final int result = Integer.compare(entry1.hash & rangeMask, entry2.hash & rangeMask);
+			return result != 0 ? result : IAMMapping.compare(entry1.key, entry2.key);
+		};
+	}
+
+	/** Diese Methode gibt die Bitmaske der Schlüsselbereiche für die gegebene Anzahl an Einträgen zurück. Diese entspricht {@link Objects#hashMask(int)},
+	 * ist aber wie vom {@link IAMMappingLoader} gefordert mindestens {@code 1}.
+	 *
+	 * @param entryCount Anzahl der Einträge.
+	 * @return Bitmaske der Schlüsselbereiche. */
+	static int rangeMask(final int entryCount) {
+		return Math.max(Objects.hashMask(entryCount), 1);
+	}
+
+	/** Diese Methode schreibt die gegebenen Einträge als Lauf in eine neue temporäre Datei und gibt diese zurück.
+	 *
+	 * @param entries Einträge.
+	 * @return temporäre Datei.
+	 * @throws IOException Wenn die Datei nicht geschrieben werden kann. */
+	static File writeRun(final List<Entry> entries) throws IOException {
+		final File result = IAMIndexWriter.createTemp();
+		try (DataOutputStream target = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(result), 1 << 16))) {
+			target.writeLong(entries.size());
+			for (final Entry entry: entries) {
+				entry.write(target);
+			}
+		} catch (final IOException | RuntimeException cause) {
+			result.delete();
+			throw cause;
+		}
+		return result;
+	}
+
+	/** Diese Methode verschmilzt die gegebenen Läufe gemäß der gegebenen Ordnung zu einem Lauf in einer neuen temporären Datei, löscht die gegebenen Läufe und
+	 * gibt die neue Datei zurück. Wenn das Verschmelzen fehlschlägt, wird die neue Datei gelöscht und die gegebenen Läufe bleiben erhalten. Wenn {@code keyStats} nicht {@code null} ist, wird von mehreren Einträgen mit gleichem Schlüssel nur der in der Ordnung erste
+	 * übernommen und die Kodierung der übernommenen Schlüssel und Werte in {@code keyStats} bzw. {@code valueStats} erfasst.
+	 *
+	 * @param runs Läufe.
+	 * @param order Ordnung.
+	 * @param keyStats Kodierung der Schlüssel oder {@code null}.
+	 * @param valueStats Kodierung der Werte oder {@code null}.
+	 * @return temporäre Datei.
+	 * @throws IOException Wenn die Läufe nicht gelesen oder geschrieben werden können. */
+	static File mergeRuns(final List<File> runs, final Comparator<Entry> order, final ArrayStats keyStats, final ArrayStats valueStats) throws IOException {
+		final PriorityQueue<Run> queue = new PriorityQueue<>(Math.max(runs.size(), 1), (run1, run2) -> order.compare(run1.entry, run2.entry));
+		final File result = IAMIndexWriter.createTemp();
+		try {
+			long count = 0;
+			for (final File run: runs) {
+				final Run source = new Run(run);
+				count += source.count + (source.entry != null ? 1 : 0);
+				if (source.entry != null) {
+					queue.add(source);
+				} else {
+					source.close();
+				}
+			}
+			try (DataOutputStream target = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(result), 1 << 16))) {
+				target.writeLong(count);
+				int[] last = null;
+				count = 0;
+				while (!queue.isEmpty()) {
+					final Run source = queue.poll();
+					final Entry entry = source.entry;
+					if ((keyStats == null) || (last == null) || (IAMMapping.compare(last, entry.key) != 0)) {
+						if (keyStats != null) {
+							keyStats.put(entry.key);
+							valueStats.put(entry.value);
+						}
+						entry.write(target);
+						last = entry.key;
+						count++;
+					}
+					if (source.next()) {
+						queue.add(source);
+					} else {
+						source.close();
+					}
+				}
+			}
+			if (keyStats != null) {
+				IAMMappingWriter.fixCount(result, count);
+			}
+		} catch (final IOException | RuntimeException cause) {
+			result.delete();
+			throw cause;
+		} finally {
+			for (final Run source: queue) {
+				source.close();
+			}
+		}
+		for (final File run: runs) {
+			run.delete();
+		}
+		return result;
+	}
+
+	/** Diese Methode setzt die im Kopf des gegebenen Laufs gespeicherte Anzahl der Einträge.
+	 *
+	 * @param file Datei des Laufs.
+	 * @param count Anzahl der Einträge.
+	 * @throws IOException Wenn die Datei nicht geschrieben werden kann. */
+	static void fixCount(final File file, final long count) throws IOException {
+		try (RandomAccessFile target = new RandomAccessFile(file, "rw")) {
+			target.writeLong(count);
+		}
+	}
+
+	/** Dieses Feld speichert den Modus. */
+	protected boolean mode = IAMMapping.MODE_HASHED;
+
+	/** Dieses Feld speichert die Nutzung eines Suchbaums. */
+	protected boolean blocked = false;
+
+	/** Dieses Feld speichert den Speicherbedarf eines Laufs in {@code int}. */
+	protected int limit = 1 << 24;
+
+	/** Dieses Feld speichert die im Arbeitsspeicher gepufferten Einträge. */
+	List<Entry> buffer = new ArrayList<>();
+
+	/** Dieses Feld speichert den geschätzten Speicherbedarf von {@link #buffer} in {@code int}. */
+	long bufferSize;
+
+	/** Dieses Feld speichert die ausgelagerten Läufe gruppiert nach ihrer Stufe. Die Läufe der Stufe {@code 0} entstehen direkt aus {@link #buffer}, jeder Lauf
+	 * der Stufe {@code n + 1} aus dem Verschmelzen von {@link IAMIndexWriter#MERGE_LIMIT} Läufen der Stufe {@code n}. Damit wird jeder Eintrag bis zum
+	 * abschließenden Verschmelzen nur {@code O(log64(n))} mal kopiert. */
+	List<List<File>> runs = new ArrayList<>();
+
+	/** Dieses Feld speichert die Anzahl der bisher hinzugefügten Einträge. */
+	long putCount;
+
+	/** Dieses Feld speichert den verschmolzenen Lauf in Schreibreihenfolge oder {@code null}. */
+	File result;
+
+	/** Dieses Feld speichert die Kodierung der Schlüssel in {@link #result} oder {@code null}. */
+	ArrayStats keyStats;
+
+	/** Dieses Feld speichert die Kodierung der Werte in {@link #result} oder {@code null}. */
+	ArrayStats valueStats;
+
+	/** Diese Methode gibt den Modus zurück.
+	 *
+	 * @see IAMMapping#mode()
+	 * @return Modus. */
+	public boolean mode() {
+		return this.mode;
+	}
+
+	/** Diese Methode setzt den Modus.
+	 *
+	 * @see IAMMapping#MODE_HASHED
+	 * @see IAMMapping#MODE_SORTED
+	 * @param mode Modus. */
+	public void mode(final boolean mode) {
+		if (this.mode == mode) return;
+		this.mode = mode;
+		this.reset();
+	}
+
+	/** Diese Methode gibt die Nutzung eines Suchbaums zurück.
+	 *
+	 * @see IAMMapping#blocked()
+	 * @return {@code true}, wenn die Einträge über einen Suchbaum gesucht werden sollen. */
+	public boolean blocked() {
+		return this.blocked;
+	}
+
+	/** Diese Methode setzt die Nutzung eines vorgelagerten Suchbaums im Modus {@link IAMMapping#MODE_SORTED}.
+	 *
+	 * @see IAMMapping#blocked()
+	 * @param blocked {@code true}, wenn die Einträge über einen Suchbaum gesucht werden sollen. */
+	public void blocked(final boolean blocked) {
+		this.blocked = blocked;
+	}
+
+	/** Diese Methode gibt den Speicherbedarf eines im Arbeitsspeicher sortierten Laufs in {@code int} zurück.
+	 *
+	 * @return Speicherbedarf eines Laufs. */
+	public int limit() {
+		return this.limit;
+	}
+
+	/** Diese Methode setzt den Speicherbedarf eines im Arbeitsspeicher sortierten Laufs in {@code int}. Sobald die gepufferten Einträge diesen überschreiten,
+	 * werden sie sortiert in eine temporäre Datei ausgelagert.
+	 *
+	 * @param limit Speicherbedarf eines Laufs.
+	 * @throws IllegalArgumentException Wenn {@code limit} nicht positiv ist. */
+	public void limit(final int limit) throws IllegalArgumentException {
+		if (limit <= 0) throw new IllegalArgumentException();
+		this.limit = limit;
+	}
+
+	/** Diese Methode fügt einen neuen Eintrag mit dem gegebenen Schlüssel und Wert hinzu. Ein später hinzugefügter Eintrag ersetzt einen früheren mit gleichem
+	 * Schlüssel.
+	 *
+	 * @param key Schlüssel.
+	 * @param value Wert.
+	 * @throws NullPointerException Wenn {@code key} bzw. {@code value} {@code null} ist.
+	 * @throws IOException Wenn die Einträge nicht ausgelagert werden können. */
+	public void put(final IAMArray key, final IAMArray value) throws NullPointerException, IOException {
+		final Entry entry = new Entry(key.toInts(), value.toInts(), this.putCount);
+		this.reset();
+		this.putCount++;
+		this.buffer.add(entry);
+		this.bufferSize += entry.size();
+		if (this.bufferSize < this.limit) return;
+		this.spill();
+	}
+
+	/** Diese Methode gibt die Anzahl der Einträge zurück.
+	 *
+	 * @return Anzahl der Einträge.
+	 * @throws IOException Wenn die Einträge nicht verschmolzen werden können. */
+	public int entryCount() throws IOException {
+		this.merge();
+		return this.keyStats.count;
+	}
+
+	/** Diese Methode gibt die Größe des Datenformats {@code IAM_MAPPING} zurück, das über {@link #write(MappedBuffer, long)} geschrieben wird.
+	 *
+	 * @return Größe in Byte.
+	 * @throws IOException Wenn die Einträge nicht verschmolzen werden können. */
+	public long size() throws IOException {
+		this.merge();
+		return 8 + this.rangeBytes() + this.keyStats.sizeBytes() + this.keyStats.dataBytes() + this.valueStats.sizeBytes() + this.valueStats.dataBytes();
+	}
+
+	/** Diese Methode gibt nur dann {@code true} zurück, wenn ein Suchbaum geschrieben wird.
+	 *
+	 * @return {@code true} bei Nutzung eines Suchbaums. */
+	boolean isBlocked() {
+		return !this.mode && this.blocked && (this.keyStats.count != 0);
+	}
+
+	/** Diese Methode gibt die Größe des Speicherbereichs der Schlüsselbereiche bzw. des Suchbaums zurück.
+	 *
+	 * @return Größe in Byte. */
+	long rangeBytes() {
+		final int entryCount = this.keyStats.count;
+		if (this.isBlocked()) {
+			long result = 0;
+			for (final int length: IAMMapping.blockedLevels(entryCount)) {
+				result += length * 8L;
+			}
+			return result;
+		}
+		if (!this.mode) return 0;
+		return ((((IAMMappingWriter.rangeMask(entryCount) + 2L) * IAMIndexLoader.byteCount(SizeStats.computeSizeType(entryCount))) + 3) & -4L) + 4;
+	}
+
+	/** Diese Methode schreibt das Datenformat {@code IAM_MAPPING} in der {@link MappedBuffer#order() Bytereihenfolge} des gegebenen Dateipuffers an die
+	 * gegebene Adresse. Der Dateipuffer muss dazu bereits ausreichend {@link #size() groß} sein.
+	 *
+	 * @param target Dateipuffer.
+	 * @param address Adresse.
+	 * @throws IOException Wenn die Einträge nicht verschmolzen werden können. */
+	public void write(final MappedBuffer target, final long address) throws IOException {
+		this.merge();
+		final ArrayStats keyStats = this.keyStats, valueStats = this.valueStats;
+		final int entryCount = keyStats.count;
+		final int rangeMask = this.mode ? IAMMappingWriter.rangeMask(entryCount) : 0;
+		final int rangeType = this.mode ? SizeStats.computeSizeType(entryCount) : 0;
+		final boolean blocked = this.isBlocked();
+		final int[] blockedLength = blocked ? IAMMapping.blockedLevels(entryCount) : null;
+		final long[] blockedStart = blocked ? new long[blockedLength.length] : null;
+		if (blocked) {
+			long blockedAddress = address + 8;
+			for (int level = blockedLength.length - 1; level >= 0; level--) {
+				blockedStart[level] = blockedAddress;
+				blockedAddress += blockedLength[level] * 8L;
+			}
+		}
+		target.putInt(address, (blocked ? 0xF00D5000 : 0xF00D1000) | (keyStats.dataType() << 8) | (keyStats.sizeType() << 6) | (rangeType << 4) | (valueStats.dataType() << 2)
+			| (valueStats.sizeType() << 0));
+		target.putInt(address + 4, entryCount);
+		final long rangeStart = address + 12, keyStart = address + 8 + this.rangeBytes();
+		final long valueStart = keyStart + keyStats.sizeBytes() + keyStats.dataBytes();
+		if (this.mode) {
+			target.putInt(address + 8, rangeMask);
+		}
+		final ArrayWriter keyWriter = new ArrayWriter(target, keyStart, keyStats);
+		final ArrayWriter valueWriter = new ArrayWriter(target, valueStart, valueStats);
+		long rangeAddress = rangeStart;
+		int rangeIndex = 0, entryIndex = 0;
+		try (Run source = new Run(this.result)) {
+			for (Entry entry = source.entry; entry != null; entry = source.next() ? source.entry : null, entryIndex++) {
+				if (this.mode) {
+					for (final int range = entry.hash & rangeMask; rangeIndex <= range; rangeIndex++) {
+						rangeAddress = IAMIndexWriter.putValue(target, rangeAddress, rangeType, entryIndex);
+					}
+				} else if (blocked && ((entryIndex % IAMMapping.BLOCKED_SIZE) == 0)) {
+					final long prefix = IAMMapping.blockedPrefix(entry.key);
+					int index = entryIndex / IAMMapping.BLOCKED_SIZE, level = 0;
+					while (true) {
+						target.putInt(blockedStart[level] + (index * 8L), (int)(prefix >>> 32));
+						target.putInt(blockedStart[level] + (index * 8L) + 4, (int)prefix);
+						if (((level + 1) == blockedLength.length)
+							|| (((index % IAMMapping.BLOCKED_SIZE) != (IAMMapping.BLOCKED_SIZE - 1)) && (index != (blockedLength[level] - 1)))) {
+							break;
+						}
+						index = index / IAMMapping.BLOCKED_SIZE;
+						level++;
+					}
+				}
+				keyWriter.put(entry.key);
+				valueWriter.put(entry.value);
+			}
+		}
+		if (this.mode) {
+			for (final int rangeCount = rangeMask + 2; rangeIndex < rangeCount; rangeIndex++) {
+				rangeAddress = IAMIndexWriter.putValue(target, rangeAddress, rangeType, entryIndex);
+			}
+			IAMIndexWriter.putAlign(target, rangeAddress, rangeAddress - rangeStart);
+		}
+		keyWriter.close(keyStart);
+		valueWriter.close(valueStart);
+	}
+
+	/** Diese Methode schreibt das Datenformat {@code IAM_MAPPING} in der gegebenen Bytereihenfolge in die gegebene Datei und gibt diese zurück.
+	 *
+	 * @see #write(MappedBuffer, long)
+	 * @param file Datei.
+	 * @param order Bytereihenfolge.
+	 * @return Datei.
+	 * @throws IOException Wenn die Datei nicht geschrieben werden kann. */
+	public File toFile(final File file, final ByteOrder order) throws IOException {
+		final MappedBuffer buffer = IAMIndexWriter.createBuffer(file, this.size(), order);
+		this.write(buffer, 0);
+		IAMIndexWriter.closeBuffer(buffer);
+		return file;
+	}
+
+	/** Diese Methode entfernt alle bisher erfassten Einträge und löscht die temporären Dateien. */
+	public void clear() {
+		this.reset();
+		for (final List<File> level: this.runs) {
+			for (final File run: level) {
+				run.delete();
+			}
+		}
+		this.buffer = new ArrayList<>();
+		this.bufferSize = 0;
+		this.runs = new ArrayList<>();
+		this.putCount = 0;
+	}
+
+	/** Diese Methode sortiert die gepufferten Einträge und lagert sie als Lauf der Stufe {@code 0} aus. Sobald eine Stufe {@link IAMIndexWriter#MERGE_LIMIT}
+	 * Läufe enthält, werden nur diese zu einem Lauf der nächsten Stufe verschmolzen.
+	 *
+	 * @throws IOException Wenn die Einträge nicht ausgelagert werden können. */
+	void spill() throws IOException {
+		if (this.buffer.isEmpty()) return;
+		this.buffer.sort(IAMMappingWriter.KEY_ORDER);
+		this.addRun(0, IAMMappingWriter.writeRun(this.buffer));
+		this.buffer = new ArrayList<>();
+		this.bufferSize = 0;
+		for (int level = 0; level < this.runs.size(); level++) {
+			final List<File> runs = this.runs.get(level);
+			if (runs.size() < IAMIndexWriter.MERGE_LIMIT) return;
+			final File run = IAMMappingWriter.mergeRuns(runs, IAMMappingWriter.KEY_ORDER, null, null);
+			runs.clear();
+			this.addRun(level + 1, run);
+		}
+	}
+
+	/** Diese Methode fügt den gegebenen Lauf in die gegebene Stufe von {@link #runs} ein.
+	 *
+	 * @param level Stufe.
+	 * @param run Lauf. */
+	void addRun(final int level, final File run) {
+		while (this.runs.size() <= level) {
+			this.runs.add(new ArrayList<>());
+		}
+		this.runs.get(level).add(run);
+	}
+
+	/** Diese Methode verschmilzt die Läufe zu {@link #result}, sofern dieses nicht bereits ermittelt wurde. Wenn es dazu mehr als
+	 * {@link IAMIndexWriter#MERGE_LIMIT} Läufe gibt, werden vorab die jeweils kleinsten Läufe der untersten Stufen verschmolzen. Nach Schlüsseln geordnet
+	 * verbleibt der um Duplikate bereinigte Lauf in der obersten Stufe von {@link #runs}, damit spätere Einträge ihn ergänzen können.
+	 *
+	 * @throws IOException Wenn die Läufe nicht verschmolzen werden können. */
+	void merge() throws IOException {
+		if (this.result != null) return;
+		this.spill();
+		while (true) {
+			int count = 0;
+			for (final List<File> level: this.runs) {
+				count += level.size();
+			}
+			if (count <= IAMIndexWriter.MERGE_LIMIT) {
+				break;
+			}
+			final List<File> group = new ArrayList<>();
+			int level = 0;
+			for (final int size = Math.min(count - IAMIndexWriter.MERGE_LIMIT + 1, IAMIndexWriter.MERGE_LIMIT); group.size() < size; level++) {
+				final List<File> runs = this.runs.get(level);
+				group.addAll(runs.subList(0, Math.min(runs.size(), size - group.size())));
+			}
+			final File run = IAMMappingWriter.mergeRuns(group, IAMMappingWriter.KEY_ORDER, null, null);
+			this.forgetRuns(group);
+			this.addRun(level, run);
+		}
+		final List<File> runs2 = new ArrayList<>();
+		for (final List<File> level: this.runs) {
+			runs2.addAll(level);
+		}
+		final ArrayStats keyStats = new ArrayStats(), valueStats = new ArrayStats();
+		final File merged = IAMMappingWriter.mergeRuns(runs2, IAMMappingWriter.KEY_ORDER, keyStats, valueStats);
+		final int top = Math.max(this.runs.size() - 1, 0);
+		this.runs = new ArrayList<>();
+		this.addRun(top, merged);
+		if (this.mode) {
+			final Comparator<Entry> order = IAMMappingWriter.rangeOrder(IAMMappingWriter.rangeMask(keyStats.count));
+			final List<File> runs = new ArrayList<>();
+			try (Run source = new Run(merged)) {
+				List<Entry> buffer = new ArrayList<>();
+				long bufferSize = 0;
+				for (Entry entry = source.entry; entry != null; entry = source.next() ? source.entry : null) {
+					buffer.add(entry);
+					bufferSize += entry.size();
+					if (bufferSize < this.limit) {
+						continue;
+					}
+					buffer.sort(order);
+					runs.add(IAMMappingWriter.writeRun(buffer));
+					buffer = new ArrayList<>();
+					bufferSize = 0;
+				}
+				buffer.sort(order);
+				runs.add(IAMMappingWriter.writeRun(buffer));
+				while (runs.size() > IAMIndexWriter.MERGE_LIMIT) {
+					final List<File> group = new ArrayList<>(runs.subList(0, IAMIndexWriter.MERGE_LIMIT));
+					runs.add(IAMMappingWriter.mergeRuns(group, order, null, null));
+					runs.subList(0, IAMIndexWriter.MERGE_LIMIT).clear();
+				}
+				this.result = IAMMappingWriter.mergeRuns(runs, order, null, null);
+			} catch (final IOException | RuntimeException cause) {
+				for (final File run: runs) {
+					run.delete();
+				}
+				throw cause;
+			}
+		} else {
+			this.result = merged;
+		}
+		this.keyStats = keyStats;
+		this.valueStats = valueStats;
+	}
+
+	/** Diese Methode entfernt die gegebenen, bereits verschmolzenen und gelöschten Läufe aus {@link #runs}.
+	 *
+	 * @param runs Läufe. */
+	void forgetRuns(final List<File> runs) {
+		for (final List<File> level: this.runs) {
+			level.removeAll(runs);
+		}
+	}
+
+	/** Diese Methode verwirft {@link #result}, wobei dessen Datei nur gelöscht wird, wenn sie nicht als Lauf in {@link #runs} verwendet wird. */
+	void reset() {
+		if (this.result == null) return;
+		final File result = this.result;
+		if (this.runs.stream().noneMatch(level -> level.contains(result))) {
+			result.delete();
+		}
+		this.result = null;
+		this.keyStats = null;
+		this.valueStats = null;
+	}
+
+	@Override
+	public String toString() {
+		return Objects.toInvokeString(this, this.mode, this.putCount);
+	}
+
+}
@@ -1,6 +1,7 @@
 package bee.creative.mmi;
 
 import java.nio.ByteOrder;
+import bee.creative.iam.IAMArray;
 import bee.creative.io.MappedBuffer;
 import bee.creative.lang.Bytes;
 import bee.creative.lang.Integers;
@@ -198,4 +199,52 @@ public abstract class MMIArrayL extends MMIArray {
 		return Integers.toShort(Integers.toByteL(value), Integers.toByteH(value));
 	}
 
-}
\ No newline at end of file
+	/** Diese Methode gibt die Größe einer Zahl in Byte zurück, wenn die gegebene Zahlenfolge ein {@link MMIArrayL} mit gleicher {@link #mode() Kodierung} und
+	 * gleicher {@link #order() Bytereihenfolge} ist. Nur dann sind ihre Zahlen genau dann gleich, wenn ihre Speicherbereiche gleich sind. Andernfalls wird
+	 * {@code 0} geliefert. */
+	final int customSizeImpl(final IAMArray that) {
+		if (!(that instanceof MMIArrayL)) return 0;
+		final int mode = this.mode();
+		if (mode != that.mode()) return 0;
+		final int size = MMIArray.size(mode);
+		if ((size != 1) && (this.order() != ((MMIArrayL)that).order())) return 0;
+		return size;
+	}
+
+	/** Diese Methode gibt die Position des ersten unterschiedlichen Bytes der gegebenen Speicherbereiche oder {@code -1} zurück. Die Speicherbereiche werden
+	 * dazu in Schritten von acht Byte verglichen. */
+	final long customMismatchImpl(final long address1, final MappedBuffer buffer2, final long address2, final long length) {
+		final MappedBuffer buffer1 = this.buffer;
+		final boolean isBE = buffer1.order() == ByteOrder.BIG_ENDIAN, isSwap = buffer1.order() != buffer2.order();
+		long i = 0;
+		for (final long l = length - 7; i < l; i += 8) {
+			final long value1 = buffer1.getLong(address1 + i), value2 = buffer2.getLong(address2 + i);
+			final long value = value1 ^ (isSwap ? Long.reverseBytes(value2) : value2);
+			if (value != 0) return i + ((isBE ? Long.numberOfLeadingZeros(value) : Long.numberOfTrailingZeros(value)) >> 3);
+		}
+		for (; i < length; i++) {
+			if (buffer1.get(address1 + i) != buffer2.get(address2 + i)) return i;
+		}
+		return -1;
+	}
+
+	@Override
+	protected boolean customEquals(final int index, final IAMArray that, final int offset, final int length) {
+		final int size = this.customSizeImpl(that);
+		if (size == 0) return super.customEquals(index, that, offset, length);
+		final MMIArrayL that2 = (MMIArrayL)that;
+		return this.customMismatchImpl(this.address + ((long)index * size), that2.buffer, that2.address + ((long)offset * size), (long)length * size) < 0;
+	}
+
+	@Override
+	protected int customCompare(final int index, final IAMArray that, final int offset, final int length) {
+		final int size = this.customSizeImpl(that);
+		if (size == 0) return super.customCompare(index, that, offset, length);
+		final MMIArrayL that2 = (MMIArrayL)that;
+		final long result = this.customMismatchImpl(this.address + ((long)index * size), that2.buffer, that2.address + ((long)offset * size), (long)length * size);
+		if (result < 0) return 0;
+		final int index2 = (int)(result / size);
+		return Integer.compare(this.customGet(index + index2), that2.customGet(offset + index2));
+	}
+
+}
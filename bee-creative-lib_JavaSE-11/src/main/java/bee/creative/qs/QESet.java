@@ -1,5 +1,6 @@
 package bee.creative.qs;
 
+import java.util.Arrays;
 import bee.creative.util.Filter;
 import bee.creative.util.Iterables;
 
@@ -20,6 +21,26 @@ public interface QESet extends QXSet<QE, QESet> {
 		return this.owner().newEdges(Iterables.filteredIterable(this, filter));
 	}
 
+	/** Diese Methode liefert die {@link QS#getKey(QN) Kennungen} der Hyperkanten dieser Menge als Folge von {@code (C, P, S, O)}-Quadrupeln. Im Gegensatz zur
+	 * Iteration müssen dazu keine Hyperkanten erzeugt werden. {@link QS#newEdges(long[], int)} überführt die Kennungen wieder in eine Menge.
+	 *
+	 * @return Kennungen der Hyperkanten dieser Menge. */
+	default long[] keys() {
+		var owner = this.owner();
+		var keys = new long[64];
+		var size = 0;
+		for (var edge: this) {
+			if (keys.length < (size + 4)) {
+				keys = Arrays.copyOf(keys, keys.length * 2);
+			}
+			keys[size++] = owner.getKey(edge.context());
+			keys[size++] = owner.getKey(edge.predicate());
+			keys[size++] = owner.getKey(edge.subject());
+			keys[size++] = owner.getKey(edge.object());
+		}
+		return Arrays.copyOf(keys, size);
+	}
+
 	/** Diese Methode liefert eine Mengensicht auf alle {@link QN Haperknoten}, die in den Hyperkanten dieser Menge aufgeführt sind.
 	 *
 	 * @return Hyperknoten der Hyperkanten dieser Menge. */
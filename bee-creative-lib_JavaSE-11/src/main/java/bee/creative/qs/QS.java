@@ -1,6 +1,7 @@
 package bee.creative.qs;
 
 import static bee.creative.util.Translators.translatorFromClass;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import bee.creative.util.Translator;
@@ -112,6 +113,22 @@ public interface QS {
 	 * @return temporäre Hyperkantenmenge. */
 	QESet2 newEdges(Iterable<? extends QE> edges) throws NullPointerException, IllegalArgumentException;
 
+	/** Diese Methode überführt die Hyperkanten, deren {@link #getKey(QN) Kennungen} als Folge von {@code (C, P, S, O)}-Quadrupeln in den ersten {@code count}
+	 * Quadrupeln des gegebenen Puffers stehen, in eine von diesem Graphspeicher {@link QESet#owner() verwaltete} temporäre Menge und gibt diese zurück. Sie
+	 * liefert damit die temporäre Menge zu den über {@link #newEdge(QN, QN, QN, QN)} und {@link #newNode(long)} erzeugten Hyperkanten.
+	 *
+	 * @param edges Kennungen der Hyperkanten.
+	 * @param count Anzahl der Hyperkanten.
+	 * @return temporäre Hyperkantenmenge. */
+	default QESet2 newEdges(long[] edges, int count) throws NullPointerException, IllegalArgumentException {
+		if ((count < 0) || (count > (edges.length / 4))) throw new IllegalArgumentException();
+		var items = new ArrayList<QE>(count);
+		for (int i = 0, size = count * 4; i < size; i += 4) {
+			items.add(this.newEdge(this.newNode(edges[i]), this.newNode(edges[i + 1]), this.newNode(edges[i + 2]), this.newNode(edges[i + 3])));
+		}
+		return this.newEdges(items);
+	}
+
 	/** Diese Methode liefert einen neuen temporären {@link QN Hyperknoten}, der von diesem Graphspeicher {@link QN#owner() verwaltet} wird und dessen interne
 	 * Kennung in diesem Graphspeicher einzigartig ist. Der gelieferte Hyperknoten wird dabei nicht in den Graphspeicher eingefügt. Dies kann nur {@link QE#put()
 	 * indirekt} über eine {@link QE Hyperkante} erfolgen.
@@ -127,6 +144,20 @@ public interface QS {
 	 * @return Hyperknoten. */
 	QN newNode(Object value) throws NullPointerException, IllegalArgumentException;
 
+	/** Diese Methode liefert den {@link QN Hyperknoten}, der von diesem Graphspeicher {@link QN#owner() verwaltet} wird und die gegebene {@link #getKey(QN)
+	 * Kennung} besitzt.
+	 *
+	 * @param key Kennung.
+	 * @return Hyperknoten. */
+	QN newNode(long key);
+
+	/** Diese Methode liefert die interne Kennung des gegebenen {@link QN Hyperknoten}, der von diesem Graphspeicher {@link QN#owner() verwaltet} werden muss.
+	 * Über {@link #newNode(long)} kann der Hyperknoten aus ihr wieder erzeugt werden.
+	 *
+	 * @param node Hyperknoten.
+	 * @return Kennung. */
+	long getKey(QN node) throws NullPointerException, IllegalArgumentException;
+
 	/** Diese Methode ist eine Abkürzung für {@link #newNodes(Iterable) this.newNodes(Arrays.asList(nodes))}.
 	 *
 	 * @param nodes Hyperknoten.
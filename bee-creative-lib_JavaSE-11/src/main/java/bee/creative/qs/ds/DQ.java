@@ -15,6 +15,7 @@ import bee.creative.qs.QS;
 import bee.creative.util.Consumer;
 import bee.creative.util.Getter;
 import bee.creative.util.HashMap2;
+import bee.creative.util.HashMapLO;
 import bee.creative.util.HashSet2;
 import bee.creative.util.Iterables;
 import bee.creative.util.Translator3;
@@ -185,6 +186,149 @@ public class DQ {
 		return DQ.popEdgesImpl(context, putContextOrNull, popContextOrNull, DQ.newObjectSubjectSetMapEdges(context, predicate, objectSubjectSetMap));
 	}
 
+	/** Diese Methode liefert zu jedem der gegebenen {@link QE#predicate() Prädikatknoten} die Abbildung der {@link QS#getKey(QN) Kennungen} der
+	 * {@link QE#subject() Subjektknoten} auf die der {@link QE#object() Objektknoten} der {@link QE Hyperkanten} mit dem gegebenen {@link QE#context()
+	 * Kontextknoten}. Im Gegensatz zu {@link #getObjectSetMap(QN, QN)} werden alle Prädikatknoten über eine einzige geordnete Anfrage ermittelt, deren
+	 * Hyperkanten über {@link QESet#keys()} ohne Objekte je Hyperkante gelesen werden.
+	 *
+	 * @param context Kontextknoten der betrachteten Hyperkanten.
+	 * @param predicates Prädikatknoten der betrachteten Hyperkanten.
+	 * @return Abbildung der Kennungen der Prädikatknoten auf die der Subjektknoten auf die der Objektknoten. */
+	public static HashMapLO<DQMap> getObjectSetMaps(QN context, Iterable<? extends QN> predicates) throws NullPointerException, IllegalArgumentException {
+		return DQ.getSetMapsImpl(context, predicates, true);
+	}
+
+	/** Diese Methode liefert zu jedem der gegebenen {@link QE#predicate() Prädikatknoten} die Abbildung der {@link QS#getKey(QN) Kennungen} der {@link QE#object()
+	 * Objektknoten} auf die der {@link QE#subject() Subjektknoten} analog zu {@link #getObjectSetMaps(QN, Iterable)}. */
+	public static HashMapLO<DQMap> getSubjectSetMaps(QN context, Iterable<? extends QN> predicates) throws NullPointerException, IllegalArgumentException {
+		return DQ.getSetMapsImpl(context, predicates, false);
+	}
+
+	/** Diese Methode ersetzt zu jedem Schlüssel der gegebenen Abbildungen die {@link QE Hyperkanten} mit dem gegebenen {@link QE#context() Kontextknoten}, dem
+	 * zum Schlüssel angegebenen {@link QE#predicate() Prädikatknoten} und dem Schlüssel als {@link QE#subject() Subjektknoten} durch die zu den gegebenen
+	 * {@link QE#object() Objektknoten}. Der Unterschied zum bisherigen Datenstand wird dabei für alle Prädikatknoten gemeinsam ermittelt und in je einem Schritt
+	 * ergänzt bzw. entfernt.
+	 *
+	 * @see #getObjectSetMaps(QN, Iterable)
+	 * @see #setObjectSetMap(QN, QN, Map, QN, QN) */
+	public static boolean setObjectSetMaps(QN context, HashMapLO<DQMap> predicateMaps, QN putContextOrNull, QN popContextOrNull)
+		throws NullPointerException, IllegalArgumentException {
+		return DQ.setSetMapsImpl(context, predicateMaps, putContextOrNull, popContextOrNull, true);
+	}
+
+	/** Diese Methode ersetzt die {@link QE Hyperkanten} zu den gegebenen {@link QE#object() Objektknoten} analog zu
+	 * {@link #setObjectSetMaps(QN, HashMapLO, QN, QN)}.
+	 *
+	 * @see #getSubjectSetMaps(QN, Iterable) */
+	public static boolean setSubjectSetMaps(QN context, HashMapLO<DQMap> predicateMaps, QN putContextOrNull, QN popContextOrNull)
+		throws NullPointerException, IllegalArgumentException {
+		return DQ.setSetMapsImpl(context, predicateMaps, putContextOrNull, popContextOrNull, false);
+	}
+
+	/** Diese Methode ergänzt die {@link QE Hyperkanten} der gegebenen Abbildungen in einem Schritt.
+	 *
+	 * @see #getObjectSetMaps(QN, Iterable)
+	 * @see #putObjectSetMap(QN, QN, Map, QN, QN) */
+	public static boolean putObjectSetMaps(QN context, HashMapLO<DQMap> predicateMaps, QN putContextOrNull, QN popContextOrNull)
+		throws NullPointerException, IllegalArgumentException {
+		return DQ.putEdgesImpl(context, putContextOrNull, popContextOrNull, DQ.newSetMapsEdges(context, predicateMaps, true));
+	}
+
+	/** Diese Methode ergänzt die {@link QE Hyperkanten} der gegebenen Abbildungen in einem Schritt.
+	 *
+	 * @see #getSubjectSetMaps(QN, Iterable)
+	 * @see #putSubjectSetMap(QN, QN, Map, QN, QN) */
+	public static boolean putSubjectSetMaps(QN context, HashMapLO<DQMap> predicateMaps, QN putContextOrNull, QN popContextOrNull)
+		throws NullPointerException, IllegalArgumentException {
+		return DQ.putEdgesImpl(context, putContextOrNull, popContextOrNull, DQ.newSetMapsEdges(context, predicateMaps, false));
+	}
+
+	/** Diese Methode entfernt die {@link QE Hyperkanten} der gegebenen Abbildungen in einem Schritt.
+	 *
+	 * @see #getObjectSetMaps(QN, Iterable)
+	 * @see #popObjectSetMap(QN, QN, Map, QN, QN) */
+	public static boolean popObjectSetMaps(QN context, HashMapLO<DQMap> predicateMaps, QN putContextOrNull, QN popContextOrNull)
+		throws NullPointerException, IllegalArgumentException {
+		return DQ.popEdgesImpl(context, putContextOrNull, popContextOrNull, DQ.newSetMapsEdges(context, predicateMaps, true));
+	}
+
+	/** Diese Methode entfernt die {@link QE Hyperkanten} der gegebenen Abbildungen in einem Schritt.
+	 *
+	 * @see #getSubjectSetMaps(QN, Iterable)
+	 * @see #popSubjectSetMap(QN, QN, Map, QN, QN) */
+	public static boolean popSubjectSetMaps(QN context, HashMapLO<DQMap> predicateMaps, QN putContextOrNull, QN popContextOrNull)
+		throws NullPointerException, IllegalArgumentException {
+		return DQ.popEdgesImpl(context, putContextOrNull, popContextOrNull, DQ.newSetMapsEdges(context, predicateMaps, false));
+	}
+
+	static HashMapLO<DQMap> getSetMapsImpl(QN context, Iterable<? extends QN> predicates, boolean bySubject) {
+		var owner = context.owner();
+		var predicateSet = owner.newNodes(predicates);
+		var builders = new HashMapLO<DQMap.Builder>();
+		for (var predicate: predicateSet) {
+			builders.put(owner.getKey(predicate), new DQMap.Builder());
+		}
+		var result = new HashMapLO<DQMap>(builders.size());
+		if (builders.isEmpty()) return result;
+		var edges = owner.edges().havingContext(context).havingPredicates(predicateSet).order().keys();
+		for (var i = 0; i < edges.length; i += 4) {
+			builders.get(edges[i + 1]).put(bySubject ? edges[i + 2] : edges[i + 3], bySubject ? edges[i + 3] : edges[i + 2]);
+		}
+		builders.forEach((predicate, builder) -> result.put(predicate, builder.build()));
+		return result;
+	}
+
+	static boolean setSetMapsImpl(QN context, HashMapLO<DQMap> predicateMaps, QN putContextOrNull, QN popContextOrNull, boolean bySubject) {
+		var owner = context.owner();
+		var predicateList = new ArrayList<QN>(predicateMaps.size());
+		var keyList = new ArrayList<QN>();
+		for (var entry: predicateMaps.entrySet()) {
+			predicateList.add(owner.newNode(entry.getKey().longValue()));
+			for (var key: entry.getValue().keys) {
+				keyList.add(owner.newNode(key));
+			}
+		}
+		var keySet = owner.newNodes(keyList);
+		var edges = owner.edges().havingContext(context).havingPredicates(owner.newNodes(predicateList));
+		var oldEdges = (bySubject ? edges.havingSubjects(keySet) : edges.havingObjects(keySet)).keys();
+		var count = 0;
+		for (var i = 0; i < oldEdges.length; i += 4) {
+			var map = predicateMaps.get(oldEdges[i + 1]);
+			if (map.indexOf(oldEdges[bySubject ? i + 2 : i + 3]) < 0) {
+				continue;
+			}
+			System.arraycopy(oldEdges, i, oldEdges, count * 4, 4);
+			count++;
+		}
+		return DQ.setEdgesImpl(context, putContextOrNull, popContextOrNull, owner.newEdges(oldEdges, count),
+			DQ.newSetMapsEdges(context, predicateMaps, bySubject));
+	}
+
+	static QESet newSetMapsEdges(QN context, HashMapLO<DQMap> predicateMaps, boolean bySubject) {
+		var owner = context.owner();
+		var contextKey = owner.getKey(context);
+		var count = 0;
+		for (var map: predicateMaps.values()) {
+			count += map.valueCount();
+		}
+		var edges = new long[count * 4];
+		var index = 0;
+		for (var entry: predicateMaps.entrySet()) {
+			long predicate = entry.getKey();
+			var map = entry.getValue();
+			for (int i = 0, size = map.keyCount(); i < size; i++) {
+				var key = map.keys[i];
+				for (int j = map.starts[i], end = map.starts[i + 1]; j < end; j++, index += 4) {
+					edges[index] = contextKey;
+					edges[index + 1] = predicate;
+					edges[index + 2] = bySubject ? key : map.values[j];
+					edges[index + 3] = bySubject ? map.values[j] : key;
+				}
+			}
+		}
+		return owner.newEdges(edges, count);
+	}
+
 	static QESet getEdgesHavingContextAndPredicate(QN context, QN predicate) {
 		return context.owner().edges().havingContext(context).havingPredicate(predicate);
 	}
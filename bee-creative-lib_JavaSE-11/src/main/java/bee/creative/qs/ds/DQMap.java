@@ -0,0 +1,228 @@
+package bee.creative.qs.ds;
+
+import java.util.Arrays;
+import bee.creative.lang.Objects;
+
+/** Diese Klasse implementiert eine unveränderliche Abbildung von {@code long}-Schlüsseln auf Listen von {@code long}-Werten in komprimierter Zeilenform. Die
+ * Schlüssel sind aufsteigend geordnet und eindeutig im {@link #keys Schlüsselfeld} abgelegt. Die Werte zum Schlüssel an Position {@code i} stehen
+ * aufsteigend geordnet und eindeutig an den Positionen {@code starts[i]} (inklusiv) bis {@code starts[i + 1]} (exklusiv) im {@link #values Wertefeld}. Damit
+ * eignet sich die Abbildung zur Erfassung der {@link bee.creative.qs.QE#object() Objektknoten} je {@link bee.creative.qs.QE#subject() Subjektknoten} bzw.
+ * umgekehrt anhand der {@link bee.creative.qs.QS#getKey(bee.creative.qs.QN) Kennungen} ohne Erzeugung von Objekten je Hyperkante.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public final class DQMap {
+
+	/** Dieses Feld speichert die leere Abbildung. */
+	public static final DQMap EMPTY = new DQMap(new long[0], new int[1], new long[0]);
+
+	/** Dieses Feld speichert die aufsteigend geordneten Schlüssel. */
+	public final long[] keys;
+
+	/** Dieses Feld speichert die Startpositionen der Wertlisten im {@link #values Wertefeld}. Es besitzt ein Element mehr als das {@link #keys Schlüsselfeld}. */
+	public final int[] starts;
+
+	/** Dieses Feld speichert die Wertlisten aller Schlüssel. */
+	public final long[] values;
+
+	/** Diese Methode gibt die Anzahl der Schlüssel zurück. */
+	public int keyCount() {
+		return this.keys.length;
+	}
+
+	/** Diese Methode gibt die Anzahl der Werte aller Schlüssel zurück. */
+	public int valueCount() {
+		return this.values.length;
+	}
+
+	/** Diese Methode gibt die Position des gegebenen Schlüssels im {@link #keys Schlüsselfeld} oder {@code -1} zurück. */
+	public int indexOf(long key) {
+		var index = Arrays.binarySearch(this.keys, key);
+		return index < 0 ? -1 : index;
+	}
+
+	/** Diese Methode gibt eine Kopie der Werte zum gegebenen Schlüssel zurück. Wenn der Schlüssel fehlt, wird ein leeres Feld geliefert. */
+	public long[] get(long key) {
+		var index = this.indexOf(key);
+		if (index < 0) return new long[0];
+		return Arrays.copyOfRange(this.values, this.starts[index], this.starts[index + 1]);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hashPush(Arrays.hashCode(this.keys), Arrays.hashCode(this.values));
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (!(object instanceof DQMap)) return false;
+		var that = (DQMap)object;
+		return Arrays.equals(this.keys, that.keys) && Arrays.equals(this.starts, that.starts) && Arrays.equals(this.values, that.values);
+	}
+
+	@Override
+	public String toString() {
+		var res = new StringBuilder("{");
+		for (var i = 0; i < this.keys.length; i++) {
+			if (i != 0) {
+				res.append(", ");
+			}
+			res.append(this.keys[i]).append('=').append(Arrays.toString(Arrays.copyOfRange(this.values, this.starts[i], this.starts[i + 1])));
+		}
+		return res.append('}').toString();
+	}
+
+	/** Diese Klasse implementiert den Erzeuger einer {@link DQMap}. Wenn die Schlüssel-Wert-Paare in aufsteigender Ordnung {@link #put(long, long) angefügt}
+	 * werden, entfällt deren Sortierung beim {@link #build() Erzeugen}. */
+	public static final class Builder {
+
+		/** Diese Methode fügt den gegebenen Schlüssel ohne Wert an und gibt {@code this} zurück. Dieser ist damit auch dann in der Abbildung enthalten, wenn ihm
+		 * kein Wert {@link #put(long, long) zugeordnet} wird. */
+		public Builder putKey(long key) {
+			var index = this.keySize;
+			if (index == this.keys.length) {
+				this.keys = Arrays.copyOf(this.keys, index + (index >> 1) + 16);
+			}
+			this.keys[index] = key;
+			this.keySize = index + 1;
+			return this;
+		}
+
+		/** Diese Methode fügt das gegebene Schlüssel-Wert-Paar an und gibt {@code this} zurück. */
+		public Builder put(long key, long value) {
+			var index = this.size;
+			if (index == this.pairs.length) {
+				this.pairs = Arrays.copyOf(this.pairs, index + (index >> 1) + 32);
+			}
+			if (this.ordered && (index != 0)) {
+				var key2 = this.pairs[index - 2];
+				this.ordered = (key2 < key) || ((key2 == key) && (this.pairs[index - 1] < value));
+			}
+			this.pairs[index] = key;
+			this.pairs[index + 1] = value;
+			this.size = index + 2;
+			return this;
+		}
+
+		/** Diese Methode gibt die Abbildung zu den bisher angefügten Schlüssel-Wert-Paaren zurück. */
+		public DQMap build() {
+			var pairs = this.pairs;
+			var size = this.size;
+			var keySize = this.keySize;
+			if (!this.ordered) {
+				Builder.sort(pairs, 0, (size >> 1) - 1);
+			}
+			var keys = new long[(size >> 1) + keySize];
+			var starts = new int[keys.length + 1];
+			var values = new long[size >> 1];
+			int keyCount = 0, valueCount = 0;
+			for (var i = 0; i < size; i += 2) {
+				var key = pairs[i];
+				var value = pairs[i + 1];
+				if ((keyCount == 0) || (keys[keyCount - 1] != key)) {
+					keys[keyCount] = key;
+					starts[keyCount++] = valueCount;
+				} else if (values[valueCount - 1] == value) {
+					continue;
+				}
+				values[valueCount++] = value;
+			}
+			if (keySize != 0) {
+				var extra = Arrays.copyOf(this.keys, keySize);
+				Arrays.sort(extra);
+				var merged = new long[keyCount + keySize];
+				var mergedStarts = new int[merged.length + 1];
+				int i = 0, j = 0, k = 0;
+				while ((i < keyCount) || (j < keySize)) {
+					if ((j == keySize) || ((i < keyCount) && (keys[i] <= extra[j]))) {
+						if ((j < keySize) && (keys[i] == extra[j])) {
+							j++;
+							continue;
+						}
+						merged[k] = keys[i];
+						mergedStarts[k++] = starts[i++];
+					} else if ((k != 0) && (merged[k - 1] == extra[j])) {
+						j++;
+					} else {
+						merged[k] = extra[j++];
+						mergedStarts[k++] = i < keyCount ? starts[i] : valueCount;
+					}
+				}
+				keys = merged;
+				starts = mergedStarts;
+				keyCount = k;
+			}
+			starts[keyCount] = valueCount;
+			return new DQMap(Arrays.copyOf(keys, keyCount), Arrays.copyOf(starts, keyCount + 1), Arrays.copyOf(values, valueCount));
+		}
+
+		@Override
+		public String toString() {
+			return Objects.toInvokeString(this, this.size >> 1, this.keySize);
+		}
+
+		long[] pairs = new long[0];
+
+		int size;
+
+		long[] keys = new long[0];
+
+		int keySize;
+
+		boolean ordered = true;
+
+		static void sort(long[] pairs, int lo, int hi) {
+			while (lo < hi) {
+				var mid = (lo + hi) >>> 1;
+				long pk = pairs[mid << 1], pv = pairs[(mid << 1) + 1];
+				int i = lo, j = hi;
+				while (i <= j) {
+					while (Builder.less(pairs, i, pk, pv)) {
+						i++;
+					}
+					while (Builder.more(pairs, j, pk, pv)) {
+						j--;
+					}
+					if (i <= j) {
+						Builder.swap(pairs, i++, j--);
+					}
+				}
+				if ((j - lo) < (hi - i)) {
+					Builder.sort(pairs, lo, j);
+					lo = i;
+				} else {
+					Builder.sort(pairs, i, hi);
+					hi = j;
+				}
+			}
+		}
+
+		static boolean less(long[] pairs, int index, long key, long value) {
+			var k = pairs[index << 1];
+			return (k < key) || ((k == key) && (pairs[(index << 1) + 1] < value));
+		}
+
+		static boolean more(long[] pairs, int index, long key, long value) {
+			var k = pairs[index << 1];
+			return (k > key) || ((k == key) && (pairs[(index << 1) + 1] > value));
+		}
+
+		static void swap(long[] pairs, int i, int j) {
+			i <<= 1;
+			j <<= 1;
+			long k = pairs[i], v = pairs[i + 1];
+			pairs[i] = pairs[j];
+			pairs[i + 1] = pairs[j + 1];
+			pairs[j] = k;
+			pairs[j + 1] = v;
+		}
+
+	}
+
+	DQMap(long[] keys, int[] starts, long[] values) {
+		this.keys = keys;
+		this.starts = starts;
+		this.values = values;
+	}
+
+}
@@ -58,7 +58,9 @@ public final class H2QE implements QE {
 			stmt.setLong(2, this.predicate);
 			stmt.setLong(3, this.subject);
 			stmt.setLong(4, this.object);
-			return stmt.executeUpdate() != 0;
+			if (H2QQ.executeUpdate(this.owner, stmt) == 0) return false;
+			this.owner.popEdgeCount(this.context, this.predicate);
+			return true;
 		} catch (SQLException cause) {
 			throw new IllegalStateException(cause);
 		}
@@ -72,7 +74,9 @@ public final class H2QE implements QE {
 			stmt.setLong(2, this.predicate);
 			stmt.setLong(3, this.subject);
 			stmt.setLong(4, this.object);
-			return stmt.executeUpdate() != 0;
+			if (H2QQ.executeUpdate(this.owner, stmt) == 0) return false;
+			this.owner.popEdgeCount(this.context, this.predicate);
+			return true;
 		} catch (SQLException cause) {
 			throw new IllegalStateException(cause);
 		}
@@ -86,7 +90,7 @@ public final class H2QE implements QE {
 			stmt.setLong(2, this.predicate);
 			stmt.setLong(3, this.subject);
 			stmt.setLong(4, this.object);
-			try (var rset = stmt.executeQuery()) {
+			try (var rset = H2QQ.executeQuery(this.owner, stmt)) {
 				return rset.next();
 			}
 		} catch (SQLException cause) {
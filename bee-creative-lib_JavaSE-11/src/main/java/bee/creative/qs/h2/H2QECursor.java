@@ -0,0 +1,162 @@
+package bee.creative.qs.h2;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import bee.creative.lang.Objects;
+import bee.creative.util.Consumer;
+
+/** Diese Klasse implementiert einen Cursor, der die {@link H2QE Hyperkanten} eines {@link H2QESet} seitenweise in aufsteigender Ordnung nach
+ * {@code (C, P, S, O)} liest. Jede Seite wird über eine eigene Anfrage ermittelt, die an der letzten Hyperkante der vorherigen Seite fortsetzt. Die Kennungen
+ * der Hyperkanten einer Seite werden als Folge von {@code (C, P, S, O)}-Quadrupeln in den wiederverwendeten {@link #batch Puffer} geschrieben, sodass beim
+ * Lesen keine Objekte je Hyperkante erzeugt werden und der Speicherbedarf unabhängig von der Anzahl der Hyperkanten ist.
+ * <p>
+ * Die Seiten werden direkt aus einer Tabelle mit dem Primärschlüssel {@code (C, P, S, O)} gelesen. Für die {@link H2QS#edges() Hyperkanten des
+ * Graphspeichers} ist das die Tabelle {@code QE}, für {@link H2QESet#copy() Kopien} deren temporäre Tabelle. Zusammengesetzte Anfragen werden dazu einmalig
+ * kopiert, da H2 die Begrenzung einer Seite nicht in eine Unterabfrage überträgt und diese je Seite vollständig lesen würde. Die Fortsetzung nach der
+ * Hyperkante {@code (c, p, s, o)} wird als Vereinigung der Bereiche {@code C=c AND P=p AND S=s AND O>=o+1}, {@code C=c AND P=p AND S>=s+1},
+ * {@code C=c AND P>=p+1} und {@code C>=c+1} ermittelt. Jeder dieser Bereiche wird über den Primärschlüssel gesucht und nach höchstens
+ * {@link #batchSize} Hyperkanten beendet, sodass je Seite höchstens viermal so viele Zeilen gelesen werden. Da H2 die Bedingung {@code (C, P, S, O) > (?,
+ * ?, ?, ?)} nicht über den Index auflöst und auch {@code >} als {@code >=} sucht, werden die Grenzen um eins erhöht gebunden. Die Kennungen müssen daher
+ * kleiner als {@link Long#MAX_VALUE} sein, was für die über {@code QN_SEQ} vergebenen Kennungen zutrifft.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public final class H2QECursor implements AutoCloseable {
+
+	/** Dieses Feld speichert die gelesene Menge. */
+	public final H2QESet set;
+
+	/** Dieses Feld speichert die maximale Anzahl an Hyperkanten je Seite. */
+	public final int batchSize;
+
+	/** Dieses Feld speichert die Kennungen der Hyperkanten der aktuellen Seite als Folge von {@code (C, P, S, O)}-Quadrupeln. Nur die ersten {@link #count()}
+	 * Quadrupel sind gültig. */
+	public final long[] batch;
+
+	/** Dieser Konstruktor initialisiert Menge und Seitengröße.
+	 *
+	 * @param set Menge der Hyperkanten.
+	 * @param batchSize maximale Anzahl an Hyperkanten je Seite. */
+	public H2QECursor(H2QESet set, int batchSize) throws SQLException, NullPointerException, IllegalArgumentException {
+		if ((batchSize <= 0) || (batchSize > (Integer.MAX_VALUE / 4))) throw new IllegalArgumentException();
+		this.set = Objects.notNull(set);
+		this.batchSize = batchSize;
+		this.batch = new long[batchSize * 4];
+		var owner = set.owner;
+		Consumer<H2QQ> table;
+		if (set instanceof H2QESetMain) {
+			this.source = set;
+			table = qry -> qry.push("QE");
+		} else {
+			this.source = set.table.isTable() ? set : set.copy();
+			table = qry -> qry.push(this.source.table);
+		}
+		var select = "SELECT C, P, S, O FROM ";
+		var order = " ORDER BY C, P, S, O LIMIT ?8";
+		this.firstPage = new H2QQ().push(select).push(table).push(" ORDER BY C, P, S, O LIMIT ?").prepare(owner);
+		try {
+			this.nextPage = new H2QQ().push(select).push("(") //
+				.push("(").push(select).push(table).push(" WHERE C=?1 AND P=?2 AND S=?3 AND O>=?4").push(order).push(") UNION ALL ") //
+				.push("(").push(select).push(table).push(" WHERE C=?1 AND P=?2 AND S>=?5").push(order).push(") UNION ALL ") //
+				.push("(").push(select).push(table).push(" WHERE C=?1 AND P>=?6").push(order).push(") UNION ALL ") //
+				.push("(").push(select).push(table).push(" WHERE C>=?7").push(order).push(")") //
+				.push(")").push(order).prepare(owner);
+		} catch (SQLException cause) {
+			this.firstPage.close();
+			throw cause;
+		}
+		this.firstPage.setFetchSize(batchSize);
+		this.nextPage.setFetchSize(batchSize);
+	}
+
+	/** Diese Methode liest die nächste Seite in den {@link #batch Puffer} und gibt nur dann {@code true} zurück, wenn diese nicht leer ist. */
+	public boolean next() throws SQLException {
+		if (this.done) {
+			this.count = 0;
+			return false;
+		}
+		PreparedStatement stmt;
+		var batch = this.batch;
+		if (!this.started) {
+			this.started = true;
+			stmt = this.firstPage;
+			stmt.setInt(1, this.batchSize);
+		} else {
+			var last = (this.count - 1) * 4;
+			stmt = this.nextPage;
+			stmt.setLong(1, batch[last]);
+			stmt.setLong(2, batch[last + 1]);
+			stmt.setLong(3, batch[last + 2]);
+			stmt.setLong(4, batch[last + 3] + 1);
+			stmt.setLong(5, batch[last + 2] + 1);
+			stmt.setLong(6, batch[last + 1] + 1);
+			stmt.setLong(7, batch[last] + 1);
+			stmt.setInt(8, this.batchSize);
+		}
+		var count = 0;
+		try (var rset = H2QQ.executeQuery(this.set.owner, stmt)) {
+			for (var i = 0; rset.next(); i += 4, count++) {
+				batch[i] = rset.getLong(1);
+				batch[i + 1] = rset.getLong(2);
+				batch[i + 2] = rset.getLong(3);
+				batch[i + 3] = rset.getLong(4);
+			}
+		}
+		this.count = count;
+		this.done = count < this.batchSize;
+		return count != 0;
+	}
+
+	/** Diese Methode gibt die Anzahl der Hyperkanten der aktuellen Seite zurück. */
+	public int count() {
+		return this.count;
+	}
+
+	/** Diese Methode liest alle verbleibenden Seiten und übergibt diese an die gegebene Methode.
+	 *
+	 * @param target Methode, die mit dem {@link #batch Puffer} und der {@link #count() Anzahl} der darin gültigen Hyperkanten aufgerufen wird. */
+	public void forEach(Batch target) throws SQLException, NullPointerException {
+		Objects.notNull(target);
+		while (this.next()) {
+			target.push(this.batch, this.count);
+		}
+	}
+
+	@Override
+	public void close() throws SQLException {
+		this.done = true;
+		this.count = 0;
+		try {
+			this.firstPage.close();
+		} finally {
+			this.nextPage.close();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return Objects.toInvokeString(this, this.set, this.batchSize);
+	}
+
+	/** Diese Schnittstelle definiert den Empfänger der Seiten eines {@link H2QECursor}. */
+	public static interface Batch {
+
+		/** Diese Methode verarbeitet die gegebene Anzahl an Hyperkanten, deren Kennungen als Folge von {@code (C, P, S, O)}-Quadrupeln im gegebenen Puffer stehen.
+		 * Der Puffer wird für die nächste Seite wiederverwendet. */
+		void push(long[] batch, int count);
+
+	}
+
+	/** Dieses Feld speichert die {@link #set gelesene Menge} bzw. deren Kopie, deren temporäre Tabelle damit bis zum Schließen erhalten bleibt. */
+	final H2QESet source;
+
+	final PreparedStatement firstPage;
+
+	final PreparedStatement nextPage;
+
+	int count;
+
+	boolean started;
+
+	boolean done;
+
+}
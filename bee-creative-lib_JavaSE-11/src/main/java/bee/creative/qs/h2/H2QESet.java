@@ -3,6 +3,7 @@ package bee.creative.qs.h2;
 import static bee.creative.util.Iterables.filteredIterable;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 import bee.creative.qs.QE;
 import bee.creative.qs.QESet;
 import bee.creative.qs.QN;
@@ -17,13 +18,40 @@ public class H2QESet extends H2QOSet<QE, QESet> implements QESet {
 
 	@Override
 	public boolean putAll() {
-		return new H2QQ().push("MERGE INTO QE SELECT * FROM ").push(this.copy().table).update(this.owner);
+		var result = new H2QQ().push("MERGE INTO QE A USING ").push(this.copy().table)
+			.push(" B ON A.C=B.C AND A.P=B.P AND A.S=B.S AND A.O=B.O WHEN NOT MATCHED THEN INSERT (C, P, S, O) VALUES (B.C, B.P, B.S, B.O)").update(this.owner);
+		if (!result) return false;
+		this.owner.clearEdgeCounts();
+		return true;
 	}
 
 	@Override
 	public boolean popAll() {
-		return new H2QQ().push("DELETE FROM QE AS A WHERE EXISTS (SELECT 1 FROM ").push(this.copy().table)
+		var result = new H2QQ().push("DELETE FROM QE AS A WHERE EXISTS (SELECT 1 FROM ").push(this.copy().table)
 			.push(" AS B WHERE A.C=B.C AND A.P=B.P AND A.S=B.S AND A.O=B.O)").update(this.owner);
+		if (!result) return false;
+		this.owner.clearEdgeCounts();
+		return true;
+	}
+
+	@Override
+	public long[] keys() {
+		try (var rset = new H2QQ().push("SELECT C, P, S, O FROM (").push(this).push(")").select(this.owner)) {
+			var keys = new long[64];
+			var size = 0;
+			while (rset.next()) {
+				if (keys.length < (size + 4)) {
+					keys = Arrays.copyOf(keys, keys.length * 2);
+				}
+				keys[size++] = rset.getLong(1);
+				keys[size++] = rset.getLong(2);
+				keys[size++] = rset.getLong(3);
+				keys[size++] = rset.getLong(4);
+			}
+			return Arrays.copyOf(keys, size);
+		} catch (SQLException cause) {
+			throw new IllegalStateException(cause);
+		}
 	}
 
 	@Override
@@ -187,6 +215,15 @@ public class H2QESet extends H2QOSet<QE, QESet> implements QESet {
 		return new H2QESetOrder(this);
 	}
 
+	/** Diese Methode gibt einen {@link H2QECursor} zurück, der die Hyperkanten dieser Menge seitenweise mit der gegebenen Seitengröße liest. */
+	public H2QECursor cursor(int batchSize) throws IllegalArgumentException {
+		try {
+			return new H2QECursor(this, batchSize);
+		} catch (SQLException cause) {
+			throw new IllegalStateException(cause);
+		}
+	}
+
 	/** Diese Methode indiziert diese temporäre Menge zur schnelleren Suche über die gegebenen Spalten in der gegebenen Reihenfolge und gibt diese bzw. eine
 	 * derart indizierte temporäre Kopie zurück. Die Spaltenliste {@code cols} muss dazu aus den Zeichen {@code C}, {@code P}, {@code S} und {@code O} bestehen,
 	 * welche für Kontext, Prädikat, Subjekt bzw. Objekt stehen. */
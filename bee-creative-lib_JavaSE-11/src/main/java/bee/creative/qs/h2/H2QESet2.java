@@ -21,18 +21,22 @@ public class H2QESet2 extends H2QESet implements QESet2 {
 
 	@Override
 	public boolean clear() throws NullPointerException, IllegalArgumentException {
-		return new H2QQ().push("DELETE FROM ").push(this.table).update(this.owner);
+		var res = new H2QQ().push("DELETE FROM ").push(this.table).update(this.owner);
+		this.table.rows = 0;
+		return res;
 	}
 
 	@Override
 	public boolean insertAll(Iterable<? extends QE> items) throws NullPointerException, IllegalArgumentException {
 		var that = this.toQESet(items);
+		this.table.rows = -1;
 		return new H2QQ().push("MERGE INTO ").push(this.table).push(" SELECT * FROM (").push(that).push(")").update(this.owner);
 	}
 
 	@Override
 	public boolean deleteAll(Iterable<? extends QE> items) throws NullPointerException, IllegalArgumentException {
 		var that = this.toQESet(items);
+		this.table.rows = -1;
 		return new H2QQ().push("DELETE FROM ").push(this.table).push(" AS A WHERE EXISTS (SELECT 1 FROM (").push(that)
 			.push(") AS B WHERE A.C=B.C AND A.P=B.P AND A.S=B.S AND A.O=B.O)").update(this.owner);
 	}
@@ -47,7 +51,7 @@ public class H2QESet2 extends H2QESet implements QESet2 {
 		this(owner);
 		if (items instanceof H2QESet) {
 			var that = owner.asQESet(items);
-			new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT * FROM (").push(that).push(")").update(owner);
+			this.table.rows = new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT * FROM (").push(that).push(")").count(owner);
 		} else {
 			var that = new H2QESet2(owner, false);
 			try (var stmt = new H2QQ().push("INSERT INTO ").push(that.table).push(" (C, P, S, O) VALUES (?, ?, ?, ?)").prepare(owner)) {
@@ -59,18 +63,41 @@ public class H2QESet2 extends H2QESet implements QESet2 {
 					stmt.setLong(4, edge.object);
 					stmt.addBatch();
 				}
-				stmt.executeBatch();
-				new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT DISTINCT * FROM ").push(that.table).update(owner);
+				H2QQ.executeBatch(owner, stmt);
+				this.table.rows = new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT DISTINCT * FROM ").push(that.table).count(owner);
 			} catch (SQLException cause) {
 				throw new IllegalStateException(cause);
 			}
 		}
 	}
 
+	/** Dieser Konstruktor erzeugt eine Menge mit den Hyperkanten, deren {@link H2QN#key Kennungen} als Folge von {@code (C, P, S, O)}-Quadrupeln in den ersten
+	 * {@code count} Quadrupeln des gegebenen Puffers stehen, bspw. einer Seite eines {@link H2QECursor}. */
+	public H2QESet2(H2QS owner, long[] edges, int count) throws NullPointerException, IllegalArgumentException {
+		this(owner);
+		if ((count < 0) || (count > (edges.length / 4))) throw new IllegalArgumentException();
+		if (count == 0) return;
+		var that = new H2QESet2(owner, false);
+		try (var stmt = new H2QQ().push("INSERT INTO ").push(that.table).push(" (C, P, S, O) VALUES (?, ?, ?, ?)").prepare(owner)) {
+			for (int i = 0, size = count * 4; i < size; i += 4) {
+				stmt.setLong(1, edges[i]);
+				stmt.setLong(2, edges[i + 1]);
+				stmt.setLong(3, edges[i + 2]);
+				stmt.setLong(4, edges[i + 3]);
+				stmt.addBatch();
+			}
+			H2QQ.executeBatch(owner, stmt);
+			this.table.rows = new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT DISTINCT * FROM ").push(that.table).count(owner);
+		} catch (SQLException cause) {
+			throw new IllegalStateException(cause);
+		}
+	}
+
 	private H2QESet2(H2QS owner, boolean withPrimaryKey) throws NullPointerException {
 		super(owner, null);
-		new H2QQ().push("CREATE TEMPORARY TABLE ").push(this.table).push(" (C BIGINT NOT NULL, P BIGINT NOT NULL, S BIGINT NOT NULL, O BIGINT NOT NULL")
+		new H2QQ().push("CREATE LOCAL TEMPORARY TABLE ").push(this.table).push(" (C BIGINT NOT NULL, P BIGINT NOT NULL, S BIGINT NOT NULL, O BIGINT NOT NULL")
 			.push(withPrimaryKey ? ", PRIMARY KEY (C, P, S, O))" : ")").update(owner);
+		this.table.rows = withPrimaryKey ? 0 : -1;
 	}
 
 	private H2QESet toQESet(Iterable<? extends QE> items) {
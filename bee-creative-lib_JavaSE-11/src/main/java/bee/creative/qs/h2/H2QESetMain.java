@@ -1,9 +1,21 @@
 package bee.creative.qs.h2;
 
+import bee.creative.qs.QN;
+
 class H2QESetMain extends H2QESet {
 
+	@Override
+	public H2QESet havingContext(QN context) throws NullPointerException, IllegalArgumentException {
+		return new H2QESetPair(this.owner, this.owner.asQN(context).key, null);
+	}
+
+	@Override
+	public H2QESet havingPredicate(QN predicate) throws NullPointerException, IllegalArgumentException {
+		return new H2QESetPair(this.owner, null, this.owner.asQN(predicate).key);
+	}
+
 	H2QESetMain(H2QS owner) {
 		super(owner, new H2QQ().push("SELECT * FROM QE"));
 	}
 
-}
\ No newline at end of file
+}
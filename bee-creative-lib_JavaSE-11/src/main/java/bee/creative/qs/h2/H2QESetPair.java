@@ -0,0 +1,47 @@
+package bee.creative.qs.h2;
+
+import bee.creative.qs.QN;
+
+/** Diese Klasse implementiert die Menge aller Hyperkanten mit gegebenem Kontext und/oder Prädikat. Wenn beide gegeben sind, werden {@link #size()} und
+ * {@link #isEmpty()} über die gepufferte {@link H2QS#edgeCount(long, long) Anzahl der Hyperkanten} ermittelt. */
+class H2QESetPair extends H2QESet {
+
+	@Override
+	public long size() {
+		if ((this.context == null) || (this.predicate == null)) return super.size();
+		return this.owner.edgeCount(this.context, this.predicate);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		if ((this.context == null) || (this.predicate == null)) return super.isEmpty();
+		return this.size() == 0;
+	}
+
+	@Override
+	public H2QESet havingContext(QN context) throws NullPointerException, IllegalArgumentException {
+		if (this.context != null) return super.havingContext(context);
+		return new H2QESetPair(this.owner, this.owner.asQN(context).key, this.predicate);
+	}
+
+	@Override
+	public H2QESet havingPredicate(QN predicate) throws NullPointerException, IllegalArgumentException {
+		if (this.predicate != null) return super.havingPredicate(predicate);
+		return new H2QESetPair(this.owner, this.context, this.owner.asQN(predicate).key);
+	}
+
+	/** Dieses Feld speichert die Kennung des Kontextknoten oder {@code null}. */
+	final Long context;
+
+	/** Dieses Feld speichert die Kennung des Prädikatknoten oder {@code null}. */
+	final Long predicate;
+
+	H2QESetPair(H2QS owner, Long context, Long predicate) {
+		super(owner, new H2QQ().push("SELECT * FROM QE WHERE ") //
+			.push(context != null, table -> table.push("C=").push(context).push(predicate != null ? " AND " : "")) //
+			.push(predicate != null, table -> table.push("P=").push(predicate)));
+		this.context = context;
+		this.predicate = predicate;
+	}
+
+}
@@ -9,6 +9,7 @@ import bee.creative.qs.QIBag;
 import bee.creative.qs.QN;
 import bee.creative.qs.QNSet;
 import bee.creative.qs.QS;
+import bee.creative.util.HashSetL;
 import bee.creative.util.Setter;
 
 public abstract class H2QIBag<E, GIBag> extends H2QISet<E> implements QIBag<E, GIBag> {
@@ -63,6 +64,27 @@ public abstract class H2QIBag<E, GIBag> extends H2QISet<E> implements QIBag<E, G
 
 	protected abstract GIBag customHaving(H2QQ table) throws NullPointerException, IllegalArgumentException;
 
+	/** Diese Methode liefert eine temporäre Menge der {@link H2QN Hyperknoten} mit den gegebenen {@link H2QN#key Kennungen}. */
+	static H2QNSet2 keySet(H2QS owner, HashSetL keys) throws SQLException {
+		var res = new H2QNSet2(owner);
+		try (var stmt = new H2QQ().push("INSERT INTO ").push(res.table).push(" (N) VALUES (?)").prepare(owner)) {
+			for (var key: keys) {
+				stmt.setLong(1, key);
+				stmt.addBatch();
+			}
+			H2QQ.executeBatch(owner, stmt);
+		}
+		res.table.rows = keys.size();
+		return res;
+	}
+
+	/** Diese Klasse implementiert den Index zur Erfassung der indizierten {@link QS#nodes() Hperknoten mit Textwert}. Dieser wird bei Zugriff über
+	 * {@link #toString()} nachgeführt. Die über {@link H2QS#logPutValue(long)} und {@link H2QS#logPopValue(long)} gemeldeten Kennungen werden dazu gesammelt
+	 * und nur für diese werden Einträge ergänzt bzw. entfernt. Nach Änderungen mit unbekannten Kennungen sowie nach mehr als {@link #LIMIT} gesammelten
+	 * Kennungen wird der Index dagegen vollständig abgeglichen. Da die Kennungen auch aus den Threads anderer Sitzungen eines {@link H2QSPool} gemeldet werden,
+	 * erfolgen deren Erfassung und Übernahme synchronisiert über diesen Index. Die Tabelle des Index wird erst nach {@link H2QIBag#customInsert(InsertSet)}
+	 * bzw. {@link H2QIBag#customDelete(DeleteSet)} angepasst. Wenn der Abgleich fehlschlägt, wird beim nächsten Zugriff vollständig abgeglichen, sodass die
+	 * übernommenen Kennungen nicht verloren gehen. */
 	protected final class Cache {
 
 		@Override
@@ -70,42 +92,101 @@ public abstract class H2QIBag<E, GIBag> extends H2QISet<E> implements QIBag<E, G
 			var that = H2QIBag.this;
 			var owner = that.owner;
 			while (true) {
-				var putValueMark = owner.putValueMark;
-				var popValueMark = owner.popValueMark;
-				var putValueChanged = this.putValueMark != putValueMark;
-				var popValueChanged = this.popValueMark != popValueMark;
-				if (!putValueChanged && !popValueChanged) return "";
-				this.putValueMark = putValueMark;
-				this.popValueMark = popValueMark;
+				boolean putValueChanged, popValueChanged;
+				HashSetL putKeys, popKeys;
+				synchronized (this) {
+					var putValueMark = owner.putValueMark;
+					var popValueMark = owner.popValueMark;
+					putValueChanged = this.putValueMark != putValueMark;
+					popValueChanged = this.popValueMark != popValueMark;
+					putKeys = this.putKeys;
+					popKeys = this.popKeys;
+					if (!putValueChanged && !popValueChanged && putKeys.isEmpty() && popKeys.isEmpty()) return "";
+					this.putValueMark = putValueMark;
+					this.popValueMark = popValueMark;
+					this.putKeys = new HashSetL();
+					this.popKeys = new HashSetL();
+				}
 				try {
 					if (popValueChanged) {
-						var popItemSet = new DeleteSet(owner, this.index);
-						new H2QQ().push("DELETE FROM ").push(this.index).push(" WHERE N IN (").push(popItemSet).push(")").update(owner);
-						that.customDelete(popItemSet);
+						this.delete(new DeleteSet(owner, this.index));
+					} else if (!popKeys.isEmpty()) {
+						this.delete(new DeleteSet(owner, this.index, keySet(owner, popKeys)));
 					}
 					if (putValueChanged) {
-						var putItemSet = new InsertSet(owner, this.index);
-						new H2QQ().push("MERGE INTO ").push(this.index).push(" SELECT N FROM (").push(putItemSet).push(")").update(owner);
-						that.customInsert(putItemSet);
+						this.insert(new InsertSet(owner, this.index));
+					} else if (!putKeys.isEmpty()) {
+						this.insert(new InsertSet(owner, this.index, keySet(owner, putKeys)));
 					}
 				} catch (NullPointerException | IllegalStateException | IllegalArgumentException cause) {
+					this.reset();
 					throw cause;
 				} catch (Exception cause) {
+					this.reset();
 					throw new IllegalStateException(cause);
 				}
 			}
 		}
 
+		/** Dieses Feld speichert die maximale Anzahl der je Richtung gesammelten Kennungen, ab der der Index vollständig abgeglichen wird. */
+		static final int LIMIT = 10000;
+
 		final String index;
 
 		Object putValueMark;
 
 		Object popValueMark;
 
+		/** Dieses Feld speichert die Kennungen der seit dem letzten Abgleich ergänzten {@link H2QN#value() Textwerte}. */
+		HashSetL putKeys = new HashSetL();
+
+		/** Dieses Feld speichert die Kennungen der seit dem letzten Abgleich entfernten {@link H2QN#value() Textwerte}. */
+		HashSetL popKeys = new HashSetL();
+
 		Cache(String index) {
 			this.index = index;
 		}
 
+		/** Diese Methode erfasst die gegebene Kennung eines ergänzten {@link H2QN#value() Textwerts}. */
+		synchronized void logPut(long key) {
+			if (this.putValueMark == this) return;
+			var keys = this.putKeys;
+			keys.add(key);
+			if (keys.size() <= Cache.LIMIT) return;
+			this.putValueMark = this;
+			this.putKeys = new HashSetL();
+		}
+
+		/** Diese Methode erfasst die gegebene Kennung eines entfernten {@link H2QN#value() Textwerts}. */
+		synchronized void logPop(long key) {
+			if (this.popValueMark == this) return;
+			var keys = this.popKeys;
+			keys.add(key);
+			if (keys.size() <= Cache.LIMIT) return;
+			this.popValueMark = this;
+			this.popKeys = new HashSetL();
+		}
+
+		/** Diese Methode erzwingt nach einem fehlgeschlagenen Abgleich einen vollständigen Abgleich beim nächsten Zugriff. */
+		synchronized void reset() {
+			this.putValueMark = this;
+			this.popValueMark = this;
+			this.putKeys = new HashSetL();
+			this.popKeys = new HashSetL();
+		}
+
+		private void delete(DeleteSet popItemSet) throws SQLException {
+			var owner = H2QIBag.this.owner;
+			H2QIBag.this.customDelete(popItemSet);
+			new H2QQ().push("DELETE FROM ").push(this.index).push(" WHERE N IN (").push(popItemSet).push(")").update(owner);
+		}
+
+		private void insert(InsertSet putItemSet) throws SQLException {
+			var owner = H2QIBag.this.owner;
+			H2QIBag.this.customInsert(putItemSet);
+			new H2QQ().push("MERGE INTO ").push(this.index).push(" SELECT N FROM (").push(putItemSet).push(")").update(owner);
+		}
+
 	}
 
 	/** Diese Klasse implementiert eine temporäre Kopie der Menge der noch nicht indizierten {@link H2QS#nodes() Hyperknoten mit Textwert} für
@@ -128,11 +209,18 @@ public abstract class H2QIBag<E, GIBag> extends H2QISet<E> implements QIBag<E, G
 
 		InsertSet(H2QS owner, String index) {
 			super(owner, null);
-			new H2QQ().push("CREATE TEMPORARY TABLE ").push(this.table)
+			new H2QQ().push("CREATE LOCAL TEMPORARY TABLE ").push(this.table)
 				.push(" (N BIGINT NOT NULL, V VARCHAR(1G) NOT NULL, PRIMARY KEY (N)) AS (SELECT N, V FROM QN where N NOT IN (SELECT N FROM ").push(index).push("))")
 				.update(owner);
 		}
 
+		InsertSet(H2QS owner, String index, H2QNSet keys) {
+			super(owner, null);
+			new H2QQ().push("CREATE LOCAL TEMPORARY TABLE ").push(this.table)
+				.push(" (N BIGINT NOT NULL, V VARCHAR(1G) NOT NULL, PRIMARY KEY (N)) AS (SELECT N, V FROM QN WHERE N IN (SELECT N FROM (").push(keys)
+				.push(")) AND N NOT IN (SELECT N FROM ").push(index).push("))").update(owner);
+		}
+
 	}
 
 	/** Diese Klasse implementiert eine temporäre Kopie der Menge der indizierten {@link H2QS#nodes() Hyperknoten mit Textwert} für
@@ -146,10 +234,16 @@ public abstract class H2QIBag<E, GIBag> extends H2QISet<E> implements QIBag<E, G
 
 		DeleteSet(H2QS owner, String index) {
 			super(owner, null);
-			new H2QQ().push("CREATE TEMPORARY TABLE ").push(this.table).push(" (N BIGINT NOT NULL, PRIMARY KEY (N)) AS (SELECT N FROM ").push(index)
+			new H2QQ().push("CREATE LOCAL TEMPORARY TABLE ").push(this.table).push(" (N BIGINT NOT NULL, PRIMARY KEY (N)) AS (SELECT N FROM ").push(index)
 				.push(" WHERE N NOT IN (SELECT N FROM QN))").update(owner);
 		}
 
+		DeleteSet(H2QS owner, String index, H2QNSet keys) {
+			super(owner, null);
+			new H2QQ().push("CREATE LOCAL TEMPORARY TABLE ").push(this.table).push(" (N BIGINT NOT NULL, PRIMARY KEY (N)) AS (SELECT N FROM ").push(index)
+				.push(" WHERE N IN (SELECT N FROM (").push(keys).push(")) AND N NOT IN (SELECT N FROM QN))").update(owner);
+		}
+
 	}
 
 }
@@ -22,8 +22,14 @@ public abstract class H2QISet<E> implements QISet<E> {
 
 	@Override
 	public long size() {
+		var table = this.table;
+		if (table.rows >= 0) return table.rows;
 		try (var rset = new H2QQ().push("SELECT COUNT(*) FROM (").push(this).push(")").select(this.owner)) {
-			return rset.next() ? rset.getLong(1) : 0;
+			var rows = rset.next() ? rset.getLong(1) : 0;
+			if (table.isTable()) {
+				table.rows = rows;
+			}
+			return rows;
 		} catch (SQLException cause) {
 			throw new IllegalStateException(cause);
 		}
@@ -40,6 +46,7 @@ public abstract class H2QISet<E> implements QISet<E> {
 
 	@Override
 	public boolean isEmpty() {
+		if (this.table.rows >= 0) return this.table.rows == 0;
 		try (var rset = new H2QQ().push("SELECT TOP 1 * FROM (").push(this).push(")").select(this.owner)) {
 			return !rset.next();
 		} catch (SQLException cause) {
@@ -85,7 +92,7 @@ public abstract class H2QISet<E> implements QISet<E> {
 		public boolean hasNext() {
 			if (this.next) return true;
 			try {
-				this.item.getStatement().close();
+				this.item.close();
 			} catch (SQLException ignore) {}
 			return false;
 		}
@@ -103,7 +110,7 @@ public abstract class H2QISet<E> implements QISet<E> {
 
 		@Override
 		protected void finalize() throws Throwable {
-			this.item.getStatement().close();
+			this.item.close();
 		}
 
 		private boolean next;
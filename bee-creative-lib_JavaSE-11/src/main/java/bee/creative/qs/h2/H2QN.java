@@ -22,7 +22,14 @@ public final class H2QN implements QN {
 			stmt1.setLong(1, this.key);
 			var stmt2 = this.owner.popQV;
 			stmt2.setLong(1, this.key);
-			return (stmt1.executeUpdate() != 0) | this.owner.markPopValue(stmt2.executeUpdate() != 0);
+			var changed = H2QQ.executeUpdate(this.owner, stmt1) != 0;
+			if (changed) {
+				this.owner.clearEdgeCounts();
+			}
+			if (H2QQ.executeUpdate(this.owner, stmt2) == 0) return changed;
+			this.owner.popCache(this.key);
+			this.owner.logPopValue(this.key);
+			return true;
 		} catch (SQLException cause) {
 			throw new IllegalStateException(cause);
 		}
@@ -35,11 +42,17 @@ public final class H2QN implements QN {
 
 	@Override
 	public String value() {
+		var value = this.owner.cache.getValue(this.key);
+		if (value != null) return value;
 		try {
+			var version = this.owner.cache.nodeVersion();
 			var stmt = this.owner.getQV;
 			stmt.setLong(1, this.key);
-			try (var rset = stmt.executeQuery()) {
-				return rset.next() ? rset.getString(1) : null;
+			try (var rset = H2QQ.executeQuery(this.owner, stmt)) {
+				if (!rset.next()) return null;
+				value = rset.getString(1);
+				this.owner.putCache(this.key, value, version);
+				return value;
 			}
 		} catch (SQLException cause) {
 			throw new IllegalStateException(cause);
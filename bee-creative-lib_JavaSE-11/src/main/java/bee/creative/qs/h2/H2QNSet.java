@@ -18,11 +18,17 @@ public class H2QNSet extends H2QOSet<QN, QNSet> implements QNSet {
 	@Override
 	public boolean popAll() {
 		var that = this.copy();
-		return this.owner.markPopValue(new H2QQ().push("DELETE FROM QN WHERE N IN (").push(that).push(")").update(this.owner)) //
-			| new H2QQ().push("DELETE FROM QE WHERE C IN (").push(that).push(")").update(this.owner) //
+		var nodes = this.owner.markPopValue(new H2QQ().push("DELETE FROM QN WHERE N IN (").push(that).push(")").update(this.owner));
+		var edges = new H2QQ().push("DELETE FROM QE WHERE C IN (").push(that).push(")").update(this.owner) //
 			| new H2QQ().push("DELETE FROM QE WHERE P IN (").push(that).push(")").update(this.owner) //
 			| new H2QQ().push("DELETE FROM QE WHERE S IN (").push(that).push(")").update(this.owner) //
 			| new H2QQ().push("DELETE FROM QE WHERE O IN (").push(that).push(")").update(this.owner);
+		if (nodes) {
+			this.owner.clearCache();
+		} else if (edges) {
+			this.owner.clearEdgeCounts();
+		}
+		return nodes | edges;
 	}
 
 	@Override
@@ -32,9 +38,13 @@ public class H2QNSet extends H2QOSet<QN, QNSet> implements QNSet {
 
 	@Override
 	public void values(Setter<? super QN, ? super String> values) {
+		var version = this.owner.cache.nodeVersion();
 		try (var rset = new H2QQ().push("SELECT N, V FROM QN WHERE N IN (").push(this).push(")").select(this.owner)) {
 			while (rset.next()) {
-				values.set(this.owner.newNode(rset.getInt(1)), rset.getString(2));
+				var node = this.owner.newNode(rset.getLong(1));
+				var value = rset.getString(2);
+				this.owner.putCache(node.key, value, version);
+				values.set(node, value);
 			}
 		} catch (SQLException cause) {
 			throw new IllegalStateException(cause);
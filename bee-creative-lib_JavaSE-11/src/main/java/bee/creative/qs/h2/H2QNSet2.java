@@ -3,6 +3,8 @@ package bee.creative.qs.h2;
 import java.sql.SQLException;
 import bee.creative.qs.QN;
 import bee.creative.qs.QNSet2;
+import bee.creative.util.HashSetL;
+import bee.creative.util.Setter;
 
 public class H2QNSet2 extends H2QNSet implements QNSet2 {
 
@@ -11,20 +13,52 @@ public class H2QNSet2 extends H2QNSet implements QNSet2 {
 		return this;
 	}
 
+	/** {@inheritDoc} Wenn die Hyperknoten dieser Menge seit ihrer Erzeugung bekannt sind und deren Textwerte alle im {@link H2QS#cache Puffer} stehen, erfolgt
+	 * dazu keine Anfrage. */
+	@Override
+	public void values(Setter<? super QN, ? super String> values) {
+		var keys = this.keys;
+		if (keys != null) {
+			var cache = this.owner.cache;
+			var size = keys.length;
+			var items = new String[size];
+			for (var i = 0; i < size; i++) {
+				var value = cache.getValue(keys[i]);
+				if (value == null) {
+					super.values(values);
+					return;
+				}
+				items[i] = value;
+			}
+			for (var i = 0; i < size; i++) {
+				values.set(this.owner.newNode(keys[i]), items[i]);
+			}
+			return;
+		}
+		super.values(values);
+	}
+
 	@Override
 	public boolean clear() throws NullPointerException, IllegalArgumentException {
-		return new H2QQ().push("DELETE FROM ").push(this.table).update(this.owner);
+		this.keys = null;
+		var res = new H2QQ().push("DELETE FROM ").push(this.table).update(this.owner);
+		this.table.rows = 0;
+		return res;
 	}
 
 	@Override
 	public boolean insertAll(Iterable<? extends QN> items) throws NullPointerException, IllegalArgumentException {
 		var that = this.owner.toQNSet(items);
+		this.keys = null;
+		this.table.rows = -1;
 		return new H2QQ().push("MERGE INTO ").push(this.table).push(" SELECT * FROM (").push(that).push(")").update(this.owner);
 	}
 
 	@Override
 	public boolean deleteAll(Iterable<? extends QN> items) throws NullPointerException, IllegalArgumentException {
 		var that = this.owner.toQNSet(items);
+		this.keys = null;
+		this.table.rows = -1;
 		return new H2QQ().push("DELETE FROM ").push(this.table).push(" AS A WHERE EXISTS (SELECT 1 FROM (").push(that).push(") AS B WHERE A.N=B.N)")
 			.update(this.owner);
 	}
@@ -39,19 +73,26 @@ public class H2QNSet2 extends H2QNSet implements QNSet2 {
 		this(owner);
 		if (items instanceof H2QNSet) {
 			var that = owner.asQNSet(items);
-			new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT * FROM (").push(that).push(")").update(owner);
+			this.table.rows = new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT * FROM (").push(that).push(")").count(owner);
 		} else {
 			try {
 				var that = new H2QNSet2(owner, false);
+				var keys = new HashSetL();
 				try (var stmt = new H2QQ().push("INSERT INTO ").push(that.table).push(" (N) VALUES (?)").prepare(owner)) {
 					for (var item: items) {
 						var node = owner.asQN(item);
+						keys.add(node.key);
 						stmt.setLong(1, node.key);
 						stmt.addBatch();
 					}
-					stmt.executeBatch();
+					H2QQ.executeBatch(owner, stmt);
+				}
+				this.table.rows = new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT DISTINCT * FROM ").push(that.table).count(owner);
+				var index = 0;
+				this.keys = new long[keys.size()];
+				for (var key: keys) {
+					this.keys[index++] = key;
 				}
-				new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT DISTINCT * FROM ").push(that.table).update(owner);
 			} catch (SQLException cause) {
 				throw new IllegalStateException(cause);
 			}
@@ -60,7 +101,12 @@ public class H2QNSet2 extends H2QNSet implements QNSet2 {
 
 	private H2QNSet2(H2QS owner, boolean withPrimaryKey) throws NullPointerException {
 		super(owner, null);
-		new H2QQ().push("CREATE TEMPORARY TABLE ").push(this.table).push(" (N BIGINT NOT NULL").push(withPrimaryKey ? ", PRIMARY KEY (N))" : ")").update(owner);
+		new H2QQ().push("CREATE LOCAL TEMPORARY TABLE ").push(this.table).push(" (N BIGINT NOT NULL").push(withPrimaryKey ? ", PRIMARY KEY (N))" : ")").update(owner);
+		this.table.rows = withPrimaryKey ? 0 : -1;
 	}
 
+	/** Dieses Feld speichert die {@link H2QN#key Kennungen} dieser Menge oder {@code null}. Es wird nur bei der Erzeugung aus bekannten Hyperknoten bestückt und
+	 * bei jeder Änderung der Menge verworfen. */
+	long[] keys;
+
 }
\ No newline at end of file
@@ -6,12 +6,20 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
 import bee.creative.lang.Objects;
 import bee.creative.util.Consumer;
 import bee.creative.util.Setter;
 
 /** Diese Klasse implementiert den Bauplan einer Datenbankanfrage als {@link ArrayList Auflistung} von Anfragetoken. Die {@link #toString() Textdarstellung} des
  * Bauplans entspricht der Verkettung der Textdarstellungen der Anfragetoken.
+ * <p>
+ * Bei der Ausführung über {@link #select(H2QS)} und {@link #update(H2QS)} werden Anfragetoken vom Typ {@link Long}, d.h. die Kennungen von Hyperknoten, nicht
+ * in den Anfragetext eingebettet, sondern als Parameter gebunden. Die übrigen Anfragetoken, bspw. Tabellennamen, bilden zusammen mit den Platzhaltern der
+ * Parameter die {@link #toShape(long[]) Form} der Anfrage. Zu jeder Form wird im {@link H2QS#statements Puffer} des Graphspeichers eine
+ * {@link PreparedStatement aufbereitete Anweisung} wiederverwendet, sodass gleichartige Anfragen mit unterschiedlichen Kennungen nur einmal übersetzt und
+ * geplant werden. Anfragen, die Tabellen definieren oder temporäre Tabellen verwenden, werden dagegen {@link #isShared() ohne Puffer} ausgeführt.
  *
  * @author [cc-by] 2022 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
 public final class H2QQ {
@@ -76,23 +84,146 @@ public final class H2QQ {
 	}
 
 	/** Diese Methode führt diese Anweisung als {@link Statement#executeUpdate(String) Aktualisierung} aus und gibt nur dann {@code true} zurück, wenn dadurch
-	 * Tabellenzeilen verändert wurden.
+	 * Tabellenzeilen verändert wurden. Anweisungen ohne Parameter sowie die nicht {@link #isShared() wiederverwendbaren} werden dabei nicht gepuffert.
 	 *
 	 * @see Statement#executeUpdate(String) */
 	public boolean update(H2QS owner) throws IllegalStateException {
-		try (var stmt = owner.conn.createStatement()) {
-			return stmt.executeUpdate(this.toString()) != 0;
+		return this.count(owner) != 0;
+	}
+
+	/** Diese Methode führt diese Anweisung analog zu {@link #update(H2QS)} aus und gibt die Anzahl der dadurch veränderten Tabellenzeilen zurück.
+	 *
+	 * @see Statement#executeLargeUpdate(String) */
+	public long count(H2QS owner) throws IllegalStateException {
+		try {
+			var params = new long[this.query.size() + 1];
+			var shape = this.toShape(params);
+			if ((params[0] == 0) || !this.isShared()) {
+				try (var stmt = owner.conn.createStatement()) {
+					owner.running = stmt;
+					try {
+						owner.checkCanceled();
+						return stmt.executeLargeUpdate(this.toString());
+					} finally {
+						owner.running = null;
+					}
+				}
+			}
+			var item = owner.statements.get(shape);
+			if (item.isBusy()) {
+				try (var stmt = owner.conn.prepareStatement(shape)) {
+					return H2QQ.executeUpdate(owner, H2QQ.bind(stmt, params));
+				}
+			}
+			return H2QQ.executeUpdate(owner, H2QQ.bind(item.stmt, params));
 		} catch (SQLException cause) {
 			throw new IllegalStateException(cause);
 		}
 	}
 
 	/** Diese Methode führt diese Anweisung als {@link Statement#executeQuery(String) Anfrage} aus und gibt die dazu ermittelte {@link ResultSet Ergebnismenge}
-	 * zurück.
+	 * zurück. Mit dem {@link ResultSet#close() Schließen} der Ergebnismenge wird die zugrundeliegende {@link PreparedStatement aufbereitete Anweisung} zur
+	 * Wiederverwendung freigegeben.
 	 *
 	 * @see Statement#executeQuery(String) */
 	public ResultSet select(H2QS owner) throws SQLException {
-		return owner.conn.createStatement().executeQuery(this.toString());
+		if (!this.isShared()) {
+			var stmt = owner.conn.createStatement();
+			stmt.closeOnCompletion();
+			owner.running = stmt;
+			try {
+				owner.checkCanceled();
+				return stmt.executeQuery(this.toString());
+			} catch (SQLException | RuntimeException cause) {
+				stmt.close();
+				throw cause;
+			} finally {
+				owner.running = null;
+			}
+		}
+		var params = new long[this.query.size() + 1];
+		var shape = this.toShape(params);
+		var item = owner.statements.get(shape);
+		if (item.isBusy()) {
+			var stmt = owner.conn.prepareStatement(shape);
+			stmt.closeOnCompletion();
+			return H2QQ.executeQuery(owner, H2QQ.bind(stmt, params));
+		}
+		return item.rset = H2QQ.executeQuery(owner, H2QQ.bind(item.stmt, params));
+	}
+
+	/** Diese Methode gibt die Form dieser Anfrage zurück. Darin sind alle Anfragetoken vom Typ {@link Long} durch Platzhalter ersetzt, deren Werte ab Position
+	 * {@code 1} in die gegebene Zahlenfolge geschrieben werden. An Position {@code 0} wird deren Anzahl abgelegt. */
+	String toShape(long[] params) {
+		var res = new StringBuilder(512);
+		var count = 0;
+		for (var token: this.query) {
+			if (token instanceof Long) {
+				params[++count] = (Long)token;
+				res.append("CAST(? AS BIGINT)");
+			} else {
+				res.append(token);
+			}
+		}
+		params[0] = count;
+		return res.toString();
+	}
+
+	/** Diese Methode gibt nur dann {@code true} zurück, wenn die {@link #toShape(long[]) Form} dieser Anfrage wiederverwendbar ist und daher im
+	 * {@link H2QS#statements Puffer} abgelegt werden darf. Das ist nur bei Anfragen der Fall, die keine Tabellen definieren und deren Anfragetoken neben
+	 * {@link Long Kennungen} nur aus {@link String Textbausteinen} und {@link Integer Spaltennummern} bestehen. Anfragen mit den Namen temporärer Tabellen
+	 * oder eingebetteten Werten werden dagegen nur einmal verwendet und würden den Puffer nur verdrängen. */
+	boolean isShared() {
+		for (var token: this.query) {
+			if (!(token instanceof String) && !(token instanceof Long) && !(token instanceof Integer)) return false;
+		}
+		if (this.query.isEmpty()) return false;
+		var head = this.query.get(0).toString().stripLeading();
+		return !H2QQ.startsWith(head, "CREATE") && !H2QQ.startsWith(head, "DROP") && !H2QQ.startsWith(head, "ALTER") && !H2QQ.startsWith(head, "TRUNCATE");
+	}
+
+	static boolean startsWith(String string, String prefix) {
+		return string.regionMatches(true, 0, prefix, 0, prefix.length());
+	}
+
+	static PreparedStatement bind(PreparedStatement stmt, long[] params) throws SQLException {
+		for (int i = 1, size = (int)params[0]; i <= size; i++) {
+			stmt.setLong(i, params[i]);
+		}
+		return stmt;
+	}
+
+	/** Diese Methode führt die gegebene Aktualisierung aus und vermerkt sie während dessen als {@link H2QS#running laufende Anweisung}. */
+	static long executeUpdate(H2QS owner, PreparedStatement stmt) throws SQLException {
+		owner.running = stmt;
+		try {
+			owner.checkCanceled();
+			return stmt.executeLargeUpdate();
+		} finally {
+			owner.running = null;
+		}
+	}
+
+	/** Diese Methode führt den gegebenen Stapel aus und vermerkt ihn während dessen als {@link H2QS#running laufende Anweisung}. */
+	static int[] executeBatch(H2QS owner, PreparedStatement stmt) throws SQLException {
+		owner.running = stmt;
+		try {
+			owner.checkCanceled();
+			return stmt.executeBatch();
+		} finally {
+			owner.running = null;
+		}
+	}
+
+	/** Diese Methode führt die gegebene Anfrage aus und vermerkt sie während dessen als {@link H2QS#running laufende Anweisung}. */
+	static ResultSet executeQuery(H2QS owner, PreparedStatement stmt) throws SQLException {
+		owner.running = stmt;
+		try {
+			owner.checkCanceled();
+			return stmt.executeQuery();
+		} finally {
+			owner.running = null;
+		}
 	}
 
 	@Override
@@ -104,8 +235,91 @@ public final class H2QQ {
 		return res.toString();
 	}
 
+	/** Dieses Feld speichert die Anzahl der Zeilen der über {@link H2QS#putTable()} benannten temporären Tabelle oder {@code -1}, wenn diese nicht bekannt ist.
+	 * Sie wird von den Mengen gepflegt, die diese Tabelle befüllen und verändern. */
+	long rows = -1;
+
+	/** Diese Methode gibt nur dann {@code true} zurück, wenn diese Anfrage eine über {@link H2QS#putTable()} benannte temporäre Tabelle liefert. */
+	boolean isTable() {
+		return this.name != null;
+	}
+
 	private final Object name;
 
 	private final ArrayList<Object> query = new ArrayList<>(10);
 
+	/** Diese Klasse implementiert den Puffer der {@link PreparedStatement aufbereiteten Anweisungen} einer Datenbankverbindung. Die Anweisungen werden über ihren
+	 * Anfragetext identifiziert. Bei Überschreitung der Kapazität wird die am längsten nicht verwendete Anweisung verdrängt und geschlossen.
+	 *
+	 * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+	static final class Cache {
+
+		/** Dieser Konstruktor initialisiert Datenbankverbindung und Kapazität. */
+		Cache(Connection conn, int limit) {
+			this.conn = conn;
+			this.limit = limit;
+		}
+
+		/** Diese Methode gibt den Eintrag zum gegebenen Anfragetext zurück. Dieser wird bei Bedarf erzeugt. */
+		Item get(String shape) throws SQLException {
+			var item = this.items.get(shape);
+			if ((item != null) && !item.stmt.isClosed()) return item;
+			item = new Item(this.conn.prepareStatement(shape));
+			this.items.put(shape, item);
+			return item;
+		}
+
+		/** Diese Methode gibt die Anzahl der gepufferten Anweisungen zurück. */
+		int size() {
+			return this.items.size();
+		}
+
+		final Connection conn;
+
+		final int limit;
+
+		final LinkedHashMap<String, Item> items = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Entry<String, Item> eldest) {
+				if (this.size() <= Cache.this.limit) return false;
+				eldest.getValue().close();
+				return true;
+			}
+
+		};
+
+	}
+
+	/** Diese Klasse implementiert einen Eintrag des {@link Cache} mit der aufbereiteten Anweisung und deren zuletzt gelieferter Ergebnismenge. */
+	static final class Item {
+
+		final PreparedStatement stmt;
+
+		ResultSet rset;
+
+		Item(PreparedStatement stmt) {
+			this.stmt = stmt;
+		}
+
+		/** Diese Methode gibt nur dann {@code true} zurück, wenn die zuletzt gelieferte Ergebnismenge noch nicht geschlossen wurde. */
+		boolean isBusy() throws SQLException {
+			return (this.rset != null) && !this.rset.isClosed();
+		}
+
+		/** Diese Methode schließt die Anweisung bzw. veranlasst dies für den Zeitpunkt, an dem die noch offene Ergebnismenge geschlossen wird. */
+		void close() {
+			try {
+				if (this.isBusy()) {
+					this.stmt.closeOnCompletion();
+				} else {
+					this.stmt.close();
+				}
+			} catch (SQLException ignore) {}
+		}
+
+	}
+
 }
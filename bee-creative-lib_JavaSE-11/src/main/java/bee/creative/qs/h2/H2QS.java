@@ -5,8 +5,11 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import bee.creative.lang.Objects;
 import bee.creative.qs.QE;
 import bee.creative.qs.QN;
 import bee.creative.qs.QO;
@@ -27,28 +30,48 @@ public class H2QS implements QS, AutoCloseable {
 		return new H2QS(H2C.from(file), null);
 	}
 
+	/** Dieses Feld speichert die Anweisungen zur Erzeugung der Indizes der Tabelle {@code QE}, die nicht dem Primärschlüssel entsprechen. */
+	static final String QE_INDEXES = "" + //
+		"CREATE INDEX IF NOT EXISTS QE_INDEX_CPO ON QE (C, P, O, S);" + //
+		"CREATE INDEX IF NOT EXISTS QE_INDEX_CSP ON QE (C, S, P, O);" + //
+		"CREATE INDEX IF NOT EXISTS QE_INDEX_COP ON QE (C, O, P, S);";
+
 	/** Dieses Feld speichert die über den Konstruktor bereitgestellte Datenbankverbindung. */
 	public final Connection conn;
 
 	/** Dieses Feld speichert den Besitzer oder {@code null}. */
 	public final Object owner;
 
-	/** Dieser Konstruktor initialisiert die Datenbankverbindung und erstellt bei Bedarf das Tabellenschema.
+	/** Dieses Feld speichert den Puffer der Kennungen und Textwerte der {@link H2QN Hyperknoten}. */
+	public final H2QSCache cache;
+
+	/** Dieser Konstruktor initialisiert die Datenbankverbindung mit einem eigenen {@link #cache Puffer} für {@code 65536} Hyperknoten und erstellt bei Bedarf das
+	 * Tabellenschema.
 	 *
 	 * @param conn Datenbankverbindung.
 	 * @param owner Besitzer oder {@code null}. */
 	public H2QS(Connection conn, Object owner) throws SQLException, NullPointerException {
+		this(conn, owner, new H2QSCache(1 << 16));
+	}
+
+	/** Dieser Konstruktor initialisiert die Datenbankverbindung und den {@link #cache Puffer} und erstellt bei Bedarf das Tabellenschema. Der Puffer darf nur
+	 * mit Graphspeichern geteilt werden, die dieselbe Datenbank verwenden.
+	 *
+	 * @param conn Datenbankverbindung.
+	 * @param owner Besitzer oder {@code null}.
+	 * @param cache Puffer der Kennungen und Textwerte. */
+	public H2QS(Connection conn, Object owner, H2QSCache cache) throws SQLException, NullPointerException {
 		this.conn = conn;
 		this.owner = owner;
+		this.cache = Objects.notNull(cache);
+		this.statements = new H2QQ.Cache(conn, 256);
 		new H2QQ().push("" + //
 			"CREATE SEQUENCE IF NOT EXISTS QT_SEQ;" + //
 			"CREATE SEQUENCE IF NOT EXISTS QN_SEQ;" + //
 			"CREATE TABLE IF NOT EXISTS QN (N BIGINT NOT NULL DEFAULT NEXT VALUE FOR QN_SEQ, V VARCHAR(1G) NOT NULL, PRIMARY KEY (N));" + //
 			"CREATE TABLE IF NOT EXISTS QE (C BIGINT NOT NULL, P BIGINT NOT NULL, S BIGINT NOT NULL, O BIGINT NOT NULL, PRIMARY KEY (C, P, S, O));" + //
 			"CREATE UNIQUE INDEX IF NOT EXISTS QN_INDEX_V ON QN (V);" + //
-			"CREATE INDEX IF NOT EXISTS QE_INDEX_CPO ON QE (C, P, O, S);" + //
-			"CREATE INDEX IF NOT EXISTS QE_INDEX_CSP ON QE (C, S, P, O);" + //
-			"CREATE INDEX IF NOT EXISTS QE_INDEX_COP ON QE (C, O, P, S);" //
+			H2QS.QE_INDEXES //
 		).update(this);
 
 		this.nodes = new H2QNSetMain(this);
@@ -60,11 +83,14 @@ public class H2QS implements QS, AutoCloseable {
 		this.getQE = this.conn.prepareStatement("SELECT TOP 1 * FROM QE WHERE C=? AND P=? AND S=? AND O=?");
 		this.putQN = this.conn.prepareStatement("SELECT NEXT VALUE FOR QN_SEQ");
 		this.putQV = this.conn.prepareStatement("MERGE INTO QN (V) KEY (V) VALUES (?)");
-		this.putQE = this.conn.prepareStatement("MERGE INTO QE (C, P, S, O) VALUES (?, ?, ?, ?)");
+		this.putQE = this.conn.prepareStatement(
+			"MERGE INTO QE A USING (SELECT CAST(?1 AS BIGINT) C, CAST(?2 AS BIGINT) P, CAST(?3 AS BIGINT) S, CAST(?4 AS BIGINT) O) B " + //
+				"ON A.C=B.C AND A.P=B.P AND A.S=B.S AND A.O=B.O WHEN NOT MATCHED THEN INSERT (C, P, S, O) VALUES (B.C, B.P, B.S, B.O)");
 		this.putQT = this.conn.prepareStatement("SELECT NEXT VALUE FOR QT_SEQ");
 		this.popQN = this.conn.prepareStatement("DELETE FROM QE WHERE C=?1 OR P=?1 OR S=?1 OR O=?1");
 		this.popQV = this.conn.prepareStatement("DELETE FROM QN WHERE N=?");
 		this.popQE = this.conn.prepareStatement("DELETE FROM QE WHERE C=? AND P=? AND S=? AND O=?");
+		this.sizeQE = this.conn.prepareStatement("SELECT COUNT(*) FROM QE WHERE C=? AND P=?");
 	}
 
 	/** Diese Methode liefert das gegebene Objekt als {@link H2QE} dieses {@link QO Graphspeichers} oder löst eine Ausnahme aus. */
@@ -191,28 +217,92 @@ public class H2QS implements QS, AutoCloseable {
 
 	/** Diese Methode leert den Graphspeicher. */
 	public void reset() throws IllegalStateException {
-		this.popValueMark = new Object();
+		this.markPopValue(true);
 		new H2QQ().push("DELETE FROM QN;DELETE FROM QE").update(this);
+		this.clearCache();
+	}
+
+	/** Diese Methode {@link Connection#commit() bestätigt} die Transaktion der {@link #conn Datenbankverbindung}. Wenn darin Hyperknoten entfernt wurden,
+	 * werden deren Einträge danach erneut aus dem {@link #cache Puffer} entfernt und dessen Sperre aufgehoben. */
+	public void commit() throws SQLException {
+		this.conn.commit();
+		this.releaseCache();
+	}
+
+	/** Diese Methode {@link Connection#rollback() verwirft} die Transaktion der {@link #conn Datenbankverbindung} und hebt analog zu {@link #commit()} die
+	 * Sperre des {@link #cache Puffers} auf. */
+	public void rollback() throws SQLException {
+		try {
+			this.conn.rollback();
+		} finally {
+			this.releaseCache();
+		}
 	}
 
 	@Override
 	public void close() throws SQLException {
 		try {
-			synchronized (this.tables) {
-				for (var name: this.tables.toArray()) {
-					this.popTable(name);
-				}
-			}
+			this.popTables(true);
 		} finally {
-			this.conn.close();
+			try {
+				this.conn.close();
+			} finally {
+				this.releaseCache();
+			}
 		}
 	}
 
+	/** Diese Methode {@link Statement#cancel() bricht} die aktuell über {@link H2QQ#select(H2QS)}, {@link H2QQ#update(H2QS)} bzw. {@link H2QQ#count(H2QS)}
+	 * ausgeführte Anweisung bzw. die aktuell ausgeführte aufbereitete Anweisung dieses Graphspeichers ab. Sie darf im Gegensatz zu den anderen Methoden auch von einem anderen Thread aufgerufen werden. Die abgebrochene Anweisung
+	 * endet mit einer {@link IllegalStateException} bzw. {@link SQLException}. */
+	public void cancel() throws SQLException {
+		var stmt = this.running;
+		if (stmt == null) return;
+		stmt.cancel();
+	}
+
 	/** Diese Methode entfernt alle Hyperknoten mit Textwert, die nich in Hyperkanten verwendet werden. */
 	public void compact() {
 		this.nodes().except(this.edges().nodes()).popAll();
 	}
 
+	/** Diese Methode gibt die Anzahl der Hyperkanten mit dem gegebenen Kontext und Prädikat zurück. Diese wird im {@link #cache Puffer} vorgehalten und bei
+	 * Änderungen über {@link H2QE#put()} und {@link H2QE#pop()} nach deren Ausführung daraus entfernt. Sie liefert die {@link H2QESet#size() Anzahl} der über
+	 * {@code edges().havingContext(context).havingPredicate(predicate)} bzw. in umgekehrter Reihenfolge gebildeten Menge und eignet sich zur Abschätzung der
+	 * Größe von Teilanfragen. Solange die {@link #conn Datenbankverbindung} Anweisungen nicht {@link Connection#getAutoCommit() automatisch bestätigt}, wird
+	 * der Puffer umgangen, da er von allen Sitzungen eines {@link H2QSPool} geteilt wird und nur bestätigte Anzahlen enthalten darf. Änderungen innerhalb
+	 * einer Transaktion {@link H2QSCache#holdEdgeCounts(long) sperren} die Anzahlen zum Kontext analog zu {@link #popCache(long)} bis zum {@link #commit()}
+	 * bzw. {@link #rollback()}.
+	 *
+	 * @see QE#context()
+	 * @see QE#predicate() */
+	public long edgeCount(QN context, QN predicate) throws NullPointerException, IllegalArgumentException {
+		return this.edgeCount(this.asQN(context).key, this.asQN(predicate).key);
+	}
+
+	/** Diese Methode ist eine Abkürzung für {@link #edgeCount(QN, QN)} mit den gegebenen {@link H2QN#key Kennungen}. */
+	public final long edgeCount(long context, long predicate) {
+		try {
+			var cache = this.conn.getAutoCommit() ? this.cache : null;
+			if (cache != null) {
+				this.releaseCache();
+				var count = cache.getEdgeCount(context, predicate);
+				if (count != null) return count;
+			}
+			var version = this.cache.edgeVersion();
+			var stmt = this.sizeQE;
+			stmt.setLong(1, context);
+			stmt.setLong(2, predicate);
+			var res = this.newKey(stmt);
+			if (cache != null) {
+				cache.putEdgeCount(context, predicate, res, version);
+			}
+			return res;
+		} catch (SQLException cause) {
+			throw new IllegalStateException(cause);
+		}
+	}
+
 	@Override
 	public H2QESet edges() {
 		return this.edges;
@@ -237,10 +327,17 @@ public class H2QS implements QS, AutoCloseable {
 	public H2QN getNode(Object value) {
 		try {
 			var string = this.asQV(value);
-			var getStmt = this.getQV;
+			var key = this.cache.getKey(string);
+			if (key != null) return this.newNode(key.longValue());
+			var version = this.cache.nodeVersion();
+			var getStmt = this.getQN;
 			getStmt.setString(1, string);
-			var res = getStmt.executeQuery();
-			return res.next() ? this.newNode(res.getLong(1)) : null;
+			try (var res = H2QQ.executeQuery(this, getStmt)) {
+				if (!res.next()) return null;
+				var node = this.newNode(res.getLong(1));
+				this.putCache(node.key, string, version);
+				return node;
+			}
 		} catch (SQLException cause) {
 			throw new IllegalStateException(cause);
 		}
@@ -293,6 +390,11 @@ public class H2QS implements QS, AutoCloseable {
 		return new H2QESet2(this, edges);
 	}
 
+	@Override
+	public H2QESet2 newEdges(long[] edges, int count) throws NullPointerException, IllegalArgumentException {
+		return new H2QESet2(this, edges, count);
+	}
+
 	@Override
 	public H2QN newNode() {
 		return this.newNode(this.newKey(this.putQN));
@@ -302,13 +404,24 @@ public class H2QS implements QS, AutoCloseable {
 	public H2QN newNode(Object value) {
 		try {
 			var string = this.asQV(value);
+			var key = this.cache.getKey(string);
+			if (key != null) return this.newNode(key.longValue());
+			var version = this.cache.nodeVersion();
 			var putStmt = this.putQV;
 			putStmt.setString(1, string);
-			this.markPutValue(putStmt.executeUpdate() != 0);
+			var changed = H2QQ.executeUpdate(this, putStmt) != 0;
 			var getStmt = this.getQN;
 			getStmt.setString(1, string);
-			var res = getStmt.executeQuery();
-			if (res.next()) return this.newNode(res.getLong(1));
+			try (var res = H2QQ.executeQuery(this, getStmt)) {
+				if (res.next()) {
+					var node = this.newNode(res.getLong(1));
+					if (changed) {
+						this.logPutValue(node.key);
+					}
+					this.putCache(node.key, string, version);
+					return node;
+				}
+			}
 		} catch (SQLException cause) {
 			throw new IllegalStateException(cause);
 		}
@@ -316,10 +429,16 @@ public class H2QS implements QS, AutoCloseable {
 	}
 
 	/** Diese Methode liefert einen neuen {@link H2QN Hyperknoten} mit der gegebenen Kennung. */
+	@Override
 	public final H2QN newNode(long key) {
 		return new H2QN(this, key);
 	}
 
+	@Override
+	public long getKey(QN node) throws NullPointerException, IllegalArgumentException {
+		return this.asQN(node).key;
+	}
+
 	@Override
 	public H2QNSet2 newNodes(QN... nodes) throws NullPointerException, IllegalArgumentException {
 		return this.newNodes(Arrays.asList(nodes));
@@ -400,50 +519,200 @@ public class H2QS implements QS, AutoCloseable {
 
 	final PreparedStatement popQE;
 
+	final PreparedStatement sizeQE;
+
 	final H2QESet edges;
 
 	final H2QNSet nodes;
 
 	final H2QVSet values;
 
+	/** Dieses Feld speichert die aufbereiteten Anweisungen der über {@link H2QQ#select(H2QS)} und {@link H2QQ#update(H2QS)} ausgeführten Anfragen. */
+	final H2QQ.Cache statements;
+
+	/** Dieses Feld speichert die Namen der über {@link #putTable()} erzeugten und noch nicht entfernten Tabellen. */
 	final HashSet<String> tables = new HashSet<>();
 
+	/** Dieses Feld speichert die Namen der nicht mehr verwendeten Tabellen, die beim nächsten Aufruf von {@link #popTables(boolean)} entfernt werden. */
+	final ConcurrentLinkedQueue<String> tablesToPop = new ConcurrentLinkedQueue<>();
+
 	final HashMap<String, H2QIBag<?, ?>.Cache> cacheMap = new HashMap<>();
 
 	final Translator3<QN, String> valueTrans = translatorFromClass(QN.class, String.class, QN::value, this::newNode).optionalize();
 
-	Object putValueMark;
+	/** Dieses Feld speichert die aktuell ausgeführte Anweisung oder {@code null}. */
+	volatile Statement running;
+
+	/** Dieses Feld speichert nur dann {@code true}, wenn die Aufgabe, die diesen Graphspeicher aktuell verwendet, abgebrochen wurde. Es wird über
+	 * {@link #checkCanceled()} vor jeder über {@link H2QQ} ausgeführten Anweisung, auch den aufbereiteten Anweisungen dieses Graphspeichers, geprüft, sodass
+	 * auch erst nach dem Abbruch begonnene Anweisungen abgelehnt werden. */
+	volatile boolean canceled;
+
+	/** Dieses Feld speichert die Markierung der letzten Ergänzung von Textwerten ohne bekannte Kennungen. Es ist {@code volatile}, da es über
+	 * {@link H2QSPool#markValues(H2QSPool.Session)} auch aus den Threads anderer Sitzungen geschrieben wird. */
+	volatile Object putValueMark;
+
+	/** Dieses Feld speichert die Markierung des letzten Entfernens von Textwerten analog zu {@link #putValueMark}. */
+	volatile Object popValueMark;
+
+	/** Dieses Feld speichert nur dann {@code true}, wenn diese Sitzung Einträge des {@link #cache Puffers} gesperrt hat. */
+	boolean cacheHeld;
+
+	/** Dieses Feld speichert nur dann {@code true}, wenn diese Sitzung den {@link #cache Puffer} {@link H2QSCache#hold() vollständig gesperrt} hat. Er ist beim
+	 * Aufheben der Sperre vollständig zu leeren. */
+	boolean cacheHeldClear;
 
-	Object popValueMark;
+	/** Dieses Feld speichert nur dann {@code true}, wenn diese Sitzung alle {@link H2QSCache#holdEdgeCounts() Anzahlen der Hyperkanten gesperrt} hat. Diese
+	 * sind beim Aufheben der Sperre zu entfernen. */
+	boolean cacheHeldEdges;
 
+	/** Dieses Feld speichert die {@link H2QSCache#hold(long) gesperrten} Kennungen der Hyperknoten, deren Einträge beim Aufheben der Sperre zu entfernen
+	 * sind. */
+	final HashSet<Long> cacheHeldKeys = new HashSet<>();
+
+	/** Dieses Feld speichert die {@link H2QSCache#holdEdgeCounts(long) gesperrten} Kontexte, deren Anzahlen von Hyperkanten beim Aufheben der Sperre zu
+	 * entfernen sind. */
+	final HashSet<Long> cacheHeldContexts = new HashSet<>();
+
+	/** Diese Methode erzeugt den Namen einer neuen temporären Tabelle und gibt diesen als Objekt zurück, dessen {@link Object#toString() Textdarstellung} den
+	 * Namen liefert. Wenn dieses Objekt nicht mehr verwendet wird, wird die Tabelle beim nächsten Aufruf dieser Methode bzw. von {@link #close()} entfernt. Das
+	 * Entfernen erfolgt damit immer im Thread, der diesen Graphspeicher verwendet, und nicht im Thread der Speicherbereinigung. */
 	Object putTable() {
-		synchronized (this.tables) {
-			var name = "QT" + this.newKey(this.putQT);
-			this.tables.add(name);
-			return new Object() {
-
-				@Override
-				protected void finalize() throws Throwable {
-					H2QS.this.popTable(name);
-				}
+		try {
+			this.popTables(false);
+		} catch (SQLException cause) {
+			throw new IllegalStateException(cause);
+		}
+		var name = "QT" + this.newKey(this.putQT);
+		this.tables.add(name);
+		return new Object() {
+
+			@Override
+			protected void finalize() throws Throwable {
+				H2QS.this.tablesToPop.add(name);
+			}
+
+			@Override
+			public String toString() {
+				return name;
+			}
+
+		};
+	}
 
-				@Override
-				public String toString() {
-					return name;
+	/** Diese Methode entfernt die über {@link #putTable()} erzeugten Tabellen, deren Namen nicht mehr verwendet werden, bzw. bei {@code all} alle über
+	 * {@link #putTable()} erzeugten Tabellen. */
+	void popTables(boolean all) throws SQLException {
+		var names = this.tablesToPop;
+		if (all) {
+			names.addAll(this.tables);
+		}
+		if (names.isEmpty()) return;
+		try (var stmt = this.conn.createStatement()) {
+			for (String name; (name = names.poll()) != null;) {
+				if (this.tables.remove(name)) {
+					stmt.executeUpdate("DROP TABLE IF EXISTS " + name);
 				}
+			}
+		}
+	}
 
-			};
+	/** Diese Methode trägt die gegebene Kennung und den gegebenen Textwert nur dann in den {@link #cache Puffer} ein, wenn die {@link #conn Datenbankverbindung}
+	 * jede Anweisung {@link Connection#getAutoCommit() automatisch bestätigt}. Der Puffer enthält damit nur bestätigte Textwerte, sodass nach dem Zurücksetzen
+	 * einer Transaktion keine Kennungen mehr geliefert werden, die in der Datenbank fehlen. Eine noch bestehende Sperre des Puffers wird dabei aufgehoben, da
+	 * die Transaktion mit dem Einschalten der automatischen Bestätigung abgeschlossen wurde.
+	 *
+	 * @param version {@link H2QSCache#nodeVersion() Änderungsstand} vor dem Lesen des Textwerts. */
+	void putCache(long key, String value, long version) throws SQLException {
+		if (!this.conn.getAutoCommit()) return;
+		this.releaseCache();
+		this.cache.put(key, value, version);
+	}
+
+	/** Diese Methode entfernt den Eintrag zur gegebenen Kennung aus dem {@link #cache Puffer}. Sie ist erst nach dem Entfernen des Hyperknoten aus der Datenbank
+	 * aufzurufen. Wenn die {@link #conn Datenbankverbindung} Anweisungen nicht {@link Connection#getAutoCommit() automatisch bestätigt}, lesen andere
+	 * Sitzungen bis zum Abschluss der Transaktion noch den alten Stand. Die Kennung wird dann bis zum {@link #commit()} bzw. {@link #rollback()}
+	 * {@link H2QSCache#hold(long) gesperrt} und ihr Eintrag danach erneut entfernt. Die Einträge anderer Kennungen werden weiterhin gepuffert. */
+	void popCache(long key) throws SQLException {
+		this.cache.pop(key);
+		if (this.conn.getAutoCommit() || !this.cacheHeldKeys.add(key)) return;
+		this.cacheHeld = true;
+		this.cache.hold(key);
+	}
+
+	/** Diese Methode leert den {@link #cache Puffer} analog zu {@link #popCache(long)}, sperrt diesen dabei jedoch {@link H2QSCache#hold() vollständig}. */
+	void clearCache() {
+		this.cache.clear();
+		try {
+			if (this.conn.getAutoCommit() || this.cacheHeldClear) return;
+		} catch (SQLException cause) {
+			throw new IllegalStateException(cause);
 		}
+		this.cacheHeld = true;
+		this.cacheHeldClear = true;
+		this.cache.hold();
 	}
 
-	/** Diese Methode entfernt die Tabelle mit dem gegebenen Namen, sofern dieser Name über {@link #putTable()} erzeugt wurde. */
-	void popTable(Object name) throws SQLException {
-		synchronized (this.tables) {
-			if (this.tables.remove(name)) {
-				try (var stmt = this.conn.createStatement()) {
-					stmt.executeUpdate("DROP TABLE IF EXISTS " + name);
+	/** Diese Methode entfernt die Anzahl der Hyperkanten mit dem gegebenen Kontext und Prädikat aus dem {@link #cache Puffer} analog zu
+	 * {@link #popCache(long)}. Gesperrt werden dabei die {@link H2QSCache#holdEdgeCounts(long) Anzahlen zum Kontext}. */
+	void popEdgeCount(long context, long predicate) throws SQLException {
+		this.cache.popEdgeCount(context, predicate);
+		if (this.conn.getAutoCommit() || !this.cacheHeldContexts.add(context)) return;
+		this.cacheHeld = true;
+		this.cache.holdEdgeCounts(context);
+	}
+
+	/** Diese Methode entfernt alle Anzahlen von Hyperkanten aus dem {@link #cache Puffer} analog zu {@link #popCache(long)}. Gesperrt werden dabei
+	 * {@link H2QSCache#holdEdgeCounts() alle Anzahlen}. */
+	void clearEdgeCounts() {
+		this.cache.clearEdgeCounts();
+		try {
+			if (this.conn.getAutoCommit() || this.cacheHeldEdges) return;
+		} catch (SQLException cause) {
+			throw new IllegalStateException(cause);
+		}
+		this.cacheHeld = true;
+		this.cacheHeldEdges = true;
+		this.cache.holdEdgeCounts();
+	}
+
+	/** Diese Methode entfernt die seit dem Sperren geänderten Einträge aus dem {@link #cache Puffer} und hebt die Sperren dieser Sitzung auf. */
+	void releaseCache() {
+		if (!this.cacheHeld) return;
+		this.cacheHeld = false;
+		var cache = this.cache;
+		try {
+			if (this.cacheHeldClear) {
+				cache.clear();
+			} else {
+				for (var key: this.cacheHeldKeys) {
+					cache.pop(key);
+				}
+				if (this.cacheHeldEdges) {
+					cache.clearEdgeCounts();
+				} else {
+					for (var context: this.cacheHeldContexts) {
+						cache.popEdgeCounts(context);
+					}
 				}
 			}
+		} finally {
+			if (this.cacheHeldClear) {
+				cache.release();
+			}
+			if (this.cacheHeldEdges) {
+				cache.releaseEdgeCounts();
+			}
+			for (var key: this.cacheHeldKeys) {
+				cache.release(key);
+			}
+			for (var context: this.cacheHeldContexts) {
+				cache.releaseEdgeCounts(context);
+			}
+			this.cacheHeldClear = false;
+			this.cacheHeldEdges = false;
+			this.cacheHeldKeys.clear();
+			this.cacheHeldContexts.clear();
 		}
 	}
 
@@ -459,10 +728,35 @@ public class H2QS implements QS, AutoCloseable {
 		return true;
 	}
 
+	/** Diese Methode meldet den {@link H2QIBag} Indizes die Kennung eines ergänzten Textwerts, damit diese nur den zugehörigen Eintrag nachführen. Im Gegensatz
+	 * zu {@link #markPutValue(boolean)} erzwingt dies keinen vollständigen Abgleich. */
+	void logPutValue(long key) {
+		synchronized (this.cacheMap) {
+			for (var cache: this.cacheMap.values()) {
+				cache.logPut(key);
+			}
+		}
+	}
+
+	/** Diese Methode meldet den {@link H2QIBag} Indizes die Kennung eines entfernten Textwerts analog zu {@link #logPutValue(long)}. */
+	void logPopValue(long key) {
+		synchronized (this.cacheMap) {
+			for (var cache: this.cacheMap.values()) {
+				cache.logPop(key);
+			}
+		}
+	}
+
+	/** Diese Methode löst eine Ausnahme aus, wenn {@link #canceled} gesetzt ist. Sie ist nach dem Setzen von {@link #running} aufzurufen, damit ein
+	 * gleichzeitiger Abbruch entweder die Anweisung abbricht oder hier erkannt wird. */
+	void checkCanceled() throws SQLException {
+		if (this.canceled) throw new SQLException("Statement was canceled", "HY008");
+	}
+
 	/** Diese Methode führt die gegebene Anfrage {@link PreparedStatement#executeQuery() aus} und gibt den {@link ResultSet#getLong(int) Zahlenwert} des ersten
 	 * Ergebnisses zurück. */
 	private long newKey(PreparedStatement stmt) throws NullPointerException, IllegalStateException {
-		try (var rset = stmt.executeQuery()) {
+		try (var rset = H2QQ.executeQuery(this, stmt)) {
 			if (rset.next()) return rset.getLong(1);
 		} catch (SQLException cause) {
 			throw new IllegalStateException(cause);
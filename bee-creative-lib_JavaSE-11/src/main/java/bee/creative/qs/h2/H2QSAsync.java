@@ -0,0 +1,226 @@
+package bee.creative.qs.h2;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import bee.creative.lang.Objects;
+import bee.creative.qs.QESet;
+import bee.creative.qs.QISet;
+import bee.creative.util.Consumer;
+import bee.creative.util.Getter;
+
+/** Diese Klasse implementiert die nebenläufige Ausführung von Anfragen über die Sitzungen eines {@link H2QSPool}. Jede Anfrage wird in einem eigenen Thread
+ * mit einer eigenen Sitzung ausgeführt, sodass gleichzeitig gestellte, voneinander unabhängige Anfragen insgesamt etwa so lange dauern wie die langsamste.
+ * Die Anzahl der Threads ist dazu auf das {@link H2QSPool#limit} des Vorrats beschränkt, die Anzahl der wartenden Aufgaben auf {@link #queueLimit}. Das
+ * {@link CompletableFuture#cancel(boolean) Abbrechen} einer laufenden Anfrage wird über {@link H2QS#cancel()} an die aktuell ausgeführte Anweisung ihrer
+ * Sitzung weitergeleitet. Jede danach begonnene Anweisung dieser Sitzung wird abgelehnt, sodass die Aufgabe endet. Dies gilt für die über {@link H2QQ}
+ * gebildeten Anweisungen ebenso wie für die aufbereiteten Anweisungen von {@link H2QS}, {@link H2QN}, {@link H2QE}, {@link H2QECursor} und
+ * {@link H2QSLoader}. Anweisungen, die eine {@link H2QIBag} Implementation selbst über {@link H2QQ#prepare(H2QS)} aufbereitet und ausführt, werden erst an
+ * der nächsten Anweisung der Sitzung abgebrochen.
+ * <p>
+ * Das Ergebnis wird erst abgeschlossen, nachdem die Sitzung an den Vorrat zurückgegeben wurde. Davon abhängige Stufen, die selbst eine Sitzung
+ * benötigen, werden damit nicht durch die noch gebundene Sitzung blockiert.
+ * <p>
+ * Da die Objekte einer Sitzung nicht mit denen einer anderen kombiniert werden können, werden Anfragen als {@link Getter} formuliert, der die abzufragende
+ * Menge zur gegebenen Sitzung liefert. Da die Sitzung nach Abschluss der Aufgabe bereits an den Vorrat zurückgegeben ist, dürfen deren Objekte das Ergebnis
+ * nicht verlassen. {@link #toListAsync(Getter, Getter)} überführt die Elemente daher noch in der Aufgabe in davon unabhängige Werte.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class H2QSAsync implements AutoCloseable {
+
+	/** Dieses Feld speichert den Vorrat der verwendeten Sitzungen. */
+	public final H2QSPool pool;
+
+	/** Dieses Feld speichert die maximale Anzahl der auf ihre Ausführung wartenden Aufgaben. */
+	public final int queueLimit;
+
+	/** Dieser Konstruktor ist eine Abkürzung für {@link #H2QSAsync(H2QSPool, int) new H2QSAsync(pool, 1024)}. */
+	public H2QSAsync(H2QSPool pool) throws NullPointerException {
+		this(pool, 1024);
+	}
+
+	/** Dieser Konstruktor initialisiert den Vorrat der verwendeten Sitzungen und die maximale Anzahl der wartenden Aufgaben. Der Vorrat wird beim
+	 * {@link #close() Schließen} nicht geschlossen.
+	 *
+	 * @param pool Vorrat der verwendeten Sitzungen.
+	 * @param queueLimit maximale Anzahl der auf ihre Ausführung wartenden Aufgaben. */
+	public H2QSAsync(H2QSPool pool, int queueLimit) throws NullPointerException, IllegalArgumentException {
+		if (queueLimit <= 0) throw new IllegalArgumentException();
+		this.pool = Objects.notNull(pool);
+		this.queueLimit = queueLimit;
+		var threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(pool.limit, pool.limit, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueLimit), task -> {
+			var thread = new Thread(task, "H2QSAsync-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/** Diese Methode führt die gegebene Aufgabe nebenläufig mit einer Sitzung des {@link #pool Vorrats} aus und gibt deren Ergebnis als {@link CompletableFuture}
+	 * zurück.
+	 *
+	 * @param readOnly {@code true}, wenn die Sitzung nur lesend verwendet wird.
+	 * @param task Aufgabe.
+	 * @return Ergebnis der Aufgabe.
+	 * @throws IllegalStateException Wenn dieses Objekt bereits geschlossen wurde oder bereits {@link #queueLimit} Aufgaben warten. */
+	public <T> CompletableFuture<T> submit(boolean readOnly, Task<? extends T> task) throws NullPointerException, IllegalStateException {
+		var res = new Job<T>(this.pool, readOnly, Objects.notNull(task));
+		try {
+			this.executor.execute(res);
+		} catch (RejectedExecutionException cause) {
+			throw new IllegalStateException(cause);
+		}
+		return res;
+	}
+
+	/** Diese Methode ermittelt die {@link QISet#size() Anzahl} der Elemente der über die gegebene Anfrage gelieferten Menge nebenläufig. */
+	public CompletableFuture<Long> sizeAsync(Getter<? super H2QS, ? extends QISet<?>> query) throws NullPointerException, IllegalStateException {
+		Objects.notNull(query);
+		return this.submit(true, session -> query.get(session).size());
+	}
+
+	/** Diese Methode ermittelt die Elemente der über die gegebene Anfrage gelieferten Menge nebenläufig und überführt sie über den gegebenen {@link Getter} in
+	 * von der Sitzung unabhängige Werte, bspw. {@link H2QN#value() Textwerte} oder {@link H2QN#key Kennungen}. Dieser wird im Thread der Anfrage aufgerufen,
+	 * solange die Sitzung noch verwendet wird. */
+	public <E, R> CompletableFuture<List<R>> toListAsync(Getter<? super H2QS, ? extends QISet<E>> query, Getter<? super E, ? extends R> item)
+		throws NullPointerException, IllegalStateException {
+		Objects.notNull(query);
+		Objects.notNull(item);
+		return this.submit(true, session -> {
+			var result = new ArrayList<R>();
+			for (var next: query.get(session)) {
+				result.add(item.get(next));
+			}
+			return result;
+		});
+	}
+
+	/** Diese Methode übergibt die Elemente der über die gegebene Anfrage gelieferten Menge nebenläufig in Listen mit höchstens {@code batchSize} Elementen an
+	 * den gegebenen {@link Consumer}. Dieser wird im Thread der Anfrage aufgerufen, solange die Sitzung noch verwendet wird, und darf die Elemente daher nur
+	 * bis zu seiner Rückkehr verwenden. Das Ergebnis nennt die Anzahl der übergebenen Elemente. */
+	public <E> CompletableFuture<Long> forEachAsync(Getter<? super H2QS, ? extends QISet<E>> query, int batchSize, Consumer<? super List<E>> target)
+		throws NullPointerException, IllegalArgumentException, IllegalStateException {
+		if (batchSize <= 0) throw new IllegalArgumentException();
+		Objects.notNull(query);
+		Objects.notNull(target);
+		return this.submit(true, session -> {
+			var count = 0L;
+			var batch = new ArrayList<E>(batchSize);
+			for (var item: query.get(session)) {
+				batch.add(item);
+				if (batch.size() == batchSize) {
+					target.set(batch);
+					count += batchSize;
+					batch = new ArrayList<>(batchSize);
+				}
+			}
+			if (!batch.isEmpty()) {
+				target.set(batch);
+				count += batch.size();
+			}
+			return count;
+		});
+	}
+
+	/** Diese Methode {@link QESet#putAll() speichert} die über die gegebene Anfrage gelieferten Hyperkanten nebenläufig. */
+	public CompletableFuture<Boolean> putAsync(Getter<? super H2QS, ? extends QESet> query) throws NullPointerException, IllegalStateException {
+		Objects.notNull(query);
+		return this.submit(false, session -> query.get(session).putAll());
+	}
+
+	/** Diese Methode beendet die Threads, nachdem alle bereits übergebenen Aufgaben ausgeführt wurden. Weitere Aufgaben werden danach abgelehnt. */
+	@Override
+	public void close() {
+		this.executor.shutdown();
+	}
+
+	@Override
+	public String toString() {
+		return Objects.toInvokeString(this, this.pool);
+	}
+
+	/** Diese Schnittstelle definiert eine über {@link H2QSAsync#submit(boolean, Task)} nebenläufig ausgeführte Aufgabe. */
+	public static interface Task<T> {
+
+		/** Diese Methode führt diese Aufgabe mit der gegebenen Sitzung aus und gibt ihr Ergebnis zurück. Die Sitzung darf dabei nicht geschlossen werden. */
+		T apply(H2QS session) throws Exception;
+
+	}
+
+	/** Diese Klasse implementiert das Ergebnis einer nebenläufig ausgeführten {@link Task Aufgabe}, dessen {@link #cancel(boolean) Abbruch} an die laufende
+	 * Anweisung ihrer Sitzung weitergeleitet wird. Die Sitzung wird unter dem Monitor dieses Objekts gebunden und gelöst, sodass ein Abbruch nie eine bereits
+	 * an den Vorrat zurückgegebene und von einer anderen Aufgabe verwendete Sitzung trifft. */
+	static final class Job<T> extends CompletableFuture<T> implements Runnable {
+
+		@Override
+		public void run() {
+			if (this.isDone()) return;
+			T result;
+			try (var session = this.pool.open(this.readOnly)) {
+				if (!this.attach(session)) return;
+				try {
+					result = this.task.apply(session);
+				} finally {
+					this.detach(session);
+				}
+			} catch (Throwable cause) {
+				this.completeExceptionally(cause);
+				return;
+			}
+			this.complete(result);
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			if (!super.cancel(mayInterruptIfRunning)) return false;
+			synchronized (this) {
+				var session = this.session;
+				if (session == null) return true;
+				session.canceled = true;
+				try {
+					session.cancel();
+				} catch (SQLException ignore) {}
+			}
+			return true;
+		}
+
+		final H2QSPool pool;
+
+		final boolean readOnly;
+
+		final Task<? extends T> task;
+
+		/** Dieses Feld speichert die Sitzung, solange diese von der Aufgabe verwendet wird, oder {@code null}. */
+		H2QS session;
+
+		/** Diese Methode bindet die gegebene Sitzung an diese Aufgabe und liefert nur dann {@code true}, wenn diese noch nicht abgebrochen wurde. */
+		synchronized boolean attach(H2QS session) {
+			if (this.isDone()) return false;
+			this.session = session;
+			return true;
+		}
+
+		/** Diese Methode löst die gegebene Sitzung von dieser Aufgabe, bevor diese an den Vorrat zurückgegeben wird. */
+		synchronized void detach(H2QS session) {
+			this.session = null;
+			session.canceled = false;
+		}
+
+		Job(H2QSPool pool, boolean readOnly, Task<? extends T> task) {
+			this.pool = pool;
+			this.readOnly = readOnly;
+			this.task = task;
+		}
+
+	}
+
+	final ThreadPoolExecutor executor;
+
+}
@@ -0,0 +1,357 @@
+package bee.creative.qs.h2;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import bee.creative.lang.Objects;
+
+/** Diese Klasse implementiert einen threadsicheren Puffer, der die {@link H2QN#key Kennungen} und {@link H2QN#value() Textwerte} von {@link H2QN
+ * Hyperknoten} in beide Richtungen abbildet. Die Anzahl der Einträge ist auf eine gegebene {@link #limit() Kapazität} beschränkt. Bei deren Überschreitung
+ * wird ein seit seiner letzten Prüfung nicht verwendeter Eintrag verdrängt (Second-Chance-Verfahren). Die Anzahl der Treffer und Fehlschläge beim Lesen wird
+ * erfasst. Zusätzlich werden die {@link #getEdgeCount(long, long) Anzahlen der Hyperkanten} je Kontext und Prädikat gepuffert, bis deren Anzahl die
+ * Kapazität übersteigt.
+ * <p>
+ * Das Lesen erfolgt ohne Sperre über nebenläufige Abbildungen und markiert den gelesenen Eintrag lediglich als verwendet, sodass sich die Sitzungen eines
+ * {@link H2QSPool} dabei nicht gegenseitig blockieren. Nur das Ändern und Verdrängen von Einträgen wird über diesen Puffer synchronisiert.
+ * <p>
+ * Das Entfernen von Einträgen erhöht den {@link #nodeVersion() Änderungsstand der Hyperknoten}, das Entfernen von Anzahlen den {@link #edgeVersion()
+ * Änderungsstand der Hyperkanten}. Ein aus der Datenbank gelesener Eintrag wird über {@link #put(long, String, long)} bzw.
+ * {@link #putEdgeCount(long, long, long, long)} nur dann übernommen, wenn sich der vor dem Lesen ermittelte Änderungsstand seither nicht geändert hat. Damit
+ * kann ein Eintrag, der vor dem Entfernen gelesen wurde, nicht nach dem Entfernen in den Puffer gelangen. Der Änderungsstand wird auch dann erhöht, wenn der
+ * zu entfernende Eintrag nicht gepuffert ist, da er gerade von einer anderen Sitzung gelesen werden kann. {@link H2QS} entfernt Einträge daher nur nach
+ * tatsächlichen Änderungen der Datenbank. Das Verdrängen ändert den Änderungsstand nicht.
+ * <p>
+ * Eine {@link H2QS Sitzung}, die innerhalb einer noch nicht bestätigten Transaktion Hyperknoten oder Hyperkanten entfernt, sperrt nur die davon betroffenen
+ * Einträge, d.h. die {@link #hold(long) Kennungen} bzw. die {@link #holdEdgeCounts(long) Kontexte}. Nur nach dem Leeren des Puffers bzw. aller Anzahlen
+ * wird dieser {@link #hold() vollständig} bzw. für alle {@link #holdEdgeCounts() Anzahlen} gesperrt. Gesperrte Einträge werden nicht übernommen, alle
+ * anderen Einträge werden von den übrigen Sitzungen weiterhin gepuffert.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public final class H2QSCache {
+
+	/** Dieser Konstruktor initialisiert die Kapazität.
+	 *
+	 * @param limit maximale Anzahl an Einträgen, {@code 0} deaktiviert den Puffer.
+	 * @throws IllegalArgumentException Wenn {@code limit < 0} ist. */
+	public H2QSCache(int limit) throws IllegalArgumentException {
+		this.limit(limit);
+	}
+
+	/** Diese Methode gibt die maximale Anzahl an Einträgen zurück. */
+	public int limit() {
+		return this.limit;
+	}
+
+	/** Diese Methode setzt die maximale Anzahl an Einträgen und verdrängt bei Bedarf nicht verwendete Einträge.
+	 *
+	 * @param limit maximale Anzahl an Einträgen, {@code 0} deaktiviert den Puffer.
+	 * @throws IllegalArgumentException Wenn {@code limit < 0} ist. */
+	public synchronized void limit(int limit) throws IllegalArgumentException {
+		if (limit < 0) throw new IllegalArgumentException();
+		this.limit = limit;
+		this.evict();
+		if (this.edgeSize <= limit) return;
+		this.dropEdgeCounts();
+	}
+
+	/** Diese Methode gibt die Anzahl der Einträge zurück. */
+	public int size() {
+		return this.valueMap.size();
+	}
+
+	/** Diese Methode gibt die Anzahl der erfolgreichen Aufrufe von {@link #getKey(String)} und {@link #getValue(long)} zurück. */
+	public long hitCount() {
+		return this.hitCount.sum();
+	}
+
+	/** Diese Methode gibt die Anzahl der erfolglosen Aufrufe von {@link #getKey(String)} und {@link #getValue(long)} zurück. */
+	public long missCount() {
+		return this.missCount.sum();
+	}
+
+	/** Diese Methode gibt die Kennung des Hyperknoten mit dem gegebenen Textwert zurück. Wenn dieser nicht gepuffert ist, wird {@code null} geliefert. */
+	public Long getKey(String value) {
+		var item = this.keyMap.get(value);
+		if (item == null) {
+			this.missCount.increment();
+			return null;
+		}
+		this.hitCount.increment();
+		item.use();
+		return item.key;
+	}
+
+	/** Diese Methode gibt den Textwert des Hyperknoten mit der gegebenen Kennung zurück. Wenn dieser nicht gepuffert ist, wird {@code null} geliefert. */
+	public String getValue(long key) {
+		var item = this.valueMap.get(key);
+		if (item == null) {
+			this.missCount.increment();
+			return null;
+		}
+		this.hitCount.increment();
+		item.use();
+		return item.value;
+	}
+
+	/** Diese Methode gibt den Änderungsstand der Hyperknoten zurück. Dieser ist vor dem Lesen eines Eintrags aus der Datenbank zu ermitteln. */
+	public long nodeVersion() {
+		return this.nodeVersion;
+	}
+
+	/** Diese Methode gibt den Änderungsstand der Hyperkanten zurück. Dieser ist vor dem Zählen von Hyperkanten in der Datenbank zu ermitteln. */
+	public long edgeVersion() {
+		return this.edgeVersion;
+	}
+
+	/** Diese Methode puffert den gegebenen Textwert des Hyperknoten mit der gegebenen Kennung, sofern weder der Puffer noch die Kennung {@link #hold(long)
+	 * gesperrt} ist und der gegebene {@link #nodeVersion() Änderungsstand} noch aktuell ist.
+	 *
+	 * @param key Kennung.
+	 * @param value Textwert.
+	 * @param version Änderungsstand vor dem Lesen des Textwerts. */
+	public synchronized void put(long key, String value, long version) throws NullPointerException {
+		Objects.notNull(value);
+		if ((this.limit == 0) || (this.holdCount != 0) || (this.nodeVersion != version) || this.keyHolds.containsKey(key)) return;
+		var item = this.valueMap.get(key);
+		if (item != null) {
+			if (item.value.equals(value)) {
+				item.use();
+				return;
+			}
+			this.keyMap.remove(item.value, item);
+		}
+		var item2 = this.keyMap.get(value);
+		if (item2 != null) {
+			this.valueMap.remove(item2.key, item2);
+		}
+		item = new Item(key, value);
+		this.valueMap.put(key, item);
+		this.keyMap.put(value, item);
+		this.itemQueue.add(item);
+		this.evict();
+	}
+
+	/** Diese Methode entfernt den Eintrag zum Hyperknoten mit der gegebenen Kennung und erhöht den {@link #nodeVersion() Änderungsstand der Hyperknoten}. */
+	public synchronized void pop(long key) {
+		this.nodeVersion++;
+		var item = this.valueMap.remove(key);
+		if (item == null) return;
+		this.keyMap.remove(item.value, item);
+	}
+
+	/** Diese Methode gibt die Anzahl der Hyperkanten mit dem gegebenen Kontext und Prädikat zurück. Wenn diese nicht gepuffert ist, wird {@code null}
+	 * geliefert. */
+	public Long getEdgeCount(long context, long predicate) {
+		var counts = this.edgeMap.get(context);
+		return counts != null ? counts.get(predicate) : null;
+	}
+
+	/** Diese Methode puffert die Anzahl der Hyperkanten mit dem gegebenen Kontext und Prädikat, sofern weder der Puffer, die Anzahlen noch der Kontext
+	 * {@link #holdEdgeCounts(long) gesperrt} ist und der gegebene {@link #edgeVersion() Änderungsstand} noch aktuell ist. Wenn die Kapazität erreicht ist,
+	 * werden zuvor alle Anzahlen verdrängt.
+	 *
+	 * @param context Kennung des Kontextknoten.
+	 * @param predicate Kennung des Prädikatknoten.
+	 * @param count Anzahl der Hyperkanten.
+	 * @param version Änderungsstand vor dem Zählen der Hyperkanten. */
+	public synchronized void putEdgeCount(long context, long predicate, long count, long version) {
+		if ((this.limit == 0) || (this.holdCount != 0) || (this.edgeHoldCount != 0) || (this.edgeVersion != version) || this.contextHolds.containsKey(context))
+			return;
+		if (this.edgeSize >= this.limit) {
+			this.dropEdgeCounts();
+		}
+		if (this.edgeMap.computeIfAbsent(context, key -> new ConcurrentHashMap<>()).put(predicate, count) != null) return;
+		this.edgeSize++;
+	}
+
+	/** Diese Methode entfernt die Anzahl der Hyperkanten mit dem gegebenen Kontext und Prädikat und erhöht den {@link #edgeVersion() Änderungsstand der
+	 * Hyperkanten}. */
+	public synchronized void popEdgeCount(long context, long predicate) {
+		this.edgeVersion++;
+		var counts = this.edgeMap.get(context);
+		if ((counts == null) || (counts.remove(predicate) == null)) return;
+		this.edgeSize--;
+		if (!counts.isEmpty()) return;
+		this.edgeMap.remove(context);
+	}
+
+	/** Diese Methode entfernt die Anzahlen der Hyperkanten mit dem gegebenen Kontext und erhöht den {@link #edgeVersion() Änderungsstand der Hyperkanten}. */
+	public synchronized void popEdgeCounts(long context) {
+		this.edgeVersion++;
+		var counts = this.edgeMap.remove(context);
+		if (counts == null) return;
+		this.edgeSize -= counts.size();
+	}
+
+	/** Diese Methode entfernt alle Anzahlen von Hyperkanten und erhöht den {@link #edgeVersion() Änderungsstand der Hyperkanten}. */
+	public synchronized void clearEdgeCounts() {
+		this.edgeVersion++;
+		this.dropEdgeCounts();
+	}
+
+	/** Diese Methode entfernt alle Einträge und {@link #clearEdgeCounts() Anzahlen von Hyperkanten}. */
+	public synchronized void clear() {
+		this.nodeVersion++;
+		this.valueMap.clear();
+		this.keyMap.clear();
+		this.itemQueue.clear();
+		this.clearEdgeCounts();
+	}
+
+	/** Diese Methode sperrt den Puffer vollständig bis zum zugehörigen Aufruf von {@link #release()}. Sie wird von einer {@link H2QS Sitzung} aufgerufen, die
+	 * innerhalb einer noch nicht bestätigten Transaktion den Puffer {@link #clear() geleert} hat, da andere Sitzungen bis zu deren Abschluss den alten Stand
+	 * lesen. */
+	public synchronized void hold() {
+		this.holdCount++;
+	}
+
+	/** Diese Methode sperrt die Einträge zum Hyperknoten mit der gegebenen Kennung bis zum zugehörigen Aufruf von {@link #release(long)}. Sie wird von einer
+	 * {@link H2QS Sitzung} aufgerufen, die innerhalb einer noch nicht bestätigten Transaktion den Hyperknoten entfernt hat. */
+	public synchronized void hold(long key) {
+		this.keyHolds.merge(key, 1, Integer::sum);
+	}
+
+	/** Diese Methode sperrt alle Anzahlen von Hyperkanten bis zum zugehörigen Aufruf von {@link #releaseEdgeCounts()} analog zu {@link #hold()}. */
+	public synchronized void holdEdgeCounts() {
+		this.edgeHoldCount++;
+	}
+
+	/** Diese Methode sperrt die Anzahlen der Hyperkanten mit dem gegebenen Kontext bis zum zugehörigen Aufruf von {@link #releaseEdgeCounts(long)} analog zu
+	 * {@link #hold(long)}. */
+	public synchronized void holdEdgeCounts(long context) {
+		this.contextHolds.merge(context, 1, Integer::sum);
+	}
+
+	/** Diese Methode hebt eine über {@link #hold()} eingerichtete Sperre auf. */
+	public synchronized void release() throws IllegalStateException {
+		if (this.holdCount == 0) throw new IllegalStateException();
+		this.holdCount--;
+	}
+
+	/** Diese Methode hebt eine über {@link #hold(long)} eingerichtete Sperre auf. */
+	public synchronized void release(long key) throws IllegalStateException {
+		H2QSCache.release(this.keyHolds, key);
+	}
+
+	/** Diese Methode hebt eine über {@link #holdEdgeCounts()} eingerichtete Sperre auf. */
+	public synchronized void releaseEdgeCounts() throws IllegalStateException {
+		if (this.edgeHoldCount == 0) throw new IllegalStateException();
+		this.edgeHoldCount--;
+	}
+
+	/** Diese Methode hebt eine über {@link #holdEdgeCounts(long)} eingerichtete Sperre auf. */
+	public synchronized void releaseEdgeCounts(long context) throws IllegalStateException {
+		H2QSCache.release(this.contextHolds, context);
+	}
+
+	@Override
+	public String toString() {
+		return Objects.toInvokeString(this, this.limit, this.size(), this.hitCount(), this.missCount());
+	}
+
+	/** Diese Klasse implementiert einen Eintrag mit Kennung, Textwert und Markierung der Verwendung. */
+	static final class Item {
+
+		final long key;
+
+		final String value;
+
+		/** Dieses Feld speichert nur dann {@code true}, wenn der Eintrag seit seiner letzten Prüfung beim Verdrängen verwendet wurde. */
+		volatile boolean used;
+
+		Item(long key, String value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		/** Diese Methode markiert den Eintrag als verwendet. Sie schreibt das Feld nur bei Bedarf, damit wiederholtes Lesen nur lesend auf den Eintrag
+		 * zugreift. */
+		void use() {
+			if (this.used) return;
+			this.used = true;
+		}
+
+	}
+
+	volatile int limit;
+
+	/** Dieses Feld speichert den Änderungsstand der Hyperknoten. */
+	volatile long nodeVersion;
+
+	/** Dieses Feld speichert den Änderungsstand der Hyperkanten. */
+	volatile long edgeVersion;
+
+	/** Dieses Feld speichert die Anzahl der Sperren des Puffers. */
+	int holdCount;
+
+	/** Dieses Feld speichert die Anzahl der Sperren aller Anzahlen von Hyperkanten. */
+	int edgeHoldCount;
+
+	/** Dieses Feld bildet die gesperrten Kennungen auf die Anzahl ihrer Sperren ab. */
+	final HashMap<Long, Integer> keyHolds = new HashMap<>();
+
+	/** Dieses Feld bildet die gesperrten Kontexte auf die Anzahl ihrer Sperren ab. */
+	final HashMap<Long, Integer> contextHolds = new HashMap<>();
+
+	final LongAdder hitCount = new LongAdder();
+
+	final LongAdder missCount = new LongAdder();
+
+	int edgeSize;
+
+	/** Dieses Feld bildet die Kontexte auf die Abbildung der Prädikate auf die Anzahlen der Hyperkanten ab. */
+	final ConcurrentHashMap<Long, ConcurrentHashMap<Long, Long>> edgeMap = new ConcurrentHashMap<>();
+
+	/** Dieses Feld bildet die Textwerte auf die Einträge ab. */
+	final ConcurrentHashMap<String, Item> keyMap = new ConcurrentHashMap<>();
+
+	/** Dieses Feld bildet die Kennungen auf die Einträge ab. */
+	final ConcurrentHashMap<Long, Item> valueMap = new ConcurrentHashMap<>();
+
+	/** Dieses Feld speichert die Einträge in der Reihenfolge ihrer Aufnahme bzw. letzten Prüfung beim Verdrängen. Entfernte Einträge werden erst beim
+	 * Verdrängen bzw. {@link #compact() Bereinigen} übergangen. */
+	final ArrayDeque<Item> itemQueue = new ArrayDeque<>();
+
+	static void release(HashMap<Long, Integer> holds, long key) throws IllegalStateException {
+		var count = holds.get(key);
+		if (count == null) throw new IllegalStateException();
+		if (count == 1) {
+			holds.remove(key);
+		} else {
+			holds.put(key, count - 1);
+		}
+	}
+
+	/** Diese Methode verdrängt Einträge, bis die Kapazität eingehalten ist. Als verwendet markierte Einträge werden dabei einmalig zurückgestellt. */
+	void evict() {
+		var queue = this.itemQueue;
+		while (this.valueMap.size() > this.limit) {
+			var item = queue.poll();
+			if (this.valueMap.get(item.key) != item) {
+				continue;
+			}
+			if (item.used) {
+				item.used = false;
+				queue.add(item);
+			} else {
+				this.valueMap.remove(item.key, item);
+				this.keyMap.remove(item.value, item);
+			}
+		}
+		if (queue.size() <= ((this.limit * 2) + 16)) return;
+		this.compact();
+	}
+
+	/** Diese Methode entfernt die nicht mehr gepufferten Einträge aus {@link #itemQueue}. */
+	void compact() {
+		this.itemQueue.removeIf(item -> this.valueMap.get(item.key) != item);
+	}
+
+	/** Diese Methode entfernt alle Anzahlen von Hyperkanten, ohne den {@link #edgeVersion() Änderungsstand} zu ändern. */
+	void dropEdgeCounts() {
+		this.edgeMap.clear();
+		this.edgeSize = 0;
+	}
+
+}
@@ -0,0 +1,267 @@
+package bee.creative.qs.h2;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import bee.creative.lang.Objects;
+
+/** Diese Klasse implementiert einen Massenlader, der Hyperkanten und Textwerte ohne Umweg über temporäre Tabellen direkt in die Tabellen {@code QE} und
+ * {@code QN} eines {@link H2QS Graphspeichers} schreibt. Die Hyperkanten werden dazu über {@link #putEdge(long, long, long, long)} als Kennungen übergeben
+ * und in Stapeln der {@link #batchSize Stapelgröße} gesammelt. Jeder Stapel wird nach {@code (C, P, S, O)} sortiert, von Duplikaten befreit und mit einer
+ * einzigen Anweisung {@code INSERT INTO QE ... SELECT} aus als Felder gebundenen Spalten eingefügt. Nur wenn dabei eine Hyperkante bereits existiert, wird
+ * der Stapel stattdessen über den Primärschlüssel {@code MERGE INTO QE ... KEY (C, P, S, O)} zusammengeführt. Jeder Stapel wird in einer eigenen Transaktion
+ * geschrieben.
+ * <p>
+ * Bei {@link #deferIndexes} werden die Indizes {@code QE_INDEX_CPO}, {@code QE_INDEX_CSP} und {@code QE_INDEX_COP} für die Dauer des Ladens entfernt und
+ * beim {@link #close() Schließen} in einem Zug neu erzeugt. Da diese Indizes allen Verbindungen der Datenbank fehlen, ist dies nur zulässig, solange keine
+ * andere Verbindung geöffnet ist, auch nicht die ruhenden Sitzungen eines {@link H2QSPool}. Während des Ladens sollen auch keine weiteren Verbindungen
+ * geöffnet werden.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class H2QSLoader implements AutoCloseable {
+
+	/** Dieses Feld speichert den Graphspeicher. */
+	public final H2QS owner;
+
+	/** Dieses Feld speichert die Anzahl der Hyperkanten bzw. Textwerte, die gemeinsam übertragen werden. */
+	public final int batchSize;
+
+	/** Dieses Feld speichert nur dann {@code true}, wenn die Indizes der Tabelle {@code QE} erst beim {@link #close() Schließen} erzeugt werden. */
+	public final boolean deferIndexes;
+
+	/** Dieser Konstruktor initialisiert Graphspeicher und Stapelgröße und entfernt bei {@code deferIndexes} die Indizes der Tabelle {@code QE}, die nicht dem
+	 * Primärschlüssel entsprechen. Bis zum {@link #close() Schließen} ist die automatische Bestätigung von Transaktionen der Datenbankverbindung abgeschaltet.
+	 *
+	 * @param owner Graphspeicher.
+	 * @param batchSize Stapelgröße.
+	 * @param deferIndexes {@code true}, wenn die Indizes erst beim {@link #close() Schließen} erzeugt werden sollen.
+	 * @throws IllegalStateException Wenn bei {@code deferIndexes} noch andere Verbindungen zur Datenbank geöffnet sind. */
+	public H2QSLoader(H2QS owner, int batchSize, boolean deferIndexes)
+		throws SQLException, NullPointerException, IllegalArgumentException, IllegalStateException {
+		if (batchSize <= 0) throw new IllegalArgumentException();
+		this.owner = Objects.notNull(owner);
+		this.batchSize = batchSize;
+		this.deferIndexes = deferIndexes;
+		if (deferIndexes) {
+			try (var rset = new H2QQ().push("SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS").select(owner)) {
+				if (rset.next() && (rset.getLong(1) > 1)) throw new IllegalStateException("deferIndexes requires a single open connection");
+			}
+			new H2QQ().push("DROP INDEX IF EXISTS QE_INDEX_CPO;DROP INDEX IF EXISTS QE_INDEX_CSP;DROP INDEX IF EXISTS QE_INDEX_COP").update(owner);
+		}
+		this.autoCommit = owner.conn.getAutoCommit();
+		owner.conn.setAutoCommit(false);
+		this.edges = new long[batchSize * 4];
+		this.insertEdges = owner.conn.prepareStatement("INSERT INTO QE (C, P, S, O) SELECT * FROM " + H2QSLoader.EDGE_TABLE);
+		this.mergeEdges = owner.conn.prepareStatement("MERGE INTO QE (C, P, S, O) KEY (C, P, S, O) SELECT * FROM " + H2QSLoader.EDGE_TABLE);
+		this.putValues = owner.conn.prepareStatement("MERGE INTO QN (V) KEY (V) VALUES (?)");
+	}
+
+	/** Diese Methode reserviert die gegebene Anzahl an Kennungen für Hyperknoten ohne Textwert mit einer einzigen Anfrage und gibt diese zurück.
+	 *
+	 * @param count Anzahl der Kennungen.
+	 * @return Kennungen. */
+	public long[] newKeys(int count) throws SQLException, IllegalArgumentException {
+		if (count < 0) throw new IllegalArgumentException();
+		var result = new long[count];
+		if (count == 0) return result;
+		try (var stmt = this.owner.conn.prepareStatement("SELECT NEXT VALUE FOR QN_SEQ FROM SYSTEM_RANGE(1, ?)")) {
+			stmt.setInt(1, count);
+			try (var rset = H2QQ.executeQuery(this.owner, stmt)) {
+				for (var i = 0; i < count; i++) {
+					if (!rset.next()) throw new IllegalStateException();
+					result[i] = rset.getLong(1);
+				}
+			}
+		}
+		return result;
+	}
+
+	/** Diese Methode fügt die Hyperkante mit den gegebenen Knotenkennungen hinzu. Die Übertragung erfolgt spätestens beim {@link #flush() Abschließen}. */
+	public void putEdge(long context, long predicate, long subject, long object) throws SQLException {
+		var edges = this.edges;
+		var index = this.edgeCount * 4;
+		edges[index] = context;
+		edges[index + 1] = predicate;
+		edges[index + 2] = subject;
+		edges[index + 3] = object;
+		if (++this.edgeCount < this.batchSize) return;
+		this.flushEdges();
+		this.owner.commit();
+	}
+
+	/** Diese Methode fügt die Hyperkanten hinzu, deren Knotenkennungen in der gegebenen Zahlenfolge ab der gegebenen Position als Folge von
+	 * {@code (C, P, S, O)}-Quadrupeln stehen.
+	 *
+	 * @param edges Knotenkennungen.
+	 * @param offset Position der ersten Knotenkennung.
+	 * @param count Anzahl der Hyperkanten. */
+	public void putEdges(long[] edges, int offset, int count) throws SQLException, NullPointerException, IllegalArgumentException {
+		if ((offset < 0) || (count < 0) || ((edges.length - offset) / 4 < count)) throw new IllegalArgumentException();
+		for (var end = offset + (count * 4); offset < end; offset += 4) {
+			this.putEdge(edges[offset], edges[offset + 1], edges[offset + 2], edges[offset + 3]);
+		}
+	}
+
+	/** Diese Methode fügt den gegebenen Textwert als Hyperknoten hinzu, sofern dieser noch nicht existiert. Die Übertragung erfolgt spätestens beim
+	 * {@link #flush() Abschließen}. */
+	public void putValue(Object value) throws SQLException, NullPointerException {
+		var stmt = this.putValues;
+		stmt.setString(1, this.owner.asQV(value));
+		stmt.addBatch();
+		if (++this.valueCount < this.batchSize) return;
+		this.flushValues();
+		this.owner.commit();
+	}
+
+	/** Diese Methode überträgt die noch ausstehenden Hyperkanten und Textwerte und bestätigt die Transaktion. */
+	public void flush() throws SQLException {
+		this.flushEdges();
+		this.flushValues();
+		this.owner.commit();
+	}
+
+	/** Diese Methode {@link #flush() überträgt} die noch ausstehenden Hyperkanten und Textwerte, erzeugt bei {@link #deferIndexes} die Indizes der Tabelle
+	 * {@code QE} und stellt die automatische Bestätigung von Transaktionen der Datenbankverbindung wieder her. Wenn dabei eine Ausnahme auftritt, wird der
+	 * unvollständig übertragene Stapel {@link H2QS#rollback() verworfen}. Die Indizes werden auch dann erzeugt. */
+	@Override
+	public void close() throws SQLException {
+		if (this.closed) return;
+		this.closed = true;
+		var conn = this.owner.conn;
+		try {
+			try {
+				this.flush();
+			} finally {
+				if (this.deferIndexes) {
+					this.owner.rollback();
+					new H2QQ().push(H2QS.QE_INDEXES).update(this.owner);
+					this.owner.commit();
+				}
+			}
+		} catch (SQLException | RuntimeException | Error cause) {
+			try {
+				this.owner.rollback();
+			} catch (SQLException cause2) {
+				cause.addSuppressed(cause2);
+			}
+			throw cause;
+		} finally {
+			try {
+				this.insertEdges.close();
+				this.mergeEdges.close();
+				this.putValues.close();
+			} finally {
+				conn.setAutoCommit(this.autoCommit);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return Objects.toInvokeString(this, this.owner, this.batchSize, this.deferIndexes);
+	}
+
+	final boolean autoCommit;
+
+	/** Dieses Feld speichert die Tabellenfunktion, die die als Felder gebundenen Spalten eines Stapels von Hyperkanten liefert. */
+	static final String EDGE_TABLE = "TABLE(C BIGINT=?, P BIGINT=?, S BIGINT=?, O BIGINT=?)";
+
+	/** Dieses Feld speichert den {@code SQLSTATE} einer Verletzung des Primärschlüssels. */
+	static final String DUPLICATE_KEY = "23505";
+
+	final PreparedStatement insertEdges;
+
+	final PreparedStatement mergeEdges;
+
+	final PreparedStatement putValues;
+
+	/** Dieses Feld speichert die Knotenkennungen des aktuellen Stapels von Hyperkanten als Folge von {@code (C, P, S, O)}-Quadrupeln. */
+	final long[] edges;
+
+	int edgeCount;
+
+	int valueCount;
+
+	boolean closed;
+
+	void flushEdges() throws SQLException {
+		var count = this.edgeCount;
+		if (count == 0) return;
+		this.edgeCount = 0;
+		var edges = this.edges;
+		if (!H2QSLoader.isSorted(edges, count)) {
+			H2QSLoader.sort(edges, count);
+		}
+		var size = 0;
+		for (var i = 0; i < count; i++) {
+			var index = i * 4;
+			if ((size != 0) && (H2QSLoader.compare(edges, (size - 1) * 4, index) == 0)) {
+				continue;
+			}
+			System.arraycopy(edges, index, edges, size * 4, 4);
+			size++;
+		}
+		var cols = new Long[4][size];
+		for (var i = 0; i < size; i++) {
+			for (var c = 0; c < 4; c++) {
+				cols[c][i] = edges[(i * 4) + c];
+			}
+		}
+		boolean changed;
+		try {
+			changed = this.execute(this.insertEdges, cols) != 0;
+		} catch (SQLException cause) {
+			if (!H2QSLoader.DUPLICATE_KEY.equals(cause.getSQLState())) throw cause;
+			changed = this.execute(this.mergeEdges, cols) != 0;
+		}
+		if (!changed) return;
+		this.owner.clearEdgeCounts();
+	}
+
+	long execute(PreparedStatement stmt, Long[][] cols) throws SQLException {
+		for (var c = 0; c < 4; c++) {
+			stmt.setObject(c + 1, cols[c]);
+		}
+		return H2QQ.executeUpdate(this.owner, stmt);
+	}
+
+	/** Diese Methode vergleicht die Hyperkanten an den gegebenen Positionen der gegebenen Knotenkennungen nach {@code (C, P, S, O)}. */
+	static int compare(long[] edges, int index1, int index2) {
+		for (var c = 0; c < 4; c++) {
+			var result = Long.compare(edges[index1 + c], edges[index2 + c]);
+			if (result != 0) return result;
+		}
+		return 0;
+	}
+
+	static boolean isSorted(long[] edges, int count) {
+		for (var i = 1; i < count; i++) {
+			if (H2QSLoader.compare(edges, (i - 1) * 4, i * 4) > 0) return false;
+		}
+		return true;
+	}
+
+	/** Diese Methode sortiert die gegebene Anzahl an Hyperkanten der gegebenen Knotenkennungen nach {@code (C, P, S, O)}. */
+	static void sort(long[] edges, int count) {
+		var order = new Integer[count];
+		for (var i = 0; i < count; i++) {
+			order[i] = i * 4;
+		}
+		Arrays.sort(order, (index1, index2) -> H2QSLoader.compare(edges, index1, index2));
+		var source = Arrays.copyOf(edges, count * 4);
+		for (var i = 0; i < count; i++) {
+			System.arraycopy(source, order[i], edges, i * 4, 4);
+		}
+	}
+
+	void flushValues() throws SQLException {
+		if (this.valueCount == 0) return;
+		this.valueCount = 0;
+		var changed = false;
+		for (var count: H2QQ.executeBatch(this.owner, this.putValues)) {
+			changed |= count != 0;
+		}
+		this.owner.markPutValue(changed);
+	}
+
+}
@@ -0,0 +1,257 @@
+package bee.creative.qs.h2;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.Semaphore;
+import bee.creative.lang.Objects;
+
+/** Diese Klasse implementiert einen beschränkten Vorrat an {@link H2QS Graphspeichern}, die als Sitzungen mit jeweils eigener Datenbankverbindung auf dieselbe
+ * Datenbank zugreifen. Jede Sitzung besitzt damit ihre eigenen aufbereiteten Anweisungen und temporären Tabellen, sodass mehrere Threads über je eine
+ * Sitzung nebenläufig lesen können. Eine Sitzung darf dabei nur von einem Thread gleichzeitig verwendet werden und wird über {@link H2QS#close()} an den
+ * Vorrat zurückgegeben. Die Objekte einer Sitzung können nicht mit denen einer anderen Sitzung kombiniert werden.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class H2QSPool implements AutoCloseable {
+
+	/** Diese Methode liefert einen Vorrat von höchstens {@code limit} Sitzungen zum gegebenen {@link H2C#from(String) Dateipfad} und ohne {@link H2QS#owner()
+	 * Besitzer}. */
+	public static H2QSPool from(String file, int limit) throws NullPointerException, IllegalArgumentException {
+		return new H2QSPool(file, limit, null);
+	}
+
+	/** Dieses Feld speichert den {@link H2C#from(String) Dateipfad} der Datenbank. */
+	public final String file;
+
+	/** Dieses Feld speichert die maximale Anzahl gleichzeitig verwendeter Sitzungen. */
+	public final int limit;
+
+	/** Dieses Feld speichert den Besitzer der Sitzungen oder {@code null}. */
+	public final Object owner;
+
+	/** Dieses Feld speichert den von allen Sitzungen gemeinsam genutzten {@link H2QS#cache Puffer}. */
+	public final H2QSCache cache = new H2QSCache(1 << 16);
+
+	/** Dieser Konstruktor initialisiert Dateipfad, maximale Anzahl gleichzeitig verwendeter Sitzungen und deren Besitzer.
+	 *
+	 * @param file {@link H2C#from(String) Dateipfad} der Datenbank.
+	 * @param limit maximale Anzahl gleichzeitig verwendeter Sitzungen.
+	 * @param owner Besitzer der Sitzungen oder {@code null}. */
+	public H2QSPool(String file, int limit, Object owner) throws NullPointerException, IllegalArgumentException {
+		if (limit <= 0) throw new IllegalArgumentException();
+		this.file = Objects.notNull(file);
+		this.limit = limit;
+		this.owner = owner;
+		this.permits = new Semaphore(limit, true);
+	}
+
+	/** Diese Methode ist eine Abkürzung für {@link #open(boolean) this.open(false)}. */
+	public H2QS open() throws SQLException, ClassNotFoundException, InterruptedException {
+		return this.open(false);
+	}
+
+	/** Diese Methode liefert eine Sitzung, die bis zu ihrem {@link H2QS#close() Schließen} exklusiv dem aufrufenden Thread gehört. Wenn bereits {@link #limit}
+	 * Sitzungen verwendet werden, wartet diese Methode auf die Rückgabe einer Sitzung. Nicht verwendete Sitzungen werden wiederverwendet, sodass deren
+	 * aufbereitete Anweisungen erhalten bleiben. Bei {@code readOnly} wird die Datenbankverbindung der Sitzung als {@link Connection#setReadOnly(boolean)
+	 * nur lesend} markiert. Dies ist nur ein Hinweis, den H2 nicht durchsetzt.
+	 *
+	 * @param readOnly {@code true}, wenn die Sitzung nur lesend verwendet wird.
+	 * @return Sitzung.
+	 * @throws IllegalStateException Wenn dieser Vorrat geschlossen wurde. */
+	public H2QS open(boolean readOnly) throws SQLException, ClassNotFoundException, InterruptedException, IllegalStateException {
+		this.permits.acquire();
+		try {
+			Session session;
+			synchronized (this.sessions) {
+				if (this.closed) throw new IllegalStateException();
+				session = this.idleSessions.pollLast();
+			}
+			if (session == null) {
+				var conn = H2C.from(this.file);
+				try {
+					session = new Session(this, conn);
+				} catch (SQLException | RuntimeException cause) {
+					conn.close();
+					throw cause;
+				}
+				synchronized (this.sessions) {
+					this.sessions.add(session);
+				}
+			}
+			session.conn.setReadOnly(readOnly);
+			session.active = true;
+			return session;
+		} catch (SQLException | ClassNotFoundException | RuntimeException | Error cause) {
+			this.permits.release();
+			throw cause;
+		}
+	}
+
+	/** Diese Methode gibt die Anzahl der aktuell verwendeten Sitzungen zurück. */
+	public int activeCount() {
+		return this.limit - this.permits.availablePermits();
+	}
+
+	/** Diese Methode gibt die Anzahl der aktuell nicht verwendeten und zur Wiederverwendung bereitstehenden Sitzungen zurück. */
+	public int idleCount() {
+		synchronized (this.sessions) {
+			return this.idleSessions.size();
+		}
+	}
+
+	/** Diese Methode schließt die Datenbankverbindungen aller nicht verwendeten Sitzungen. Die Datenbankverbindungen der noch verwendeten Sitzungen werden bei
+	 * deren Rückgabe geschlossen. */
+	@Override
+	public void close() throws SQLException {
+		ArrayList<Session> sessions;
+		synchronized (this.sessions) {
+			this.closed = true;
+			sessions = new ArrayList<>(this.idleSessions);
+			this.idleSessions.clear();
+			this.sessions.removeAll(sessions);
+		}
+		SQLException result = null;
+		for (var session: sessions) {
+			try {
+				session.conn.close();
+			} catch (SQLException cause) {
+				if (result == null) {
+					result = cause;
+				} else {
+					result.addSuppressed(cause);
+				}
+			}
+		}
+		if (result != null) throw result;
+	}
+
+	@Override
+	public String toString() {
+		return Objects.toInvokeString(this, this.file, this.limit);
+	}
+
+	/** Dieses Feld beschränkt die Anzahl der gleichzeitig verwendeten Sitzungen. */
+	final Semaphore permits;
+
+	/** Dieses Feld speichert alle noch nicht geschlossenen Sitzungen. Es dient zudem der Synchronisation der Verwaltung. */
+	final ArrayList<Session> sessions = new ArrayList<>();
+
+	/** Dieses Feld speichert die nicht verwendeten Sitzungen. */
+	final ArrayDeque<Session> idleSessions = new ArrayDeque<>();
+
+	/** Dieses Feld speichert nur dann {@code true}, wenn dieser Vorrat geschlossen wurde. */
+	boolean closed;
+
+	/** Diese Methode übernimmt die gegebene Sitzung wieder in den Vorrat bzw. schließt deren Datenbankverbindung, wenn der Vorrat bereits geschlossen wurde. */
+	void release(Session session) throws SQLException {
+		try {
+			boolean closed;
+			synchronized (this.sessions) {
+				closed = this.closed;
+				if (closed) {
+					this.sessions.remove(session);
+				} else {
+					this.idleSessions.addLast(session);
+				}
+			}
+			if (closed) {
+				session.conn.close();
+			}
+		} finally {
+			this.permits.release();
+		}
+	}
+
+	/** Diese Methode überträgt die Änderungsmarkierungen der gegebenen Sitzung auf alle anderen Sitzungen, damit deren {@link H2QIBag} Indizes die Änderungen
+	 * ebenfalls erkennen. */
+	void markValues(Session source) {
+		synchronized (this.sessions) {
+			for (var session: this.sessions) {
+				session.putValueMark = source.putValueMark;
+				session.popValueMark = source.popValueMark;
+			}
+		}
+	}
+
+	/** Diese Methode meldet die gegebene Kennung eines ergänzten bzw. entfernten Textwerts den {@link H2QIBag} Indizes aller anderen Sitzungen. */
+	void logValue(Session source, long key, boolean put) {
+		synchronized (this.sessions) {
+			for (var session: this.sessions) {
+				if (session == source) continue;
+				if (put) {
+					session.logPutValue0(key);
+				} else {
+					session.logPopValue0(key);
+				}
+			}
+		}
+	}
+
+	/** Diese Klasse implementiert eine Sitzung, die beim {@link #close() Schließen} ihre temporären Tabellen entfernt und an ihren Vorrat zurückgegeben wird. */
+	static final class Session extends H2QS {
+
+		@Override
+		public void close() throws SQLException {
+			if (!this.active) return;
+			this.active = false;
+			try {
+				this.popTables(true);
+				if (!this.conn.getAutoCommit()) {
+					this.conn.rollback();
+				}
+			} finally {
+				try {
+					this.releaseCache();
+				} finally {
+					this.pool.release(this);
+				}
+			}
+		}
+
+		@Override
+		boolean markPutValue(boolean changed) {
+			if (!super.markPutValue(changed)) return false;
+			this.pool.markValues(this);
+			return true;
+		}
+
+		@Override
+		boolean markPopValue(boolean changed) {
+			if (!super.markPopValue(changed)) return false;
+			this.pool.markValues(this);
+			return true;
+		}
+
+		@Override
+		void logPutValue(long key) {
+			super.logPutValue(key);
+			this.pool.logValue(this, key, true);
+		}
+
+		@Override
+		void logPopValue(long key) {
+			super.logPopValue(key);
+			this.pool.logValue(this, key, false);
+		}
+
+		final H2QSPool pool;
+
+		boolean active;
+
+		void logPutValue0(long key) {
+			super.logPutValue(key);
+		}
+
+		void logPopValue0(long key) {
+			super.logPopValue(key);
+		}
+
+		Session(H2QSPool pool, Connection conn) throws SQLException {
+			super(conn, pool.owner, pool.cache);
+			this.pool = pool;
+		}
+
+	}
+
+}
@@ -37,18 +37,22 @@ public class H2QTSet2 extends H2QTSet implements QTSet2 {
 
 	@Override
 	public boolean clear() throws NullPointerException, IllegalArgumentException {
-		return new H2QQ().push("DELETE FROM ").push(this.table).update(this.owner);
+		var res = new H2QQ().push("DELETE FROM ").push(this.table).update(this.owner);
+		this.table.rows = 0;
+		return res;
 	}
 
 	@Override
 	public boolean insertAll(Iterable<? extends QT> items) throws NullPointerException, IllegalArgumentException {
 		var that = this.owner.toQTSet(items, this.names());
+		this.table.rows = -1;
 		return new H2QQ().push("MERGE INTO ").push(this.table).push(" SELECT * FROM (").push(that).push(")").update(this.owner);
 	}
 
 	@Override
 	public boolean deleteAll(Iterable<? extends QT> items) throws NullPointerException, IllegalArgumentException {
 		var that = this.owner.toQTSet(items, this.names());
+		this.table.rows = -1;
 		var size = this.names().size();
 		return new H2QQ().push("DELETE FROM ").push(this.table).push(" AS A WHERE EXISTS (SELECT 1 FROM (").push(that).push(") AS B WHERE A.C0=B.C0")
 			.push(1, size, (q, i) -> q.push(" AND A.C").push(i).push("=B.C").push(i)).push(")").update(this.owner);
@@ -72,16 +76,17 @@ public class H2QTSet2 extends H2QTSet implements QTSet2 {
 	private H2QTSet2(H2QS owner, H2QTSetNames names, boolean withPrimaryKey) throws NullPointerException, IllegalArgumentException {
 		super(owner, names, null);
 		var size = names.size();
-		new H2QQ().push("CREATE TEMPORARY TABLE ").push(this.table).push(" (C0 BIGINT NOT NULL")
+		new H2QQ().push("CREATE LOCAL TEMPORARY TABLE ").push(this.table).push(" (C0 BIGINT NOT NULL")
 			.push(1, size, (q, i) -> q.push(", C").push(i).push(" BIGINT NOT NULL"))
 			.push(withPrimaryKey ? q -> q.push(", PRIMARY KEY (C0").push(1, size, (qq, i) -> qq.push(", C").push(i)).push("))") : q2 -> q2.push(")")).update(owner);
+		this.table.rows = withPrimaryKey ? 0 : -1;
 	}
 
 	private H2QTSet2(H2QS owner, H2QTSetNames names, Iterable<? extends QT> items1, QN[] items2) throws NullPointerException, IllegalArgumentException {
 		this(owner, names, true);
 		if (items1 instanceof H2QTSet) {
 			var that = owner.asQTSet(items1, names.size());
-			new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT * FROM (").push(that).push(")").update(owner);
+			this.table.rows = new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT * FROM (").push(that).push(")").count(owner);
 		} else {
 			try {
 				var that = new H2QTSet2(owner, names, false);
@@ -107,9 +112,9 @@ public class H2QTSet2 extends H2QTSet implements QTSet2 {
 							stmt.addBatch();
 						}
 					}
-					stmt.executeBatch();
+					H2QQ.executeBatch(owner, stmt);
 				}
-				new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT DISTINCT * FROM ").push(that.table).update(owner);
+				this.table.rows = new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT DISTINCT * FROM ").push(that.table).count(owner);
 			} catch (SQLException cause) {
 				throw new IllegalStateException(cause);
 			}
@@ -21,7 +21,9 @@ public class H2QVSet extends H2QOSet<String, QVSet> implements QVSet {
 
 	@Override
 	public boolean popAll() {
-		return this.owner.markPopValue(new H2QQ().push("DELETE FROM QN WHERE V IN (").push(this).push(")").update(this.owner));
+		if (!this.owner.markPopValue(new H2QQ().push("DELETE FROM QN WHERE V IN (").push(this).push(")").update(this.owner))) return false;
+		this.owner.clearCache();
+		return true;
 	}
 
 	@Override
@@ -31,9 +33,13 @@ public class H2QVSet extends H2QOSet<String, QVSet> implements QVSet {
 
 	@Override
 	public void nodes(Setter<? super String, ? super QN> nodes) {
+		var version = this.owner.cache.nodeVersion();
 		try (var rset = new H2QQ().push("SELECT V, N FROM QN WHERE V IN (").push(this).push(")").select(this.owner)) {
 			while (rset.next()) {
-				nodes.set(rset.getString(1), this.owner.newNode(rset.getLong(2)));
+				var value = rset.getString(1);
+				var node = this.owner.newNode(rset.getLong(2));
+				this.owner.putCache(node.key, value, version);
+				nodes.set(value, node);
 			}
 		} catch (SQLException cause) {
 			throw new IllegalStateException(cause);
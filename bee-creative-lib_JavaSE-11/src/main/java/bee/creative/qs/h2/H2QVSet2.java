@@ -1,7 +1,10 @@
 package bee.creative.qs.h2;
 
 import java.sql.SQLException;
+import bee.creative.qs.QN;
 import bee.creative.qs.QVSet2;
+import bee.creative.util.HashSet;
+import bee.creative.util.Setter;
 
 public class H2QVSet2 extends H2QVSet implements QVSet2 {
 
@@ -10,20 +13,52 @@ public class H2QVSet2 extends H2QVSet implements QVSet2 {
 		return this;
 	}
 
+	/** {@inheritDoc} Wenn die Textwerte dieser Menge seit ihrer Erzeugung bekannt sind und alle im {@link H2QS#cache Puffer} stehen, erfolgt dazu keine
+	 * Anfrage. */
+	@Override
+	public void nodes(Setter<? super String, ? super QN> nodes) {
+		var items = this.items;
+		if (items != null) {
+			var cache = this.owner.cache;
+			var size = items.length;
+			var keys = new long[size];
+			for (var i = 0; i < size; i++) {
+				var key = cache.getKey(items[i]);
+				if (key == null) {
+					super.nodes(nodes);
+					return;
+				}
+				keys[i] = key;
+			}
+			for (var i = 0; i < size; i++) {
+				nodes.set(items[i], this.owner.newNode(keys[i]));
+			}
+			return;
+		}
+		super.nodes(nodes);
+	}
+
 	@Override
 	public boolean clear() throws NullPointerException, IllegalArgumentException {
-		return new H2QQ().push("DELETE FROM ").push(this.table).update(this.owner);
+		this.items = null;
+		var res = new H2QQ().push("DELETE FROM ").push(this.table).update(this.owner);
+		this.table.rows = 0;
+		return res;
 	}
 
 	@Override
 	public boolean insertAll(Iterable<? extends String> items) throws NullPointerException, IllegalArgumentException {
 		var that = this.owner.toQVSet(items);
+		this.items = null;
+		this.table.rows = -1;
 		return new H2QQ().push("MERGE INTO ").push(this.table).push(" SELECT * FROM (").push(that).push(")").update(this.owner);
 	}
 
 	@Override
 	public boolean deleteAll(Iterable<? extends String> items) throws NullPointerException, IllegalArgumentException {
 		var that = this.owner.toQVSet(items);
+		this.items = null;
+		this.table.rows = -1;
 		return new H2QQ().push("DELETE FROM ").push(this.table).push(" AS A WHERE EXISTS (SELECT 1 FROM (").push(that).push(") AS B WHERE A.V=B.V)")
 			.update(this.owner);
 	}
@@ -38,19 +73,22 @@ public class H2QVSet2 extends H2QVSet implements QVSet2 {
 		this(owner);
 		if (items instanceof H2QNSet) {
 			var that = owner.asQNSet(items);
-			new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT * FROM (").push(that).push(")").update(owner);
+			this.table.rows = new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT * FROM (").push(that).push(")").count(owner);
 		} else {
 			try {
 				var that = new H2QVSet2(owner, false);
+				var values = new HashSet<String>();
 				try (var stmt = new H2QQ().push("INSERT INTO ").push(that.table).push(" (V) VALUES (?)").prepare(owner)) {
 					for (var item: items) {
 						var value = owner.asQV(item);
+						values.add(value);
 						stmt.setString(1, value);
 						stmt.addBatch();
 					}
-					stmt.executeBatch();
+					H2QQ.executeBatch(owner, stmt);
 				}
-				new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT DISTINCT * FROM ").push(that.table).update(owner);
+				this.table.rows = new H2QQ().push("INSERT INTO ").push(this.table).push(" SELECT DISTINCT * FROM ").push(that.table).count(owner);
+				this.items = values.toArray(new String[values.size()]);
 			} catch (SQLException cause) {
 				throw new IllegalStateException(cause);
 			}
@@ -59,8 +97,13 @@ public class H2QVSet2 extends H2QVSet implements QVSet2 {
 
 	private H2QVSet2(H2QS owner, boolean withPrimaryKey) throws NullPointerException {
 		super(owner, null);
-		new H2QQ().push("CREATE TEMPORARY TABLE ").push(this.table).push(" (V VARCHAR(1G) NOT NULL").push(withPrimaryKey ? ", PRIMARY KEY (V))" : ")")
+		new H2QQ().push("CREATE LOCAL TEMPORARY TABLE ").push(this.table).push(" (V VARCHAR(1G) NOT NULL").push(withPrimaryKey ? ", PRIMARY KEY (V))" : ")")
 			.update(this.owner);
+		this.table.rows = withPrimaryKey ? 0 : -1;
 	}
 
+	/** Dieses Feld speichert die Textwerte dieser Menge oder {@code null}. Es wird nur bei der Erzeugung aus bekannten Textwerten bestückt und bei jeder Änderung
+	 * der Menge verworfen. */
+	String[] items;
+
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+package bee.creative.qs.mem;
+
+import bee.creative.lang.Objects;
+import bee.creative.qs.QE;
+import bee.creative.qs.QN;
+
+/** Diese Klasse implementiert ein {@link QE} mit Bezug zu einem {@link MemQS}.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public final class MemQE implements QE {
+
+	/** Dieses Feld speichert den Graphspeicher. */
+	public final MemQS owner;
+
+	/** Dieses Feld speichert die Kennung des Kontextknoten. */
+	public final long context;
+
+	/** Dieses Feld speichert die Kennung des Prädikatknoten. */
+	public final long predicate;
+
+	/** Dieses Feld speichert die Kennung des Subjektknoten. */
+	public final long subject;
+
+	/** Dieses Feld speichert die Kennung des Objektknoten. */
+	public final long object;
+
+	@Override
+	public MemQN context() {
+		return this.owner.newNode(this.context);
+	}
+
+	@Override
+	public MemQN predicate() {
+		return this.owner.newNode(this.predicate);
+	}
+
+	@Override
+	public MemQN subject() {
+		return this.owner.newNode(this.subject);
+	}
+
+	@Override
+	public MemQN object() {
+		return this.owner.newNode(this.object);
+	}
+
+	@Override
+	public MemQS owner() {
+		return this.owner;
+	}
+
+	@Override
+	public boolean put() {
+		return this.owner.putEdge(this);
+	}
+
+	@Override
+	public boolean pop() {
+		return this.owner.popEdge(this);
+	}
+
+	@Override
+	public boolean state() {
+		return this.owner.hasEdge(this);
+	}
+
+	@Override
+	public MemQE withContext(QN context) throws NullPointerException, IllegalArgumentException {
+		return this.owner.newEdge(this.owner.asQN(context).key, this.predicate, this.subject, this.object);
+	}
+
+	@Override
+	public MemQE withPredicate(QN predicate) throws NullPointerException, IllegalArgumentException {
+		return this.owner.newEdge(this.context, this.owner.asQN(predicate).key, this.subject, this.object);
+	}
+
+	@Override
+	public MemQE withSubject(QN subject) throws NullPointerException, IllegalArgumentException {
+		return this.owner.newEdge(this.context, this.predicate, this.owner.asQN(subject).key, this.object);
+	}
+
+	@Override
+	public MemQE withObject(QN object) throws NullPointerException, IllegalArgumentException {
+		return this.owner.newEdge(this.context, this.predicate, this.subject, this.owner.asQN(object).key);
+	}
+
+	@Override
+	public int hashCode() {
+		var result = Objects.hashInit();
+		result = Objects.hashPush(result, Objects.hash(this.context));
+		result = Objects.hashPush(result, Objects.hash(this.predicate));
+		result = Objects.hashPush(result, Objects.hash(this.subject));
+		result = Objects.hashPush(result, Objects.hash(this.object));
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (!(object instanceof MemQE)) return false;
+		var that = (MemQE)object;
+		if ((this.object != that.object) || (this.subject != that.subject) || (this.predicate != that.predicate) || (this.context != that.context)) return false;
+		if (this.owner != that.owner) return false;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "(" + this.context() + " " + this.predicate() + " " + this.subject() + " " + this.object() + ")";
+	}
+
+	MemQE(MemQS owner, long context, long predicate, long subject, long object) {
+		this.owner = owner;
+		this.context = context;
+		this.predicate = predicate;
+		this.subject = subject;
+		this.object = object;
+	}
+
+}
@@ -0,0 +1,244 @@
+package bee.creative.qs.mem;
+
+import static bee.creative.util.Iterables.filteredIterable;
+import java.util.Arrays;
+import bee.creative.qs.QE;
+import bee.creative.qs.QESet;
+import bee.creative.qs.QN;
+import bee.creative.qs.QNSet;
+import bee.creative.util.Filter;
+import bee.creative.util.Producer;
+
+/** Diese Klasse implementiert ein {@link QESet} als Sicht auf eine vierspaltige {@link MemQTable Tabelle} mit den Spalten {@code (C, P, S, O)}. Die
+ * Einschränkungen über {@code havingX} werden durch Mischen der geordneten Knotenkennungen mit dem Permutationsindex der jeweiligen Spalte ermittelt,
+ * Vereinigung, Differenz und Schnitt durch Mischen der geordneten Hyperkanten.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class MemQESet extends MemQOSet<QE, QESet> implements QESet {
+
+	@Override
+	public boolean putAll() {
+		return this.owner.putEdges(this.table());
+	}
+
+	@Override
+	public boolean popAll() {
+		return this.owner.popEdges(this.table());
+	}
+
+	@Override
+	public long[] keys() {
+		var table = this.table();
+		var cols = table.cols;
+		var keys = new long[table.size * 4];
+		for (int r = 0, i = 0; r < table.size; r++) {
+			keys[i++] = cols[0][r];
+			keys[i++] = cols[1][r];
+			keys[i++] = cols[2][r];
+			keys[i++] = cols[3][r];
+		}
+		return keys;
+	}
+
+	@Override
+	public MemQNSet nodes() {
+		return new MemQNSet(this.owner, () -> MemQTable.ofKeys(this.table().keys()));
+	}
+
+	@Override
+	public MemQNSet contexts() {
+		return new MemQNSet(this.owner, () -> this.table().select(0));
+	}
+
+	@Override
+	public MemQNSet predicates() {
+		return new MemQNSet(this.owner, () -> this.table().select(1));
+	}
+
+	@Override
+	public MemQNSet subjects() {
+		return new MemQNSet(this.owner, () -> this.table().select(2));
+	}
+
+	@Override
+	public MemQNSet objects() {
+		return new MemQNSet(this.owner, () -> this.table().select(3));
+	}
+
+	@Override
+	public MemQTSet tuples(String context, String predicate, String subject, String object) throws NullPointerException, IllegalArgumentException {
+		return new MemQTSet(this.owner, MemQTSet.names(Arrays.asList(context, predicate, subject, object)), this::table);
+	}
+
+	@Override
+	public MemQESet havingState(boolean state) {
+		return state ? this.intersect(this.owner.edges()) : this.except(this.owner.edges());
+	}
+
+	@Override
+	public MemQESet withContext(QN context) throws NullPointerException, IllegalArgumentException {
+		return this.with(0, this.owner.asQN(context));
+	}
+
+	@Override
+	public MemQESet withContexts(QNSet contexts) throws NullPointerException, IllegalArgumentException {
+		return this.with(0, this.owner.asQNSet(contexts));
+	}
+
+	@Override
+	public MemQESet withPredicate(QN predicate) throws NullPointerException, IllegalArgumentException {
+		return this.with(1, this.owner.asQN(predicate));
+	}
+
+	@Override
+	public MemQESet withPredicates(QNSet predicates) throws NullPointerException, IllegalArgumentException {
+		return this.with(1, this.owner.asQNSet(predicates));
+	}
+
+	@Override
+	public MemQESet withSubject(QN subject) throws NullPointerException, IllegalArgumentException {
+		return this.with(2, this.owner.asQN(subject));
+	}
+
+	@Override
+	public MemQESet withSubjects(QNSet subjects) throws NullPointerException, IllegalArgumentException {
+		return this.with(2, this.owner.asQNSet(subjects));
+	}
+
+	@Override
+	public MemQESet withObject(QN object) throws NullPointerException, IllegalArgumentException {
+		return this.with(3, this.owner.asQN(object));
+	}
+
+	@Override
+	public MemQESet withObjects(QNSet objects) throws NullPointerException, IllegalArgumentException {
+		return this.with(3, this.owner.asQNSet(objects));
+	}
+
+	@Override
+	public MemQESet havingNode(QN node) throws NullPointerException, IllegalArgumentException {
+		var keys = new long[]{this.owner.asQN(node).key};
+		return new MemQESet(this.owner, () -> this.tableHavingAny(keys));
+	}
+
+	@Override
+	public MemQESet havingNodes(QNSet nodes) throws NullPointerException, IllegalArgumentException {
+		var that = this.owner.asQNSet(nodes);
+		return new MemQESet(this.owner, () -> this.tableHavingAny(that.table().cols[0]));
+	}
+
+	@Override
+	public MemQESet havingContext(QN context) throws NullPointerException, IllegalArgumentException {
+		return this.having(0, this.owner.asQN(context));
+	}
+
+	@Override
+	public MemQESet havingContexts(QNSet contexts) throws NullPointerException, IllegalArgumentException {
+		return this.having(0, this.owner.asQNSet(contexts));
+	}
+
+	@Override
+	public MemQESet havingPredicate(QN predicate) throws NullPointerException, IllegalArgumentException {
+		return this.having(1, this.owner.asQN(predicate));
+	}
+
+	@Override
+	public MemQESet havingPredicates(QNSet predicates) throws NullPointerException, IllegalArgumentException {
+		return this.having(1, this.owner.asQNSet(predicates));
+	}
+
+	@Override
+	public MemQESet havingSubject(QN subject) throws NullPointerException, IllegalArgumentException {
+		return this.having(2, this.owner.asQN(subject));
+	}
+
+	@Override
+	public MemQESet havingSubjects(QNSet subjects) throws NullPointerException, IllegalArgumentException {
+		return this.having(2, this.owner.asQNSet(subjects));
+	}
+
+	@Override
+	public MemQESet havingObject(QN object) throws NullPointerException, IllegalArgumentException {
+		return this.having(3, this.owner.asQN(object));
+	}
+
+	@Override
+	public MemQESet havingObjects(QNSet objects) throws NullPointerException, IllegalArgumentException {
+		return this.having(3, this.owner.asQNSet(objects));
+	}
+
+	@Override
+	public MemQESet2 copy() {
+		return this.owner.newEdges(this);
+	}
+
+	@Override
+	public MemQESet2 copy(Filter<? super QE> filter) throws NullPointerException {
+		return this.owner.newEdges(filteredIterable(this, filter));
+	}
+
+	@Override
+	public MemQESet order() {
+		return this;
+	}
+
+	@Override
+	public MemQESet union(QESet set) throws NullPointerException, IllegalArgumentException {
+		var that = this.owner.asQESet(set);
+		return new MemQESet(this.owner, () -> this.table().union(that.table()));
+	}
+
+	@Override
+	public MemQESet except(QESet set) throws NullPointerException, IllegalArgumentException {
+		var that = this.owner.asQESet(set);
+		return new MemQESet(this.owner, () -> this.table().except(that.table()));
+	}
+
+	@Override
+	public MemQESet intersect(QESet set) throws NullPointerException, IllegalArgumentException {
+		var that = this.owner.asQESet(set);
+		return new MemQESet(this.owner, () -> this.table().intersect(that.table()));
+	}
+
+	/** Dieser Konstruktor initialisiert {@link #owner Graphspeicher} und Berechnung der Tabelle mit den Spalten {@code (C, P, S, O)}. */
+	MemQESet(MemQS owner, Producer<MemQTable> source) throws NullPointerException {
+		super(owner, source);
+	}
+
+	/** Diese Methode gibt die Zeilen der {@link #table() Tabelle} zurück, deren Kennung in der gegebenen Spalte in den gegebenen, aufsteigend geordneten
+	 * Kennungen enthalten ist. */
+	MemQTable tableHaving(int col, long[] keys) {
+		return this.table().having(col, keys);
+	}
+
+	/** Diese Methode gibt die Zeilen der {@link #table() Tabelle} zurück, die in irgendeiner Spalte eine der gegebenen, aufsteigend geordneten Kennungen
+	 * enthalten. */
+	MemQTable tableHavingAny(long[] keys) {
+		return this.table().havingAny(keys);
+	}
+
+	@Override
+	QE customItem(MemQTable table, int row) {
+		var cols = table.cols;
+		return this.owner.newEdge(cols[0][row], cols[1][row], cols[2][row], cols[3][row]);
+	}
+
+	private MemQESet with(int col, MemQN node) {
+		var keys = new long[]{node.key};
+		return new MemQESet(this.owner, () -> this.table().replace(col, keys));
+	}
+
+	private MemQESet with(int col, MemQNSet nodes) {
+		return new MemQESet(this.owner, () -> this.table().replace(col, nodes.table().cols[0]));
+	}
+
+	private MemQESet having(int col, MemQN node) {
+		var keys = new long[]{node.key};
+		return new MemQESet(this.owner, () -> this.tableHaving(col, keys));
+	}
+
+	private MemQESet having(int col, MemQNSet nodes) {
+		return new MemQESet(this.owner, () -> this.tableHaving(col, nodes.table().cols[0]));
+	}
+
+}
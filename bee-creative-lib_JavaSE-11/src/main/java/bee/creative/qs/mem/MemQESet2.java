@@ -0,0 +1,56 @@
+package bee.creative.qs.mem;
+
+import bee.creative.qs.QE;
+import bee.creative.qs.QESet2;
+
+/** Diese Klasse implementiert ein veränderbares {@link QESet2}, dessen Hyperkanten als {@link MemQTable Tabelle} vorgehalten werden.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class MemQESet2 extends MemQESet implements QESet2 {
+
+	@Override
+	public MemQESet2 copy() {
+		return this;
+	}
+
+	@Override
+	public boolean clear() {
+		if (this.items.size == 0) return false;
+		this.items = MemQTable.empty(4);
+		return true;
+	}
+
+	@Override
+	public boolean insertAll(Iterable<? extends QE> items) throws NullPointerException, IllegalArgumentException {
+		var size = this.items.size;
+		this.items = this.items.union(this.owner.edgeRows(items));
+		return this.items.size != size;
+	}
+
+	@Override
+	public boolean deleteAll(Iterable<? extends QE> items) throws NullPointerException, IllegalArgumentException {
+		var size = this.items.size;
+		this.items = this.items.except(this.owner.edgeRows(items));
+		return this.items.size != size;
+	}
+
+	/** Dieser Konstruktor erzeugt eine Menge mit den gegebenen Elementen. */
+	public MemQESet2(MemQS owner, Iterable<? extends QE> items) throws NullPointerException, IllegalArgumentException {
+		super(owner, null);
+		this.items = owner.edgeRows(items);
+	}
+
+	MemQESet2(MemQS owner, MemQTable items) {
+		super(owner, null);
+		this.items = items;
+	}
+
+	/** Dieses Feld speichert die Tabelle der Hyperkanten. */
+	MemQTable items;
+
+	@Override
+	MemQTable table() {
+		return this.items;
+	}
+
+}
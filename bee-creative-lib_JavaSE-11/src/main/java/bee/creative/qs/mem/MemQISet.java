@@ -0,0 +1,36 @@
+package bee.creative.qs.mem;
+
+import bee.creative.lang.Objects;
+import bee.creative.qs.QISet;
+
+/** Diese Klasse implementiert ein {@link QISet}, dessen Einträge bei jedem Zugriff aus dem aktuellen Zustand des {@link MemQS Graphspeichers} ermittelt
+ * werden.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/]
+ * @param <E> Typ der Einträge. */
+public abstract class MemQISet<E> implements QISet<E> {
+
+	/** Dieses Feld speichert den Graphspeicher. */
+	public final MemQS owner;
+
+	@Override
+	public MemQS owner() {
+		return this.owner;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.size() == 0;
+	}
+
+	@Override
+	public String toString() {
+		return this.toList().toString();
+	}
+
+	/** Dieser Konstruktor initialisiert den {@link #owner Graphspeicher}. */
+	protected MemQISet(MemQS owner) throws NullPointerException {
+		this.owner = Objects.notNull(owner);
+	}
+
+}
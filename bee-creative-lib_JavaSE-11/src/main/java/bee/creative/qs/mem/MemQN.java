@@ -0,0 +1,61 @@
+package bee.creative.qs.mem;
+
+import bee.creative.lang.Objects;
+import bee.creative.qs.QN;
+
+/** Diese Klasse implementiert ein {@link QN} mit Bezug zu einem {@link MemQS}.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public final class MemQN implements QN {
+
+	/** Dieses Feld speichert den Graphspeicher. */
+	public final MemQS owner;
+
+	/** Dieses Feld speichert die Kennung dieses Hyperknoten. */
+	public final long key;
+
+	@Override
+	public boolean pop() {
+		return this.owner.popNodes(new long[]{this.key});
+	}
+
+	@Override
+	public boolean state() {
+		return (this.value() != null) || (this.owner.edgesHavingAny(new long[]{this.key}).size != 0);
+	}
+
+	@Override
+	public String value() {
+		return this.owner.valueMap.get(this.key);
+	}
+
+	@Override
+	public MemQS owner() {
+		return this.owner;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.key);
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (!(object instanceof MemQN)) return false;
+		var that = (MemQN)object;
+		return (this.key == that.key) && (this.owner == that.owner);
+	}
+
+	@Override
+	public String toString() {
+		var value = this.value();
+		return value == null ? Long.toString(this.key) : Objects.toString(value);
+	}
+
+	MemQN(MemQS owner, long key) {
+		this.owner = owner;
+		this.key = key;
+	}
+
+}
@@ -0,0 +1,101 @@
+package bee.creative.qs.mem;
+
+import static bee.creative.util.Iterables.filteredIterable;
+import java.util.Arrays;
+import bee.creative.qs.QN;
+import bee.creative.qs.QNSet;
+import bee.creative.qs.QVSet;
+import bee.creative.util.Filter;
+import bee.creative.util.Producer;
+import bee.creative.util.Setter;
+
+/** Diese Klasse implementiert ein {@link QNSet} als Sicht auf eine einspaltige {@link MemQTable Tabelle} von Knotenkennungen.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class MemQNSet extends MemQOSet<QN, QNSet> implements QNSet {
+
+	@Override
+	public boolean popAll() {
+		return this.owner.popNodes(this.table().cols[0]);
+	}
+
+	@Override
+	public MemQVSet values() {
+		return new MemQVSet(this.owner, () -> this.owner.valuesOf(this.table()));
+	}
+
+	@Override
+	public void values(Setter<? super QN, ? super String> values) throws NullPointerException {
+		var valueMap = this.owner.valueMap;
+		for (var key: this.table().cols[0]) {
+			var value = valueMap.get(key);
+			if (value != null) {
+				values.set(this.owner.newNode(key), value);
+			}
+		}
+	}
+
+	@Override
+	public MemQTSet tuples(String name) throws NullPointerException, IllegalArgumentException {
+		return new MemQTSet(this.owner, MemQTSet.names(Arrays.asList(name)), this::table);
+	}
+
+	@Override
+	public MemQNSet havingValue() {
+		return this.intersect(this.owner.nodes());
+	}
+
+	@Override
+	public MemQNSet havingValues(QVSet values) throws NullPointerException, IllegalArgumentException {
+		return this.intersect(this.owner.asQVSet(values).nodes());
+	}
+
+	@Override
+	public MemQNSet havingState(boolean state) {
+		return state ? this.intersect(this.owner.nodes()) : this.except(this.owner.nodes());
+	}
+
+	@Override
+	public MemQNSet2 copy() {
+		return this.owner.newNodes(this);
+	}
+
+	@Override
+	public MemQNSet2 copy(Filter<? super QN> filter) throws NullPointerException {
+		return this.owner.newNodes(filteredIterable(this, filter));
+	}
+
+	@Override
+	public MemQNSet order() {
+		return this;
+	}
+
+	@Override
+	public MemQNSet union(QNSet set) throws NullPointerException, IllegalArgumentException {
+		var that = this.owner.asQNSet(set);
+		return new MemQNSet(this.owner, () -> this.table().union(that.table()));
+	}
+
+	@Override
+	public MemQNSet except(QNSet set) throws NullPointerException, IllegalArgumentException {
+		var that = this.owner.asQNSet(set);
+		return new MemQNSet(this.owner, () -> this.table().except(that.table()));
+	}
+
+	@Override
+	public MemQNSet intersect(QNSet set) throws NullPointerException, IllegalArgumentException {
+		var that = this.owner.asQNSet(set);
+		return new MemQNSet(this.owner, () -> this.table().intersect(that.table()));
+	}
+
+	/** Dieser Konstruktor initialisiert {@link #owner Graphspeicher} und Berechnung der Tabelle mit der Spalte {@code N}. */
+	MemQNSet(MemQS owner, Producer<MemQTable> source) throws NullPointerException {
+		super(owner, source);
+	}
+
+	@Override
+	QN customItem(MemQTable table, int row) {
+		return this.owner.newNode(table.cols[0][row]);
+	}
+
+}
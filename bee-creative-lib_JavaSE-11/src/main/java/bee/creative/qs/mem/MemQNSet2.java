@@ -0,0 +1,51 @@
+package bee.creative.qs.mem;
+
+import bee.creative.qs.QN;
+import bee.creative.qs.QNSet2;
+
+/** Diese Klasse implementiert ein veränderbares {@link QNSet2}, dessen Hyperknoten als {@link MemQTable Tabelle} vorgehalten werden.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class MemQNSet2 extends MemQNSet implements QNSet2 {
+
+	@Override
+	public MemQNSet2 copy() {
+		return this;
+	}
+
+	@Override
+	public boolean clear() {
+		if (this.items.size == 0) return false;
+		this.items = MemQTable.empty(1);
+		return true;
+	}
+
+	@Override
+	public boolean insertAll(Iterable<? extends QN> items) throws NullPointerException, IllegalArgumentException {
+		var size = this.items.size;
+		this.items = this.items.union(this.owner.nodeRows(items));
+		return this.items.size != size;
+	}
+
+	@Override
+	public boolean deleteAll(Iterable<? extends QN> items) throws NullPointerException, IllegalArgumentException {
+		var size = this.items.size;
+		this.items = this.items.except(this.owner.nodeRows(items));
+		return this.items.size != size;
+	}
+
+	/** Dieser Konstruktor erzeugt eine Menge mit den gegebenen Elementen. */
+	public MemQNSet2(MemQS owner, Iterable<? extends QN> items) throws NullPointerException, IllegalArgumentException {
+		super(owner, null);
+		this.items = owner.nodeRows(items);
+	}
+
+	/** Dieses Feld speichert die Tabelle der Hyperknoten. */
+	MemQTable items;
+
+	@Override
+	MemQTable table() {
+		return this.items;
+	}
+
+}
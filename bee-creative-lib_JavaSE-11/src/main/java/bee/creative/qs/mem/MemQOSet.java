@@ -0,0 +1,50 @@
+package bee.creative.qs.mem;
+
+import bee.creative.qs.QOSet;
+import bee.creative.util.Iterator3;
+import bee.creative.util.Iterators;
+import bee.creative.util.Producer;
+
+/** Diese Klasse implementiert ein {@link QOSet}, dessen Einträge als {@link MemQTable Tabelle} von Knotenkennungen ermittelt werden. Da die Zeilen der
+ * Tabelle stets geordnet sind, ist die Iteration stets in dieser Ordnung.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/]
+ * @param <E> Typ der Einträge.
+ * @param <T> Typ dieser Menge. */
+public abstract class MemQOSet<E, T> extends MemQISet<E> implements QOSet<E, T> {
+
+	@Override
+	public long size() {
+		return this.table().size;
+	}
+
+	@Override
+	public E first() {
+		var table = this.table();
+		return table.size != 0 ? this.customItem(table, 0) : null;
+	}
+
+	@Override
+	public Iterator3<E> iterator() {
+		var table = this.table();
+		return Iterators.iteratorFromCount(table.size).translate(row -> this.customItem(table, row));
+	}
+
+	/** Dieses Feld speichert die Berechnung der Tabelle oder {@code null}, wenn {@link #table()} überschrieben ist. */
+	final Producer<MemQTable> source;
+
+	/** Dieser Konstruktor initialisiert {@link #owner Graphspeicher} und Berechnung der Tabelle. */
+	MemQOSet(MemQS owner, Producer<MemQTable> source) throws NullPointerException {
+		super(owner);
+		this.source = source;
+	}
+
+	/** Diese Methode gibt die Tabelle der Einträge dieser Menge zurück. */
+	MemQTable table() {
+		return this.source.get();
+	}
+
+	/** Diese Methode liefert den Eintrag zur gegebenen Zeile der gegebenen Tabelle. */
+	abstract E customItem(MemQTable table, int row);
+
+}
@@ -0,0 +1,745 @@
+package bee.creative.qs.mem;
+
+import java.util.Arrays;
+import java.util.List;
+import bee.creative.lang.Objects;
+import bee.creative.qs.QE;
+import bee.creative.qs.QESet;
+import bee.creative.qs.QN;
+import bee.creative.qs.QO;
+import bee.creative.qs.QS;
+import bee.creative.qs.QT;
+import bee.creative.qs.QTSet;
+import bee.creative.util.HashMapLO;
+import bee.creative.util.HashMapOL;
+import bee.creative.util.HashSet;
+import bee.creative.util.HashSetL;
+
+/** Diese Klasse implementiert einen {@link QS Graphspeicher}, dessen Hyperkanten und Textwerte im Arbeitsspeicher gehalten werden. Die Hyperkanten werden als
+ * {@link MemQTable Tabelle} mit den vier aufsteigend geordneten Spalten {@code (C, P, S, O)} abgelegt, die Textwerte in zwei Abbildungen zwischen
+ * Knotenkennungen und Textwerten. Einzeln über {@link QE#put()} und {@link QE#pop()} sowie in kleinen Mengen geänderte Hyperkanten werden zunächst als
+ * Änderungen gesammelt und bei {@link QESet#size()}, {@link QE#state()} und den Einschränkungen über {@code havingX} zusammen mit der unveränderten Tabelle
+ * ausgewertet. Damit bleiben deren Permutationsindizes erhalten. Erst wenn die Änderungen mehr als die Quadratwurzel der Tabellengröße umfassen, werden sie
+ * in die Tabelle übertragen. Analog werden die Tabellen der Knotenkennungen und Textwerte nur um ihre Änderungen ergänzt, statt neu geordnet.
+ * <p>
+ * Die Mengen dieses Graphspeichers sind wie die von {@link bee.creative.qs.h2.H2QS} Sichten, deren Einträge bei jedem Zugriff aus dem aktuellen Zustand
+ * ermittelt werden. Lediglich die über {@code newEdges}, {@code newNodes}, {@code newValues} und {@code newTuples} erzeugten Mengen halten ihre Einträge
+ * selbst. Der Graphspeicher ist nicht threadsicher.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class MemQS implements QS {
+
+	/** Dieser Konstruktor initialisiert einen leeren Graphspeicher ohne {@link #owner() Besitzer}. */
+	public MemQS() {
+		this(null);
+	}
+
+	/** Dieser Konstruktor initialisiert einen leeren Graphspeicher mit dem gegebenen {@link #owner() Besitzer}.
+	 *
+	 * @param owner Besitzer oder {@code null}. */
+	public MemQS(Object owner) {
+		this.owner = owner;
+		this.edges = new MemQESet(this, this::edgeTable) {
+
+			@Override
+			public long size() {
+				return MemQS.this.edgeCount();
+			}
+
+			@Override
+			MemQTable tableHaving(int col, long[] keys) {
+				return MemQS.this.edgesHaving(col, keys);
+			}
+
+			@Override
+			MemQTable tableHavingAny(long[] keys) {
+				return MemQS.this.edgesHavingAny(keys);
+			}
+
+		};
+		this.nodes = new MemQNSet(this, this::nodeTable) {
+
+			@Override
+			public long size() {
+				return MemQS.this.valueMap.size();
+			}
+
+			@Override
+			public MemQVSet values() {
+				return MemQS.this.values;
+			}
+
+		};
+		this.values = new MemQVSet(this, this::valueTable) {
+
+			@Override
+			public long size() {
+				return MemQS.this.keyMap.size();
+			}
+
+			@Override
+			public MemQNSet nodes() {
+				return MemQS.this.nodes;
+			}
+
+		};
+	}
+
+	/** Diese Methode liefert das gegebene Objekt als {@link MemQE} dieses {@link QO Graphspeichers} oder löst eine Ausnahme aus. */
+	public final MemQE asQE(Object src) throws NullPointerException, IllegalArgumentException {
+		try {
+			var res = (MemQE)src;
+			if (res.owner == this) return res;
+			throw new IllegalArgumentException();
+		} catch (ClassCastException cause) {
+			throw new IllegalArgumentException();
+		}
+	}
+
+	/** Diese Methode liefert das gegebene Objekt als {@link MemQESet} dieses {@link QO Graphspeichers} oder löst eine Ausnahme aus. */
+	public final MemQESet asQESet(Object src) throws NullPointerException, IllegalArgumentException {
+		try {
+			var res = (MemQESet)src;
+			if (res.owner == this) return res;
+			throw new IllegalArgumentException();
+		} catch (ClassCastException cause) {
+			throw new IllegalArgumentException();
+		}
+	}
+
+	/** Diese Methode liefert das gegebene Objekt als {@link MemQN} dieses {@link QO Graphspeichers} oder löst eine Ausnahme aus. */
+	public final MemQN asQN(Object src) throws NullPointerException, IllegalArgumentException {
+		try {
+			var res = (MemQN)src;
+			if (res.owner == this) return res;
+			throw new IllegalArgumentException();
+		} catch (ClassCastException cause) {
+			throw new IllegalArgumentException();
+		}
+	}
+
+	/** Diese Methode liefert das gegebene Objekt als {@link MemQNSet} dieses {@link QO Graphspeichers} oder löst eine Ausnahme aus. */
+	public final MemQNSet asQNSet(Object src) throws NullPointerException, IllegalArgumentException {
+		try {
+			var res = (MemQNSet)src;
+			if (res.owner == this) return res;
+			throw new IllegalArgumentException();
+		} catch (ClassCastException cause) {
+			throw new IllegalArgumentException();
+		}
+	}
+
+	/** Diese Methode liefert die {@link Object#toString() Textdarstellung} des gegebenen Objekts oder löst eine Ausnahme aus. */
+	public final String asQV(Object src) throws NullPointerException {
+		return src.toString();
+	}
+
+	/** Diese Methode liefert das gegebene Objekt als {@link MemQVSet} dieses {@link QO Graphspeichers} oder löst eine Ausnahme aus. */
+	public final MemQVSet asQVSet(Object src) throws NullPointerException, IllegalArgumentException {
+		try {
+			var res = (MemQVSet)src;
+			if (res.owner == this) return res;
+			throw new IllegalArgumentException();
+		} catch (ClassCastException cause) {
+			throw new IllegalArgumentException();
+		}
+	}
+
+	/** Diese Methode liefert das gegebene Objekt als {@link MemQT} dieses {@link QO Graphspeichers} oder löst eine Ausnahme aus. */
+	public final MemQT asQT(Object src) throws NullPointerException, IllegalArgumentException {
+		try {
+			var res = (MemQT)src;
+			if (res.owner == this) return res;
+			throw new IllegalArgumentException();
+		} catch (ClassCastException cause) {
+			throw new IllegalArgumentException();
+		}
+	}
+
+	/** Diese Methode liefert das gegebene Objekt als {@link MemQTSet} dieses {@link QO Graphspeichers} oder löst eine Ausnahme aus. */
+	public final MemQTSet asQTSet(Object src) throws NullPointerException, IllegalArgumentException {
+		try {
+			var res = (MemQTSet)src;
+			if (res.owner == this) return res;
+			throw new IllegalArgumentException();
+		} catch (ClassCastException cause) {
+			throw new IllegalArgumentException();
+		}
+	}
+
+	/** Diese Methode liefert das gegebene Objekt als {@link MemQTSet} dieses {@link QO Graphspeichers} oder löst eine Ausnahme aus. Das {@link MemQTSet} muss
+	 * die gegebenen {@link QTSet#names() Rollennamen} besitzen. */
+	public final MemQTSet asQTSet(Object src, List<?> names) throws NullPointerException, IllegalArgumentException {
+		var res = this.asQTSet(src);
+		if (res.names.equals(names)) return res;
+		throw new IllegalArgumentException();
+	}
+
+	/** Diese Methode leert den Graphspeicher. */
+	public void reset() {
+		this.edgeTable = MemQTable.empty(4);
+		this.edgesToPut.clear();
+		this.edgesToPop.clear();
+		this.markEdges();
+		this.valueMap.clear();
+		this.keyMap.clear();
+		this.nodeTable = MemQTable.empty(1);
+		this.keysToPut.clear();
+		this.keysToPop.clear();
+		this.valueTable = new String[0];
+		this.valuesToPut.clear();
+		this.valuesToPop.clear();
+	}
+
+	/** Diese Methode entfernt alle Hyperknoten mit Textwert, die nich in Hyperkanten verwendet werden. */
+	public void compact() {
+		this.nodes().except(this.edges().nodes()).popAll();
+	}
+
+	@Override
+	public MemQESet edges() {
+		return this.edges;
+	}
+
+	@Override
+	public MemQNSet nodes() {
+		return this.nodes;
+	}
+
+	@Override
+	public MemQVSet values() {
+		return this.values;
+	}
+
+	@Override
+	public Object owner() {
+		return this.owner;
+	}
+
+	@Override
+	public MemQN getNode(Object value) {
+		var key = this.keyMap.get(this.asQV(value));
+		return key != null ? this.newNode(key.longValue()) : null;
+	}
+
+	@Override
+	public MemQE newEdge() {
+		var key = this.nextKey++;
+		return this.newEdge(key, key, key, key);
+	}
+
+	@Override
+	public MemQE newEdge(QN node) throws NullPointerException, IllegalArgumentException {
+		var key = this.asQN(node).key;
+		return this.newEdge(key, key, key, key);
+	}
+
+	@Override
+	public MemQE newEdge(QN context, QN predicate, QN subject, QN object) throws NullPointerException, IllegalArgumentException {
+		return this.newEdge(this.asQN(context).key, this.asQN(predicate).key, this.asQN(subject).key, this.asQN(object).key);
+	}
+
+	public final MemQE newEdge(long context, long predicate, long subject, long object) {
+		return new MemQE(this, context, predicate, subject, object);
+	}
+
+	@Override
+	public MemQESet2 newEdges() {
+		return this.newEdges(this.newEdge());
+	}
+
+	@Override
+	public MemQESet2 newEdges(QN node) {
+		return this.newEdges(this.newEdge(node));
+	}
+
+	@Override
+	public MemQESet2 newEdges(QN context, QN predicate, QN subject, QN object) {
+		return this.newEdges(this.newEdge(context, predicate, subject, object));
+	}
+
+	@Override
+	public MemQESet2 newEdges(QE... edges) throws NullPointerException, IllegalArgumentException {
+		return this.newEdges(Arrays.asList(edges));
+	}
+
+	@Override
+	public MemQESet2 newEdges(Iterable<? extends QE> edges) throws NullPointerException, IllegalArgumentException {
+		return new MemQESet2(this, edges);
+	}
+
+	@Override
+	public MemQESet2 newEdges(long[] edges, int count) throws NullPointerException, IllegalArgumentException {
+		if ((count < 0) || (count > (edges.length / 4))) throw new IllegalArgumentException();
+		return new MemQESet2(this, MemQTable.from(4, Arrays.copyOf(edges, count * 4), count));
+	}
+
+	@Override
+	public MemQN newNode() {
+		return this.newNode(this.nextKey++);
+	}
+
+	@Override
+	public MemQN newNode(Object value) {
+		return this.newNode(this.putValue(this.asQV(value)));
+	}
+
+	@Override
+	public final MemQN newNode(long key) {
+		return new MemQN(this, key);
+	}
+
+	@Override
+	public long getKey(QN node) throws NullPointerException, IllegalArgumentException {
+		return this.asQN(node).key;
+	}
+
+	@Override
+	public MemQNSet2 newNodes(QN... nodes) throws NullPointerException, IllegalArgumentException {
+		return this.newNodes(Arrays.asList(nodes));
+	}
+
+	@Override
+	public MemQNSet2 newNodes(Iterable<? extends QN> nodes) throws NullPointerException, IllegalArgumentException {
+		return new MemQNSet2(this, nodes);
+	}
+
+	@Override
+	public MemQVSet2 newValues(Object... values) throws NullPointerException, IllegalArgumentException {
+		return this.newValues(Arrays.asList(values));
+	}
+
+	@Override
+	public MemQVSet2 newValues(Iterable<?> values) throws NullPointerException, IllegalArgumentException {
+		return new MemQVSet2(this, values);
+	}
+
+	@Override
+	public MemQT newTuple(QN... nodes) throws NullPointerException, IllegalArgumentException {
+		return this.newTuple(Arrays.asList(nodes));
+	}
+
+	@Override
+	public MemQT newTuple(List<? extends QN> nodes) throws NullPointerException, IllegalArgumentException {
+		var size = nodes.size();
+		var keys = new long[size];
+		for (var i = 0; i < size; i++) {
+			keys[i] = this.asQN(nodes.get(i)).key;
+		}
+		return this.newTuple(keys);
+	}
+
+	public final MemQT newTuple(long[] keys) {
+		return new MemQT(this, keys);
+	}
+
+	@Override
+	public MemQTSet2 newTuples(List<String> names, QN... tuples) throws NullPointerException, IllegalArgumentException {
+		var names2 = MemQTSet.names(names);
+		var width = names2.size();
+		if ((tuples.length % width) != 0) throw new IllegalArgumentException();
+		var rows = new long[tuples.length];
+		for (var i = 0; i < tuples.length; i++) {
+			rows[i] = this.asQN(tuples[i]).key;
+		}
+		return new MemQTSet2(this, names2, MemQTable.from(width, rows, tuples.length / width));
+	}
+
+	@Override
+	public MemQTSet2 newTuples(List<String> names, Iterable<? extends QT> tuples) throws NullPointerException, IllegalArgumentException {
+		return new MemQTSet2(this, names, tuples);
+	}
+
+	@Override
+	public String toString() {
+		return Objects.toInvokeString(this, this.owner);
+	}
+
+	final Object owner;
+
+	final MemQESet edges;
+
+	final MemQNSet nodes;
+
+	final MemQVSet values;
+
+	/** Dieses Feld speichert die nächste freie Knotenkennung. */
+	long nextKey = 1;
+
+	/** Dieses Feld bildet die Kennungen der Hyperknoten mit Textwert auf diese ab. */
+	final HashMapLO<String> valueMap = new HashMapLO<>();
+
+	/** Dieses Feld bildet die Textwerte auf die Kennungen ihrer Hyperknoten ab. */
+	final HashMapOL<String> keyMap = new HashMapOL<>();
+
+	/** Dieses Feld speichert die Tabelle der Hyperkanten ohne die Änderungen in {@link #edgesToPut} und {@link #edgesToPop}. */
+	MemQTable edgeTable = MemQTable.empty(4);
+
+	/** Dieses Feld speichert die seit der letzten Übertragung eingefügten Hyperkanten, die nicht in {@link #edgeTable} enthalten sind. */
+	final HashSet<MemQE> edgesToPut = new HashSet<>();
+
+	/** Dieses Feld speichert die seit der letzten Übertragung entfernten Hyperkanten, die in {@link #edgeTable} enthalten sind. */
+	final HashSet<MemQE> edgesToPop = new HashSet<>();
+
+	/** Dieses Feld speichert die Tabelle zu {@link #edgesToPut} oder {@code null}. */
+	MemQTable edgePutTable;
+
+	/** Dieses Feld speichert die Tabelle zu {@link #edgesToPop} oder {@code null}. */
+	MemQTable edgePopTable;
+
+	/** Dieses Feld speichert die Tabelle aller Hyperkanten einschließlich der nicht übertragenen Änderungen oder {@code null}. */
+	MemQTable edgeView;
+
+	/** Dieses Feld speichert die Tabelle der Kennungen der Hyperknoten mit Textwert ohne die Änderungen in {@link #keysToPut} und {@link #keysToPop}. */
+	MemQTable nodeTable = MemQTable.empty(1);
+
+	/** Dieses Feld speichert die Kennungen der seit der letzten Übertragung erzeugten Hyperknoten mit Textwert. */
+	final HashSetL keysToPut = new HashSetL();
+
+	/** Dieses Feld speichert die Kennungen der seit der letzten Übertragung entfernten Hyperknoten mit Textwert, die in {@link #nodeTable} enthalten sind. */
+	final HashSetL keysToPop = new HashSetL();
+
+	/** Dieses Feld speichert die geordneten Textwerte ohne die Änderungen in {@link #valuesToPut} und {@link #valuesToPop}. */
+	String[] valueTable = new String[0];
+
+	/** Dieses Feld speichert die seit der letzten Übertragung eingefügten Textwerte, die nicht in {@link #valueTable} enthalten sind. */
+	final HashSet<String> valuesToPut = new HashSet<>();
+
+	/** Dieses Feld speichert die seit der letzten Übertragung entfernten Textwerte, die in {@link #valueTable} enthalten sind. */
+	final HashSet<String> valuesToPop = new HashSet<>();
+
+	/** Diese Methode gibt die Tabelle aller Hyperkanten zurück. Überschreiten die einzeln geänderten Hyperkanten die {@link #edgeLimit() Grenze}, werden sie
+	 * übertragen. Andernfalls wird die Tabelle bis zur nächsten Änderung vorgehalten, ohne die Tabelle {@link #edgeTable} zu ersetzen. */
+	MemQTable edgeTable() {
+		var edgeTable = this.edgeBase();
+		if (this.edgesToPut.isEmpty() && this.edgesToPop.isEmpty()) return edgeTable;
+		var edgeView = this.edgeView;
+		if (edgeView != null) return edgeView;
+		return this.edgeView = edgeTable.except(this.edgePopTable()).union(this.edgePutTable());
+	}
+
+	/** Diese Methode gibt die Tabelle {@link #edgeTable} zurück. Zuvor werden die einzeln geänderten Hyperkanten übertragen, wenn sie die {@link #edgeLimit()
+	 * Grenze} überschreiten. */
+	MemQTable edgeBase() {
+		if ((this.edgesToPut.size() + this.edgesToPop.size()) <= this.edgeLimit()) return this.edgeTable;
+		var edgeTable = this.edgeView;
+		if (edgeTable == null) {
+			edgeTable = this.edgeTable.except(this.edgePopTable()).union(this.edgePutTable());
+		}
+		this.edgesToPut.clear();
+		this.edgesToPop.clear();
+		this.markEdges();
+		return this.edgeTable = edgeTable;
+	}
+
+	/** Diese Methode gibt die Anzahl der einzeln geänderten Hyperkanten zurück, ab der diese in {@link #edgeTable} übertragen werden. */
+	int edgeLimit() {
+		return Math.max(64, (int)Math.sqrt(this.edgeTable.size));
+	}
+
+	/** Diese Methode gibt die Tabelle zu {@link #edgesToPut} zurück. */
+	MemQTable edgePutTable() {
+		var edgePutTable = this.edgePutTable;
+		if (edgePutTable != null) return edgePutTable;
+		return this.edgePutTable = this.edgeRows(this.edgesToPut);
+	}
+
+	/** Diese Methode gibt die Tabelle zu {@link #edgesToPop} zurück. */
+	MemQTable edgePopTable() {
+		var edgePopTable = this.edgePopTable;
+		if (edgePopTable != null) return edgePopTable;
+		return this.edgePopTable = this.edgeRows(this.edgesToPop);
+	}
+
+	/** Diese Methode gibt die Anzahl aller Hyperkanten zurück. */
+	long edgeCount() {
+		return (this.edgeTable.size - this.edgesToPop.size()) + this.edgesToPut.size();
+	}
+
+	/** Diese Methode gibt die Hyperkanten zurück, deren Kennung in der gegebenen Spalte in den gegebenen, aufsteigend geordneten Kennungen enthalten ist. Diese
+	 * werden in {@link #edgeTable} sowie den einzeln geänderten Hyperkanten gesucht. */
+	MemQTable edgesHaving(int col, long[] keys) {
+		var res = this.edgeBase().having(col, keys);
+		if (!this.edgesToPop.isEmpty()) {
+			res = res.except(this.edgePopTable().having(col, keys));
+		}
+		if (!this.edgesToPut.isEmpty()) {
+			res = res.union(this.edgePutTable().having(col, keys));
+		}
+		return res;
+	}
+
+	/** Diese Methode gibt die Hyperkanten zurück, die in irgendeiner Spalte eine der gegebenen, aufsteigend geordneten Kennungen enthalten. Diese werden in
+	 * {@link #edgeTable} sowie den einzeln geänderten Hyperkanten gesucht. */
+	MemQTable edgesHavingAny(long[] keys) {
+		var res = this.edgeBase().havingAny(keys);
+		if (!this.edgesToPop.isEmpty()) {
+			res = res.except(this.edgePopTable().havingAny(keys));
+		}
+		if (!this.edgesToPut.isEmpty()) {
+			res = res.union(this.edgePutTable().havingAny(keys));
+		}
+		return res;
+	}
+
+	/** Diese Methode gibt die Tabelle der Kennungen aller Hyperknoten mit Textwert zurück. Zuvor werden deren Änderungen übertragen. */
+	MemQTable nodeTable() {
+		var nodeTable = this.nodeTable;
+		if (!this.keysToPop.isEmpty()) {
+			nodeTable = nodeTable.except(MemQS.keyRows(this.keysToPop));
+			this.keysToPop.clear();
+		}
+		if (!this.keysToPut.isEmpty()) {
+			nodeTable = nodeTable.union(MemQS.keyRows(this.keysToPut));
+			this.keysToPut.clear();
+		}
+		return this.nodeTable = nodeTable;
+	}
+
+	/** Diese Methode gibt die geordneten Textwerte aller Hyperknoten zurück. Zuvor werden deren Änderungen übertragen. */
+	String[] valueTable() {
+		var valueTable = this.valueTable;
+		if (!this.valuesToPop.isEmpty()) {
+			valueTable = MemQVSet.except(valueTable, MemQVSet.from(this.valuesToPop.toArray(new String[0]), this.valuesToPop.size()));
+			this.valuesToPop.clear();
+		}
+		if (!this.valuesToPut.isEmpty()) {
+			valueTable = MemQVSet.union(valueTable, MemQVSet.from(this.valuesToPut.toArray(new String[0]), this.valuesToPut.size()));
+			this.valuesToPut.clear();
+		}
+		return this.valueTable = valueTable;
+	}
+
+	boolean hasEdge(MemQE edge) {
+		if (this.edgesToPut.contains(edge)) return true;
+		return !this.edgesToPop.contains(edge) && this.edgeTable.contains(edge.context, edge.predicate, edge.subject, edge.object);
+	}
+
+	boolean putEdge(MemQE edge) {
+		if (this.edgesToPop.remove(edge)) {
+			this.markEdges();
+			return true;
+		}
+		if (this.edgeTable.contains(edge.context, edge.predicate, edge.subject, edge.object) || !this.edgesToPut.add(edge)) return false;
+		this.markEdges();
+		return true;
+	}
+
+	boolean popEdge(MemQE edge) {
+		if (this.edgesToPut.remove(edge)) {
+			this.markEdges();
+			return true;
+		}
+		if (!this.edgeTable.contains(edge.context, edge.predicate, edge.subject, edge.object) || !this.edgesToPop.add(edge)) return false;
+		this.markEdges();
+		return true;
+	}
+
+	/** Diese Methode fügt die Hyperkanten der gegebenen Tabelle ein. Wenige Hyperkanten werden dazu wie über {@link #putEdge(MemQE)} eingefügt. */
+	boolean putEdges(MemQTable edges) {
+		if ((this.edgesToPut.size() + this.edgesToPop.size() + edges.size) <= this.edgeLimit()) {
+			var changed = false;
+			for (var row = 0; row < edges.size; row++) {
+				changed = this.putEdge(this.newEdge(edges.cols[0][row], edges.cols[1][row], edges.cols[2][row], edges.cols[3][row])) | changed;
+			}
+			return changed;
+		}
+		var edgeTable = this.edgeTable();
+		this.edgesToPut.clear();
+		this.edgesToPop.clear();
+		this.markEdges();
+		this.edgeTable = edgeTable.union(edges);
+		return this.edgeTable.size != edgeTable.size;
+	}
+
+	/** Diese Methode entfernt die Hyperkanten der gegebenen Tabelle. Wenige Hyperkanten werden dazu wie über {@link #popEdge(MemQE)} entfernt. */
+	boolean popEdges(MemQTable edges) {
+		if ((this.edgesToPut.size() + this.edgesToPop.size() + edges.size) <= this.edgeLimit()) {
+			var changed = false;
+			for (var row = 0; row < edges.size; row++) {
+				changed = this.popEdge(this.newEdge(edges.cols[0][row], edges.cols[1][row], edges.cols[2][row], edges.cols[3][row])) | changed;
+			}
+			return changed;
+		}
+		var edgeTable = this.edgeTable();
+		this.edgesToPut.clear();
+		this.edgesToPop.clear();
+		this.markEdges();
+		this.edgeTable = edgeTable.except(edges);
+		return this.edgeTable.size != edgeTable.size;
+	}
+
+	/** Diese Methode entfernt die Textwerte der Hyperknoten mit den gegebenen, aufsteigend geordneten Kennungen sowie alle Hyperkanten mit diesen Hyperknoten. */
+	boolean popNodes(long[] keys) {
+		var changed = false;
+		for (var key: keys) {
+			var value = this.valueMap.remove(key);
+			if (value != null) {
+				this.keyMap.remove(value);
+				this.popValue(key, value);
+				changed = true;
+			}
+		}
+		var edges = this.edgesHavingAny(keys);
+		if (edges.size == 0) return changed;
+		this.popEdges(edges);
+		return true;
+	}
+
+	/** Diese Methode gibt die Kennung des Hyperknoten mit dem gegebenen Textwert zurück. Dieser wird bei Bedarf erzeugt. */
+	long putValue(String value) {
+		var key = this.keyMap.get(value);
+		if (key != null) return key;
+		var key2 = this.nextKey++;
+		this.keyMap.put(value, key2);
+		this.valueMap.put(key2, value);
+		this.keysToPut.add(key2);
+		if (!this.valuesToPop.remove(value)) {
+			this.valuesToPut.add(value);
+		}
+		return key2;
+	}
+
+	boolean putValues(String[] values) {
+		var size = this.keyMap.size();
+		for (var value: values) {
+			this.putValue(value);
+		}
+		return this.keyMap.size() != size;
+	}
+
+	boolean popValues(String[] values) {
+		var changed = false;
+		for (var value: values) {
+			var key = this.keyMap.remove(value);
+			if (key != null) {
+				this.valueMap.remove(key);
+				this.popValue(key, value);
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	/** Diese Methode vermerkt das Entfernen des Hyperknoten mit der gegebenen Kennung und dem gegebenen Textwert. */
+	void popValue(long key, String value) {
+		if (!this.keysToPut.remove(key)) {
+			this.keysToPop.add(key);
+		}
+		if (!this.valuesToPut.remove(value)) {
+			this.valuesToPop.add(value);
+		}
+	}
+
+	void markEdges() {
+		this.edgePutTable = null;
+		this.edgePopTable = null;
+		this.edgeView = null;
+	}
+
+	/** Diese Methode gibt die Tabelle der gegebenen Kennungen zurück. */
+	static MemQTable keyRows(HashSetL items) {
+		var keys = new long[items.size()];
+		var size = 0;
+		for (var key: items) {
+			keys[size++] = key;
+		}
+		return MemQTable.fromKeys(keys, size);
+	}
+
+	/** Diese Methode gibt die geordneten Textwerte der Hyperknoten der gegebenen Tabelle zurück. */
+	String[] valuesOf(MemQTable nodes) {
+		var keys = nodes.cols[0];
+		var values = new String[keys.length];
+		var size = 0;
+		for (var key: keys) {
+			var value = this.valueMap.get(key);
+			if (value != null) {
+				values[size++] = value;
+			}
+		}
+		return MemQVSet.from(values, size);
+	}
+
+	/** Diese Methode gibt die Tabelle der Kennungen der Hyperknoten mit den gegebenen Textwerten zurück. */
+	MemQTable nodesOf(String[] values) {
+		var keys = new long[values.length];
+		var size = 0;
+		for (var value: values) {
+			var key = this.keyMap.get(value);
+			if (key != null) {
+				keys[size++] = key;
+			}
+		}
+		return MemQTable.fromKeys(keys, size);
+	}
+
+	/** Diese Methode gibt die Tabelle der gegebenen Hyperkanten zurück. */
+	MemQTable edgeRows(Iterable<? extends QE> items) throws NullPointerException, IllegalArgumentException {
+		if (items instanceof MemQESet) return this.asQESet(items).table();
+		var rows = new long[64];
+		var size = 0;
+		for (var item: items) {
+			var edge = this.asQE(item);
+			var i = size++ * 4;
+			if (rows.length < (i + 4)) {
+				rows = Arrays.copyOf(rows, rows.length * 2);
+			}
+			rows[i] = edge.context;
+			rows[i + 1] = edge.predicate;
+			rows[i + 2] = edge.subject;
+			rows[i + 3] = edge.object;
+		}
+		return MemQTable.from(4, rows, size);
+	}
+
+	/** Diese Methode gibt die Tabelle der Kennungen der gegebenen Hyperknoten zurück. */
+	MemQTable nodeRows(Iterable<? extends QN> items) throws NullPointerException, IllegalArgumentException {
+		if (items instanceof MemQNSet) return this.asQNSet(items).table();
+		var keys = new long[16];
+		var size = 0;
+		for (var item: items) {
+			if (keys.length == size) {
+				keys = Arrays.copyOf(keys, size * 2);
+			}
+			keys[size++] = this.asQN(item).key;
+		}
+		return MemQTable.fromKeys(keys, size);
+	}
+
+	/** Diese Methode gibt die geordneten Textwerte der gegebenen Objekte zurück. */
+	String[] valueRows(Iterable<?> items) throws NullPointerException, IllegalArgumentException {
+		if (items instanceof MemQVSet) {
+			var res = (MemQVSet)items;
+			if (res.owner == this) return res.table();
+		}
+		var values = new String[16];
+		var size = 0;
+		for (var item: items) {
+			if (values.length == size) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = this.asQV(item);
+		}
+		return MemQVSet.from(values, size);
+	}
+
+	/** Diese Methode gibt die Tabelle der gegebenen Tupel mit den gegebenen Rollennamen zurück. */
+	MemQTable tupleRows(Iterable<? extends QT> items, List<String> names) throws NullPointerException, IllegalArgumentException {
+		if (items instanceof MemQTSet) return this.asQTSet(items, names).table();
+		var width = names.size();
+		var rows = new long[width * 16];
+		var size = 0;
+		for (var item: items) {
+			var keys = this.asQT(item).keys;
+			if (keys.length != width) throw new IllegalArgumentException();
+			var i = size++ * width;
+			if (rows.length < (i + width)) {
+				rows = Arrays.copyOf(rows, rows.length * 2);
+			}
+			System.arraycopy(keys, 0, rows, i, width);
+		}
+		return MemQTable.from(width, rows, size);
+	}
+
+}
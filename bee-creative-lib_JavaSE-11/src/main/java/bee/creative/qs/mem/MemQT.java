@@ -0,0 +1,88 @@
+package bee.creative.qs.mem;
+
+import java.util.Arrays;
+import java.util.List;
+import bee.creative.lang.Objects;
+import bee.creative.lang.Objects.UseToString;
+import bee.creative.lang.Strings;
+import bee.creative.qs.QN;
+import bee.creative.qs.QT;
+import bee.creative.util.Iterables;
+import bee.creative.util.Iterator3;
+import bee.creative.util.Iterators;
+
+/** Diese Klasse implementiert ein {@link QT} mit Bezug zu einem {@link MemQS}.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public final class MemQT implements QT, UseToString {
+
+	/** Dieses Feld speichert den Graphspeicher. */
+	public final MemQS owner;
+
+	/** Dieses Feld speichert die Kennungen der Hyperknoten. */
+	public final long[] keys;
+
+	@Override
+	public MemQN get(int index) throws IndexOutOfBoundsException {
+		return this.owner.newNode(this.keys[index]);
+	}
+
+	@Override
+	public int size() {
+		return this.keys.length;
+	}
+
+	@Override
+	public MemQS owner() {
+		return this.owner;
+	}
+
+	@Override
+	public Iterator3<QN> iterator() {
+		return Iterators.iteratorFromArray(this, 0, this.size());
+	}
+
+	@Override
+	public int hashCode() {
+		var result = Objects.hashInit();
+		for (var key: this.keys) {
+			result = Objects.hashPush(result, Objects.hash(key));
+		}
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (!(object instanceof MemQT)) return false;
+		var that = (MemQT)object;
+		if (!Arrays.equals(this.keys, that.keys) || (this.owner != that.owner)) return false;
+		return true;
+	}
+
+	@Override
+	public List<QN> toList() {
+		return Iterables.toList(this);
+	}
+
+	@Override
+	public QN[] toArray() {
+		var size = this.size();
+		var res = new QN[size];
+		for (var i = 0; i < size; i++) {
+			res[i] = this.get(i);
+		}
+		return res;
+	}
+
+	@Override
+	public String toString() {
+		return "(" + Strings.join(" ", this) + ")";
+	}
+
+	MemQT(MemQS owner, long... keys) {
+		this.owner = owner;
+		this.keys = keys;
+	}
+
+}
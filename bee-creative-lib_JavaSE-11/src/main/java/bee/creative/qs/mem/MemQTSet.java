@@ -0,0 +1,179 @@
+package bee.creative.qs.mem;
+
+import static bee.creative.util.Iterables.filteredIterable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import bee.creative.lang.Objects;
+import bee.creative.qs.QN;
+import bee.creative.qs.QNSet;
+import bee.creative.qs.QT;
+import bee.creative.qs.QTSet;
+import bee.creative.util.Filter;
+import bee.creative.util.Producer;
+
+/** Diese Klasse implementiert ein {@link QTSet} als Sicht auf eine {@link MemQTable Tabelle}, deren Spalten den {@link #names() Rollen} entsprechen. Die
+ * {@link #join(QTSet) Verknüpfung} zweier Mengen erfolgt durch Mischen ihrer nach den gemeinsamen Rollen geordneten Tupel.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class MemQTSet extends MemQOSet<QT, QTSet> implements QTSet {
+
+	@Override
+	public MemQTSet2 copy() {
+		return this.owner.newTuples(this.names, this);
+	}
+
+	@Override
+	public MemQTSet2 copy(Filter<? super QT> filter) throws NullPointerException {
+		return this.owner.newTuples(this.names, filteredIterable(this, filter));
+	}
+
+	@Override
+	public MemQTSet order() {
+		return this;
+	}
+
+	@Override
+	public MemQTSet union(QTSet set) throws NullPointerException, IllegalArgumentException {
+		var that = this.owner.asQTSet(set, this.names);
+		return new MemQTSet(this.owner, this.names, () -> this.table().union(that.table()));
+	}
+
+	@Override
+	public MemQTSet except(QTSet set) throws NullPointerException, IllegalArgumentException {
+		var that = this.owner.asQTSet(set, this.names);
+		return new MemQTSet(this.owner, this.names, () -> this.table().except(that.table()));
+	}
+
+	@Override
+	public MemQTSet intersect(QTSet set) throws NullPointerException, IllegalArgumentException {
+		var that = this.owner.asQTSet(set, this.names);
+		return new MemQTSet(this.owner, this.names, () -> this.table().intersect(that.table()));
+	}
+
+	@Override
+	public int role(String name) throws NullPointerException {
+		return this.names.indexOf(Objects.notNull(name));
+	}
+
+	@Override
+	public int[] roles(List<String> names) throws NullPointerException {
+		var size = names.size();
+		var roles = new int[size];
+		for (var i = 0; i < size; i++) {
+			roles[i] = this.role(names.get(i));
+		}
+		return roles;
+	}
+
+	@Override
+	public String name(int role) throws IllegalArgumentException {
+		if ((role < 0) || (role >= this.names.size())) throw new IllegalArgumentException();
+		return this.names.get(role);
+	}
+
+	@Override
+	public List<String> names() {
+		return this.names;
+	}
+
+	@Override
+	public String[] names(int... roles) throws IllegalArgumentException {
+		var size = roles.length;
+		var names = new String[size];
+		for (var i = 0; i < size; i++) {
+			names[i] = this.name(roles[i]);
+		}
+		return names;
+	}
+
+	@Override
+	public MemQESet edges(int context, int predicate, int subject, int object) throws NullPointerException, IllegalArgumentException {
+		this.names(context, predicate, subject, object);
+		return new MemQESet(this.owner, () -> this.table().select(context, predicate, subject, object));
+	}
+
+	@Override
+	public MemQNSet nodes(int role) throws IllegalArgumentException {
+		this.name(role);
+		return new MemQNSet(this.owner, () -> this.table().select(role));
+	}
+
+	@Override
+	public MemQTSet join(QTSet set) throws NullPointerException, IllegalArgumentException {
+		var that = this.owner.asQTSet(set);
+		var roles = this.roles(that.names);
+		var names = new ArrayList<>(this.names);
+		for (var i = 0; i < roles.length; i++) {
+			if (roles[i] < 0) {
+				names.add(that.names.get(i));
+			}
+		}
+		return new MemQTSet(this.owner, MemQTSet.names(names), () -> this.table().join(that.table(), roles));
+	}
+
+	@Override
+	public MemQTSet select(int... roles) throws NullPointerException, IllegalArgumentException {
+		var names = MemQTSet.names(List.of(this.names(roles)));
+		var cols = roles.clone();
+		return new MemQTSet(this.owner, names, () -> this.table().select(cols));
+	}
+
+	@Override
+	public MemQTSet withNode(int role, QN node) throws NullPointerException, IllegalArgumentException {
+		this.name(role);
+		var keys = new long[]{this.owner.asQN(node).key};
+		return new MemQTSet(this.owner, this.names, () -> this.table().replace(role, keys));
+	}
+
+	@Override
+	public MemQTSet withNodes(int role, QNSet nodes) throws NullPointerException, IllegalArgumentException {
+		this.name(role);
+		var that = this.owner.asQNSet(nodes);
+		return new MemQTSet(this.owner, this.names, () -> this.table().replace(role, that.table().cols[0]));
+	}
+
+	@Override
+	public MemQTSet withNames(List<String> names) throws NullPointerException, IllegalArgumentException {
+		if (this.names.equals(names)) return this;
+		var names2 = MemQTSet.names(names);
+		if (this.names.size() != names2.size()) throw new IllegalArgumentException();
+		return new MemQTSet(this.owner, names2, this::table);
+	}
+
+	@Override
+	public MemQTSet havingNode(int role, QN node) throws NullPointerException, IllegalArgumentException {
+		this.name(role);
+		var keys = new long[]{this.owner.asQN(node).key};
+		return new MemQTSet(this.owner, this.names, () -> this.table().having(role, keys));
+	}
+
+	@Override
+	public MemQTSet havingNodes(int role, QNSet nodes) throws NullPointerException, IllegalArgumentException {
+		this.name(role);
+		var that = this.owner.asQNSet(nodes);
+		return new MemQTSet(this.owner, this.names, () -> this.table().having(role, that.table().cols[0]));
+	}
+
+	/** Diese Methode gibt die gegebenen Rollennamen als unveränderliche Liste zurück. Diese müssen paarweise verschieden sein und dürfen nicht leer sein. */
+	static List<String> names(List<String> names) throws NullPointerException, IllegalArgumentException {
+		var res = List.copyOf(names);
+		if (res.isEmpty() || (new HashSet<>(res).size() != res.size())) throw new IllegalArgumentException();
+		return res;
+	}
+
+	/** Dieses Feld speichert die Rollennamen. */
+	final List<String> names;
+
+	/** Dieser Konstruktor initialisiert {@link #owner Graphspeicher}, Rollennamen und Berechnung der Tabelle, deren Spalten den Rollen entsprechen. */
+	MemQTSet(MemQS owner, List<String> names, Producer<MemQTable> source) throws NullPointerException {
+		super(owner, source);
+		this.names = names;
+	}
+
+	@Override
+	QT customItem(MemQTable table, int row) {
+		return this.owner.newTuple(table.row(row));
+	}
+
+}
@@ -0,0 +1,56 @@
+package bee.creative.qs.mem;
+
+import java.util.List;
+import bee.creative.qs.QT;
+import bee.creative.qs.QTSet2;
+
+/** Diese Klasse implementiert ein veränderbares {@link QTSet2}, dessen Tupel als {@link MemQTable Tabelle} vorgehalten werden.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class MemQTSet2 extends MemQTSet implements QTSet2 {
+
+	@Override
+	public MemQTSet2 copy() {
+		return this;
+	}
+
+	@Override
+	public boolean clear() {
+		if (this.items.size == 0) return false;
+		this.items = MemQTable.empty(this.names.size());
+		return true;
+	}
+
+	@Override
+	public boolean insertAll(Iterable<? extends QT> items) throws NullPointerException, IllegalArgumentException {
+		var size = this.items.size;
+		this.items = this.items.union(this.owner.tupleRows(items, this.names));
+		return this.items.size != size;
+	}
+
+	@Override
+	public boolean deleteAll(Iterable<? extends QT> items) throws NullPointerException, IllegalArgumentException {
+		var size = this.items.size;
+		this.items = this.items.except(this.owner.tupleRows(items, this.names));
+		return this.items.size != size;
+	}
+
+	/** Dieser Konstruktor erzeugt eine Menge mit den gegebenen Rollennamen und Elementen. */
+	public MemQTSet2(MemQS owner, List<String> names, Iterable<? extends QT> items) throws NullPointerException, IllegalArgumentException {
+		this(owner, MemQTSet.names(names), owner.tupleRows(items, MemQTSet.names(names)));
+	}
+
+	/** Dieses Feld speichert die Tabelle der Tupel. */
+	MemQTable items;
+
+	MemQTSet2(MemQS owner, List<String> names, MemQTable items) {
+		super(owner, names, null);
+		this.items = items;
+	}
+
+	@Override
+	MemQTable table() {
+		return this.items;
+	}
+
+}
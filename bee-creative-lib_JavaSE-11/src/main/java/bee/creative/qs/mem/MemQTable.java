@@ -0,0 +1,530 @@
+package bee.creative.qs.mem;
+
+import java.util.Arrays;
+
+/** Diese Klasse implementiert eine unveränderliche Tabelle aus Zeilen von Knotenkennungen, die spaltenweise in {@code long}-Feldern abgelegt sind. Die Zeilen
+ * sind lexikographisch über alle Spalten aufsteigend geordnet und paarweise verschieden. Damit können Vereinigung, Differenz und Schnitt zweier Tabellen
+ * durch Mischen der geordneten Zeilenfolgen ermittelt werden. Zu jeder Spalte kann zudem ein {@link #index(int) Permutationsindex} erzeugt werden, über den
+ * Zeilen mit bestimmten Kennungen in dieser Spalte durch Mischen mit einer geordneten Kennungsfolge gefunden werden. Für die erste Spalte ist dieser Index
+ * die Identität.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+final class MemQTable {
+
+	/** Diese Methode gibt eine leere Tabelle mit der gegebenen Spaltenanzahl zurück. */
+	static MemQTable empty(int width) {
+		return new MemQTable(width, 0, new long[width][0]);
+	}
+
+	/** Diese Methode gibt eine Tabelle mit den gegebenen Zeilen zurück. Die Zeilen stehen zeilenweise in den ersten {@code size * width} Elementen des gegebenen
+	 * Felds, das dabei geordnet wird. */
+	static MemQTable from(int width, long[] rows, int size) {
+		MemQTable.sort(rows, width, 0, size);
+		size = MemQTable.dedup(rows, width, size);
+		var cols = new long[width][size];
+		for (int r = 0, i = 0; r < size; r++) {
+			for (var c = 0; c < width; c++, i++) {
+				cols[c][r] = rows[i];
+			}
+		}
+		return new MemQTable(width, size, cols);
+	}
+
+	/** Diese Methode gibt die geordneten und paarweise verschiedenen Elemente der gegebenen Kennungen als einspaltige Tabelle zurück. Das gegebene Feld wird dabei
+	 * verändert. */
+	static MemQTable fromKeys(long[] keys, int size) {
+		Arrays.sort(keys, 0, size);
+		size = MemQTable.dedup(keys, 1, size);
+		return new MemQTable(1, size, new long[][]{size == keys.length ? keys : Arrays.copyOf(keys, size)});
+	}
+
+	/** Diese Methode gibt die gegebenen, bereits aufsteigend geordneten und paarweise verschiedenen Kennungen als einspaltige Tabelle zurück. */
+	static MemQTable ofKeys(long[] keys) {
+		return new MemQTable(1, keys.length, new long[][]{keys});
+	}
+
+	/** Dieses Feld speichert die Anzahl der Spalten. */
+	final int width;
+
+	/** Dieses Feld speichert die Anzahl der Zeilen. */
+	final int size;
+
+	/** Dieses Feld speichert die Spalten. */
+	final long[][] cols;
+
+	MemQTable(int width, int size, long[][] cols) {
+		this.width = width;
+		this.size = size;
+		this.cols = cols;
+	}
+
+	/** Diese Methode gibt die Kennungen der gegebenen Zeile zurück. */
+	long[] row(int row) {
+		var res = new long[this.width];
+		for (var c = 0; c < this.width; c++) {
+			res[c] = this.cols[c][row];
+		}
+		return res;
+	}
+
+	/** Diese Methode gibt nur dann {@code true} zurück, wenn diese Tabelle die gegebene Zeile enthält. */
+	boolean contains(long... row) {
+		int lo = 0, hi = this.size - 1;
+		while (lo <= hi) {
+			var mid = (lo + hi) >>> 1;
+			var cmp = this.compare(mid, row);
+			if (cmp < 0) {
+				lo = mid + 1;
+			} else if (cmp > 0) {
+				hi = mid - 1;
+			} else return true;
+		}
+		return false;
+	}
+
+	/** Diese Methode gibt die Vereinigung dieser mit der gegebenen Tabelle zurück. */
+	MemQTable union(MemQTable that) {
+		if (that.size == 0) return this;
+		if (this.size == 0) return that;
+		var res = new Builder(this.width, this.size + that.size);
+		int i1 = 0, i2 = 0;
+		while ((i1 < this.size) && (i2 < that.size)) {
+			var cmp = MemQTable.compare(this, i1, that, i2);
+			if (cmp < 0) {
+				res.add(this, i1++);
+			} else if (cmp > 0) {
+				res.add(that, i2++);
+			} else {
+				res.add(this, i1++);
+				i2++;
+			}
+		}
+		while (i1 < this.size) {
+			res.add(this, i1++);
+		}
+		while (i2 < that.size) {
+			res.add(that, i2++);
+		}
+		return res.build();
+	}
+
+	/** Diese Methode gibt die Zeilen dieser Tabelle zurück, die nicht in der gegebenen enthalten sind. */
+	MemQTable except(MemQTable that) {
+		if ((this.size == 0) || (that.size == 0)) return this;
+		var res = new Builder(this.width, this.size);
+		int i1 = 0, i2 = 0;
+		while ((i1 < this.size) && (i2 < that.size)) {
+			var cmp = MemQTable.compare(this, i1, that, i2);
+			if (cmp < 0) {
+				res.add(this, i1++);
+			} else if (cmp > 0) {
+				i2++;
+			} else {
+				i1++;
+				i2++;
+			}
+		}
+		while (i1 < this.size) {
+			res.add(this, i1++);
+		}
+		return res.build();
+	}
+
+	/** Diese Methode gibt die Zeilen dieser Tabelle zurück, die auch in der gegebenen enthalten sind. */
+	MemQTable intersect(MemQTable that) {
+		if (this.size == 0) return this;
+		if (that.size == 0) return that;
+		var res = new Builder(this.width, Math.min(this.size, that.size));
+		int i1 = 0, i2 = 0;
+		while ((i1 < this.size) && (i2 < that.size)) {
+			var cmp = MemQTable.compare(this, i1, that, i2);
+			if (cmp < 0) {
+				i1++;
+			} else if (cmp > 0) {
+				i2++;
+			} else {
+				res.add(this, i1++);
+				i2++;
+			}
+		}
+		return res.build();
+	}
+
+	/** Diese Methode gibt die Tabelle zurück, deren Spalten den gegebenen Spalten dieser Tabelle entsprechen. */
+	MemQTable select(int... cols) {
+		var width = cols.length;
+		var prefix = width <= this.width;
+		for (var c = 0; prefix && (c < width); c++) {
+			prefix = cols[c] == c;
+		}
+		if (prefix) {
+			if (width == this.width) return this;
+			var res = new Builder(width, this.size);
+			for (var r = 0; r < this.size; r++) {
+				if ((r == 0) || (MemQTable.compare(this, r - 1, this, r, width) != 0)) {
+					res.add(this, r);
+				}
+			}
+			return res.build();
+		}
+		if (width == 1) return MemQTable.fromKeys(this.cols[cols[0]].clone(), this.size);
+		var rows = new long[this.size * width];
+		for (int r = 0, i = 0; r < this.size; r++) {
+			for (var c = 0; c < width; c++, i++) {
+				rows[i] = this.cols[cols[c]][r];
+			}
+		}
+		return MemQTable.from(width, rows, this.size);
+	}
+
+	/** Diese Methode gibt die Tabelle zurück, die aus dieser entsteht, wenn die Kennung in der gegebenen Spalte jeder Zeile durch jede der gegebenen Kennungen
+	 * ersetzt wird. */
+	MemQTable replace(int col, long[] keys) {
+		var count = this.size * keys.length;
+		var rows = new long[count * this.width];
+		var i = 0;
+		for (var key: keys) {
+			for (var r = 0; r < this.size; r++) {
+				for (var c = 0; c < this.width; c++, i++) {
+					rows[i] = c == col ? key : this.cols[c][r];
+				}
+			}
+		}
+		return MemQTable.from(this.width, rows, count);
+	}
+
+	/** Diese Methode gibt die Zeilen dieser Tabelle zurück, deren Kennung in der gegebenen Spalte in den gegebenen, aufsteigend geordneten Kennungen enthalten
+	 * ist. */
+	MemQTable having(int col, long[] keys) {
+		if ((this.size == 0) || (keys.length == 0)) return MemQTable.empty(this.width);
+		var mark = new boolean[this.size];
+		var count = this.mark(col, keys, mark, 0);
+		return this.gather(mark, count);
+	}
+
+	/** Diese Methode gibt die Zeilen dieser Tabelle zurück, die in irgendeiner Spalte eine der gegebenen, aufsteigend geordneten Kennungen enthalten. */
+	MemQTable havingAny(long[] keys) {
+		if ((this.size == 0) || (keys.length == 0)) return MemQTable.empty(this.width);
+		var mark = new boolean[this.size];
+		var count = 0;
+		for (var c = 0; c < this.width; c++) {
+			count = this.mark(c, keys, mark, count);
+		}
+		return this.gather(mark, count);
+	}
+
+	/** Diese Methode gibt die aufsteigend geordneten und paarweise verschiedenen Kennungen aller Spalten zurück. */
+	long[] keys() {
+		if (this.width == 1) return this.cols[0];
+		var keys = new long[this.size * this.width];
+		for (var c = 0; c < this.width; c++) {
+			System.arraycopy(this.cols[c], 0, keys, c * this.size, this.size);
+		}
+		return MemQTable.fromKeys(keys, keys.length).cols[0];
+	}
+
+	/** Diese Methode gibt die Verknüpfung dieser mit der gegebenen Tabelle zurück. Die Spalten der gegebenen Tabelle werden dabei den gegebenen Spalten dieser
+	 * Tabelle zugeordnet. Zeilen werden verknüpft, wenn sie in allen einander zugeordneten Spalten gleiche Kennungen besitzen. Die Ergebniszeilen bestehen aus den
+	 * Spalten dieser Tabelle gefolgt von den nicht zugeordneten Spalten der gegebenen Tabelle.
+	 *
+	 * @param that Tabelle.
+	 * @param roles Spalte dieser Tabelle oder {@code -1} je Spalte der gegebenen Tabelle. */
+	MemQTable join(MemQTable that, int[] roles) {
+		var count = 0;
+		for (var role: roles) {
+			if (role >= 0) {
+				count++;
+			}
+		}
+		var keys1 = new int[count];
+		var keys2 = new int[count];
+		var extra = new int[that.width - count];
+		for (int c2 = 0, k = 0, e = 0; c2 < that.width; c2++) {
+			if (roles[c2] >= 0) {
+				keys1[k] = roles[c2];
+				keys2[k++] = c2;
+			} else {
+				extra[e++] = c2;
+			}
+		}
+		var width = this.width + extra.length;
+		if ((this.size == 0) || (that.size == 0)) return MemQTable.empty(width);
+		var perm1 = this.order(keys1);
+		var perm2 = that.order(keys2);
+		var rows = new long[Math.max(this.size, that.size) * width];
+		var size = 0;
+		int i1 = 0, i2 = 0;
+		while ((i1 < this.size) && (i2 < that.size)) {
+			var cmp = MemQTable.compare(this, perm1[i1], keys1, that, perm2[i2], keys2);
+			if (cmp < 0) {
+				i1++;
+			} else if (cmp > 0) {
+				i2++;
+			} else {
+				var j1 = i1 + 1;
+				while ((j1 < this.size) && (MemQTable.compare(this, perm1[i1], keys1, this, perm1[j1], keys1) == 0)) {
+					j1++;
+				}
+				var j2 = i2 + 1;
+				while ((j2 < that.size) && (MemQTable.compare(that, perm2[i2], keys2, that, perm2[j2], keys2) == 0)) {
+					j2++;
+				}
+				for (var k1 = i1; k1 < j1; k1++) {
+					for (var k2 = i2; k2 < j2; k2++) {
+						var i = size * width;
+						if ((i + width) > rows.length) {
+							rows = Arrays.copyOf(rows, Math.max(i + width, rows.length * 2));
+						}
+						for (var c = 0; c < this.width; c++, i++) {
+							rows[i] = this.cols[c][perm1[k1]];
+						}
+						for (var c: extra) {
+							rows[i++] = that.cols[c][perm2[k2]];
+						}
+						size++;
+					}
+				}
+				i1 = j1;
+				i2 = j2;
+			}
+		}
+		return MemQTable.from(width, rows, size);
+	}
+
+	/** Diese Methode gibt die Positionen der Zeilen zurück, aufsteigend geordnet nach den Kennungen in der gegebenen Spalte und bei Gleichheit nach ihrer
+	 * Position. Der Index wird bei Bedarf erzeugt und für spätere Aufrufe vorgehalten. Für die erste Spalte wird {@code null} geliefert, da die Zeilen bereits
+	 * danach geordnet sind. */
+	int[] index(int col) {
+		if (col == 0) return null;
+		var indexes = this.indexes;
+		if (indexes == null) {
+			this.indexes = indexes = new int[this.width][];
+		}
+		var index = indexes[col];
+		if (index != null) return index;
+		return indexes[col] = this.order(new int[]{col});
+	}
+
+	@Override
+	public String toString() {
+		var res = new StringBuilder().append('[');
+		for (var r = 0; r < this.size; r++) {
+			res.append(r == 0 ? "(" : ", (");
+			for (var c = 0; c < this.width; c++) {
+				res.append(c == 0 ? "" : " ").append(this.cols[c][r]);
+			}
+			res.append(')');
+		}
+		return res.append(']').toString();
+	}
+
+	/** Dieses Feld speichert die {@link #index(int) Permutationsindizes} je Spalte oder {@code null}. */
+	int[][] indexes;
+
+	int compare(int row, long[] keys) {
+		for (var c = 0; c < this.width; c++) {
+			var cmp = Long.compare(this.cols[c][row], keys[c]);
+			if (cmp != 0) return cmp;
+		}
+		return 0;
+	}
+
+	/** Diese Methode markiert die Zeilen, deren Kennung in der gegebenen Spalte in den gegebenen Kennungen enthalten ist, und gibt die um die Anzahl der neu
+	 * markierten Zeilen erhöhte gegebene Anzahl zurück. Dazu werden die Kennungen mit dem {@link #index(int) Permutationsindex} der Spalte gemischt, wobei
+	 * Bereiche ohne Treffer exponentiell übersprungen werden. */
+	int mark(int col, long[] keys, boolean[] mark, int count) {
+		var perm = this.index(col);
+		var vals = this.cols[col];
+		var size = this.size;
+		var pos = 0;
+		for (var key: keys) {
+			var hi = pos;
+			var step = 1;
+			while ((hi < size) && (vals[perm == null ? hi : perm[hi]] < key)) {
+				pos = hi + 1;
+				hi += step;
+				step <<= 1;
+			}
+			if (hi > size) {
+				hi = size;
+			}
+			while (pos < hi) {
+				var mid = (pos + hi) >>> 1;
+				if (vals[perm == null ? mid : perm[mid]] < key) {
+					pos = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			if (pos == size) return count;
+			for (int row; (pos < size) && (vals[row = perm == null ? pos : perm[pos]] == key); pos++) {
+				if (!mark[row]) {
+					mark[row] = true;
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	MemQTable gather(boolean[] mark, int count) {
+		if (count == this.size) return this;
+		var res = new Builder(this.width, count);
+		for (var r = 0; r < this.size; r++) {
+			if (mark[r]) {
+				res.add(this, r);
+			}
+		}
+		return res.build();
+	}
+
+	/** Diese Methode gibt die Positionen der Zeilen zurück, aufsteigend geordnet nach den Kennungen in den gegebenen Spalten und bei Gleichheit nach ihrer
+	 * Position. */
+	int[] order(int[] cols) {
+		var width = cols.length + 1;
+		var rows = new long[this.size * width];
+		for (int r = 0, i = 0; r < this.size; r++) {
+			for (var c: cols) {
+				rows[i++] = this.cols[c][r];
+			}
+			rows[i++] = r;
+		}
+		MemQTable.sort(rows, width, 0, this.size);
+		var res = new int[this.size];
+		for (int r = 0, i = width - 1; r < this.size; r++, i += width) {
+			res[r] = (int)rows[i];
+		}
+		return res;
+	}
+
+	static int compare(MemQTable table1, int row1, MemQTable table2, int row2) {
+		return MemQTable.compare(table1, row1, table2, row2, table1.width);
+	}
+
+	static int compare(MemQTable table1, int row1, MemQTable table2, int row2, int width) {
+		for (var c = 0; c < width; c++) {
+			var cmp = Long.compare(table1.cols[c][row1], table2.cols[c][row2]);
+			if (cmp != 0) return cmp;
+		}
+		return 0;
+	}
+
+	static int compare(MemQTable table1, int row1, int[] cols1, MemQTable table2, int row2, int[] cols2) {
+		for (var c = 0; c < cols1.length; c++) {
+			var cmp = Long.compare(table1.cols[cols1[c]][row1], table2.cols[cols2[c]][row2]);
+			if (cmp != 0) return cmp;
+		}
+		return 0;
+	}
+
+	/** Diese Methode ordnet die zeilenweise abgelegten Zeilen im gegebenen Bereich lexikographisch aufsteigend. */
+	static void sort(long[] rows, int width, int from, int to) {
+		var pivot = new long[width];
+		while ((to - from) > 16) {
+			var mid = (from + to) >>> 1;
+			var a = MemQTable.compare(rows, width, from, mid) <= 0 ? from : mid;
+			var b = MemQTable.compare(rows, width, from, mid) <= 0 ? mid : from;
+			var last = to - 1;
+			var median = MemQTable.compare(rows, width, b, last) <= 0 ? b : MemQTable.compare(rows, width, a, last) <= 0 ? last : a;
+			System.arraycopy(rows, median * width, pivot, 0, width);
+			int lt = from, i = from, gt = last;
+			while (i <= gt) {
+				var cmp = MemQTable.compare(rows, width, i, pivot);
+				if (cmp < 0) {
+					MemQTable.swap(rows, width, lt++, i++);
+				} else if (cmp > 0) {
+					MemQTable.swap(rows, width, i, gt--);
+				} else {
+					i++;
+				}
+			}
+			if ((lt - from) < (to - gt - 1)) {
+				MemQTable.sort(rows, width, from, lt);
+				from = gt + 1;
+			} else {
+				MemQTable.sort(rows, width, gt + 1, to);
+				to = lt;
+			}
+		}
+		for (var i = from + 1; i < to; i++) {
+			for (var j = i; (j > from) && (MemQTable.compare(rows, width, j - 1, j) > 0); j--) {
+				MemQTable.swap(rows, width, j - 1, j);
+			}
+		}
+	}
+
+	/** Diese Methode entfernt unmittelbar aufeinander folgende gleiche Zeilen und gibt die Anzahl der verbleibenden Zeilen zurück. */
+	static int dedup(long[] rows, int width, int size) {
+		if (size == 0) return 0;
+		var res = 1;
+		for (var r = 1; r < size; r++) {
+			if (MemQTable.compare(rows, width, res - 1, r) == 0) {
+				continue;
+			}
+			if (res != r) {
+				System.arraycopy(rows, r * width, rows, res * width, width);
+			}
+			res++;
+		}
+		return res;
+	}
+
+	static int compare(long[] rows, int width, int row1, int row2) {
+		for (int i1 = row1 * width, i2 = row2 * width, end = i1 + width; i1 < end; i1++, i2++) {
+			var cmp = Long.compare(rows[i1], rows[i2]);
+			if (cmp != 0) return cmp;
+		}
+		return 0;
+	}
+
+	static int compare(long[] rows, int width, int row, long[] keys) {
+		for (int i = row * width, c = 0; c < width; i++, c++) {
+			var cmp = Long.compare(rows[i], keys[c]);
+			if (cmp != 0) return cmp;
+		}
+		return 0;
+	}
+
+	static void swap(long[] rows, int width, int row1, int row2) {
+		for (int i1 = row1 * width, i2 = row2 * width, end = i1 + width; i1 < end; i1++, i2++) {
+			var tmp = rows[i1];
+			rows[i1] = rows[i2];
+			rows[i2] = tmp;
+		}
+	}
+
+	/** Diese Klasse implementiert den Puffer zum spaltenweisen Anfügen bereits geordneter Zeilen. */
+	static final class Builder {
+
+		final int width;
+
+		final long[][] cols;
+
+		int size;
+
+		Builder(int width, int capacity) {
+			this.width = width;
+			this.cols = new long[width][capacity];
+		}
+
+		void add(MemQTable table, int row) {
+			for (var c = 0; c < this.width; c++) {
+				this.cols[c][this.size] = table.cols[c][row];
+			}
+			this.size++;
+		}
+
+		MemQTable build() {
+			var size = this.size;
+			var cols = this.cols;
+			if ((cols.length != 0) && (cols[0].length != size)) {
+				for (var c = 0; c < this.width; c++) {
+					cols[c] = Arrays.copyOf(cols[c], size);
+				}
+			}
+			return new MemQTable(this.width, size, cols);
+		}
+
+	}
+
+}
@@ -0,0 +1,190 @@
+package bee.creative.qs.mem;
+
+import static bee.creative.util.Iterables.filteredIterable;
+import java.util.Arrays;
+import bee.creative.qs.QN;
+import bee.creative.qs.QVSet;
+import bee.creative.util.Filter;
+import bee.creative.util.Iterator3;
+import bee.creative.util.Iterators;
+import bee.creative.util.Producer;
+import bee.creative.util.Setter;
+
+/** Diese Klasse implementiert ein {@link QVSet} als Sicht auf eine aufsteigend geordnete Auflistung paarweise verschiedener Textwerte.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class MemQVSet extends MemQISet<String> implements QVSet {
+
+	@Override
+	public long size() {
+		return this.table().length;
+	}
+
+	@Override
+	public String first() {
+		var table = this.table();
+		return table.length != 0 ? table[0] : null;
+	}
+
+	@Override
+	public Iterator3<String> iterator() {
+		return Iterators.iteratorFromArray(this.table());
+	}
+
+	@Override
+	public boolean putAll() {
+		return this.owner.putValues(this.table());
+	}
+
+	@Override
+	public boolean popAll() {
+		return this.owner.popValues(this.table());
+	}
+
+	@Override
+	public MemQNSet nodes() {
+		return new MemQNSet(this.owner, () -> this.owner.nodesOf(this.table()));
+	}
+
+	@Override
+	public void nodes(Setter<? super String, ? super QN> nodes) {
+		var keyMap = this.owner.keyMap;
+		for (var value: this.table()) {
+			var key = keyMap.get(value);
+			if (key != null) {
+				nodes.set(value, this.owner.newNode(key.longValue()));
+			}
+		}
+	}
+
+	@Override
+	public MemQVSet havingState(boolean state) {
+		return state ? this.intersect(this.owner.values()) : this.except(this.owner.values());
+	}
+
+	@Override
+	public MemQVSet2 copy() {
+		return this.owner.newValues(this);
+	}
+
+	@Override
+	public MemQVSet2 copy(Filter<? super String> filter) throws NullPointerException {
+		return this.owner.newValues(filteredIterable(this, filter));
+	}
+
+	@Override
+	public MemQVSet order() {
+		return this;
+	}
+
+	@Override
+	public MemQVSet union(QVSet set) throws NullPointerException, IllegalArgumentException {
+		var that = this.owner.asQVSet(set);
+		return new MemQVSet(this.owner, () -> MemQVSet.union(this.table(), that.table()));
+	}
+
+	@Override
+	public MemQVSet except(QVSet set) throws NullPointerException, IllegalArgumentException {
+		var that = this.owner.asQVSet(set);
+		return new MemQVSet(this.owner, () -> MemQVSet.except(this.table(), that.table()));
+	}
+
+	@Override
+	public MemQVSet intersect(QVSet set) throws NullPointerException, IllegalArgumentException {
+		var that = this.owner.asQVSet(set);
+		return new MemQVSet(this.owner, () -> MemQVSet.intersect(this.table(), that.table()));
+	}
+
+	/** Diese Methode gibt die aufsteigend geordneten und paarweise verschiedenen Elemente der gegebenen Textwerte zurück. Das gegebene Feld wird dabei
+	 * verändert. */
+	static String[] from(String[] items, int size) {
+		Arrays.sort(items, 0, size);
+		var res = size != 0 ? 1 : 0;
+		for (var i = 1; i < size; i++) {
+			if (!items[i].equals(items[res - 1])) {
+				items[res++] = items[i];
+			}
+		}
+		return res == items.length ? items : Arrays.copyOf(items, res);
+	}
+
+	static String[] union(String[] items1, String[] items2) {
+		if (items2.length == 0) return items1;
+		if (items1.length == 0) return items2;
+		var res = new String[items1.length + items2.length];
+		int i1 = 0, i2 = 0, size = 0;
+		while ((i1 < items1.length) && (i2 < items2.length)) {
+			var cmp = items1[i1].compareTo(items2[i2]);
+			if (cmp < 0) {
+				res[size++] = items1[i1++];
+			} else if (cmp > 0) {
+				res[size++] = items2[i2++];
+			} else {
+				res[size++] = items1[i1++];
+				i2++;
+			}
+		}
+		while (i1 < items1.length) {
+			res[size++] = items1[i1++];
+		}
+		while (i2 < items2.length) {
+			res[size++] = items2[i2++];
+		}
+		return Arrays.copyOf(res, size);
+	}
+
+	static String[] except(String[] items1, String[] items2) {
+		if ((items1.length == 0) || (items2.length == 0)) return items1;
+		var res = new String[items1.length];
+		int i1 = 0, i2 = 0, size = 0;
+		while ((i1 < items1.length) && (i2 < items2.length)) {
+			var cmp = items1[i1].compareTo(items2[i2]);
+			if (cmp < 0) {
+				res[size++] = items1[i1++];
+			} else if (cmp > 0) {
+				i2++;
+			} else {
+				i1++;
+				i2++;
+			}
+		}
+		while (i1 < items1.length) {
+			res[size++] = items1[i1++];
+		}
+		return Arrays.copyOf(res, size);
+	}
+
+	static String[] intersect(String[] items1, String[] items2) {
+		if (items1.length == 0) return items1;
+		if (items2.length == 0) return items2;
+		var res = new String[Math.min(items1.length, items2.length)];
+		int i1 = 0, i2 = 0, size = 0;
+		while ((i1 < items1.length) && (i2 < items2.length)) {
+			var cmp = items1[i1].compareTo(items2[i2]);
+			if (cmp < 0) {
+				i1++;
+			} else if (cmp > 0) {
+				i2++;
+			} else {
+				res[size++] = items1[i1++];
+				i2++;
+			}
+		}
+		return Arrays.copyOf(res, size);
+	}
+
+	/** Dieses Feld speichert die Berechnung der Textwerte oder {@code null}, wenn {@link #table()} überschrieben ist. */
+	final Producer<String[]> source;
+
+	/** Dieser Konstruktor initialisiert {@link #owner Graphspeicher} und Berechnung der Textwerte. */
+	MemQVSet(MemQS owner, Producer<String[]> source) throws NullPointerException {
+		super(owner);
+		this.source = source;
+	}
+
+	/** Diese Methode gibt die aufsteigend geordneten und paarweise verschiedenen Textwerte dieser Menge zurück. */
+	String[] table() {
+		return this.source.get();
+	}
+
+}
@@ -0,0 +1,50 @@
+package bee.creative.qs.mem;
+
+import bee.creative.qs.QVSet2;
+
+/** Diese Klasse implementiert ein veränderbares {@link QVSet2}, dessen Textwerte als geordnete Auflistung vorgehalten werden.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class MemQVSet2 extends MemQVSet implements QVSet2 {
+
+	@Override
+	public MemQVSet2 copy() {
+		return this;
+	}
+
+	@Override
+	public boolean clear() {
+		if (this.items.length == 0) return false;
+		this.items = new String[0];
+		return true;
+	}
+
+	@Override
+	public boolean insertAll(Iterable<? extends String> items) throws NullPointerException, IllegalArgumentException {
+		var size = this.items.length;
+		this.items = MemQVSet.union(this.items, this.owner.valueRows(items));
+		return this.items.length != size;
+	}
+
+	@Override
+	public boolean deleteAll(Iterable<? extends String> items) throws NullPointerException, IllegalArgumentException {
+		var size = this.items.length;
+		this.items = MemQVSet.except(this.items, this.owner.valueRows(items));
+		return this.items.length != size;
+	}
+
+	/** Dieser Konstruktor erzeugt eine Menge mit den gegebenen Elementen. */
+	public MemQVSet2(MemQS owner, Iterable<?> items) throws NullPointerException, IllegalArgumentException {
+		super(owner, null);
+		this.items = owner.valueRows(items);
+	}
+
+	/** Dieses Feld speichert die Textwerte. */
+	String[] items;
+
+	@Override
+	String[] table() {
+		return this.items;
+	}
+
+}
@@ -0,0 +1,133 @@
+package bee.creative.bex.dev;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Random;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+import bee.creative.bex.BEXAdapter;
+import bee.creative.bex.BEXBuilder.BEXFileBuilder;
+import bee.creative.bex.BEXLoader.BEXFileLoader;
+import bee.creative.bex.BEXNode;
+import bee.creative.bex.BEXPath;
+import bee.creative.iam.IAMIndexLoader;
+import bee.creative.mmi.MMIArray;
+
+/** Diese Klasse prüft die Auswertung von {@link BEXPath} gegen die von {@code javax.xml.xpath} über {@link BEXAdapter} auf zufällig erzeugten Dokumenten.
+ * Verglichen werden die {@link BEXNode#key() Schlüssel} der gelieferten Knoten einschließlich ihrer Reihenfolge. Zusätzlich wird ein tief geschachteltes
+ * Dokument ausgewertet. Der Startwert des Zufallsgenerators wird über das erste Argument angegeben oder zufällig gewählt.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class BEXPathCheckMain {
+
+	static final String[] NAMES = {"a", "b", "c"};
+
+	static final String[] PATHS = {"/a", "//a", "//b", "//a//c", "//a[@b='v1']//c", "//*[@id]", "//c/..", "//a/b[1]", "//a/b[last()]", "//b[2]", "//@b",
+		"//a/@*", "//text()", "//node()", "/a/*/c", "//a[b]", "//a[b='v1']", "//c[.='v2']", "//*[@b='v0'][1]", "//a/descendant::c", "//a/descendant::c[1]",
+		"//b/parent::a", "//a/self::a", "//c/../..", "//*/text()", "//a[c][@b]", "//a[2]/b", "//a[.='v1v2']", "//*[.='']", "//b[a='v0']", "//a[*='v1']",
+		"//*[.='v0v1v2']", "//c/../@b", "//c/parent::*", "//b//c/..", "//*[@b]/c[1]", "/a//b/text()", "//text()/..", "//a[@b='x']", "//*[.='x']"};
+
+	static void check(final boolean test, final String message) {
+		if (!test) throw new AssertionError(message);
+	}
+
+	static void append(final Random random, final StringBuilder target, final int depth) {
+		var name = BEXPathCheckMain.NAMES[random.nextInt(3)];
+		target.append('<').append(name);
+		if (random.nextBoolean()) {
+			target.append(" b='v").append(random.nextInt(3)).append("'");
+		}
+		if (random.nextInt(3) == 0) {
+			target.append(" id='v").append(random.nextInt(3)).append("'");
+		}
+		target.append('>');
+		var count = depth > 4 ? 0 : random.nextInt(4);
+		if (count == 0) {
+			if (random.nextBoolean()) {
+				target.append('v').append(random.nextInt(3));
+			}
+		} else {
+			for (var i = 0; i < count; i++) {
+				if (random.nextInt(3) == 0) {
+					target.append('v').append(random.nextInt(3));
+				}
+				BEXPathCheckMain.append(random, target, depth + 1);
+			}
+		}
+		target.append("</").append(name).append('>');
+	}
+
+	static BEXFileLoader load(final BEXFileBuilder builder) throws Exception {
+		var bytes = builder.toIndex().toBytes();
+		return new BEXFileLoader(new IAMIndexLoader(MMIArray.from(ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder()))));
+	}
+
+	/** Diese Methode vergleicht die Ergebnisse aller {@link #PATHS} auf dem gegebenen Dokument. */
+	static void checkPaths(final String xml) throws Exception {
+		var factory = DocumentBuilderFactory.newInstance();
+		factory.setNamespaceAware(true);
+		var builder = new BEXFileBuilder();
+		builder.useAttrParentEnabled(true).useChldParentEnabled(true);
+		builder.putNode(factory.newDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))));
+		var file = BEXPathCheckMain.load(builder);
+		var document = BEXAdapter.wrap(file);
+		var field = BEXAdapter.BEXNodeAdapter.class.getDeclaredField("node");
+		field.setAccessible(true);
+		XPath xpath = XPathFactory.newInstance().newXPath();
+		for (var path: BEXPathCheckMain.PATHS) {
+			var expected = new ArrayList<Integer>();
+			var nodes = (NodeList)xpath.evaluate(path, document, XPathConstants.NODESET);
+			for (var i = 0; i < nodes.getLength(); i++) {
+				var node = nodes.item(i);
+				if (node instanceof Document) {
+					continue;
+				}
+				expected.add(((BEXNode)field.get(node)).key());
+			}
+			var actual = new ArrayList<Integer>();
+			for (var key: BEXPath.from(path).select(file.root())) {
+				actual.add(key);
+			}
+			BEXPathCheckMain.check(expected.equals(actual), path + ": " + expected + " != " + actual + " in " + xml);
+		}
+	}
+
+	/** Diese Methode prüft die Auswertung auf einem Dokument, dessen Schachtelungstiefe eine rekursive Auswertung überfordern würde. */
+	static void checkDepth(final int depth) throws Exception {
+		var builder = new BEXFileBuilder();
+		builder.useChldParentEnabled(true);
+		for (var i = 0; i < depth; i++) {
+			builder.newElem().useName(BEXPathCheckMain.NAMES[i % 2]);
+		}
+		builder.newText().useValue("v").putText();
+		for (var i = 0; i < depth; i++) {
+			builder.putElem();
+		}
+		var file = BEXPathCheckMain.load(builder);
+		BEXPathCheckMain.check(BEXPath.from("//b").select(file.root()).length == (depth / 2), "//b");
+		BEXPathCheckMain.check(BEXPath.from("//text()").select(file.root()).length == 1, "//text()");
+		BEXPathCheckMain.check(BEXPath.from("/a[.='v']").select(file.root()).length == 1, "/a[.='v']");
+		BEXPathCheckMain.check(BEXPath.from("//b/..").select(file.root()).length == (depth / 2), "//b/..");
+	}
+
+	public static void main(final String[] args) throws Exception {
+		var seed = args.length != 0 ? Long.parseLong(args[0]) : new Random().nextLong();
+		var random = new Random(seed);
+		System.out.println("seed " + seed);
+		for (var round = 0; round < 100; round++) {
+			var xml = new StringBuilder();
+			BEXPathCheckMain.append(random, xml, 0);
+			BEXPathCheckMain.checkPaths(xml.toString());
+		}
+		BEXPathCheckMain.checkDepth(100000);
+		System.out.println("ok");
+	}
+
+}
@@ -0,0 +1,95 @@
+package bee.creative.iam.dev;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import bee.creative.iam.IAMArray;
+import bee.creative.io.MappedBuffer;
+import bee.creative.mmi.MMIArray;
+
+/** Diese Klasse misst die Laufzeit von {@link IAMArray#hash()}, {@link IAMArray#equals(IAMArray)} und {@link IAMArray#compare(IAMArray)} für gleiche
+ * Zahlenfolgen in den verschiedenen Kodierungen und Speicherformen.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class IAMArrayBenchMain {
+
+	static final int ROUNDS = 200000;
+
+	static long sink;
+
+	static IAMArray[] arrays(final int mode, final int length, final MappedBuffer mapped) {
+		var size = MMIArray.size(mode);
+		var heap = new int[length];
+		for (var i = 0; i < length; i++) {
+			heap[i] = (i * 31) & 0x7F;
+		}
+		var bytes = new byte[length * size];
+		var buffer = ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder());
+		for (var i = 0; i < length; i++) {
+			if (size == 1) {
+				buffer.put(i, (byte)heap[i]);
+			} else if (size == 2) {
+				buffer.putShort(i * 2, (short)heap[i]);
+			} else {
+				buffer.putInt(i * 4, heap[i]);
+			}
+		}
+		mapped.put(0, bytes);
+		mapped.put(bytes.length, bytes);
+		var array = IAMArray.from(heap);
+		var compact = mode == IAMArray.MODE_INT8 ? array.compactINT8() : mode == IAMArray.MODE_INT16 ? array.compactINT16() : array.compactINT32();
+		return new IAMArray[]{compact, IAMArray.from(heap).compact(), //
+			MMIArray.from(buffer, 0, length, mode), MMIArray.from(ByteBuffer.wrap(bytes.clone()).order(ByteOrder.nativeOrder()), 0, length, mode), //
+			MMIArray.from(mapped, 0, length, mode), MMIArray.from(mapped, bytes.length, length, mode)};
+	}
+
+	static double measure(final Runnable task) {
+		for (var i = 0; i < 3; i++) {
+			task.run();
+		}
+		var start = System.nanoTime();
+		task.run();
+		return (System.nanoTime() - start) / (double)IAMArrayBenchMain.ROUNDS;
+	}
+
+	public static void main(final String[] args) throws Exception {
+		var file = File.createTempFile("temp", ".iambench");
+		file.deleteOnExit();
+		var mapped = new MappedBuffer(file, 1 << 20).order(ByteOrder.nativeOrder());
+		System.out.println("mode  length  store    hash  equals compare (ns/op)");
+		for (var mode: new int[]{IAMArray.MODE_INT8, IAMArray.MODE_INT16, IAMArray.MODE_INT32}) {
+			for (var length: new int[]{4, 16, 64, 256}) {
+				var arrays = IAMArrayBenchMain.arrays(mode, length, mapped);
+				var names = new String[]{"heap", "buffer", "mapped"};
+				for (var s = 0; s < 3; s++) {
+					var a = arrays[s * 2];
+					var b = arrays[(s * 2) + 1];
+					var hash = IAMArrayBenchMain.measure(() -> {
+						var r = 0L;
+						for (var i = 0; i < IAMArrayBenchMain.ROUNDS; i++) {
+							r += a.hash();
+						}
+						IAMArrayBenchMain.sink += r;
+					});
+					var equals = IAMArrayBenchMain.measure(() -> {
+						var r = 0L;
+						for (var i = 0; i < IAMArrayBenchMain.ROUNDS; i++) {
+							r += a.equals(b) ? 1 : 0;
+						}
+						IAMArrayBenchMain.sink += r;
+					});
+					var compare = IAMArrayBenchMain.measure(() -> {
+						var r = 0L;
+						for (var i = 0; i < IAMArrayBenchMain.ROUNDS; i++) {
+							r += a.compare(b);
+						}
+						IAMArrayBenchMain.sink += r;
+					});
+					System.out.printf("%4d %7d  %-6s %7.1f %7.1f %7.1f%n", mode, length, names[s], hash, equals, compare);
+				}
+			}
+		}
+		System.out.println(IAMArrayBenchMain.sink != 0 ? "" : " ");
+	}
+
+}
@@ -0,0 +1,136 @@
+package bee.creative.iam.dev;
+
+import java.io.File;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import bee.creative.iam.IAMArray;
+import bee.creative.iam.IAMListing;
+import bee.creative.iam.IAMListingBuilder;
+import bee.creative.iam.IAMListingWriter;
+
+/** Diese Klasse prüft die Kodierung {@link IAMListing#packed() komprimierter} Auflistungen gegen die Elemente eines {@link IAMListingBuilder}. Die Längen der
+ * Elemente liegen dazu um die Vielfachen der {@link IAMArray.PackedArray#BLOCK_SIZE Blockgröße}, die Zahlen werden zufällig erzeugt. Der Startwert des
+ * Zufallsgenerators wird über das erste Argument angegeben oder zufällig gewählt.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class IAMListingCheckMain {
+
+	static final int[] LENGTHS = {0, 1, 2, 127, 128, 129, 255, 256, 257, 383, 384, 385};
+
+	static void check(final boolean test, final String message) {
+		if (!test) throw new AssertionError(message);
+	}
+
+	/** Diese Methode gibt eine zufällige Zahlenfolge der gegebenen Länge zurück. Die Art bestimmt, ob diese aufsteigend, absteigend, konstant oder ungeordnet
+	 * ist und wie groß die Abstände der Zahlen sind. */
+	static int[] items(final Random random, final int length, final int kind) {
+		final var result = new int[length];
+		var value = random.nextInt();
+		for (var i = 0; i < length; i++) {
+			switch (kind) {
+				case 0:
+					value += random.nextInt(4);
+				break;
+				case 1:
+					value += (i % IAMArray.PackedArray.BLOCK_SIZE) == 0 ? random.nextInt(1 << 30) : 1;
+				break;
+				case 2:
+					value -= random.nextInt(1000);
+				break;
+				case 3:
+				break;
+				case 4:
+					value = random.nextInt() >>> random.nextInt(32);
+				break;
+				default:
+					value = random.nextInt();
+			}
+			result[i] = value;
+		}
+		if ((kind == 5) && (length > 1)) {
+			result[0] = Integer.MIN_VALUE;
+			result[length - 1] = Integer.MAX_VALUE;
+		}
+		return result;
+	}
+
+	static void checkItem(final IAMArray expected, final IAMArray actual, final String name) {
+		final var length = expected.length();
+		IAMListingCheckMain.check(actual.length() == length, name + ".length()");
+		for (var i = 0; i < length; i++) {
+			IAMListingCheckMain.check(actual.get(i) == expected.get(i), name + ".get(" + i + ")");
+		}
+		IAMListingCheckMain.check(actual.get(-1) == 0, name + ".get(-1)");
+		IAMListingCheckMain.check(actual.get(length) == 0, name + ".get(length)");
+		IAMListingCheckMain.check(Arrays.equals(actual.toInts(), expected.toInts()), name + ".toInts()");
+		IAMListingCheckMain.check(actual.hash() == expected.hash(), name + ".hash()");
+		IAMListingCheckMain.check(actual.equals(expected) && expected.equals(actual), name + ".equals()");
+		IAMListingCheckMain.check((actual.compare(expected) == 0) && (expected.compare(actual) == 0), name + ".compare()");
+		for (final var offset: new int[]{0, 1, 126, 127, 128, 129, length - 1}) {
+			if ((offset < 0) || (offset > length)) {
+				continue;
+			}
+			final var size = Math.min(length - offset, 130);
+			IAMListingCheckMain.check(actual.section(offset, size).equals(expected.section(offset, size)), name + ".section(" + offset + ")");
+			IAMListingCheckMain.check(actual.hash(offset, size) == expected.hash(offset, size), name + ".hash(" + offset + ")");
+		}
+		if (length != 0) {
+			final var other = expected.toInts();
+			other[length - 1]++;
+			final var that = IAMArray.from(other);
+			IAMListingCheckMain.check(!actual.equals(that), name + ".equals(other)");
+			IAMListingCheckMain.check(Integer.signum(actual.compare(that)) == Integer.signum(expected.compare(that)), name + ".compare(other)");
+		}
+	}
+
+	/** Diese Methode prüft die Kodierung der gegebenen Elemente über {@link IAMListingBuilder} und {@link IAMListingWriter}. */
+	static void checkListing(final int[][] items) throws Exception {
+		final var builder = new IAMListingBuilder();
+		final var writer = new IAMListingWriter();
+		builder.packed(true);
+		writer.packed(true);
+		for (final var item: items) {
+			builder.put(-1, IAMArray.from(item));
+			writer.put(IAMArray.from(item));
+		}
+		final var bytes = builder.toBytes(ByteOrder.LITTLE_ENDIAN);
+		final var loader = IAMListing.from(bytes);
+		IAMListingCheckMain.check(loader.packed(), "loader.packed()");
+		IAMListingCheckMain.check(loader.itemCount() == items.length, "loader.itemCount()");
+		for (var i = 0; i < items.length; i++) {
+			final var expected = IAMArray.from(items[i]);
+			final var name = "item(" + i + "/" + items[i].length + ")";
+			IAMListingCheckMain.check(loader.itemLength(i) == items[i].length, name + ".itemLength()");
+			IAMListingCheckMain.checkItem(expected, loader.item(i), name);
+			IAMListingCheckMain.check(loader.item(loader.find(expected)).equals(expected), name + ".find()");
+		}
+		final var file = File.createTempFile("iam", ".bin");
+		try {
+			writer.toFile(file, ByteOrder.LITTLE_ENDIAN);
+			IAMListingCheckMain.check(Arrays.equals(Files.readAllBytes(file.toPath()), bytes), "writer.toFile()");
+		} finally {
+			writer.clear();
+			file.delete();
+		}
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final var seed = args.length != 0 ? Long.parseLong(args[0]) : new Random().nextLong();
+		final var random = new Random(seed);
+		System.out.println("seed " + seed);
+		for (var round = 0; round < 20; round++) {
+			final var items = new ArrayList<int[]>();
+			for (final var length: IAMListingCheckMain.LENGTHS) {
+				for (var kind = 0; kind < 6; kind++) {
+					items.add(IAMListingCheckMain.items(random, length, kind));
+				}
+			}
+			IAMListingCheckMain.checkListing(items.toArray(new int[0][]));
+		}
+		System.out.println("ok");
+	}
+
+}
@@ -0,0 +1,187 @@
+package bee.creative.iam.dev;
+
+import java.io.File;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.Arrays;
+import bee.creative.iam.IAMArray;
+import bee.creative.iam.IAMException;
+import bee.creative.iam.IAMMapping;
+import bee.creative.iam.IAMMappingBuilder;
+import bee.creative.iam.IAMMappingWriter;
+
+/** Diese Klasse prüft die Kodierung und Suche der {@link IAMMapping#perfect() perfekt gestreuten} und {@link IAMMapping#blocked() blockweise sortierten}
+ * Abbildungen gegen die Einträge eines {@link IAMMappingBuilder}.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class IAMMappingCheckMain {
+
+	static void check(final boolean test, final String message) {
+		if (!test) throw new AssertionError(message);
+	}
+
+	static void checkEntries(final IAMMapping expected, final IAMMapping actual, final String name) {
+		IAMMappingCheckMain.check(expected.entryCount() == actual.entryCount(), name + ".entryCount()");
+		for (int i = 0, count = expected.entryCount(); i < count; i++) {
+			var index = actual.find(expected.key(i));
+			IAMMappingCheckMain.check(index >= 0, name + ".find(" + expected.key(i) + ")");
+			IAMMappingCheckMain.check(actual.value(index).equals(expected.value(i)), name + ".value(" + index + ")");
+		}
+		IAMMappingCheckMain.check(actual.find(IAMArray.from(-1, -1, -1)) < 0, name + ".find(missing)");
+	}
+
+	/** Diese Methode prüft die Suche und das Kopieren einer perfekt gestreuten Abbildung. */
+	static void checkPerfect() throws Exception {
+		var builder = new IAMMappingBuilder();
+		builder.mode(IAMMapping.MODE_HASHED);
+		builder.perfect(true);
+		for (var i = 0; i < 20000; i++) {
+			builder.put(IAMArray.from(i, i * 7), IAMArray.from(i));
+		}
+		var bytes = builder.toBytes();
+		var loader = IAMMapping.from(bytes);
+		IAMMappingCheckMain.check(loader.perfect(), "loader.perfect()");
+		IAMMappingCheckMain.checkEntries(builder, loader, "perfect");
+		var copy = new IAMMappingBuilder();
+		copy.putAll(loader);
+		IAMMappingCheckMain.check(copy.perfect() && copy.mode(), "putAll().perfect()");
+		IAMMappingCheckMain.check(Arrays.equals(copy.toBytes(), bytes), "putAll().toBytes()");
+		IAMMappingCheckMain.check(loader.toMapping().perfect(), "toMapping().perfect()");
+		IAMMappingCheckMain.check(Arrays.equals(loader.toMapping().toBytes(), bytes), "toMapping().toBytes()");
+	}
+
+	/** Diese Methode prüft, dass die Suche nach einer perfekten Streuwertfunktion für mehrfach vorkommende Schlüssel mit einer {@link IAMException} endet. */
+	static void checkPerfectFailure() {
+		var mapping = new IAMMapping() {
+
+			@Override
+			public boolean mode() {
+				return IAMMapping.MODE_HASHED;
+			}
+
+			@Override
+			public boolean perfect() {
+				return true;
+			}
+
+			@Override
+			public IAMArray key(final int entryIndex) {
+				return IAMArray.from(entryIndex < 2 ? 0 : entryIndex);
+			}
+
+			@Override
+			public IAMArray value(final int entryIndex) {
+				return IAMArray.from(entryIndex);
+			}
+
+			@Override
+			public int entryCount() {
+				return 100;
+			}
+
+			@Override
+			public int find(final IAMArray key) {
+				return -1;
+			}
+
+		};
+		try {
+			mapping.toBytes();
+			IAMMappingCheckMain.check(false, "toBytes() with duplicate keys");
+		} catch (final IAMException expected) {}
+	}
+
+	/** Diese Methode prüft die Suche in einer blockweise sortierten Abbildung, deren Schlüssel sich großteils erst ab der zweiten Zahl unterscheiden. Die
+	 * Kodierung des {@link IAMMappingWriter} muss dabei der des {@link IAMMappingBuilder} gleichen. */
+	static void checkBlocked() throws Exception {
+		var builder = new IAMMappingBuilder();
+		var writer = new IAMMappingWriter();
+		builder.mode(IAMMapping.MODE_SORTED);
+		builder.blocked(true);
+		writer.mode(IAMMapping.MODE_SORTED);
+		writer.blocked(true);
+		var keys = new IAMArray[20000];
+		for (var i = 0; i < keys.length; i++) {
+			var key = (i % 5) == 0 ? IAMArray.from('b', i - 10000) : (i % 5) == 1 ? IAMArray.from('a', i >> 4, i) : IAMArray.from('a', i);
+			keys[i] = key;
+			builder.put(key, IAMArray.from(i));
+			writer.put(key, IAMArray.from(i));
+		}
+		for (var key: new IAMArray[]{IAMArray.from(), IAMArray.from('a'), IAMArray.from(Integer.MIN_VALUE), IAMArray.from(Integer.MAX_VALUE),
+			IAMArray.from(Integer.MAX_VALUE, Integer.MAX_VALUE), IAMArray.from(Integer.MIN_VALUE, Integer.MIN_VALUE, 1)}) {
+			builder.put(key, key);
+			writer.put(key, key);
+		}
+		var bytes = builder.toBytes(ByteOrder.BIG_ENDIAN);
+		var loader = IAMMapping.from(bytes);
+		IAMMappingCheckMain.check(loader.blocked(), "loader.blocked()");
+		IAMMappingCheckMain.checkEntries(builder, loader, "blocked");
+		var file = File.createTempFile("iam", ".bin");
+		try {
+			writer.toFile(file, ByteOrder.BIG_ENDIAN);
+			IAMMappingCheckMain.check(Arrays.equals(Files.readAllBytes(file.toPath()), bytes), "writer.toFile()");
+		} finally {
+			writer.clear();
+			file.delete();
+		}
+		var results = new int[keys.length + 2];
+		var queries = Arrays.copyOf(keys, results.length);
+		queries[keys.length] = IAMArray.from('a', -1);
+		queries[keys.length + 1] = IAMArray.from('a', 1 << 20, 0);
+		loader.findAll(queries, results, true);
+		for (var i = 0; i < keys.length; i++) {
+			IAMMappingCheckMain.check((results[i] >= 0) && loader.key(results[i]).equals(keys[i]), "findAll(" + keys[i] + ")");
+			var key = keys[i].toInts();
+			IAMMappingCheckMain.check(loader.find(key) == results[i], "find(int...)");
+		}
+		IAMMappingCheckMain.check((results[keys.length] < 0) && (results[keys.length + 1] < 0), "findAll(missing)");
+	}
+
+	/** Diese Methode gibt die Anzahl der temporären Dateien des {@link IAMMappingWriter} zurück. */
+	static int countTemps() {
+		var files = new File(System.getProperty("java.io.tmpdir")).list((dir, name) -> name.endsWith(".iamwriter"));
+		return files != null ? files.length : 0;
+	}
+
+	/** Diese Methode prüft, dass der {@link IAMMappingWriter} auch bei sehr vielen Läufen und mehrfach hinzugefügten Schlüsseln dieselben Einträge wie der
+	 * {@link IAMMappingBuilder} liefert und seine temporären Dateien bei {@link IAMMappingWriter#clear()} löscht. Im Modus {@link IAMMapping#MODE_SORTED} muss
+	 * auch die Kodierung gleich sein. Im Modus {@link IAMMapping#MODE_HASHED} kann die Reihenfolge der Einträge eines Schlüsselbereichs abweichen, da der
+	 * {@link IAMMappingBuilder} diese in der Reihenfolge des Hinzufügens und der {@link IAMMappingWriter} nach Schlüsseln ordnet. */
+	static void checkWriter(final boolean mode) throws Exception {
+		var temps = IAMMappingCheckMain.countTemps();
+		var builder = new IAMMappingBuilder();
+		var writer = new IAMMappingWriter();
+		builder.mode(mode);
+		writer.mode(mode);
+		writer.limit(1);
+		var file = File.createTempFile("iam", ".bin");
+		try {
+			for (var round = 0; round < 2; round++) {
+				for (var i = 0; i < 5000; i++) {
+					var key = IAMArray.from((i * 7919) % 3001, round);
+					var value = IAMArray.from(i, round);
+					builder.put(key, value);
+					writer.put(key, value);
+				}
+				writer.toFile(file, ByteOrder.BIG_ENDIAN);
+				var bytes = Files.readAllBytes(file.toPath());
+				IAMMappingCheckMain.check((mode == IAMMapping.MODE_HASHED) || Arrays.equals(builder.toBytes(ByteOrder.BIG_ENDIAN), bytes), "writer.toFile()");
+				IAMMappingCheckMain.checkEntries(builder, IAMMapping.from(bytes), "writer");
+			}
+		} finally {
+			writer.clear();
+			file.delete();
+		}
+		IAMMappingCheckMain.check(IAMMappingCheckMain.countTemps() == temps, "writer.clear()");
+	}
+
+	public static void main(final String[] args) throws Exception {
+		IAMMappingCheckMain.checkPerfect();
+		IAMMappingCheckMain.checkPerfectFailure();
+		IAMMappingCheckMain.checkBlocked();
+		IAMMappingCheckMain.checkWriter(IAMMapping.MODE_HASHED);
+		IAMMappingCheckMain.checkWriter(IAMMapping.MODE_SORTED);
+		System.out.println("ok");
+	}
+
+}
@@ -0,0 +1,146 @@
+package bee.creative.qs.dev;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import bee.creative.qs.QESet;
+import bee.creative.qs.QN;
+import bee.creative.qs.QS;
+import bee.creative.qs.ds.DQ;
+import bee.creative.qs.ds.DQMap;
+import bee.creative.qs.h2.H2QS;
+import bee.creative.qs.mem.MemQS;
+import bee.creative.util.HashMapLO;
+
+/** Diese Klasse prüft die Stapeloperationen von {@link DQ} auf {@link DQMap} gleichermaßen gegen {@link MemQS} und {@link H2QS}. Die Datei des letzteren wird
+ * über das erste Argument angegeben oder temporär erzeugt. Der H2-Treiber muss dazu im Klassenpfad liegen.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class DQCheckMain {
+
+	static void check(final boolean test, final String message) {
+		if (!test) throw new AssertionError(message);
+	}
+
+	/** Diese Methode liefert die Kennungen der gegebenen Hyperkanten als Menge von {@code (C, P, S, O)}-Listen. */
+	static Set<List<Long>> edges(final QESet edges) {
+		var keys = edges.keys();
+		var res = new HashSet<List<Long>>();
+		for (var i = 0; i < keys.length; i += 4) {
+			res.add(List.of(keys[i], keys[i + 1], keys[i + 2], keys[i + 3]));
+		}
+		return res;
+	}
+
+	static Set<List<Long>> edges(final QS store, final QN context) {
+		return DQCheckMain.edges(store.edges().havingContext(context));
+	}
+
+	static List<Long> edge(final long context, final long predicate, final long subject, final long object) {
+		return List.of(context, predicate, subject, object);
+	}
+
+	static void checkKeys(final QS store) {
+		var nodes = store.newNodes(store.newNode("a"), store.newNode(), store.newNode("c"));
+		var edge = store.newEdge(nodes.first(), store.newNode("b"), store.newNode(), store.newNode("d"));
+		var edges = store.newEdges(edge);
+		var keys = edges.keys();
+		DQCheckMain.check(keys.length == 4, "keys()");
+		DQCheckMain.check(keys[0] == store.getKey(edge.context()), "getKey()");
+		DQCheckMain.check(store.newNode(keys[3]).equals(edge.object()), "newNode(long)");
+		DQCheckMain.check(store.newEdges(keys, 1).toList().equals(List.of(edge)), "newEdges(long[], int)");
+		DQCheckMain.check(store.newEdges(new long[]{1, 2, 3, 4, 1, 2, 3, 4}, 2).size() == 1, "newEdges(long[], int) distinct");
+		try {
+			store.newEdges(keys, 2);
+			DQCheckMain.check(false, "newEdges(long[], 2)");
+		} catch (IllegalArgumentException expected) {}
+	}
+
+	static void checkSetMaps(final QS store) {
+		var context = store.newNode("context");
+		var other = store.newNode("other");
+		var putContext = store.newNode("putContext");
+		var popContext = store.newNode("popContext");
+		var p1 = store.newNode("p1");
+		var p2 = store.newNode("p2");
+		var p3 = store.newNode("p3");
+		var n = new QN[8];
+		var k = new long[8];
+		for (var i = 0; i < n.length; i++) {
+			n[i] = store.newNode("n" + i);
+			k[i] = store.getKey(n[i]);
+		}
+		long c = store.getKey(context), x = store.getKey(other), k1 = store.getKey(p1), k2 = store.getKey(p2), k3 = store.getKey(p3);
+		store.newEdges(Arrays.asList( //
+			store.newEdge(context, p1, n[0], n[1]), store.newEdge(context, p1, n[0], n[2]), store.newEdge(context, p1, n[3], n[4]), //
+			store.newEdge(context, p2, n[0], n[5]), store.newEdge(other, p1, n[0], n[6]))).putAll();
+
+		var objectMaps = DQ.getObjectSetMaps(context, Arrays.asList(p1, p2, p3));
+		DQCheckMain.check(objectMaps.size() == 3, "getObjectSetMaps().size()");
+		DQCheckMain.check(objectMaps.get(k1).equals(new DQMap.Builder().put(k[3], k[4]).put(k[0], k[2]).put(k[0], k[1]).build()), "getObjectSetMaps() p1");
+		DQCheckMain.check(Arrays.equals(objectMaps.get(k2).get(k[0]), new long[]{k[5]}), "getObjectSetMaps() p2");
+		DQCheckMain.check(objectMaps.get(k3).equals(DQMap.EMPTY), "getObjectSetMaps() p3");
+		var subjectMaps = DQ.getSubjectSetMaps(context, Arrays.asList(p1));
+		DQCheckMain.check(Arrays.equals(subjectMaps.get(k1).get(k[4]), new long[]{k[3]}), "getSubjectSetMaps()");
+
+		var putMaps = new HashMapLO<DQMap>();
+		putMaps.put(k2, new DQMap.Builder().put(k[6], k[7]).put(k[0], k[5]).build());
+		DQCheckMain.check(DQ.putObjectSetMaps(context, putMaps, putContext, popContext), "putObjectSetMaps()");
+		DQCheckMain.check(DQCheckMain.edges(store, context).contains(DQCheckMain.edge(c, k2, k[6], k[7])), "putObjectSetMaps() context");
+		DQCheckMain.check(DQCheckMain.edges(store, putContext).equals(Set.of(DQCheckMain.edge(store.getKey(putContext), k2, k[6], k[7]))),
+			"putObjectSetMaps() putContext");
+		DQCheckMain.check(!DQ.putObjectSetMaps(context, putMaps, null, null), "putObjectSetMaps() unchanged");
+
+		var setMaps = new HashMapLO<DQMap>();
+		setMaps.put(k1, new DQMap.Builder().put(k[0], k[1]).put(k[0], k[7]).putKey(k[3]).build());
+		DQCheckMain.check(DQ.setObjectSetMaps(context, setMaps, null, null), "setObjectSetMaps()");
+		var expected = Set.of(DQCheckMain.edge(c, k1, k[0], k[1]), DQCheckMain.edge(c, k1, k[0], k[7]), DQCheckMain.edge(c, k2, k[0], k[5]),
+			DQCheckMain.edge(c, k2, k[6], k[7]));
+		DQCheckMain.check(DQCheckMain.edges(store, context).equals(expected), "setObjectSetMaps(): " + DQCheckMain.edges(store, context));
+		DQCheckMain.check(DQCheckMain.edges(store, other).equals(Set.of(DQCheckMain.edge(x, k1, k[0], k[6]))), "setObjectSetMaps() other");
+		DQCheckMain.check(!DQ.setObjectSetMaps(context, setMaps, null, null), "setObjectSetMaps() unchanged");
+
+		var setSubjectMaps = new HashMapLO<DQMap>();
+		setSubjectMaps.put(k2, new DQMap.Builder().put(k[7], k[1]).build());
+		DQCheckMain.check(DQ.setSubjectSetMaps(context, setSubjectMaps, null, null), "setSubjectSetMaps()");
+		expected = Set.of(DQCheckMain.edge(c, k1, k[0], k[1]), DQCheckMain.edge(c, k1, k[0], k[7]), DQCheckMain.edge(c, k2, k[0], k[5]),
+			DQCheckMain.edge(c, k2, k[1], k[7]));
+		DQCheckMain.check(DQCheckMain.edges(store, context).equals(expected), "setSubjectSetMaps(): " + DQCheckMain.edges(store, context));
+
+		var popMaps = new HashMapLO<DQMap>();
+		popMaps.put(k1, new DQMap.Builder().put(k[0], k[7]).put(k[0], k[4]).build());
+		DQCheckMain.check(DQ.popObjectSetMaps(context, popMaps, putContext, popContext), "popObjectSetMaps()");
+		DQCheckMain.check(!DQCheckMain.edges(store, context).contains(DQCheckMain.edge(c, k1, k[0], k[7])), "popObjectSetMaps() context");
+		DQCheckMain.check(DQCheckMain.edges(store, popContext).equals(Set.of(DQCheckMain.edge(store.getKey(popContext), k1, k[0], k[7]))),
+			"popObjectSetMaps() popContext");
+		DQCheckMain.check(DQ.getObjectSetMaps(context, Arrays.asList(p1)).get(k1).equals(new DQMap.Builder().put(k[0], k[1]).build()),
+			"getObjectSetMaps() after pop");
+	}
+
+	static void checkStore(final QS store) {
+		DQCheckMain.checkKeys(store);
+		DQCheckMain.checkSetMaps(store);
+	}
+
+	public static void main(final String[] args) throws Exception {
+		DQCheckMain.checkStore(new MemQS());
+		File file;
+		if (args.length != 0) {
+			file = new File(args[0]);
+		} else {
+			file = File.createTempFile("temp", ".h2qs");
+			file.delete();
+			file.deleteOnExit();
+			new File(file.getPath() + ".mv.db").deleteOnExit();
+		}
+		try (var store = H2QS.from(file.getPath())) {
+			store.reset();
+			DQCheckMain.checkStore(store);
+			store.reset();
+		}
+		System.out.println("ok");
+	}
+
+}
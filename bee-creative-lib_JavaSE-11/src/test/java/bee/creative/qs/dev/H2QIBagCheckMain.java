@@ -0,0 +1,126 @@
+package bee.creative.qs.dev;
+
+import java.io.File;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import bee.creative.qs.h2.H2QIBag;
+import bee.creative.qs.h2.H2QQ;
+import bee.creative.qs.h2.H2QS;
+import bee.creative.qs.h2.H2QSPool;
+
+/** Diese Klasse prüft gegen eine H2-Datenbankdatei die Nachführung der Indizes von {@link H2QIBag}. Die Datei wird über das erste Argument angegeben oder
+ * temporär erzeugt. Der H2-Treiber muss dazu im Klassenpfad liegen.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class H2QIBagCheckMain {
+
+	/** Diese Klasse implementiert einen {@link H2QIBag} über die Kennungen aller Hyperknoten mit Textwert, dessen Abgleich auf Wunsch fehlschlägt. Da der
+	 * Index je Graphspeicher nur einmal eingerichtet wird, ist je Graphspeicher nur eine Instanz zu verwenden. */
+	static final class CheckBag extends H2QIBag<Long, CheckBag> {
+
+		boolean failInsert;
+
+		boolean failDelete;
+
+		@Override
+		protected Long customItem(final ResultSet next) throws SQLException {
+			return next.getLong(1);
+		}
+
+		@Override
+		protected void customSetup() {
+			new H2QQ().push("CREATE TABLE IF NOT EXISTS QD_CHECK (N BIGINT NOT NULL, PRIMARY KEY (N))").update(this.owner);
+		}
+
+		@Override
+		protected void customInsert(final InsertSet insertSet) throws SQLException {
+			if (this.failInsert) throw new SQLException("customInsert");
+			new H2QQ().push("MERGE INTO QD_CHECK SELECT N FROM (").push(insertSet).push(")").update(this.owner);
+		}
+
+		@Override
+		protected void customDelete(final DeleteSet deleteSet) throws SQLException {
+			if (this.failDelete) throw new SQLException("customDelete");
+			new H2QQ().push("DELETE FROM QD_CHECK WHERE N IN (").push(deleteSet).push(")").update(this.owner);
+		}
+
+		@Override
+		protected CheckBag customHaving(final H2QQ table) {
+			throw new UnsupportedOperationException();
+		}
+
+		CheckBag(final H2QS owner) {
+			super(owner, new H2QQ().push("SELECT * FROM QD_CHECK"), "QI_CHECK");
+		}
+
+	}
+
+	static void check(final boolean test, final String message) {
+		if (!test) throw new AssertionError(message);
+	}
+
+	/** Diese Methode prüft, dass die Erfassung der von anderen Sitzungen eines {@link H2QSPool} gemeldeten Kennungen über denselben Monitor wie deren Übernahme
+	 * beim Abgleich synchronisiert ist. Dazu wird der nicht öffentliche Index über Reflexion ermittelt und dessen Monitor gehalten, während ein anderer Thread
+	 * über {@link H2QS#newNode(Object)} einen Textwert ergänzt. */
+	static void checkLocking(final H2QS store, final CheckBag bag) throws Exception {
+		bag.size();
+		var field = H2QS.class.getDeclaredField("cacheMap");
+		field.setAccessible(true);
+		var cacheMap = (Map<?, ?>)field.get(store);
+		Object cache;
+		synchronized (cacheMap) {
+			cache = cacheMap.get("QI_CHECK");
+		}
+		var logger = new Thread(() -> store.newNode("locked"));
+		synchronized (cache) {
+			logger.start();
+			logger.join(200);
+			H2QIBagCheckMain.check(logger.isAlive(), "logPut() without monitor");
+		}
+		logger.join();
+		H2QIBagCheckMain.check(bag.size() == 1, "size() after logPut(): " + bag.size());
+	}
+
+	/** Diese Methode prüft, dass die gemeldeten Kennungen nach einem fehlgeschlagenen Abgleich nicht verloren gehen. */
+	static void checkFailure(final H2QS store, final CheckBag bag) {
+		H2QIBagCheckMain.check(bag.size() == 0, "size() before put");
+		var node = store.newNode("put");
+		bag.failInsert = true;
+		try {
+			bag.size();
+			H2QIBagCheckMain.check(false, "size() with failing insert");
+		} catch (IllegalStateException expected) {}
+		bag.failInsert = false;
+		H2QIBagCheckMain.check(bag.size() == 1, "size() after failed insert: " + bag.size());
+		node.pop();
+		bag.failDelete = true;
+		try {
+			bag.size();
+			H2QIBagCheckMain.check(false, "size() with failing delete");
+		} catch (IllegalStateException expected) {}
+		bag.failDelete = false;
+		H2QIBagCheckMain.check(bag.size() == 0, "size() after failed delete: " + bag.size());
+	}
+
+	public static void main(final String[] args) throws Exception {
+		File file;
+		if (args.length != 0) {
+			file = new File(args[0]);
+		} else {
+			file = File.createTempFile("temp", ".h2qs");
+			file.delete();
+			file.deleteOnExit();
+			new File(file.getPath() + ".mv.db").deleteOnExit();
+		}
+		try (var store = H2QS.from(file.getPath())) {
+			store.reset();
+			var bag = new CheckBag(store);
+			H2QIBagCheckMain.checkLocking(store, bag);
+			store.reset();
+			H2QIBagCheckMain.checkFailure(store, bag);
+		}
+		System.out.println("ok");
+	}
+
+}
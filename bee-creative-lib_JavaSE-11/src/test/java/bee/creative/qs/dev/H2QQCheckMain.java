@@ -0,0 +1,81 @@
+package bee.creative.qs.dev;
+
+import java.io.File;
+import java.util.Map;
+import java.util.regex.Pattern;
+import bee.creative.qs.h2.H2QN;
+import bee.creative.qs.h2.H2QS;
+
+/** Diese Klasse prüft gegen eine H2-Datenbankdatei, dass der Puffer der aufbereiteten Anweisungen eines {@link H2QS} nur wiederverwendbare Anfragen aufnimmt.
+ * Da dieser nicht öffentlich ist, wird er über Reflexion gelesen. Die Datei wird über das erste Argument angegeben oder temporär erzeugt. Der H2-Treiber muss
+ * dazu im Klassenpfad liegen.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class H2QQCheckMain {
+
+	static final Pattern TEMP = Pattern.compile("\\bQT[0-9]+\\b");
+
+	static void check(final boolean test, final String message) {
+		if (!test) throw new AssertionError(message);
+	}
+
+	/** Diese Methode liefert den Wert des gegebenen nicht öffentlichen Felds des gegebenen Objekts. */
+	static Object field(final Object owner, final String name) throws Exception {
+		var field = owner.getClass().getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(owner);
+	}
+
+	/** Diese Methode liefert die Abbildung der Anfragen auf die aufbereiteten Anweisungen des gegebenen Graphspeichers. */
+	static Map<?, ?> statements(final H2QS store) throws Exception {
+		return (Map<?, ?>)H2QQCheckMain.field(H2QQCheckMain.field(store, "statements"), "items");
+	}
+
+	static void checkStatements(final H2QS store) throws Exception {
+		var count = 300;
+		var nodes = new H2QN[count];
+		for (var i = 0; i < count; i++) {
+			nodes[i] = store.newNode("n" + i);
+		}
+		for (var i = 1; i < count; i++) {
+			store.newEdge(nodes[0], nodes[0], nodes[i - 1], nodes[i]).put();
+		}
+		var size = -1;
+		for (var i = 1; i < count; i++) {
+			var edges = store.edges().havingSubject(nodes[i - 1]);
+			H2QQCheckMain.check(edges.size() == 1, "havingSubject().size()");
+			var copy = edges.copy();
+			H2QQCheckMain.check(copy.size() == 1, "copy().size()");
+			H2QQCheckMain.check(copy.objects().toList().contains(nodes[i]), "copy().objects()");
+			H2QQCheckMain.check(store.edges().havingObjects(copy.subjects()).size() == (i > 1 ? 1 : 0), "havingObjects()");
+			if (i == 2) {
+				size = H2QQCheckMain.statements(store).size();
+			}
+		}
+		var statements = H2QQCheckMain.statements(store);
+		H2QQCheckMain.check(statements.size() == size, "statements.size(): " + size + " -> " + statements.size());
+		for (var shape: statements.keySet()) {
+			H2QQCheckMain.check(!H2QQCheckMain.TEMP.matcher(shape.toString()).find(), "temporary table: " + shape);
+			H2QQCheckMain.check(!shape.toString().stripLeading().startsWith("CREATE"), "definition: " + shape);
+		}
+	}
+
+	public static void main(final String[] args) throws Exception {
+		File file;
+		if (args.length != 0) {
+			file = new File(args[0]);
+		} else {
+			file = File.createTempFile("temp", ".h2qs");
+			file.delete();
+			file.deleteOnExit();
+			new File(file.getPath() + ".mv.db").deleteOnExit();
+		}
+		try (var store = H2QS.from(file.getPath())) {
+			store.reset();
+			H2QQCheckMain.checkStatements(store);
+			store.reset();
+		}
+		System.out.println("ok");
+	}
+
+}
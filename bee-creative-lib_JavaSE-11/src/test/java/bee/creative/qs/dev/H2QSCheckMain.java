@@ -0,0 +1,536 @@
+package bee.creative.qs.dev;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import bee.creative.qs.h2.H2QE;
+import bee.creative.qs.h2.H2QESet;
+import bee.creative.qs.h2.H2QN;
+import bee.creative.qs.h2.H2QS;
+import bee.creative.qs.h2.H2QSAsync;
+import bee.creative.qs.h2.H2QSCache;
+import bee.creative.qs.h2.H2QSLoader;
+import bee.creative.qs.h2.H2QSPool;
+import bee.creative.qs.h2.fem.FEMIntegerBag;
+
+/** Diese Klasse prüft die Arbeitsweise von {@link H2QS} gegen eine H2-Datenbankdatei. Diese wird über das erste Argument angegeben oder temporär erzeugt. Der
+ * H2-Treiber muss dazu im Klassenpfad liegen.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class H2QSCheckMain {
+
+	static void check(final boolean test, final String message) {
+		if (!test) throw new AssertionError(message);
+	}
+
+	static void checkNodes(final H2QS store) {
+		var node1 = store.newNode("v1");
+		var node2 = store.newNode("v1");
+		H2QSCheckMain.check(node1.key == node2.key, "newNode(v1) twice: " + node1.key + " != " + node2.key);
+		var node3 = store.getNode("v1");
+		H2QSCheckMain.check((node3 != null) && (node3.key == node1.key), "getNode(v1)");
+		H2QSCheckMain.check("v1".equals(node1.value()), "value()");
+		H2QSCheckMain.check(store.values().toList().equals(Arrays.asList("v1")), "values(): " + store.values().toList());
+		var nodes = new HashMap<String, Long>();
+		store.newValues(Arrays.asList("v1", "v2")).nodes((value, node) -> nodes.put(value, ((H2QN)node).key));
+		H2QSCheckMain.check(nodes.equals(Map.of("v1", node1.key)), "nodes(): " + nodes);
+		var values = new HashMap<Long, String>();
+		store.newNodes(node1, store.newNode()).values((node, value) -> values.put(((H2QN)node).key, value));
+		H2QSCheckMain.check(values.equals(Map.of(node1.key, "v1")), "values(): " + values);
+		H2QSCheckMain.check(store.values().size() == 1, "values().size()");
+	}
+
+	static void checkRollback(final H2QS store) throws Exception {
+		store.conn.setAutoCommit(false);
+		var node1 = store.newNode("rolled");
+		store.conn.rollback();
+		store.conn.setAutoCommit(true);
+		var node2 = store.newNode("rolled");
+		H2QSCheckMain.check("rolled".equals(node2.value()), "value() after rollback");
+		H2QSCheckMain.check(store.getNode("rolled") != null, "getNode() after rollback");
+		H2QSCheckMain.check(node1.key != node2.key, "rolled back key reused");
+		node2.pop();
+		var context = store.newNode();
+		var edge = store.newEdge(context, context, context, store.newNode());
+		edge.put();
+		H2QSCheckMain.check(store.edgeCount(context, context) == 1, "edgeCount()");
+		store.conn.setAutoCommit(false);
+		store.newEdge(context, context, context, store.newNode()).put();
+		H2QSCheckMain.check(store.edgeCount(context, context) == 2, "edgeCount() in transaction");
+		edge.pop();
+		H2QSCheckMain.check(store.edgeCount(context, context) == 1, "edgeCount() in transaction after pop");
+		store.newEdge(context, context, context, store.newNode()).put();
+		H2QSCheckMain.check(store.edgeCount(context, context) == 2, "edgeCount() in transaction after put");
+		store.conn.rollback();
+		store.conn.setAutoCommit(true);
+		H2QSCheckMain.check(store.edgeCount(context, context) == 1, "edgeCount() after rollback: " + store.edgeCount(context, context));
+	}
+
+	static long checkCount(final H2QS store, final String query) throws Exception {
+		try (var stmt = store.conn.createStatement(); var rset = stmt.executeQuery(query)) {
+			rset.next();
+			return rset.getLong(1);
+		}
+	}
+
+	/** Diese Methode lädt Hyperkanten über {@link H2QSLoader} und prüft, dass ein fehlerhafter Stapel verworfen wird, die Indizes dennoch erzeugt werden und die
+	 * automatische Bestätigung wiederhergestellt wird. */
+	static void checkLoader(final H2QS store) throws Exception {
+		var indexes = "SELECT COUNT(DISTINCT INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME LIKE 'QE_INDEX_%'";
+		var context = store.newNode();
+		H2QSCheckMain.check(store.edgeCount(context.key, context.key) == 0, "edgeCount() before load");
+		try (var loader = new H2QSLoader(store, 2, true)) {
+			var keys = loader.newKeys(3);
+			for (var key: keys) {
+				loader.putEdge(context.key, context.key, key, key);
+			}
+			loader.putValue("loaded");
+		}
+		H2QSCheckMain.check(store.conn.getAutoCommit(), "autoCommit after load");
+		H2QSCheckMain.check(H2QSCheckMain.checkCount(store, indexes) == 3, "indexes after load");
+		H2QSCheckMain.check(store.edgeCount(context.key, context.key) == 3, "edgeCount() after load");
+		H2QSCheckMain.check(store.getNode("loaded") != null, "getNode() after load");
+		store.conn.createStatement().execute("ALTER TABLE QE ADD CONSTRAINT QE_CHECK CHECK (S >= 0)");
+		try {
+			var loader = new H2QSLoader(store, 10, true);
+			loader.putEdge(context.key, context.key, 100, 100);
+			loader.putEdge(context.key, context.key, -1, -1);
+			try {
+				loader.close();
+				H2QSCheckMain.check(false, "close() with failing batch");
+			} catch (SQLException expected) {}
+		} finally {
+			store.conn.createStatement().execute("ALTER TABLE QE DROP CONSTRAINT QE_CHECK");
+		}
+		H2QSCheckMain.check(store.conn.getAutoCommit(), "autoCommit after failed load");
+		H2QSCheckMain.check(H2QSCheckMain.checkCount(store, indexes) == 3, "indexes after failed load");
+		H2QSCheckMain.check(store.edgeCount(context.key, context.key) == 3, "edgeCount() after failed load: " + store.edgeCount(context.key, context.key));
+		var edges = store.edges().havingContext(context).havingPredicate(context).toList();
+		try (var loader = new H2QSLoader(store, 4, false)) {
+			var keys = loader.newKeys(2);
+			loader.putEdge(context.key, context.key, keys[1], keys[1]);
+			loader.putEdge(context.key, context.key, keys[0], keys[0]);
+			loader.putEdge(context.key, context.key, keys[1], keys[1]);
+			loader.putEdge(context.key, context.key, keys[0], keys[0]);
+			loader.putEdge(context.key, context.key, keys[0], keys[1]);
+			for (var edge: edges) {
+				var edge2 = (H2QE)edge;
+				loader.putEdge(edge2.context, edge2.predicate, edge2.subject, edge2.object);
+			}
+		}
+		H2QSCheckMain.check(store.edgeCount(context.key, context.key) == 6, "edgeCount() after unsorted load: " + store.edgeCount(context.key, context.key));
+	}
+
+	/** Diese Methode prüft, dass {@link H2QSLoader#deferIndexes} abgelehnt wird, solange andere Verbindungen zur Datenbank geöffnet sind. */
+	static void checkLoaderSessions(final String file) throws Exception {
+		var indexes = "SELECT COUNT(DISTINCT INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME LIKE 'QE_INDEX_%'";
+		try (var pool = H2QSPool.from(file, 2)) {
+			try (var writer = pool.open(); var reader = pool.open()) {
+				try {
+					new H2QSLoader(writer, 10, true).close();
+					H2QSCheckMain.check(false, "deferIndexes with other session");
+				} catch (IllegalStateException expected) {}
+				H2QSCheckMain.check(H2QSCheckMain.checkCount(reader, indexes) == 3, "indexes after refused load");
+				H2QSCheckMain.check(writer.conn.getAutoCommit(), "autoCommit after refused load");
+			}
+		}
+	}
+
+	/** Diese Methode prüft die Vergabe, Wiederverwendung und Rückgabe der Sitzungen eines {@link H2QSPool} sowie die Weitergabe von Änderungen ohne bekannte
+	 * Kennungen an den {@link FEMIntegerBag} Index einer anderen Sitzung. */
+	static void checkCursor(final H2QESet edges, final String where) throws Exception {
+		var expected = new ArrayList<Long>();
+		try (var stmt = edges.owner.conn.createStatement();
+			var rset = stmt.executeQuery("SELECT C, P, S, O FROM QE" + where + " ORDER BY C, P, S, O")) {
+			while (rset.next()) {
+				for (var i = 1; i <= 4; i++) {
+					expected.add(rset.getLong(i));
+				}
+			}
+		}
+		for (var batchSize: new int[]{1, 4, 7, 54, 100}) {
+			var actual = new ArrayList<Long>();
+			try (var cursor = edges.cursor(batchSize)) {
+				cursor.forEach((batch, count) -> {
+					H2QSCheckMain.check(count <= batchSize, "cursor(" + batchSize + ") page size " + count);
+					for (var i = 0; i < (count * 4); i++) {
+						actual.add(batch[i]);
+					}
+				});
+			}
+			H2QSCheckMain.check(expected.equals(actual), "cursor(" + batchSize + ")" + where + ": " + actual + " != " + expected);
+		}
+	}
+
+	static void checkCursor(final H2QS store) throws Exception {
+		var nodes = new H2QN[]{store.newNode(), store.newNode(), store.newNode()};
+		for (var c = 0; c < 2; c++) {
+			for (var p = 0; p < 3; p++) {
+				for (var s = 0; s < 3; s++) {
+					for (var o = 0; o < 3; o++) {
+						store.newEdge(nodes[c], nodes[p], nodes[s], nodes[o]).put();
+					}
+				}
+			}
+		}
+		H2QSCheckMain.checkCursor(store.edges(), "");
+		H2QSCheckMain.checkCursor(store.edges().copy(), "");
+		H2QSCheckMain.checkCursor(store.edges().havingContext(nodes[1]), " WHERE C=" + nodes[1].key);
+	}
+
+	static void checkPoolSessions(final String file) throws Exception {
+		var pool = H2QSPool.from(file, 2);
+		try (pool) {
+			var session1 = pool.open(true);
+			session1.close();
+			H2QSCheckMain.check((pool.activeCount() == 0) && (pool.idleCount() == 1), "counts after close()");
+			try (var reader = pool.open()) {
+				var writer = pool.open();
+				H2QSCheckMain.check(reader == session1, "session reused");
+				H2QSCheckMain.check(pool.activeCount() == 2, "activeCount()");
+				var waiter = new Thread(() -> {
+					try (var session = pool.open()) {
+						H2QSCheckMain.check(session == writer, "waiting session");
+					} catch (Exception cause) {
+						throw new IllegalStateException(cause);
+					}
+				});
+				waiter.start();
+				waiter.join(200);
+				H2QSCheckMain.check(waiter.isAlive(), "open() beyond limit");
+				writer.reset();
+				var bag = new FEMIntegerBag(reader);
+				H2QSCheckMain.check(bag.size() == 0, "bag.size() before putAll()");
+				try (var loader = new H2QSLoader(writer, 10, false)) {
+					loader.putValue("1");
+					loader.putValue("2");
+					loader.putValue("3");
+				}
+				H2QSCheckMain.check(bag.size() == 3, "bag.size() after load: " + bag.size());
+				writer.values().popAll();
+				H2QSCheckMain.check(bag.size() == 0, "bag.size() after popAll(): " + bag.size());
+				writer.close();
+				waiter.join();
+				H2QSCheckMain.check(!writer.conn.isClosed(), "connection kept after close()");
+			}
+			H2QSCheckMain.check(pool.idleCount() == 2, "idleCount() after close()");
+		}
+		H2QSCheckMain.check(pool.idleCount() == 0, "idleCount() after pool.close()");
+		try {
+			pool.open();
+			H2QSCheckMain.check(false, "open() after pool.close()");
+		} catch (IllegalStateException expected) {}
+	}
+
+	/** Diese Methode prüft {@link H2QSAsync}: die Überführung der Elemente in der Aufgabe, das Ende einer zwischen zwei Anweisungen abgebrochenen Aufgabe
+	 * und die Beschränkung der wartenden Aufgaben. */
+	static void checkAsync(final String file) throws Exception {
+		try (var pool = H2QSPool.from(file, 1); var async = new H2QSAsync(pool, 1)) {
+			try (var session = pool.open()) {
+				session.reset();
+				session.newNode("a");
+				session.newNode("b");
+			}
+			var values = async.toListAsync(session -> session.nodes(), node -> node.value()).get();
+			H2QSCheckMain.check(new HashSet<>(values).equals(Set.of("a", "b")), "toListAsync(): " + values);
+			var started = new CountDownLatch(1);
+			var resume = new CountDownLatch(1);
+			var ran = new AtomicBoolean();
+			var job = async.submit(true, session -> {
+				started.countDown();
+				resume.await();
+				session.nodes().size();
+				ran.set(true);
+				return null;
+			});
+			started.await();
+			var queued = async.submit(true, session -> session.nodes().size());
+			try {
+				async.submit(true, session -> null);
+				H2QSCheckMain.check(false, "submit() beyond queueLimit");
+			} catch (IllegalStateException expected) {}
+			H2QSCheckMain.check(job.cancel(true), "cancel()");
+			resume.countDown();
+			H2QSCheckMain.check(queued.get() == 2, "size() after cancel()");
+			H2QSCheckMain.check(!ran.get(), "statement after cancel()");
+			var started2 = new CountDownLatch(1);
+			var resume2 = new CountDownLatch(1);
+			var job2 = async.submit(true, session -> {
+				started2.countDown();
+				resume2.await();
+				session.getNode("missing");
+				ran.set(true);
+				return null;
+			});
+			started2.await();
+			H2QSCheckMain.check(job2.cancel(true), "cancel() before prepared statement");
+			resume2.countDown();
+			H2QSCheckMain.check(async.sizeAsync(session -> session.nodes()).get() == 2, "size() after second cancel()");
+			H2QSCheckMain.check(!ran.get(), "prepared statement after cancel()");
+			var dependent = async.sizeAsync(session -> session.nodes()).thenApply(size -> {
+				try (var session = pool.open()) {
+					return size + session.nodes().size();
+				} catch (Exception cause) {
+					throw new IllegalStateException(cause);
+				}
+			});
+			H2QSCheckMain.check(dependent.get(10, TimeUnit.SECONDS) == 4, "dependent stage with pool limit 1");
+		}
+	}
+
+	/** Diese Methode ergänzt Textwerte in einer Sitzung, während eine andere Sitzung gleichzeitig ihren {@link FEMIntegerBag} Index abfragt. */
+	static void checkPool(final String file) throws Exception {
+		try (var pool = H2QSPool.from(file, 2)) {
+			try (var reader = pool.open()) {
+				var bag = new FEMIntegerBag(reader);
+				var count = 2000;
+				var writer = new Thread(() -> {
+					try (var session = pool.open()) {
+						for (var i = 0; i < count; i++) {
+							session.newNode(Integer.toString(i));
+						}
+					} catch (Exception cause) {
+						throw new IllegalStateException(cause);
+					}
+				});
+				writer.start();
+				while (writer.isAlive()) {
+					bag.size();
+				}
+				writer.join();
+				H2QSCheckMain.check(bag.size() == count, "bag.size(): " + bag.size());
+			}
+		}
+	}
+
+	/** Diese Methode entfernt einen Hyperknoten in einer Transaktion, während eine andere Sitzung dessen Textwert liest, und prüft, dass der gemeinsame Puffer
+	 * danach keine Kennung ohne Textwert liefert. */
+	static void checkPoolPop(final String file) throws Exception {
+		try (var pool = H2QSPool.from(file, 2)) {
+			try (var writer = pool.open(); var reader = pool.open()) {
+				writer.reset();
+				var node = writer.newNode("popped");
+				var version = pool.cache.nodeVersion();
+				writer.conn.setAutoCommit(false);
+				node.pop();
+				H2QSCheckMain.check(reader.getNode("popped") != null, "getNode() before commit");
+				writer.commit();
+				writer.conn.setAutoCommit(true);
+				var node2 = reader.newNode("popped");
+				H2QSCheckMain.check(reader.values().toList().equals(Arrays.asList("popped")), "values() after commit: " + reader.values().toList());
+				pool.cache.put(node2.key, "stale", version);
+				H2QSCheckMain.check(pool.cache.getKey("stale") == null, "put() with outdated version");
+			}
+		}
+	}
+
+	/** Diese Methode ergänzt eine Hyperkante in einer Transaktion, während eine andere Sitzung die Anzahl der Hyperkanten liest, und prüft, dass der gemeinsame
+	 * Puffer danach die bestätigte Anzahl liefert. */
+	static void checkPoolEdgeCount(final String file) throws Exception {
+		try (var pool = H2QSPool.from(file, 2)) {
+			try (var writer = pool.open(); var reader = pool.open()) {
+				writer.reset();
+				var context = writer.newNode();
+				writer.newEdge(context, context, context, writer.newNode()).put();
+				var version = pool.cache.edgeVersion();
+				writer.conn.setAutoCommit(false);
+				writer.newEdge(context, context, context, writer.newNode()).put();
+				H2QSCheckMain.check(reader.edgeCount(context.key, context.key) == 1, "edgeCount() before commit");
+				writer.commit();
+				writer.conn.setAutoCommit(true);
+				H2QSCheckMain.check(reader.edgeCount(context.key, context.key) == 2, "edgeCount() after commit: " + reader.edgeCount(context.key, context.key));
+				pool.cache.popEdgeCount(context.key, context.key);
+				pool.cache.putEdgeCount(context.key, context.key, 1, version);
+				H2QSCheckMain.check(pool.cache.getEdgeCount(context.key, context.key) == null, "putEdgeCount() with outdated version");
+			}
+		}
+	}
+
+	/** Diese Methode prüft, dass eine Sitzung mit noch nicht bestätigter Transaktion nur die betroffenen Einträge des gemeinsamen Puffers sperrt, sodass die
+	 * andere Sitzung alle übrigen Einträge weiterhin puffert. */
+	static void checkPoolHold(final String file) throws Exception {
+		try (var pool = H2QSPool.from(file, 2)) {
+			try (var writer = pool.open(); var reader = pool.open()) {
+				writer.reset();
+				var count = 1000;
+				var nodes = new H2QN[count];
+				for (var i = 0; i < count; i++) {
+					nodes[i] = writer.newNode("held" + i);
+				}
+				var context1 = writer.newNode();
+				var context2 = writer.newNode();
+				writer.newEdge(context2, context2, context2, context2).put();
+				writer.conn.setAutoCommit(false);
+				nodes[0].pop();
+				pool.cache.clear();
+				var hitCount = pool.cache.hitCount();
+				for (var round = 0; round < 10; round++) {
+					for (var i = 0; i < count; i++) {
+						H2QSCheckMain.check(reader.getNode("held" + i) != null, "getNode() before commit");
+					}
+				}
+				var hits = pool.cache.hitCount() - hitCount;
+				H2QSCheckMain.check(hits == ((count - 1) * 9), "hitCount() while held: " + hits);
+				H2QSCheckMain.check(pool.cache.getKey("held0") == null, "getKey() of held node");
+				writer.commit();
+				H2QSCheckMain.check(reader.getNode("held0") == null, "getNode() after commit");
+				writer.newEdge(context1, context1, context1, writer.newNode()).put();
+				H2QSCheckMain.check(reader.edgeCount(context1.key, context1.key) == 0, "edgeCount() of held context");
+				H2QSCheckMain.check(pool.cache.getEdgeCount(context1.key, context1.key) == null, "getEdgeCount() of held context");
+				H2QSCheckMain.check(reader.edgeCount(context2.key, context2.key) == 1, "edgeCount() of other context");
+				H2QSCheckMain.check(pool.cache.getEdgeCount(context2.key, context2.key) != null, "getEdgeCount() of other context");
+				writer.commit();
+				writer.conn.setAutoCommit(true);
+				H2QSCheckMain.check(reader.edgeCount(context1.key, context1.key) == 1, "edgeCount() after commit");
+				reader.getNode("held1");
+				H2QSCheckMain.check(pool.cache.getKey("held1") != null, "getKey() after commit");
+			}
+		}
+	}
+
+	/** Diese Methode prüft, dass Änderungen an Hyperkanten nur den Änderungsstand der Hyperkanten erhöhen und Anweisungen ohne Wirkung keinen Änderungsstand
+	 * erhöhen. */
+	static void checkCacheVersions(final H2QS store) {
+		var cache = store.cache;
+		var context = store.newNode("context");
+		var nodeVersion = cache.nodeVersion();
+		var edgeVersion = cache.edgeVersion();
+		var edge = store.newEdge(context, context, context, context);
+		H2QSCheckMain.check(edge.put(), "put()");
+		H2QSCheckMain.check(cache.nodeVersion() == nodeVersion, "nodeVersion() after edge put()");
+		H2QSCheckMain.check(cache.edgeVersion() != edgeVersion, "edgeVersion() after edge put()");
+		edgeVersion = cache.edgeVersion();
+		H2QSCheckMain.check(!edge.put(), "repeated put()");
+		H2QSCheckMain.check(!store.newEdge(context, context, context, store.newNode()).pop(), "pop() of missing edge");
+		H2QSCheckMain.check(!store.edges().havingObject(store.newNode()).popAll(), "popAll() of missing edges");
+		H2QSCheckMain.check(!store.values().havingState(false).popAll(), "popAll() of missing values");
+		H2QSCheckMain.check(cache.edgeVersion() == edgeVersion, "edgeVersion() after unchanged edges");
+		H2QSCheckMain.check(cache.nodeVersion() == nodeVersion, "nodeVersion() after unchanged nodes");
+		var count = store.edgeCount(context.key, context.key);
+		H2QSCheckMain.check(count == 1, "edgeCount()");
+		H2QSCheckMain.check(cache.getEdgeCount(context.key, context.key) == 1, "getEdgeCount()");
+		store.newNode("other").pop();
+		H2QSCheckMain.check(cache.getKey("context") == context.key, "getKey() after node pop()");
+	}
+
+	/** Diese Methode prüft, dass die Größe der Hyperkanten mit gegebenem Kontext und Prädikat über die gepufferte Anzahl ermittelt wird und das Entfernen
+	 * eines Hyperknoten ohne Hyperkanten diese Anzahl nicht verwirft. */
+	static void checkEdgeCountSets(final H2QS store) {
+		var cache = store.cache;
+		var context = store.newNode();
+		var predicate = store.newNode();
+		for (var i = 0; i < 3; i++) {
+			store.newEdge(context, predicate, store.newNode(), store.newNode()).put();
+		}
+		store.newEdge(context, context, context, context).put();
+		var edges = store.edges().havingContext(context).havingPredicate(predicate);
+		H2QSCheckMain.check(edges.size() == 3, "size(): " + edges.size());
+		H2QSCheckMain.check(cache.getEdgeCount(context.key, predicate.key) == 3, "getEdgeCount() after size()");
+		H2QSCheckMain.check(edges.toList().size() == 3, "toList()");
+		H2QSCheckMain.check(store.edges().havingPredicate(predicate).havingContext(context).size() == 3, "size() in reverse order");
+		H2QSCheckMain.check(store.edges().havingContext(context).size() == 4, "havingContext().size()");
+		H2QSCheckMain.check(store.edges().havingContext(context).havingPredicate(predicate).havingContext(predicate).isEmpty(), "isEmpty() of other context");
+		var edgeVersion = cache.edgeVersion();
+		H2QSCheckMain.check(store.newNode("single").pop(), "pop() of node without edges");
+		H2QSCheckMain.check(cache.edgeVersion() == edgeVersion, "edgeVersion() after pop() of node without edges");
+		H2QSCheckMain.check(cache.getEdgeCount(context.key, predicate.key) == 3, "getEdgeCount() after pop() of node without edges");
+		edges.first().pop();
+		H2QSCheckMain.check(edges.size() == 2, "size() after pop(): " + edges.size());
+		H2QSCheckMain.check(!edges.isEmpty(), "isEmpty()");
+	}
+
+	/** Diese Methode prüft die Verdrängung und das nebenläufige Lesen und Schreiben des {@link H2QSCache}. Jede gelieferte Kennung muss dabei zum gelesenen
+	 * Textwert passen. */
+	static void checkCache() throws Exception {
+		var cache = new H2QSCache(100);
+		for (var i = 0; i < 1000; i++) {
+			cache.put(i, "v" + i, cache.nodeVersion());
+			H2QSCheckMain.check(cache.getValue(0) != null, "hot entry evicted at " + i);
+		}
+		H2QSCheckMain.check(cache.size() <= 100, "size(): " + cache.size());
+		cache.limit(10);
+		H2QSCheckMain.check(cache.size() <= 10, "size() after limit(): " + cache.size());
+		cache.limit(1000);
+		var failed = new AtomicBoolean();
+		var threads = new ArrayList<Thread>();
+		for (var t = 0; t < 8; t++) {
+			var seed = t;
+			threads.add(new Thread(() -> {
+				var random = new Random(seed);
+				for (var i = 0; i < 200000; i++) {
+					var key = random.nextInt(2000);
+					var value = "v" + key;
+					switch (random.nextInt(8)) {
+						case 0:
+							cache.pop(key);
+						break;
+						case 1:
+						case 2:
+							cache.put(key, value, cache.nodeVersion());
+						break;
+						default:
+							var key2 = cache.getKey(value);
+							var value2 = cache.getValue(key);
+							if (((key2 != null) && (key2 != key)) || ((value2 != null) && !value2.equals(value))) {
+								failed.set(true);
+							}
+					}
+				}
+			}));
+		}
+		for (var thread: threads) {
+			thread.start();
+		}
+		for (var thread: threads) {
+			thread.join();
+		}
+		H2QSCheckMain.check(!failed.get(), "concurrent getKey()/getValue()");
+		H2QSCheckMain.check(cache.size() <= 1000, "size() after concurrent use: " + cache.size());
+	}
+
+	public static void main(final String[] args) throws Exception {
+		File file;
+		if (args.length != 0) {
+			file = new File(args[0]);
+		} else {
+			file = File.createTempFile("temp", ".h2qs");
+			file.delete();
+			file.deleteOnExit();
+			new File(file.getPath() + ".mv.db").deleteOnExit();
+		}
+		try (var store = H2QS.from(file.getPath())) {
+			store.reset();
+			H2QSCheckMain.checkNodes(store);
+			store.reset();
+			H2QSCheckMain.checkRollback(store);
+			store.reset();
+			H2QSCheckMain.checkLoader(store);
+			store.reset();
+			H2QSCheckMain.checkCursor(store);
+			store.reset();
+			H2QSCheckMain.checkCacheVersions(store);
+			store.reset();
+			H2QSCheckMain.checkEdgeCountSets(store);
+			store.reset();
+		}
+		H2QSCheckMain.checkCache();
+		H2QSCheckMain.checkLoaderSessions(file.getPath());
+		H2QSCheckMain.checkPoolSessions(file.getPath());
+		H2QSCheckMain.checkPool(file.getPath());
+		H2QSCheckMain.checkPoolPop(file.getPath());
+		H2QSCheckMain.checkPoolEdgeCount(file.getPath());
+		H2QSCheckMain.checkPoolHold(file.getPath());
+		H2QSCheckMain.checkAsync(file.getPath());
+		System.out.println("ok");
+	}
+
+}
@@ -0,0 +1,238 @@
+package bee.creative.qs.dev;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import bee.creative.qs.QE;
+import bee.creative.qs.QESet;
+import bee.creative.qs.mem.MemQE;
+import bee.creative.qs.mem.MemQN;
+import bee.creative.qs.mem.MemQS;
+
+/** Diese Klasse vergleicht {@link MemQS} in zufälligen Durchläufen mit einem einfachen Referenzmodell aus Mengen von Kennungslisten.
+ *
+ * @author [cc-by] 2026 Sebastian Rostock [http://creativecommons.org/licenses/by/3.0/de/] */
+public class MemQSCheckMain {
+
+	static final Comparator<List<Long>> ORDER = (a, b) -> {
+		for (var i = 0; i < a.size(); i++) {
+			var c = Long.compare(a.get(i), b.get(i));
+			if (c != 0) return c;
+		}
+		return 0;
+	};
+
+	static void check(final boolean test, final String message) {
+		if (!test) throw new AssertionError(message);
+	}
+
+	static Set<List<Long>> edges(final QESet edges) {
+		var res = new HashSet<List<Long>>();
+		List<Long> prev = null;
+		for (var item: edges) {
+			var edge = (MemQE)item;
+			var next = List.of(edge.context, edge.predicate, edge.subject, edge.object);
+			MemQSCheckMain.check((prev == null) || (MemQSCheckMain.ORDER.compare(prev, next) < 0), "order");
+			res.add(next);
+			prev = next;
+		}
+		return res;
+	}
+
+	static void checkValues(final MemQS store, final Random random, final TreeMap<String, Long> values) {
+		for (var i = 0; i < 20; i++) {
+			var value = "v" + random.nextInt(12);
+			var node = store.newNode(value);
+			var key = values.get(value);
+			if (key == null) {
+				values.put(value, node.key);
+			} else {
+				MemQSCheckMain.check(node.key == key, "newNode(" + value + ")");
+			}
+			var node2 = store.getNode(value);
+			MemQSCheckMain.check((node2 != null) && (node2.key == node.key), "getNode(" + value + ")");
+			MemQSCheckMain.check(value.equals(node.value()), "value()");
+		}
+		MemQSCheckMain.check(store.getNode("missing") == null, "getNode(missing)");
+		MemQSCheckMain.check(new HashSet<>(store.values().toList()).equals(values.keySet()), "values(): " + store.values().toList());
+		MemQSCheckMain.check(store.values().size() == values.size(), "values().size()");
+		var nodes = new HashMap<String, Long>();
+		store.newValues(new ArrayList<>(values.keySet())).nodes((value, node) -> nodes.put(value, ((MemQN)node).key));
+		MemQSCheckMain.check(nodes.equals(values), "nodes(Setter)");
+		var values2 = new HashMap<Long, String>();
+		store.values().nodes().values((node, value) -> values2.put(((MemQN)node).key, value));
+		MemQSCheckMain.check(values2.size() == values.size(), "values(Setter)");
+		values.forEach((value, key) -> MemQSCheckMain.check(value.equals(values2.get(key)), "values(Setter) " + value));
+		MemQSCheckMain.check(new HashSet<>(store.values().nodes().values().toList()).equals(values.keySet()), "nodes().values()");
+	}
+
+	/** Diese Methode liefert den Wert des gegebenen nicht öffentlichen Felds des gegebenen Graphspeichers. */
+	static Object field(final MemQS store, final String name) throws Exception {
+		var field = MemQS.class.getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(store);
+	}
+
+	/** Diese Methode prüft abwechselnd einzelne Änderungen und lesende Zugriffe. Die Tabelle der Hyperkanten darf dabei nur ersetzt werden, wenn die gesammelten
+	 * Änderungen ihre Grenze überschreiten. */
+	static void checkInterleaving(final Random random) throws Exception {
+		var store = new MemQS();
+		var nodes = new ArrayList<MemQN>();
+		for (var i = 0; i < 64; i++) {
+			nodes.add(store.newNode("i" + i));
+		}
+		var model = new HashSet<List<Long>>();
+		var edges = new ArrayList<QE>();
+		for (var i = 0; i < 20000; i++) {
+			var edge = store.newEdge(nodes.get(random.nextInt(64)), nodes.get(random.nextInt(64)), nodes.get(random.nextInt(64)), nodes.get(random.nextInt(64)));
+			edges.add(edge);
+			model.add(List.of(edge.context, edge.predicate, edge.subject, edge.object));
+		}
+		store.newEdges(edges).putAll();
+		MemQSCheckMain.check(store.edges().size() == model.size(), "putAll()");
+		var table = MemQSCheckMain.field(store, "edgeTable");
+		var changes = 0;
+		for (var i = 0; i < 4000; i++) {
+			var node = nodes.get(random.nextInt(64));
+			var edge = store.newEdge(node, nodes.get(random.nextInt(64)), nodes.get(random.nextInt(64)), nodes.get(random.nextInt(64)));
+			var item = List.of(edge.context, edge.predicate, edge.subject, edge.object);
+			if (random.nextBoolean()) {
+				MemQSCheckMain.check(edge.pop() == model.remove(item), "pop");
+			} else if ((i % 3) == 0) {
+				MemQSCheckMain.check(store.newEdges(edge).putAll() == model.add(item), "putAll");
+			} else {
+				MemQSCheckMain.check(edge.put() == model.add(item), "put");
+			}
+			MemQSCheckMain.check(store.edges().size() == model.size(), "size()");
+			MemQSCheckMain.check(edge.state() == model.contains(item), "state()");
+			var col = random.nextInt(4);
+			var having = col == 0 ? store.edges().havingContext(node)
+				: col == 1 ? store.edges().havingPredicate(node) : col == 2 ? store.edges().havingSubject(node) : store.edges().havingObject(node);
+			var expected = new HashSet<List<Long>>();
+			for (var item2: model) {
+				if (item2.get(col) == node.key) {
+					expected.add(item2);
+				}
+			}
+			MemQSCheckMain.check(MemQSCheckMain.edges(having).equals(expected), "having" + col);
+			var table2 = MemQSCheckMain.field(store, "edgeTable");
+			if (table2 != table) {
+				table = table2;
+				changes++;
+			}
+			var value = "j" + i;
+			var node2 = store.newNode(value);
+			MemQSCheckMain.check(store.values().size() == (nodes.size() + 1), "values().size()");
+			MemQSCheckMain.check(store.nodes().toList().contains(node2), "nodes()");
+			MemQSCheckMain.check(store.values().toList().contains(value), "values()");
+			MemQSCheckMain.check(store.newValues(value).popAll(), "popAll()");
+			MemQSCheckMain.check(store.nodes().size() == nodes.size(), "nodes().size()");
+		}
+		MemQSCheckMain.check(MemQSCheckMain.edges(store.edges()).equals(model), "edges()");
+		MemQSCheckMain.check(changes <= (4000 / 64), "edgeTable: " + changes);
+	}
+
+	public static void main(final String[] args) throws Exception {
+		var random = new Random(1);
+		for (var round = 0; round < 200; round++) {
+			var store = new MemQS();
+			var values = new TreeMap<String, Long>();
+			MemQSCheckMain.checkValues(store, random, values);
+			var nodes = new ArrayList<MemQN>();
+			for (var i = 0; i < 8; i++) {
+				nodes.add((i % 2) == 0 ? store.newNode("n" + i) : store.newNode());
+				if ((i % 2) == 0) {
+					values.put("n" + i, nodes.get(i).key);
+				}
+			}
+			var model = new HashSet<List<Long>>();
+			for (int i = 0, size = random.nextInt(300); i < size; i++) {
+				var edge = store.newEdge(nodes.get(random.nextInt(8)), nodes.get(random.nextInt(8)), nodes.get(random.nextInt(8)), nodes.get(random.nextInt(8)));
+				var item = List.of(edge.context, edge.predicate, edge.subject, edge.object);
+				if (random.nextInt(4) == 0) {
+					MemQSCheckMain.check(edge.pop() == model.remove(item), "pop");
+				} else {
+					MemQSCheckMain.check(edge.put() == model.add(item), "put");
+				}
+				MemQSCheckMain.check(edge.state() == model.contains(item), "state");
+			}
+			MemQSCheckMain.check(MemQSCheckMain.edges(store.edges()).equals(model), "edges()");
+			MemQSCheckMain.check(store.edges().size() == model.size(), "edges().size()");
+			var node = nodes.get(random.nextInt(8));
+			var key = node.key;
+			var some = store.newNodes(nodes.get(1), nodes.get(3), node);
+			var someKeys = new HashSet<>(List.of(nodes.get(1).key, nodes.get(3).key, key));
+			for (var col = 0; col < 4; col++) {
+				var having = col == 0 ? store.edges().havingContext(node)
+					: col == 1 ? store.edges().havingPredicate(node) : col == 2 ? store.edges().havingSubject(node) : store.edges().havingObject(node);
+				var expected = new HashSet<List<Long>>();
+				for (var item: model) {
+					if (item.get(col) == key) {
+						expected.add(item);
+					}
+				}
+				MemQSCheckMain.check(MemQSCheckMain.edges(having).equals(expected), "having" + col);
+				var havings = col == 0 ? store.edges().havingContexts(some)
+					: col == 1 ? store.edges().havingPredicates(some) : col == 2 ? store.edges().havingSubjects(some) : store.edges().havingObjects(some);
+				expected.clear();
+				for (var item: model) {
+					if (someKeys.contains(item.get(col))) {
+						expected.add(item);
+					}
+				}
+				MemQSCheckMain.check(MemQSCheckMain.edges(havings).equals(expected), "havings" + col);
+				var with = col == 0 ? store.edges().withContexts(some)
+					: col == 1 ? store.edges().withPredicate(node) : col == 2 ? store.edges().withSubject(node) : store.edges().withObjects(some);
+				expected.clear();
+				for (var item: model) {
+					for (var key2: (col == 0) || (col == 3) ? someKeys : Set.of(key)) {
+						var item2 = new ArrayList<>(item);
+						item2.set(col, key2);
+						expected.add(item2);
+					}
+				}
+				MemQSCheckMain.check(MemQSCheckMain.edges(with).equals(expected), "with" + col);
+			}
+			var x = store.edges().havingContext(node).copy();
+			var y = store.edges().havingObject(nodes.get(2));
+			var union = MemQSCheckMain.edges(x);
+			union.addAll(MemQSCheckMain.edges(y));
+			MemQSCheckMain.check(MemQSCheckMain.edges(x.union(y)).equals(union), "union");
+			var except = MemQSCheckMain.edges(x);
+			except.removeAll(MemQSCheckMain.edges(y));
+			MemQSCheckMain.check(MemQSCheckMain.edges(x.except(y)).equals(except), "except");
+			var intersect = MemQSCheckMain.edges(x);
+			intersect.retainAll(MemQSCheckMain.edges(y));
+			MemQSCheckMain.check(MemQSCheckMain.edges(x.intersect(y)).equals(intersect), "intersect");
+			var join = store.edges().tuples("a", "b", "c", "d").join(store.edges().tuples("c", "x", "y", "z"));
+			var count = 0L;
+			for (var item1: model) {
+				for (var item2: model) {
+					if (item1.get(2).equals(item2.get(0))) {
+						count++;
+					}
+				}
+			}
+			MemQSCheckMain.check(join.size() == count, "join");
+			MemQSCheckMain.check(join.names().equals(Arrays.asList("a", "b", "c", "d", "x", "y", "z")), "join.names()");
+			MemQSCheckMain.checkValues(store, random, values);
+			var popped = node.value();
+			node.pop();
+			model.removeIf(item -> item.contains(key));
+			MemQSCheckMain.check(store.edges().size() == model.size(), "pop node");
+			values.values().removeIf(key2 -> key2 == key);
+			MemQSCheckMain.check(node.value() == null, "value() after pop");
+			MemQSCheckMain.check((popped == null) || (store.getNode(popped) == null), "getNode() after pop");
+			MemQSCheckMain.checkValues(store, random, values);
+		}
+		MemQSCheckMain.checkInterleaving(random);
+		System.out.println("ok");
+	}
+
+}